@@ -0,0 +1,52 @@
+package org.knowm.xchange.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Lookups that adapters perform for every trade or order book row they convert. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyBenchmark {
+
+  public String upperCode = "BTC";
+  public String lowerCode = "eth";
+  public String pairSymbol = "BTC/USDT";
+
+  @Benchmark
+  public Currency currencyGetInstance() {
+
+    return Currency.getInstance(upperCode);
+  }
+
+  @Benchmark
+  public Currency currencyGetInstanceLowerCase() {
+
+    return Currency.getInstance(lowerCode);
+  }
+
+  @Benchmark
+  public CurrencyPair currencyPairFromSymbol() {
+
+    return new CurrencyPair(pairSymbol);
+  }
+
+  @Benchmark
+  public CurrencyPair currencyPairFromCodes() {
+
+    return new CurrencyPair(upperCode, lowerCode);
+  }
+}
@@ -0,0 +1,112 @@
+package org.knowm.xchange.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.service.BaseParamsDigest;
+import org.knowm.xchange.utils.DigestUtils;
+import org.knowm.xchange.utils.HmacDigest;
+import org.knowm.xchange.utils.HmacSigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import si.mazi.rescu.RestInvocation;
+
+/** HMAC request signing as done by the private API digests of most modules. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+  private static final String SECRET =
+      "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+  @Param({BaseParamsDigest.HMAC_SHA_256, BaseParamsDigest.HMAC_SHA_512})
+  public String algorithm;
+
+  /** a typical signed query string */
+  public String payload =
+      "symbol=BTCUSDT&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1"
+          + "&recvWindow=5000&timestamp=1571400000000";
+
+  private HexParamsDigest paramsDigest;
+  private HmacDigest hmacDigest;
+  private HmacSigner hmacSigner;
+
+  @Setup
+  public void setup() {
+
+    paramsDigest = new HexParamsDigest(SECRET, algorithm);
+    hmacDigest = new HmacDigest(algorithm, SECRET);
+    hmacSigner = HmacSigner.create(algorithm, SECRET);
+  }
+
+  @Benchmark
+  public String baseParamsDigest() {
+
+    return paramsDigest.sign(payload);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String baseParamsDigestContended() {
+
+    return paramsDigest.sign(payload);
+  }
+
+  @Benchmark
+  public String hmacDigest() {
+
+    return hmacDigest.hexDigest(payload);
+  }
+
+  @Benchmark
+  public String hmacSigner() {
+
+    return hmacSigner.signHex(payload);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String hmacSignerContended() {
+
+    return hmacSigner.signHex(payload);
+  }
+
+  /** A new {@code Mac} per request, as some modules did. */
+  @Benchmark
+  public String macPerRequest() {
+
+    return HmacSigner.create(algorithm, SECRET).signHex(payload);
+  }
+
+  static final class HexParamsDigest extends BaseParamsDigest {
+
+    HexParamsDigest(String secretKey, String algorithm) {
+
+      super(secretKey, algorithm);
+    }
+
+    String sign(String payload) {
+
+      return DigestUtils.bytesToHex(getMac().doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public String digestParams(RestInvocation restInvocation) {
+
+      return sign(restInvocation.getQueryString());
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Access to the synthetic exchange payloads under {@code src/main/resources}, so that every
+ * benchmark runs offline and against identical input. The payloads are generated in the wire format
+ * of each exchange at production depth, not recorded from live feeds: prices and amounts are made
+ * up, so they do not show the clustering or precision of a real market.
+ */
+final class Fixtures {
+
+  static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private Fixtures() {}
+
+  static byte[] load(String name) throws IOException {
+
+    try (InputStream is = Fixtures.class.getResourceAsStream(name)) {
+      if (is == null) {
+        throw new IOException("Missing fixture " + name);
+      }
+      return IOUtils.toByteArray(is);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.knowm.xchange.binance.BinanceAdapters;
+import org.knowm.xchange.binance.dto.marketdata.BinanceAggTrades;
+import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
+import org.knowm.xchange.binance.service.BinanceMarketDataService;
+import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBook;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProTrade;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.kraken.KrakenAdapters;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of synthetic order book and trade payloads into the exchange DTOs ({@code *Dto}
+ * benchmarks), and deserialization followed by adaptation to the generic DTOs ({@code *Adapted}).
+ *
+ * <p>Fixtures: Binance depth with 1000 levels per side and 1000 aggregate trades, Kraken depth with
+ * 500 levels per side and 1000 trades, Coinbase Pro level 3 book with 500 orders per side and a 100
+ * trade page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParsingBenchmark {
+
+  private final ObjectReader binanceOrderbookReader =
+      Fixtures.MAPPER.readerFor(BinanceOrderbook.class);
+  private final ObjectReader binanceAggTradesReader =
+      Fixtures.MAPPER.readerFor(BinanceAggTrades[].class);
+  private final ObjectReader krakenDepthReader = Fixtures.MAPPER.readerFor(KrakenDepthResult.class);
+  private final ObjectReader krakenTradesReader =
+      Fixtures.MAPPER.readerFor(KrakenPublicTradesResult.class);
+  private final ObjectReader coinbaseProBookReader =
+      Fixtures.MAPPER.readerFor(CoinbaseProProductBook.class);
+  private final ObjectReader coinbaseProTradesReader =
+      Fixtures.MAPPER.readerFor(CoinbaseProTrade[].class);
+
+  private byte[] binanceDepth;
+  private byte[] binanceAggTrades;
+  private byte[] krakenDepth;
+  private byte[] krakenTrades;
+  private byte[] coinbaseProBook;
+  private byte[] coinbaseProTrades;
+
+  @Setup
+  public void setup() throws IOException {
+
+    binanceDepth = Fixtures.load("binance-depth.json");
+    binanceAggTrades = Fixtures.load("binance-aggtrades.json");
+    krakenDepth = Fixtures.load("kraken-depth.json");
+    krakenTrades = Fixtures.load("kraken-trades.json");
+    coinbaseProBook = Fixtures.load("coinbasepro-book-level3.json");
+    coinbaseProTrades = Fixtures.load("coinbasepro-trades.json");
+  }
+
+  @Benchmark
+  public BinanceOrderbook binanceOrderBookDto() throws IOException {
+
+    return binanceOrderbookReader.readValue(binanceDepth);
+  }
+
+  @Benchmark
+  public OrderBook binanceOrderBookAdapted() throws IOException {
+
+    return BinanceMarketDataService.convertOrderBook(
+        binanceOrderbookReader.readValue(binanceDepth), CurrencyPair.BTC_USDT);
+  }
+
+  @Benchmark
+  public BinanceAggTrades[] binanceTradesDto() throws IOException {
+
+    return binanceAggTradesReader.readValue(binanceAggTrades);
+  }
+
+  @Benchmark
+  public Trades binanceTradesAdapted() throws IOException {
+
+    BinanceAggTrades[] aggTrades = binanceAggTradesReader.readValue(binanceAggTrades);
+    // same mapping as BinanceMarketDataService.getTrades
+    List<Trade> trades =
+        Arrays.stream(aggTrades)
+            .map(
+                at ->
+                    new Trade(
+                        BinanceAdapters.convertType(at.buyerMaker),
+                        at.quantity,
+                        CurrencyPair.BTC_USDT,
+                        at.price,
+                        at.getTimestamp(),
+                        Long.toString(at.aggregateTradeId)))
+            .collect(Collectors.toList());
+    return new Trades(trades, TradeSortType.SortByTimestamp);
+  }
+
+  @Benchmark
+  public KrakenDepthResult krakenOrderBookDto() throws IOException {
+
+    return krakenDepthReader.readValue(krakenDepth);
+  }
+
+  @Benchmark
+  public OrderBook krakenOrderBookAdapted() throws IOException {
+
+    KrakenDepthResult result = krakenDepthReader.readValue(krakenDepth);
+    return KrakenAdapters.adaptOrderBook(result.getResult().get("XXBTZUSD"), CurrencyPair.BTC_USD);
+  }
+
+  @Benchmark
+  public KrakenPublicTradesResult krakenTradesDto() throws IOException {
+
+    return krakenTradesReader.readValue(krakenTrades);
+  }
+
+  @Benchmark
+  public Trades krakenTradesAdapted() throws IOException {
+
+    KrakenPublicTrades result =
+        krakenTradesReader.<KrakenPublicTradesResult>readValue(krakenTrades).getResult();
+    return KrakenAdapters.adaptTrades(result.getTrades(), CurrencyPair.BTC_USD, result.getLast());
+  }
+
+  @Benchmark
+  public CoinbaseProProductBook coinbaseProOrderBookDto() throws IOException {
+
+    return coinbaseProBookReader.readValue(coinbaseProBook);
+  }
+
+  @Benchmark
+  public OrderBook coinbaseProOrderBookAdapted() throws IOException {
+
+    return CoinbaseProAdapters.adaptOrderBook(
+        coinbaseProBookReader.readValue(coinbaseProBook), CurrencyPair.BTC_USD);
+  }
+
+  @Benchmark
+  public CoinbaseProTrade[] coinbaseProTradesDto() throws IOException {
+
+    return coinbaseProTradesReader.readValue(coinbaseProTrades);
+  }
+
+  @Benchmark
+  public Trades coinbaseProTradesAdapted() throws IOException {
+
+    return CoinbaseProAdapters.adaptTrades(
+        coinbaseProTradesReader.<CoinbaseProTrade[]>readValue(coinbaseProTrades),
+        CurrencyPair.BTC_USD);
+  }
+}
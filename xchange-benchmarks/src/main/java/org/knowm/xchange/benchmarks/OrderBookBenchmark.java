@@ -0,0 +1,111 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.IndexedOrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies a stream of level updates (a third of them removals) to a book of the given depth, with
+ * {@link OrderBook#update(OrderBookUpdate)} and with {@link IndexedOrderBook}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookBenchmark {
+
+  private static final int UPDATES = 4096;
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USDT;
+  private static final BigDecimal MID = new BigDecimal("8000.00");
+  private static final BigDecimal TICK = new BigDecimal("0.01");
+
+  @Param({"100", "1000", "5000"})
+  public int depth;
+
+  private OrderBook orderBook;
+  private IndexedOrderBook indexedOrderBook;
+  private OrderBookUpdate[] updates;
+  private int next;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+
+    List<LimitOrder> asks = new ArrayList<>(depth);
+    List<LimitOrder> bids = new ArrayList<>(depth);
+    for (int i = 1; i <= depth; i++) {
+      asks.add(new LimitOrder(OrderType.ASK, BigDecimal.ONE, PAIR, "", null, price(i)));
+      bids.add(new LimitOrder(OrderType.BID, BigDecimal.ONE, PAIR, "", null, price(-i)));
+    }
+    orderBook = new OrderBook(null, asks, bids);
+    indexedOrderBook = IndexedOrderBook.of(PAIR, orderBook);
+
+    // updates cluster near the touch like real feeds do, but reach the whole book
+    Random random = new Random(42);
+    updates = new OrderBookUpdate[UPDATES];
+    for (int i = 0; i < UPDATES; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      int level = 1 + (int) Math.min(depth - 1, Math.abs(random.nextGaussian()) * depth / 8);
+      BigDecimal volume =
+          random.nextInt(3) == 0 ? BigDecimal.ZERO : new BigDecimal(random.nextInt(1000));
+      updates[i] =
+          new OrderBookUpdate(
+              type, volume, PAIR, price(type == OrderType.ASK ? level : -level), null, volume);
+    }
+    next = 0;
+  }
+
+  private static BigDecimal price(int ticks) {
+
+    return MID.add(TICK.multiply(new BigDecimal(ticks)));
+  }
+
+  private OrderBookUpdate nextUpdate() {
+
+    OrderBookUpdate update = updates[next];
+    next = (next + 1) & (UPDATES - 1);
+    return update;
+  }
+
+  @Benchmark
+  public OrderBook orderBookUpdate() {
+
+    orderBook.update(nextUpdate());
+    return orderBook;
+  }
+
+  @Benchmark
+  public IndexedOrderBook indexedOrderBookUpdate() {
+
+    indexedOrderBook.update(nextUpdate());
+    return indexedOrderBook;
+  }
+
+  @Benchmark
+  public OrderBook indexedOrderBookTop20Snapshot() {
+
+    indexedOrderBook.update(nextUpdate());
+    return indexedOrderBook.toOrderBook(20);
+  }
+}
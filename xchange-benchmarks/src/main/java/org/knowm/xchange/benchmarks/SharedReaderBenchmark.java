@@ -0,0 +1,137 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.node.NumericNode;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProCandle;
+import org.knowm.xchange.yobit.dto.marketdata.YoBitTicker;
+import org.knowm.xchange.yobit.dto.marketdata.YoBitTickersReturn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserializers which bind parts of a response with the shared readers of {@code JacksonRegistry}
+ * ({@code *Shared} benchmarks), against the same deserializers creating an {@code ObjectMapper} per
+ * value as they did before ({@code *MapperPerValue}).
+ *
+ * <p>Fixtures: 300 Coinbase Pro candles and YoBit tickers of 97 pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedReaderBenchmark {
+
+  private final ObjectReader candlesReader = Fixtures.MAPPER.readerFor(CoinbaseProCandle[].class);
+  private final ObjectReader tickersReader = Fixtures.MAPPER.readerFor(YoBitTickersReturn.class);
+
+  private final ObjectMapper mapperPerValue =
+      new ObjectMapper()
+          .addMixIn(CoinbaseProCandle.class, MapperPerCandle.class)
+          .addMixIn(YoBitTickersReturn.class, MapperPerTicker.class);
+  private final ObjectReader candlesMapperPerValueReader =
+      mapperPerValue.readerFor(CoinbaseProCandle[].class);
+  private final ObjectReader tickersMapperPerValueReader =
+      mapperPerValue.readerFor(YoBitTickersReturn.class);
+
+  private byte[] coinbaseProCandles;
+  private byte[] yoBitTickers;
+
+  @Setup
+  public void setup() throws IOException {
+
+    coinbaseProCandles = Fixtures.load("coinbasepro-candles.json");
+    yoBitTickers = Fixtures.load("yobit-tickers.json");
+  }
+
+  @Benchmark
+  public CoinbaseProCandle[] coinbaseProCandlesShared() throws IOException {
+
+    return candlesReader.readValue(coinbaseProCandles);
+  }
+
+  @Benchmark
+  public CoinbaseProCandle[] coinbaseProCandlesMapperPerValue() throws IOException {
+
+    return candlesMapperPerValueReader.readValue(coinbaseProCandles);
+  }
+
+  @Benchmark
+  public YoBitTickersReturn yoBitTickersShared() throws IOException {
+
+    return tickersReader.readValue(yoBitTickers);
+  }
+
+  @Benchmark
+  public YoBitTickersReturn yoBitTickersMapperPerValue() throws IOException {
+
+    return tickersMapperPerValueReader.readValue(yoBitTickers);
+  }
+
+  @JsonDeserialize(using = MapperPerCandleDeserializer.class)
+  abstract static class MapperPerCandle {}
+
+  @JsonDeserialize(using = MapperPerTickerDeserializer.class)
+  abstract static class MapperPerTicker {}
+
+  /** The previous {@code CoinbaseProCandleDeserializer}. */
+  public static class MapperPerCandleDeserializer extends JsonDeserializer<CoinbaseProCandle> {
+
+    @Override
+    public CoinbaseProCandle deserialize(JsonParser jp, DeserializationContext ctxt)
+        throws IOException {
+
+      ObjectMapper mapper = new ObjectMapper();
+      TreeNode jo = mapper.readTree(jp);
+      return new CoinbaseProCandle(
+          new Date(((NumericNode) jo.get(0)).asLong() * 1000),
+          new BigDecimal(((NumericNode) jo.get(3)).asText()),
+          new BigDecimal(((NumericNode) jo.get(2)).asText()),
+          new BigDecimal(((NumericNode) jo.get(1)).asText()),
+          new BigDecimal(((NumericNode) jo.get(4)).asText()),
+          new BigDecimal(((NumericNode) jo.get(5)).asText()));
+    }
+  }
+
+  /** The previous {@code YoBitTickersDeserializer}. */
+  public static class MapperPerTickerDeserializer extends JsonDeserializer<YoBitTickersReturn> {
+
+    @Override
+    public YoBitTickersReturn deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+
+      JsonNode node = p.readValueAsTree();
+      Map<String, YoBitTicker> tickers = new HashMap<>();
+      Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+      while (entries.hasNext()) {
+        Map.Entry<String, JsonNode> entry = entries.next();
+        ObjectReader reader = new ObjectMapper().readerFor(YoBitTicker.class);
+        tickers.put(entry.getKey(), reader.readValue(entry.getValue()));
+      }
+      return new YoBitTickersReturn(tickers);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package org.knowm.xchange.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.knowm.xchange.binance.BinanceAdapters;
+import org.knowm.xchange.binance.dto.marketdata.BinanceAggTrades;
+import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProTrade;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.kraken.KrakenAdapters;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of {@link Trades} sorted with {@link Trades.TradeIDComparator} from the synthetic
+ * trade pages. Binance and Kraken pages arrive in ascending order, Coinbase Pro newest first; the
+ * shuffled Kraken page needs a full sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradesBenchmark {
+
+  private List<Trade> binanceTrades;
+  private List<Trade> krakenTrades;
+  private List<Trade> coinbaseProTrades;
+  private List<Trade> shuffledKrakenTrades;
+
+  @Setup
+  public void setup() throws IOException {
+
+    BinanceAggTrades[] aggTrades =
+        Fixtures.MAPPER.readValue(
+            Fixtures.load("binance-aggtrades.json"), BinanceAggTrades[].class);
+    binanceTrades =
+        Arrays.stream(aggTrades)
+            .map(
+                at ->
+                    new Trade(
+                        BinanceAdapters.convertType(at.buyerMaker),
+                        at.quantity,
+                        CurrencyPair.BTC_USDT,
+                        at.price,
+                        at.getTimestamp(),
+                        Long.toString(at.aggregateTradeId)))
+            .collect(Collectors.toList());
+
+    KrakenPublicTrades kraken =
+        Fixtures.MAPPER
+            .readValue(Fixtures.load("kraken-trades.json"), KrakenPublicTradesResult.class)
+            .getResult();
+    krakenTrades =
+        KrakenAdapters.adaptTrades(kraken.getTrades(), CurrencyPair.BTC_USD, kraken.getLast())
+            .getTrades();
+
+    CoinbaseProTrade[] coinbasePro =
+        Fixtures.MAPPER.readValue(
+            Fixtures.load("coinbasepro-trades.json"), CoinbaseProTrade[].class);
+    // the adapter sorts by id, restore the newest first order of the wire format
+    coinbaseProTrades =
+        new ArrayList<>(
+            CoinbaseProAdapters.adaptTrades(coinbasePro, CurrencyPair.BTC_USD).getTrades());
+    Collections.reverse(coinbaseProTrades);
+
+    shuffledKrakenTrades = new ArrayList<>(krakenTrades);
+    Collections.shuffle(shuffledKrakenTrades, new Random(42));
+  }
+
+  @Benchmark
+  public Trades binanceSortById() {
+
+    return new Trades(binanceTrades, TradeSortType.SortByID);
+  }
+
+  @Benchmark
+  public Trades krakenSortById() {
+
+    return new Trades(krakenTrades, TradeSortType.SortByID);
+  }
+
+  @Benchmark
+  public Trades coinbaseProSortById() {
+
+    return new Trades(coinbaseProTrades, TradeSortType.SortByID);
+  }
+
+  @Benchmark
+  public Trades shuffledKrakenSortById() {
+
+    return new Trades(shuffledKrakenTrades, TradeSortType.SortByID);
+  }
+
+  /** Sorts with the comparator alone, which parses both ids on every comparison. */
+  @Benchmark
+  public List<Trade> shuffledKrakenSortWithComparator() {
+
+    List<Trade> trades = new ArrayList<>(shuffledKrakenTrades);
+    trades.sort(new Trades.TradeIDComparator());
+    return trades;
+  }
+
+  @Benchmark
+  public Trades binanceSortByTimestamp() {
+
+    return new Trades(binanceTrades, TradeSortType.SortByTimestamp);
+  }
+}
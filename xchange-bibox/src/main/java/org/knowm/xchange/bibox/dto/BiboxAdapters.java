@@ -46,7 +46,7 @@ public class BiboxAdapters {
     return pair.base.getCurrencyCode() + "_" + pair.counter.getCurrencyCode();
   }
 
-  private static CurrencyPair adaptCurrencyPair(String biboxPair) {
+  public static CurrencyPair adaptCurrencyPair(String biboxPair) {
     String[] split = biboxPair.split("_");
     return new CurrencyPair(split[0], split[1]);
   }
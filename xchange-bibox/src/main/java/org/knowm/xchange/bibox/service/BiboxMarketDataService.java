@@ -2,7 +2,10 @@ package org.knowm.xchange.bibox.service;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.bibox.dto.BiboxAdapters;
 import org.knowm.xchange.bibox.dto.marketdata.BiboxMarket;
@@ -67,6 +70,33 @@ public class BiboxMarketDataService extends BiboxMarketDataServiceRaw implements
     return BiboxAdapters.adaptAllOrderBooks(biboxOrderBooks);
   }
 
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(
+      Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    if (currencyPairs.size() < 2) {
+      return MarketDataService.super.getOrderBooks(currencyPairs, args);
+    }
+    Integer depth = 16; // default on website
+    if (args != null && args.length > 0) {
+      if (args[0] instanceof Integer && (Integer) args[0] > 0) {
+        depth = (Integer) args[0];
+      }
+    }
+    Map<CurrencyPair, BiboxOrderBook> byPair = new HashMap<>();
+    for (BiboxOrderBook biboxOrderBook : getBiboxOrderBooks(depth, currencyPairs)) {
+      byPair.put(BiboxAdapters.adaptCurrencyPair(biboxOrderBook.getPair()), biboxOrderBook);
+    }
+    Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<>();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      BiboxOrderBook biboxOrderBook = byPair.get(currencyPair);
+      if (biboxOrderBook != null) {
+        orderBooks.put(currencyPair, BiboxAdapters.adaptOrderBook(biboxOrderBook, currencyPair));
+      }
+    }
+    return orderBooks;
+  }
+
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
     Integer depth = 200;
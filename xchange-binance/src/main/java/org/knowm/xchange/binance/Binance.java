@@ -12,6 +12,7 @@ import org.knowm.xchange.binance.dto.marketdata.BinanceAggTrades;
 import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinancePrice;
 import org.knowm.xchange.binance.dto.marketdata.BinancePriceQuantity;
+import org.knowm.xchange.binance.dto.marketdata.BinanceStreamedOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinanceTicker24h;
 import org.knowm.xchange.binance.dto.meta.BinanceTime;
 import org.knowm.xchange.binance.dto.meta.exchangeinfo.BinanceExchangeInfo;
@@ -62,6 +63,21 @@ public interface Binance {
   BinanceOrderbook depth(@QueryParam("symbol") String symbol, @QueryParam("limit") Integer limit)
       throws IOException, BinanceException;
 
+  @GET
+  @Path("api/v1/depth")
+  /**
+   * Same as {@link #depth(String, Integer)}, parsed straight into a packed order book.
+   *
+   * @param symbol
+   * @param limit optional, default 100; max 100.
+   * @return
+   * @throws IOException
+   * @throws BinanceException
+   */
+  BinanceStreamedOrderbook depthStreamed(
+      @QueryParam("symbol") String symbol, @QueryParam("limit") Integer limit)
+      throws IOException, BinanceException;
+
   @GET
   @Path("api/v1/aggTrades")
   /**
@@ -10,6 +10,7 @@ import org.knowm.xchange.binance.dto.trade.OrderStatus;
 import org.knowm.xchange.binance.service.BinanceTradeService.BinanceOrderFlags;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.IOrderFlags;
 import org.knowm.xchange.dto.Order.OrderType;
@@ -20,9 +21,25 @@ import org.knowm.xchange.dto.trade.StopOrder;
 
 public class BinanceAdapters {
 
+  /** Symbols of the pairs traded at Binance, registered by remoteInit */
+  private static final SymbolCodec SYMBOL_CODEC =
+      new SymbolCodec(BinanceAdapters::createSymbol, BinanceAdapters::parseSymbol);
+
   private BinanceAdapters() {}
 
+  /**
+   * Registers a symbol from the exchange info, so that it is translated exactly rather than guessed
+   * from its suffix.
+   */
+  public static void registerSymbol(CurrencyPair pair, String symbol) {
+    SYMBOL_CODEC.register(pair, symbol);
+  }
+
   public static String toSymbol(CurrencyPair pair) {
+    return SYMBOL_CODEC.encode(pair);
+  }
+
+  private static String createSymbol(CurrencyPair pair) {
     if (pair.equals(CurrencyPair.IOTA_BTC)) {
       return "IOTABTC";
     }
@@ -103,6 +120,10 @@ public class BinanceAdapters {
   }
 
   public static CurrencyPair adaptSymbol(String symbol) {
+    return SYMBOL_CODEC.decode(symbol);
+  }
+
+  private static CurrencyPair parseSymbol(String symbol) {
     int pairLength = symbol.length();
     if (symbol.endsWith("USDT")) {
       return new CurrencyPair(symbol.substring(0, pairLength - 4), "USDT");
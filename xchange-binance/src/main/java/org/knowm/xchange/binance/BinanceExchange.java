@@ -2,6 +2,7 @@ package org.knowm.xchange.binance;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.net.URI;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
@@ -15,23 +16,27 @@ import org.knowm.xchange.binance.dto.meta.exchangeinfo.Filter;
 import org.knowm.xchange.binance.dto.meta.exchangeinfo.Symbol;
 import org.knowm.xchange.binance.service.BinanceAccountService;
 import org.knowm.xchange.binance.service.BinanceMarketDataService;
+import org.knowm.xchange.binance.service.BinanceStreamingMarketDataService;
 import org.knowm.xchange.binance.service.BinanceTradeService;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.CurrencyMetaData;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.marketdata.StreamingMarketDataService;
 import org.knowm.xchange.utils.AuthUtils;
+import org.knowm.xchange.utils.MetaDataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import si.mazi.rescu.RestProxyFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 public class BinanceExchange extends BaseExchange {
 
   private static final Logger LOG = LoggerFactory.getLogger(BinanceExchange.class);
 
-  private BinanceExchangeInfo exchangeInfo;
+  private static final String EXCHANGE_INFO = "exchangeinfo";
+
+  private volatile BinanceExchangeInfo exchangeInfo;
   private Long deltaServerTimeExpire;
   private Long deltaServerTime;
 
@@ -43,6 +48,15 @@ public class BinanceExchange extends BaseExchange {
     this.accountService = new BinanceAccountService(this);
   }
 
+  @Override
+  protected StreamingMarketDataService createStreamingMarketDataService() {
+
+    Object uri = exchangeSpecification.getExchangeSpecificParametersItem(PARAM_STREAMING_URI);
+    return uri == null
+        ? new BinanceStreamingMarketDataService()
+        : new BinanceStreamingMarketDataService(URI.create(uri.toString()));
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
     throw new UnsupportedOperationException(
@@ -100,6 +114,7 @@ public class BinanceExchange extends BaseExchange {
 
           CurrencyPair currentCurrencyPair =
               new CurrencyPair(symbol.getBaseAsset(), symbol.getQuoteAsset());
+          BinanceAdapters.registerSymbol(currentCurrencyPair, symbol.getSymbol());
 
           for (Filter filter : filters) {
             if (filter.getFilterType().equals("PRICE_FILTER")) {
@@ -148,6 +163,32 @@ public class BinanceExchange extends BaseExchange {
     }
   }
 
+  @Override
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    MetaDataCache.Entry<BinanceExchangeInfo> cached =
+        cache.read(EXCHANGE_INFO, BinanceExchangeInfo.class);
+    if (cached == null || cached.getValue().getSymbols() == null) {
+      return false;
+    }
+    for (Symbol symbol : cached.getValue().getSymbols()) {
+      if (symbol.getStatus().equals("TRADING")) {
+        BinanceAdapters.registerSymbol(
+            new CurrencyPair(symbol.getBaseAsset(), symbol.getQuoteAsset()), symbol.getSymbol());
+      }
+    }
+    exchangeInfo = cached.getValue();
+    return true;
+  }
+
+  @Override
+  protected void cacheState(MetaDataCache cache) throws IOException {
+
+    if (exchangeInfo != null) {
+      cache.write(EXCHANGE_INFO, exchangeInfo);
+    }
+  }
+
   private BigDecimal getWithdrawalFee(
       Map<Currency, CurrencyMetaData> currencies,
       Currency currency,
@@ -176,7 +217,7 @@ public class BinanceExchange extends BaseExchange {
 
       // Do a little warm up
       Binance binance =
-          RestProxyFactory.createProxy(Binance.class, getExchangeSpecification().getSslUri());
+          getHttpTransport().createProxy(Binance.class, getExchangeSpecification().getSslUri());
       Date serverTime = new Date(binance.time().getServerTime().getTime());
 
       // Assume that we are closer to the server time when we get the repose
@@ -0,0 +1,54 @@
+package org.knowm.xchange.binance.dto.marketdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.PackedOrderBook;
+import org.knowm.xchange.utils.jackson.OrderBookJsonReader;
+
+/**
+ * The same response as {@link BinanceOrderbook}, parsed token by token into a {@link
+ * PackedOrderBook} without a map entry per level.
+ */
+@JsonDeserialize(using = BinanceStreamedOrderbook.Deserializer.class)
+public final class BinanceStreamedOrderbook {
+
+  public final long lastUpdateId;
+  public final PackedOrderBook orderBook;
+
+  public BinanceStreamedOrderbook(long lastUpdateId, PackedOrderBook orderBook) {
+    this.lastUpdateId = lastUpdateId;
+    this.orderBook = orderBook;
+  }
+
+  static class Deserializer extends JsonDeserializer<BinanceStreamedOrderbook> {
+
+    @Override
+    public BinanceStreamedOrderbook deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+
+      PackedOrderBook orderBook = new PackedOrderBook();
+      long[] lastUpdateId = new long[1];
+      OrderBookJsonReader.readObject(
+          p,
+          (name, parser) -> {
+            switch (name) {
+              case "lastUpdateId":
+                lastUpdateId[0] = parser.getLongValue();
+                break;
+              case "bids":
+                OrderBookJsonReader.readLevels(parser, OrderType.BID, orderBook);
+                break;
+              case "asks":
+                OrderBookJsonReader.readLevels(parser, OrderType.ASK, orderBook);
+                break;
+              default:
+            }
+          });
+      return new BinanceStreamedOrderbook(lastUpdateId[0], orderBook);
+    }
+  }
+}
@@ -12,9 +12,8 @@ import org.knowm.xchange.service.BaseService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
-public class BinanceBaseService extends BaseExchangeService implements BaseService {
+public class BinanceBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final Logger LOG = LoggerFactory.getLogger(getClass());
 
@@ -26,7 +25,7 @@ public class BinanceBaseService extends BaseExchangeService implements BaseServi
 
     super(exchange);
     this.binance =
-        RestProxyFactory.createProxy(
+        createProxy(
             BinanceAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
             getClientConfig());
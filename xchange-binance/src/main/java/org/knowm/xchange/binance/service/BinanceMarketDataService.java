@@ -45,6 +45,9 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
           limitDepth = (Integer) arg0;
         }
       }
+      if (isStreamingOrderBook()) {
+        return getBinanceStreamedOrderbook(pair, limitDepth).orderBook.toOrderBook(pair);
+      }
       BinanceOrderbook binanceOrderbook = getBinanceOrderbook(pair, limitDepth);
       return convertOrderBook(binanceOrderbook, pair);
     } catch (BinanceException e) {
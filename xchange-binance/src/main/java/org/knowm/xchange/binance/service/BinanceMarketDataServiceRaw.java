@@ -10,6 +10,7 @@ import org.knowm.xchange.binance.dto.marketdata.BinanceKline;
 import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinancePrice;
 import org.knowm.xchange.binance.dto.marketdata.BinancePriceQuantity;
+import org.knowm.xchange.binance.dto.marketdata.BinanceStreamedOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinanceTicker24h;
 import org.knowm.xchange.binance.dto.marketdata.KlineInterval;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -29,6 +30,11 @@ public class BinanceMarketDataServiceRaw extends BinanceBaseService {
     return binance.depth(BinanceAdapters.toSymbol(pair), limit);
   }
 
+  public BinanceStreamedOrderbook getBinanceStreamedOrderbook(CurrencyPair pair, Integer limit)
+      throws IOException {
+    return binance.depthStreamed(BinanceAdapters.toSymbol(pair), limit);
+  }
+
   public List<BinanceAggTrades> aggTrades(
       CurrencyPair pair, Long fromId, Long startTime, Long endTime, Integer limit)
       throws IOException {
@@ -0,0 +1,171 @@
+package org.knowm.xchange.binance.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.knowm.xchange.binance.BinanceAdapters;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.service.marketdata.MarketDataListener;
+import org.knowm.xchange.service.marketdata.MarketDataSubscription;
+import org.knowm.xchange.service.marketdata.WebSocketStreamingMarketDataService;
+import org.knowm.xchange.utils.FixedPoint;
+
+/**
+ * Streams market data from the combined streams of the Binance WebSocket API: the 24 hour ticker,
+ * every trade, and the top 20 levels of the order book every 100ms.
+ */
+public class BinanceStreamingMarketDataService extends WebSocketStreamingMarketDataService {
+
+  public static final URI DEFAULT_URI = URI.create("wss://stream.binance.com:9443/stream");
+
+  private static final int DEPTH = 20;
+
+  private final AtomicLong requestId = new AtomicLong();
+
+  public BinanceStreamingMarketDataService() {
+
+    this(DEFAULT_URI);
+  }
+
+  /** @param uri the URI of the combined streams */
+  public BinanceStreamingMarketDataService(URI uri) {
+
+    super(uri);
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTicker(
+      CurrencyPair currencyPair, MarketDataListener<Ticker> listener) {
+
+    return subscribe(
+        stream(currencyPair, "ticker"),
+        listener,
+        data ->
+            listener.onNext(
+                new Ticker.Builder()
+                    .currencyPair(currencyPair)
+                    .last(fixedPoint(data, "c"))
+                    .bid(fixedPoint(data, "b"))
+                    .bidSize(decimal(data, "B"))
+                    .ask(fixedPoint(data, "a"))
+                    .askSize(decimal(data, "A"))
+                    .open(decimal(data, "o"))
+                    .high(decimal(data, "h"))
+                    .low(decimal(data, "l"))
+                    .volume(decimal(data, "v"))
+                    .quoteVolume(decimal(data, "q"))
+                    .vwap(decimal(data, "w"))
+                    .timestamp(new Date(data.path("E").asLong()))
+                    .build()));
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTrades(
+      CurrencyPair currencyPair, MarketDataListener<Trade> listener) {
+
+    return subscribe(
+        stream(currencyPair, "trade"),
+        listener,
+        data ->
+            listener.onNext(
+                new Trade.Builder()
+                    .currencyPair(currencyPair)
+                    // the type is the taker's side, which sold if the buyer is the maker
+                    .type(data.path("m").asBoolean() ? OrderType.ASK : OrderType.BID)
+                    .price(fixedPoint(data, "p"))
+                    .originalAmount(fixedPoint(data, "q"))
+                    .timestamp(new Date(data.path("T").asLong()))
+                    .id(data.path("t").asText())
+                    .build()));
+  }
+
+  @Override
+  public MarketDataSubscription subscribeOrderBook(
+      CurrencyPair currencyPair, MarketDataListener<OrderBook> listener) {
+
+    return subscribe(
+        stream(currencyPair, "depth" + DEPTH + "@100ms"),
+        listener,
+        data ->
+            listener.onNext(
+                new OrderBook(
+                    null,
+                    levels(data.path("asks"), OrderType.ASK, currencyPair),
+                    levels(data.path("bids"), OrderType.BID, currencyPair))));
+  }
+
+  @Override
+  protected String subscribeMessage(String channel) {
+
+    return request("SUBSCRIBE", channel);
+  }
+
+  @Override
+  protected String unsubscribeMessage(String channel) {
+
+    return request("UNSUBSCRIBE", channel);
+  }
+
+  @Override
+  protected String channelOf(JsonNode message) {
+
+    return message.hasNonNull("stream") ? message.get("stream").asText() : null;
+  }
+
+  @Override
+  protected JsonNode payloadOf(JsonNode message) {
+
+    return message.path("data");
+  }
+
+  private String request(String method, String stream) {
+
+    ObjectNode request = objectMapper.createObjectNode();
+    request.put("method", method);
+    request.putArray("params").add(stream);
+    request.put("id", requestId.incrementAndGet());
+    return request.toString();
+  }
+
+  private static String stream(CurrencyPair currencyPair, String type) {
+
+    return BinanceAdapters.toSymbol(currencyPair).toLowerCase() + "@" + type;
+  }
+
+  private static List<LimitOrder> levels(
+      JsonNode levels, OrderType type, CurrencyPair currencyPair) {
+
+    List<LimitOrder> orders = new ArrayList<>(levels.size());
+    for (JsonNode level : levels) {
+      orders.add(
+          new LimitOrder.Builder(type, currencyPair)
+              .originalAmount(new BigDecimal(level.get(1).asText()))
+              .limitPrice(FixedPoint.parse(level.get(0).asText()))
+              .build());
+    }
+    return orders;
+  }
+
+  private static BigDecimal decimal(JsonNode data, String field) {
+
+    JsonNode value = data.get(field);
+    return value == null || value.isNull() ? null : new BigDecimal(value.asText());
+  }
+
+  /** Binance writes every price with the same number of decimals, so they share one scale */
+  private static FixedPoint fixedPoint(JsonNode data, String field) {
+
+    JsonNode value = data.get(field);
+    return value == null || value.isNull() ? null : FixedPoint.parse(value.asText());
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.binance.BinanceAdapters;
 import org.knowm.xchange.binance.BinanceErrorAdapter;
@@ -30,6 +31,7 @@ import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.*;
 import org.knowm.xchange.service.trade.params.orders.DefaultOpenOrdersParam;
@@ -297,7 +299,7 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
           (Long)
               exchange.getExchangeSpecification().getExchangeSpecificParametersItem("recvWindow");
       List<BinanceTrade> binanceTrades =
-          super.myTrades(pair, limit, startTime, endTime, fromId, recvWindow, getTimestamp());
+          myTrades(pair, limit, startTime, endTime, fromId, recvWindow, getTimestamp());
       List<UserTrade> trades =
           binanceTrades.stream()
               .map(
@@ -320,6 +322,43 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
     }
   }
 
+  /**
+   * Streams the trades oldest first. Without a start id or time span Binance would return only the
+   * latest trades, so the stream then starts at id 0, setting the start id of the params.
+   */
+  @Override
+  public Stream<UserTrade> streamTradeHistory(TradeHistoryParams params) {
+
+    if (params instanceof TradeHistoryParamsIdSpan
+        && ((TradeHistoryParamsIdSpan) params).getStartId() == null
+        && !hasTimeSpan(params)) {
+      ((TradeHistoryParamsIdSpan) params).setStartId("0");
+    }
+    return TradeService.super.streamTradeHistory(params);
+  }
+
+  /**
+   * Binance returns the trades from the start id, or from the start time if a time span is set,
+   * oldest first.
+   */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor(TradeHistoryParams params) {
+
+    if (hasTimeSpan(params)) {
+      return TradeHistoryCursor.fromTime();
+    } else if (params instanceof TradeHistoryParamsIdSpan) {
+      return TradeHistoryCursor.fromId();
+    }
+    return TradeHistoryCursor.singlePage();
+  }
+
+  private static boolean hasTimeSpan(TradeHistoryParams params) {
+
+    return params instanceof TradeHistoryParamsTimeSpan
+        && (((TradeHistoryParamsTimeSpan) params).getStartTime() != null
+            || ((TradeHistoryParamsTimeSpan) params).getEndTime() != null);
+  }
+
   @Override
   public TradeHistoryParams createTradeHistoryParams() {
 
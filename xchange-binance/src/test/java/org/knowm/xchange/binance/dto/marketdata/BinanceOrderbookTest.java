@@ -0,0 +1,45 @@
+package org.knowm.xchange.binance.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.knowm.xchange.binance.service.BinanceMarketDataService;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class BinanceOrderbookTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testStreamedParseMatchesDto() throws IOException {
+
+    BinanceOrderbook orderbook = read(BinanceOrderbook.class);
+    BinanceStreamedOrderbook streamed = read(BinanceStreamedOrderbook.class);
+
+    assertThat(streamed.lastUpdateId).isEqualTo(orderbook.lastUpdateId).isEqualTo(1027024L);
+    assertThat(streamed.orderBook.size(OrderType.BID)).isEqualTo(3);
+    assertThat(streamed.orderBook.size(OrderType.ASK)).isEqualTo(2);
+
+    OrderBook expected =
+        BinanceMarketDataService.convertOrderBook(orderbook, CurrencyPair.BTC_USDT);
+    OrderBook actual = streamed.orderBook.toOrderBook(CurrencyPair.BTC_USDT);
+    assertThat(actual.getBids()).isEqualTo(expected.getBids());
+    assertThat(actual.getAsks()).isEqualTo(expected.getAsks());
+    assertThat(actual.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("4.00000000"));
+  }
+
+  private <T> T read(Class<T> type) throws IOException {
+
+    try (InputStream is =
+        BinanceOrderbookTest.class.getResourceAsStream(
+            "/org/knowm/xchange/binance/dto/marketdata/example-depth-data.json")) {
+      return mapper.readValue(is, type);
+    }
+  }
+}
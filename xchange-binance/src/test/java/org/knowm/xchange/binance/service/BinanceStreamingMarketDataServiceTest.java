@@ -0,0 +1,143 @@
+package org.knowm.xchange.binance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.service.marketdata.MarketDataListener;
+import org.knowm.xchange.service.marketdata.MarketDataSubscription;
+import org.knowm.xchange.utils.websocket.MockWebSocketServer;
+
+public class BinanceStreamingMarketDataServiceTest {
+
+  private final BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+
+  private MockWebSocketServer server;
+  private BinanceStreamingMarketDataService streaming;
+
+  @Before
+  public void setUp() throws Exception {
+
+    server = new MockWebSocketServer();
+    streaming = new BinanceStreamingMarketDataService(server.getUri());
+    streaming.setReconnectDelay(10, TimeUnit.MILLISECONDS);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+
+    streaming.shutdown();
+    server.close();
+  }
+
+  @Test
+  public void testTicker() throws Exception {
+
+    streaming.subscribeTicker(CurrencyPair.BTC_USDT, collecting());
+    assertThat(server.nextMessage())
+        .isEqualTo("{\"method\":\"SUBSCRIBE\",\"params\":[\"btcusdt@ticker\"],\"id\":1}");
+
+    server.send(
+        "{\"stream\":\"btcusdt@ticker\",\"data\":{\"e\":\"24hrTicker\",\"E\":123456789,"
+            + "\"s\":\"BTCUSDT\",\"w\":\"0.0018\",\"c\":\"0.0025\",\"b\":\"0.0024\",\"B\":\"10\","
+            + "\"a\":\"0.0026\",\"A\":\"100\",\"o\":\"0.0010\",\"h\":\"0.0025\",\"l\":\"0.0010\","
+            + "\"v\":\"10000\",\"q\":\"18\"}}");
+
+    Ticker ticker = (Ticker) next();
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USDT);
+    assertThat(ticker.getLast()).isEqualByComparingTo("0.0025");
+    assertThat(ticker.getBid()).isEqualByComparingTo("0.0024");
+    assertThat(ticker.getBidSize()).isEqualByComparingTo("10");
+    assertThat(ticker.getAsk()).isEqualByComparingTo("0.0026");
+    assertThat(ticker.getLastMantissa(4)).isEqualTo(25L);
+    assertThat(ticker.getBidMantissa(4)).isEqualTo(24L);
+    assertThat(ticker.getAskMantissa(4)).isEqualTo(26L);
+    assertThat(ticker.getAskSize()).isEqualByComparingTo("100");
+    assertThat(ticker.getVolume()).isEqualByComparingTo("10000");
+    assertThat(ticker.getQuoteVolume()).isEqualByComparingTo("18");
+    assertThat(ticker.getTimestamp().getTime()).isEqualTo(123456789L);
+  }
+
+  @Test
+  public void testTradesAndOrderBookShareTheConnection() throws Exception {
+
+    MarketDataSubscription trades = streaming.subscribeTrades(CurrencyPair.BTC_USDT, collecting());
+    streaming.subscribeOrderBook(CurrencyPair.BTC_USDT, collecting());
+    assertThat(server.nextMessage()).contains("\"btcusdt@trade\"");
+    assertThat(server.nextMessage()).contains("\"btcusdt@depth20@100ms\"");
+
+    server.send(
+        "{\"stream\":\"btcusdt@trade\",\"data\":{\"e\":\"trade\",\"E\":123456789,"
+            + "\"s\":\"BTCUSDT\",\"t\":12345,\"p\":\"0.001\",\"q\":\"100\",\"b\":88,\"a\":50,"
+            + "\"T\":123456785,\"m\":true,\"M\":true}}");
+    server.send(
+        "{\"stream\":\"btcusdt@depth20@100ms\",\"data\":{\"lastUpdateId\":160,"
+            + "\"bids\":[[\"0.0024\",\"10\"],[\"0.0023\",\"5\"]],\"asks\":[[\"0.0026\",\"100\"]]}}");
+
+    Trade trade = (Trade) next();
+    assertThat(trade.getId()).isEqualTo("12345");
+    assertThat(trade.getType()).isEqualTo(OrderType.ASK);
+    assertThat(trade.getPrice()).isEqualByComparingTo("0.001");
+    assertThat(trade.getOriginalAmount()).isEqualByComparingTo("100");
+    assertThat(trade.getPriceMantissa(3)).isEqualTo(1L);
+    assertThat(trade.getTimestamp().getTime()).isEqualTo(123456785L);
+
+    OrderBook book = (OrderBook) next();
+    assertThat(book.getBids()).hasSize(2);
+    assertThat(book.getBids().get(0).getLimitPrice()).isEqualByComparingTo("0.0024");
+    assertThat(book.getBids().get(0).getLimitPriceMantissa(4)).isEqualTo(24L);
+    assertThat(book.getAsks()).hasSize(1);
+    assertThat(book.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("100");
+
+    trades.cancel();
+    assertThat(server.nextMessage())
+        .isEqualTo("{\"method\":\"UNSUBSCRIBE\",\"params\":[\"btcusdt@trade\"],\"id\":3}");
+  }
+
+  @Test
+  public void testResubscribesAfterReconnecting() throws Exception {
+
+    streaming.subscribeTrades(CurrencyPair.BTC_USDT, collecting());
+    assertThat(server.nextMessage()).contains("SUBSCRIBE");
+
+    server.dropConnection();
+
+    assertThat(next()).isInstanceOf(Exception.class);
+    assertThat(server.nextMessage()).contains("\"btcusdt@trade\"");
+    server.send(
+        "{\"stream\":\"btcusdt@trade\",\"data\":{\"t\":1,\"p\":\"1\",\"q\":\"1\",\"T\":1,\"m\":false}}");
+    assertThat(((Trade) next()).getType()).isEqualTo(OrderType.BID);
+  }
+
+  private <T> MarketDataListener<T> collecting() {
+
+    return new MarketDataListener<T>() {
+
+      @Override
+      public void onNext(T item) {
+        delivered.add(item);
+      }
+
+      @Override
+      public void onError(Throwable error) {
+        delivered.add(error);
+      }
+    };
+  }
+
+  private Object next() throws InterruptedException {
+
+    Object item = delivered.poll(5, TimeUnit.SECONDS);
+    assertThat(item).isNotNull();
+    return item;
+  }
+}
@@ -0,0 +1,123 @@
+package org.knowm.xchange.binance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.binance.BinanceExchange;
+import org.knowm.xchange.binance.dto.trade.BinanceTrade;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsAll;
+
+public class BinanceTradeHistoryStreamTest {
+
+  /** ids 1 to 5, at seconds 10 to 50 */
+  private final FakeTrades service = new FakeTrades();
+
+  @Test
+  public void testStreamStartsAtTheFirstTradeWithoutAStartId() {
+
+    BinanceTradeHistoryParams params = new BinanceTradeHistoryParams(CurrencyPair.BTC_USDT);
+    params.setLimit(2);
+
+    assertThat(ids(service, params)).containsExactly("1", "2", "3", "4", "5");
+    assertThat(service.fromIds).containsExactly(0L, 3L, 5L, 6L);
+  }
+
+  @Test
+  public void testStreamContinuesFromTheStartId() {
+
+    BinanceTradeHistoryParams params = new BinanceTradeHistoryParams(CurrencyPair.BTC_USDT);
+    params.setLimit(2);
+    params.setStartId("2");
+
+    assertThat(ids(service, params)).containsExactly("2", "3", "4", "5");
+    assertThat(service.fromIds).containsExactly(2L, 4L, 6L);
+  }
+
+  @Test
+  public void testStreamPagesByTimeWithATimeSpan() {
+
+    TradeHistoryParamsAll params = new TradeHistoryParamsAll();
+    params.setCurrencyPair(CurrencyPair.BTC_USDT);
+    params.setLimit(2);
+    params.setStartTime(new Date(20_000));
+
+    assertThat(ids(service, params)).containsExactly("2", "3", "4", "5");
+    assertThat(service.startTimes).containsExactly(20_000L, 30_000L, 40_000L, 50_000L);
+    assertThat(service.fromIds).containsOnlyNulls();
+  }
+
+  private static List<String> ids(BinanceTradeService service, TradeHistoryParams params) {
+
+    return service.streamTradeHistory(params).map(UserTrade::getId).collect(Collectors.toList());
+  }
+
+  /** Serves the trades the way Binance does: from the id or time, oldest first. */
+  private static class FakeTrades extends BinanceTradeService {
+
+    final List<Long> fromIds = new ArrayList<>();
+    final List<Long> startTimes = new ArrayList<>();
+
+    FakeTrades() {
+
+      super(exchange());
+    }
+
+    @Override
+    public List<BinanceTrade> myTrades(
+        CurrencyPair pair,
+        Integer limit,
+        Long startTime,
+        Long endTime,
+        Long fromId,
+        Long recvWindow,
+        long timestamp) {
+
+      fromIds.add(fromId);
+      if (startTime != null) {
+        startTimes.add(startTime);
+      }
+      List<BinanceTrade> trades = new ArrayList<>();
+      for (long id = 1; id <= 5 && trades.size() < limit; id++) {
+        long time = id * 10_000;
+        if ((fromId == null || id >= fromId) && (startTime == null || time >= startTime)) {
+          trades.add(
+              new BinanceTrade(
+                  id,
+                  id,
+                  BigDecimal.TEN,
+                  BigDecimal.ONE,
+                  BigDecimal.ZERO,
+                  "BNB",
+                  time,
+                  true,
+                  false,
+                  true));
+        }
+      }
+      return trades;
+    }
+
+    @Override
+    public long getTimestamp() {
+
+      return System.currentTimeMillis();
+    }
+  }
+
+  private static BinanceExchange exchange() {
+
+    ExchangeSpecification specification = new BinanceExchange().getDefaultExchangeSpecification();
+    specification.setShouldLoadRemoteMetaData(false);
+    return (BinanceExchange) ExchangeFactory.INSTANCE.createExchange(specification);
+  }
+}
@@ -145,20 +145,7 @@ public final class BitfinexAdapters {
 
   public static CurrencyPair adaptCurrencyPair(String bitfinexSymbol) {
 
-    String tradableIdentifier;
-    String transactionCurrency;
-    if (bitfinexSymbol.contains(":")) {
-      // ie 'dusk:usd'
-      int idx = bitfinexSymbol.indexOf(":");
-      tradableIdentifier = bitfinexSymbol.substring(0, idx);
-      transactionCurrency = bitfinexSymbol.substring(idx + 1);
-    } else {
-      tradableIdentifier = bitfinexSymbol.substring(0, 3);
-      transactionCurrency = bitfinexSymbol.substring(3);
-    }
-
-    return new CurrencyPair(
-        adaptBitfinexCurrency(tradableIdentifier), adaptBitfinexCurrency(transactionCurrency));
+    return BitfinexUtils.toCurrencyPair(bitfinexSymbol);
   }
 
   public static OrderStatus adaptOrderStatus(BitfinexOrderStatusResponse order) {
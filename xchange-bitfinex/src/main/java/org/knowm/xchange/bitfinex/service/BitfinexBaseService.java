@@ -5,9 +5,8 @@ import org.knowm.xchange.bitfinex.v1.BitfinexAuthenticated;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
-public class BitfinexBaseService extends BaseExchangeService implements BaseService {
+public class BitfinexBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final String apiKey;
   protected final BitfinexAuthenticated bitfinex;
@@ -26,7 +25,7 @@ public class BitfinexBaseService extends BaseExchangeService implements BaseServ
     super(exchange);
 
     this.bitfinex =
-        RestProxyFactory.createProxy(
+        createProxy(
             BitfinexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
             getClientConfig());
@@ -37,7 +36,7 @@ public class BitfinexBaseService extends BaseExchangeService implements BaseServ
     this.payloadCreator = new BitfinexPayloadDigest();
 
     this.bitfinexV2 =
-        RestProxyFactory.createProxy(
+        createProxy(
             org.knowm.xchange.bitfinex.v2.BitfinexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
             getClientConfig());
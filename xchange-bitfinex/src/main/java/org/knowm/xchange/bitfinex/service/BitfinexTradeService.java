@@ -20,9 +20,11 @@ import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelAllOrders;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
@@ -229,6 +231,33 @@ public class BitfinexTradeService extends BitfinexTradeServiceRaw implements Tra
     }
   }
 
+  /**
+   * Bitfinex returns the latest trades up to the end time, newest first, and its page number only
+   * raises the number of trades returned. So each page ends at the time of the oldest trade of the
+   * previous one; trades of that second are returned again and left out by the stream.
+   */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor(TradeHistoryParams params) {
+
+    if (!(params instanceof TradeHistoryParamsTimeSpan)) {
+      return TradeHistoryCursor.singlePage();
+    }
+    return (cursorParams, page) -> {
+      Date oldest = null;
+      for (UserTrade trade : page.getUserTrades()) {
+        if (oldest == null || trade.getTimestamp().before(oldest)) {
+          oldest = trade.getTimestamp();
+        }
+      }
+      TradeHistoryParamsTimeSpan timeSpan = (TradeHistoryParamsTimeSpan) cursorParams;
+      if (timeSpan.getStartTime() != null && !oldest.after(timeSpan.getStartTime())) {
+        return false;
+      }
+      timeSpan.setEndTime(oldest);
+      return true;
+    };
+  }
+
   @Override
   public TradeHistoryParams createTradeHistoryParams() {
 
@@ -3,10 +3,15 @@ package org.knowm.xchange.bitfinex.v1;
 import org.knowm.xchange.bitfinex.dto.BitfinexException;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
 
 /** A central place for shared Bitfinex properties */
 public final class BitfinexUtils {
 
+  /** Pair symbols such as "btcusd", computed once per pair */
+  private static final SymbolCodec pairSymbols =
+      new SymbolCodec(BitfinexUtils::createPairString, BitfinexUtils::parsePairString);
+
   /** private Constructor */
   private BitfinexUtils() {}
 
@@ -25,10 +30,37 @@ public final class BitfinexUtils {
       return null;
     }
 
+    return pairSymbols.encode(currencyPair);
+  }
+
+  public static CurrencyPair toCurrencyPair(String bitfinexSymbol) {
+
+    return pairSymbols.decode(bitfinexSymbol);
+  }
+
+  private static String createPairString(CurrencyPair currencyPair) {
+
     String base = adaptXchangeCurrency(currencyPair.base);
     return base + currencySeparator(base) + adaptXchangeCurrency(currencyPair.counter);
   }
 
+  private static CurrencyPair parsePairString(String bitfinexSymbol) {
+
+    String tradableIdentifier;
+    String transactionCurrency;
+    if (bitfinexSymbol.contains(":")) {
+      // ie 'dusk:usd'
+      int idx = bitfinexSymbol.indexOf(":");
+      tradableIdentifier = bitfinexSymbol.substring(0, idx);
+      transactionCurrency = bitfinexSymbol.substring(idx + 1);
+    } else {
+      tradableIdentifier = bitfinexSymbol.substring(0, 3);
+      transactionCurrency = bitfinexSymbol.substring(3);
+    }
+
+    return new CurrencyPair(tradableIdentifier.toUpperCase(), transactionCurrency.toUpperCase());
+  }
+
   /**
    * unfortunatelly we need to go this way, since the pairs at bitfinex are not very consequent see
    * dusk:xxx pairs at https://api.bitfinex.com/v1/symbols_details
@@ -0,0 +1,77 @@
+package org.knowm.xchange.bitfinex.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.bitfinex.BitfinexExchange;
+import org.knowm.xchange.bitfinex.service.BitfinexTradeService.BitfinexTradeHistoryParams;
+import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexTradeResponse;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+public class BitfinexTradeHistoryStreamTest {
+
+  @Test
+  public void testPagesEndAtTheOldestTradeOfThePreviousPage() {
+
+    // trades 1 to 7 at seconds 101 to 107, trades 4 and 5 both at second 104
+    List<Long> untils = new ArrayList<>();
+    BitfinexTradeService service =
+        new BitfinexTradeService(exchange()) {
+
+          @Override
+          public BitfinexTradeResponse[] getBitfinexTradeHistory(
+              String symbol, long startTime, Long endTime, Integer limit, Integer reverse) {
+            untils.add(endTime);
+            List<BitfinexTradeResponse> trades = new ArrayList<>();
+            for (int id = 7; id >= 1 && trades.size() < limit; id--) {
+              long second = id == 5 ? 104 : 100 + id;
+              if (second >= startTime && (endTime == null || second <= endTime)) {
+                trades.add(trade(id, second));
+              }
+            }
+            return trades.toArray(new BitfinexTradeResponse[0]);
+          }
+        };
+
+    BitfinexTradeHistoryParams params =
+        new BitfinexTradeHistoryParams(new Date(0), 3, CurrencyPair.BTC_USD);
+    params.setPageNumber(0);
+
+    // newest page first, each page sorted by time by the adapter
+    assertThat(
+            service.streamTradeHistory(params).map(UserTrade::getId).collect(Collectors.toList()))
+        .containsExactly("5", "6", "7", "3", "4", "1", "2");
+    assertThat(untils).containsExactly(null, 104L, 103L, 101L);
+  }
+
+  private static BitfinexTradeResponse trade(int id, long second) {
+
+    return new BitfinexTradeResponse(
+        BigDecimal.TEN,
+        BigDecimal.ONE,
+        BigDecimal.valueOf(second),
+        "bitfinex",
+        "Buy",
+        Integer.toString(id),
+        "1",
+        BigDecimal.ZERO,
+        "USD");
+  }
+
+  private static BitfinexExchange exchange() {
+
+    ExchangeSpecification specification = new BitfinexExchange().getDefaultExchangeSpecification();
+    specification.setApiKey("key");
+    specification.setSecretKey("secret");
+    specification.setShouldLoadRemoteMetaData(false);
+    return (BitfinexExchange) ExchangeFactory.INSTANCE.createExchange(specification);
+  }
+}
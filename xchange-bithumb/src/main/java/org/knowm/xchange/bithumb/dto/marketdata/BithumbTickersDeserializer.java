@@ -8,12 +8,13 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 
 public class BithumbTickersDeserializer extends JsonDeserializer<BithumbTickersReturn> {
 
-  private final ObjectReader jsonObjectReader =
-      new ObjectMapper()
-          .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+  private static final ObjectReader TICKER_READER =
+      JacksonRegistry.create(
+              mapper -> mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false))
           .readerFor(BithumbTicker.class);
 
   @Override
@@ -37,7 +38,7 @@ public class BithumbTickersDeserializer extends JsonDeserializer<BithumbTickersR
         }
 
         try {
-          BithumbTicker ticker = jsonObjectReader.readValue(value);
+          BithumbTicker ticker = TICKER_READER.readValue(value);
           ticker.setDate(date);
           tickers.put(key, ticker);
         } catch (MismatchedInputException ignore) {
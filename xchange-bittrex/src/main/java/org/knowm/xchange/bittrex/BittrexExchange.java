@@ -12,6 +12,7 @@ import org.knowm.xchange.bittrex.service.BittrexMarketDataService;
 import org.knowm.xchange.bittrex.service.BittrexMarketDataServiceRaw;
 import org.knowm.xchange.bittrex.service.BittrexTradeService;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.utils.MetaDataCache;
 import org.knowm.xchange.utils.nonce.AtomicLongIncrementalTime2013NonceFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
@@ -59,4 +60,11 @@ public class BittrexExchange extends BaseExchange implements Exchange {
       throw BittrexErrorAdapter.adapt(e);
     }
   }
+
+  /** remoteInit only builds the meta data, so the cached copy is all there is to restore */
+  @Override
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    return true;
+  }
 }
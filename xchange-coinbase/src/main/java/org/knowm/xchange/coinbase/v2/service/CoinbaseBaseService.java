@@ -12,6 +12,7 @@ import org.knowm.xchange.coinbase.v2.dto.marketdata.CoinbaseCurrencyData.Coinbas
 import org.knowm.xchange.coinbase.v2.dto.marketdata.CoinbaseTimeData.CoinbaseTime;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.utils.Assert;
 import org.knowm.xchange.utils.HmacDigest;
 import si.mazi.rescu.RestProxyFactory;
 
@@ -19,6 +20,7 @@ public class CoinbaseBaseService extends BaseExchangeService implements BaseServ
 
   protected final CoinbaseAuthenticated coinbase;
   protected final CoinbaseV2Digest signatureCreator2;
+  private final HmacDigest hmacDigest;
 
   protected CoinbaseBaseService(Exchange exchange) {
 
@@ -31,6 +33,8 @@ public class CoinbaseBaseService extends BaseExchangeService implements BaseServ
 
     signatureCreator2 =
         CoinbaseV2Digest.createInstance(exchange.getExchangeSpecification().getSecretKey());
+    String secretKey = exchange.getExchangeSpecification().getSecretKey();
+    hmacDigest = secretKey == null ? null : new HmacDigest("HmacSHA256", secretKey);
   }
 
   /**
@@ -58,9 +62,9 @@ public class CoinbaseBaseService extends BaseExchangeService implements BaseServ
   }
 
   protected String getSignature(BigDecimal timestamp, HttpMethod method, String path, String body) {
-    String secretKey = exchange.getExchangeSpecification().getSecretKey();
     String message = timestamp + method.toString() + path + (body != null ? body : "");
-    return new HmacDigest("HmacSHA256", secretKey).hexDigest(message);
+    Assert.notNull(hmacDigest, "Null secretKey");
+    return hmacDigest.hexDigest(message);
   }
 
   protected void showCurl(
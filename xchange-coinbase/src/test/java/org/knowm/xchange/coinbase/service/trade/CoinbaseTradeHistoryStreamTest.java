@@ -0,0 +1,101 @@
+package org.knowm.xchange.coinbase.service.trade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.coinbase.CoinbaseAuthenticated;
+import org.knowm.xchange.coinbase.CoinbaseExchange;
+import org.knowm.xchange.coinbase.dto.trade.CoinbaseTransfers;
+import org.knowm.xchange.coinbase.service.CoinbaseBaseService;
+import org.knowm.xchange.coinbase.service.CoinbaseTradeService;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+
+public class CoinbaseTradeHistoryStreamTest {
+
+  @Test
+  public void testPagesUntilAShortPage() throws Exception {
+
+    // transfers 1 to 5, 2 per page
+    List<Integer> pages = new ArrayList<>();
+    CoinbaseTradeService service = new CoinbaseTradeService(exchange());
+    replaceProxy(
+        service,
+        (proxy, method, args) -> {
+          assertThat(method.getName()).isEqualTo("getTransfers");
+          Integer page = (Integer) args[0];
+          pages.add(page);
+          return transfers(page, (Integer) args[1], 5);
+        });
+
+    TradeHistoryParams params = service.createTradeHistoryParams();
+    ((TradeHistoryParamPaging) params).setPageLength(2);
+
+    assertThat(
+            service.streamTradeHistory(params).map(UserTrade::getId).collect(Collectors.toList()))
+        .containsExactly("1", "2", "3", "4", "5");
+    assertThat(pages).containsExactly(1, 2, 3);
+  }
+
+  private static void replaceProxy(CoinbaseTradeService service, InvocationHandler handler)
+      throws ReflectiveOperationException {
+
+    Field coinbase = CoinbaseBaseService.class.getDeclaredField("coinbase");
+    coinbase.setAccessible(true);
+    coinbase.set(
+        service,
+        Proxy.newProxyInstance(
+            CoinbaseAuthenticated.class.getClassLoader(),
+            new Class<?>[] {CoinbaseAuthenticated.class},
+            handler));
+  }
+
+  private static CoinbaseTransfers transfers(int page, int limit, int total) throws IOException {
+
+    List<String> transfers = new ArrayList<>();
+    for (int id = (page - 1) * limit + 1; id <= Math.min(page * limit, total); id++) {
+      transfers.add(
+          "{\"transfer\":{\"id\":\"t"
+              + id
+              + "\",\"created_at\":\"2014-02-06T18:12:38-08:00\",\"payout_date\":\"2014-02-06T18:12:37-08:00\","
+              + "\"fees\":{\"coinbase\":{\"cents\":905,\"currency_iso\":\"USD\"},"
+              + "\"bank\":{\"cents\":15,\"currency_iso\":\"USD\"}},"
+              + "\"transaction_id\":\""
+              + id
+              + "\",\"type\":\"Buy\",\"status\":\"Completed\","
+              + "\"btc\":{\"amount\":\"1.20000000\",\"currency\":\"BTC\"},"
+              + "\"subtotal\":{\"amount\":\"905.10\",\"currency\":\"USD\"},"
+              + "\"total\":{\"amount\":\"914.30\",\"currency\":\"USD\"}}}");
+    }
+    return new ObjectMapper()
+        .readValue(
+            "{\"transfers\":["
+                + String.join(",", transfers)
+                + "],\"total_count\":"
+                + total
+                + ",\"num_pages\":3,\"current_page\":"
+                + page
+                + "}",
+            CoinbaseTransfers.class);
+  }
+
+  private static CoinbaseExchange exchange() {
+
+    ExchangeSpecification specification = new CoinbaseExchange().getDefaultExchangeSpecification();
+    specification.setApiKey("key");
+    specification.setSecretKey("secret");
+    specification.setShouldLoadRemoteMetaData(false);
+    return (CoinbaseExchange) ExchangeFactory.INSTANCE.createExchange(specification);
+  }
+}
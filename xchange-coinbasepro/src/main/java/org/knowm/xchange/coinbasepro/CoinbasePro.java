@@ -70,6 +70,14 @@ public interface CoinbasePro {
       @PathParam("level") String level)
       throws CoinbaseProException, IOException;
 
+  @GET
+  @Path("products/{baseCurrency}-{targetCurrency}/book?level={level}")
+  CoinbaseProStreamedProductBook getProductOrderBookStreamed(
+      @PathParam("baseCurrency") String baseCurrency,
+      @PathParam("targetCurrency") String targetCurrency,
+      @PathParam("level") String level)
+      throws CoinbaseProException, IOException;
+
   @GET
   @Path("products/{baseCurrency}-{targetCurrency}/trades")
   CoinbaseProTrade[] getTrades(
@@ -23,6 +23,7 @@ import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceMarketOrder;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceOrder;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderStatus;
 import org.knowm.xchange.dto.Order.OrderType;
@@ -50,6 +51,13 @@ public class CoinbaseProAdapters {
 
   private static Logger logger = LoggerFactory.getLogger(CoinbaseProAdapters.class);
 
+  /** Product ids such as "BTC-USD", computed once per pair */
+  private static final SymbolCodec productIds =
+      new SymbolCodec(
+          currencyPair ->
+              currencyPair.base.getCurrencyCode() + "-" + currencyPair.counter.getCurrencyCode(),
+          productId -> new CurrencyPair(productId.replace('-', '/')));
+
   private CoinbaseProAdapters() {}
 
   protected static Date parseDate(final String rawDate) {
@@ -184,7 +192,7 @@ public class CoinbaseProAdapters {
 
   public static Order adaptOrder(CoinbaseProOrder order) {
     OrderType type = order.getSide().equals("buy") ? OrderType.BID : OrderType.ASK;
-    CurrencyPair currencyPair = new CurrencyPair(order.getProductId().replace('-', '/'));
+    CurrencyPair currencyPair = adaptProductID(order.getProductId());
 
     Date createdAt = parseDate(order.getCreatedAt());
 
@@ -308,7 +316,7 @@ public class CoinbaseProAdapters {
 
       OrderType type = fill.getSide().equals("buy") ? OrderType.BID : OrderType.ASK;
 
-      CurrencyPair currencyPair = new CurrencyPair(fill.getProductId().replace('-', '/'));
+      CurrencyPair currencyPair = adaptProductID(fill.getProductId());
 
       UserTrade t =
           new UserTrade(
@@ -422,7 +430,11 @@ public class CoinbaseProAdapters {
   }
 
   public static String adaptProductID(CurrencyPair currencyPair) {
-    return currencyPair.base.getCurrencyCode() + "-" + currencyPair.counter.getCurrencyCode();
+    return productIds.encode(currencyPair);
+  }
+
+  public static CurrencyPair adaptProductID(String productId) {
+    return productIds.decode(productId);
   }
 
   public static CoinbaseProPlaceOrder.Side adaptSide(OrderType orderType) {
@@ -1,6 +1,7 @@
 package org.knowm.xchange.coinbasepro;
 
 import java.io.IOException;
+import java.net.URI;
 import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProCurrency;
@@ -8,7 +9,10 @@ import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProduct;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProAccountService;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProMarketDataService;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProMarketDataServiceRaw;
+import org.knowm.xchange.coinbasepro.service.CoinbaseProStreamingMarketDataService;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProTradeService;
+import org.knowm.xchange.service.marketdata.StreamingMarketDataService;
+import org.knowm.xchange.utils.MetaDataCache;
 import org.knowm.xchange.utils.nonce.CurrentTime1000NonceFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
@@ -46,6 +50,20 @@ public class CoinbaseProExchange extends BaseExchange {
     this.tradeService = new CoinbaseProTradeService(this);
   }
 
+  @Override
+  protected StreamingMarketDataService createStreamingMarketDataService() {
+
+    Object uri = exchangeSpecification.getExchangeSpecificParametersItem(PARAM_STREAMING_URI);
+    if (uri != null) {
+      return new CoinbaseProStreamingMarketDataService(URI.create(uri.toString()));
+    }
+    return Boolean.TRUE.equals(
+            exchangeSpecification.getExchangeSpecificParametersItem("Use_Sandbox"))
+        ? new CoinbaseProStreamingMarketDataService(
+            CoinbaseProStreamingMarketDataService.SANDBOX_URI)
+        : new CoinbaseProStreamingMarketDataService();
+  }
+
   @Override
   public ExchangeSpecification getDefaultExchangeSpecification() {
 
@@ -78,4 +96,11 @@ public class CoinbaseProExchange extends BaseExchange {
     exchangeMetaData =
         CoinbaseProAdapters.adaptToExchangeMetaData(exchangeMetaData, products, currencies);
   }
+
+  /** The products and currencies only go into the meta data, which is cached as a whole */
+  @Override
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    return true;
+  }
 }
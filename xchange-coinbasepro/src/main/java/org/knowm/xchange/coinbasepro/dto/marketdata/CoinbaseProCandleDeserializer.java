@@ -5,12 +5,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.node.NumericNode;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Date;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 
 public class CoinbaseProCandleDeserializer extends StdDeserializer<CoinbaseProCandle> {
 
@@ -27,8 +27,7 @@ public class CoinbaseProCandleDeserializer extends StdDeserializer<CoinbaseProCa
   @Override
   public CoinbaseProCandle deserialize(JsonParser jp, DeserializationContext ctxt)
       throws IOException, JsonProcessingException {
-    ObjectMapper mapper = new ObjectMapper();
-    TreeNode jo = mapper.readTree(jp);
+    TreeNode jo = JacksonRegistry.DEFAULT.reader().readTree(jp);
     if (!jo.isArray() || jo.size() != 6) {
       throw new JsonMappingException(jp, "An array of length 6 expected: " + jo.toString());
     }
@@ -0,0 +1,84 @@
+package org.knowm.xchange.coinbasepro.dto.marketdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.PackedOrderBook;
+import org.knowm.xchange.utils.jackson.OrderBookJsonReader;
+
+/**
+ * The same response as {@link CoinbaseProProductBook}, parsed token by token into a {@link
+ * PackedOrderBook}. Intended for the level 3 book, which has an entry per open order.
+ */
+@JsonDeserialize(using = CoinbaseProStreamedProductBook.Deserializer.class)
+public class CoinbaseProStreamedProductBook {
+
+  private final Long sequence;
+  private final PackedOrderBook orderBook;
+
+  public CoinbaseProStreamedProductBook(Long sequence, PackedOrderBook orderBook) {
+
+    this.sequence = sequence;
+    this.orderBook = orderBook;
+  }
+
+  public Long getSequence() {
+
+    return sequence;
+  }
+
+  /** @return the entries with the same ids as {@code CoinbaseProAdapters.adaptOrderBook} */
+  public PackedOrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  @Override
+  public String toString() {
+
+    return "CoinbaseProStreamedProductBook [sequence="
+        + sequence
+        + ", orderBook="
+        + orderBook
+        + "]";
+  }
+
+  static class Deserializer extends JsonDeserializer<CoinbaseProStreamedProductBook> {
+
+    @Override
+    public CoinbaseProStreamedProductBook deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+
+      PackedOrderBook orderBook = new PackedOrderBook();
+      Long[] sequence = new Long[1];
+      OrderBookJsonReader.readObject(
+          p,
+          (name, parser) -> {
+            switch (name) {
+              case "sequence":
+                sequence[0] = parser.getValueAsLong();
+                break;
+              case "bids":
+                readEntries(parser, OrderType.BID, orderBook);
+                break;
+              case "asks":
+                readEntries(parser, OrderType.ASK, orderBook);
+                break;
+              default:
+            }
+          });
+      return new CoinbaseProStreamedProductBook(sequence[0], orderBook);
+    }
+
+    private static void readEntries(JsonParser parser, OrderType type, PackedOrderBook orderBook)
+        throws IOException {
+
+      // [price, size, order_id] or [price, size, num-orders]
+      OrderBookJsonReader.readRows(
+          parser, (price, size, p) -> orderBook.accept(type, price, size, "0", null));
+    }
+  }
+}
@@ -10,9 +10,8 @@ import org.knowm.xchange.exceptions.RateLimitExceededException;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
-public class CoinbaseProBaseService extends BaseExchangeService implements BaseService {
+public class CoinbaseProBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final CoinbasePro coinbasePro;
   protected final ParamsDigest digest;
@@ -24,8 +23,11 @@ public class CoinbaseProBaseService extends BaseExchangeService implements BaseS
 
     super(exchange);
     coinbasePro =
-        RestProxyFactory.createProxy(
-            CoinbasePro.class, exchange.getExchangeSpecification().getSslUri(), getClientConfig());
+        createProxy(
+            CoinbasePro.class,
+            exchange.getExchangeSpecification().getSslUri(),
+            getClientConfig(),
+            getRateLimitInterceptor());
     digest = CoinbaseProDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
     apiKey = exchange.getExchangeSpecification().getApiKey();
     passphrase =
@@ -33,6 +35,12 @@ public class CoinbaseProBaseService extends BaseExchangeService implements BaseS
             exchange.getExchangeSpecification().getExchangeSpecificParametersItem("passphrase");
   }
 
+  @Override
+  protected boolean isRateLimitedByProxies() {
+
+    return true;
+  }
+
   protected ExchangeException handleError(CoinbaseProException exception) {
 
     if (exception.getMessage().contains("Insufficient")) {
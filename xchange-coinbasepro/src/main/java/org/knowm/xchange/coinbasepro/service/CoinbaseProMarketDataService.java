@@ -51,6 +51,11 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
       }
     }
 
+    if (isStreamingOrderBook()) {
+      return getCoinbaseProStreamedProductOrderBook(currencyPair, level)
+          .getOrderBook()
+          .toOrderBook(currencyPair);
+    }
     return CoinbaseProAdapters.adaptOrderBook(
         getCoinbaseProProductOrderBook(currencyPair, level), currencyPair);
   }
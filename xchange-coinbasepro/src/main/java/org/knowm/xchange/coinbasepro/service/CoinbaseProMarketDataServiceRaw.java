@@ -1,14 +1,13 @@
 package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProException;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProTrades;
 import org.knowm.xchange.coinbasepro.dto.marketdata.*;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
 
 @Slf4j
 public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
@@ -82,6 +81,19 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
     }
   }
 
+  public CoinbaseProStreamedProductBook getCoinbaseProStreamedProductOrderBook(
+      CurrencyPair currencyPair, int level) throws IOException {
+
+    try {
+      return coinbasePro.getProductOrderBookStreamed(
+          currencyPair.base.getCurrencyCode(),
+          currencyPair.counter.getCurrencyCode(),
+          String.valueOf(level));
+    } catch (CoinbaseProException e) {
+      throw handleError(e);
+    }
+  }
+
   public CoinbaseProTrade[] getCoinbaseProTrades(CurrencyPair currencyPair) throws IOException {
 
     try {
@@ -93,30 +105,15 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
     }
   }
 
-  static Instant lastCall = null;
-  static boolean rateLimited = false;
-
+  /**
+   * Calls are paced by the public rate limit from the exchange meta data, a rejected call is
+   * retried after a second.
+   */
   public CoinbaseProTrades getCoinbaseProTradesExtended(
       CurrencyPair currencyPair, Long after, Integer limit) throws IOException {
 
     for (; ; ) {
       try {
-        if (rateLimited) {
-          long delta = Duration.between(lastCall, Instant.now()).toMillis();
-          log.debug("Last call {} ms ago", delta);
-          if (delta < 333) {
-            try {
-              log.debug("Sleeping for {}ms", 333 - delta);
-              Thread.sleep(333 - delta);
-            } catch (InterruptedException e) {
-              log.debug("Unexpected exception in getCoinbaseProTradesExtended", e);
-            }
-          } else if (delta > 3000) {
-            log.debug("Clearing rate limiter");
-            rateLimited = false;
-          }
-        }
-        lastCall = Instant.now();
         CoinbaseProTrades CoinbaseProTrades =
             coinbasePro.getTradesPageable(
                 currencyPair.base.getCurrencyCode(),
@@ -136,7 +133,6 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
         }
 
         log.debug("Rate limit exceeded, sleeping for 1000ms");
-        rateLimited = true;
         try {
           Thread.sleep(1000);
         } catch (InterruptedException e1) {
@@ -164,19 +160,10 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
 
   public boolean checkProductExists(CurrencyPair currencyPair) {
 
-    boolean currencyPairSupported = false;
-    for (CurrencyPair cp : exchange.getExchangeSymbols()) {
-      if (cp.base.getCurrencyCode().equalsIgnoreCase(currencyPair.base.getCurrencyCode())
-          && cp.counter
-              .getCurrencyCode()
-              .equalsIgnoreCase(currencyPair.counter.getCurrencyCode())) {
-
-        currencyPairSupported = true;
-        break;
-      }
-    }
-
-    return currencyPairSupported;
+    ExchangeMetaData exchangeMetaData = exchange.getExchangeMetaData();
+    return exchangeMetaData != null
+        && exchangeMetaData.getCurrencyPairs() != null
+        && exchangeMetaData.getCurrencyPairs().containsKey(currencyPair);
   }
 
   public CoinbaseProProduct[] getCoinbaseProProducts() throws IOException {
@@ -0,0 +1,234 @@
+package org.knowm.xchange.coinbasepro.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.service.marketdata.MarketDataListener;
+import org.knowm.xchange.service.marketdata.MarketDataSubscription;
+import org.knowm.xchange.service.marketdata.WebSocketStreamingMarketDataService;
+import org.knowm.xchange.utils.FixedPoint;
+
+/**
+ * Streams market data from the Coinbase Pro WebSocket feed: the ticker, every match and the full
+ * order book, kept from the level2 snapshot and the updates which follow it.
+ */
+public class CoinbaseProStreamingMarketDataService extends WebSocketStreamingMarketDataService {
+
+  public static final URI DEFAULT_URI = URI.create("wss://ws-feed.pro.coinbase.com");
+  public static final URI SANDBOX_URI = URI.create("wss://ws-feed-public.sandbox.pro.coinbase.com");
+
+  private static final String TICKER = "ticker";
+  private static final String MATCHES = "matches";
+  private static final String LEVEL2 = "level2";
+
+  /** The books of the subscribed level2 channels by product id, only used by the connection. */
+  private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+
+  public CoinbaseProStreamingMarketDataService() {
+
+    this(DEFAULT_URI);
+  }
+
+  /** @param uri the URI of the feed */
+  public CoinbaseProStreamingMarketDataService(URI uri) {
+
+    super(uri);
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTicker(
+      CurrencyPair currencyPair, MarketDataListener<Ticker> listener) {
+
+    return subscribe(
+        channel(TICKER, currencyPair),
+        listener,
+        message ->
+            listener.onNext(
+                new Ticker.Builder()
+                    .currencyPair(currencyPair)
+                    .last(decimal(message, "price"))
+                    .bid(decimal(message, "best_bid"))
+                    .ask(decimal(message, "best_ask"))
+                    .open(decimal(message, "open_24h"))
+                    .high(decimal(message, "high_24h"))
+                    .low(decimal(message, "low_24h"))
+                    .volume(decimal(message, "volume_24h"))
+                    .timestamp(date(message))
+                    .build()));
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTrades(
+      CurrencyPair currencyPair, MarketDataListener<Trade> listener) {
+
+    return subscribe(
+        channel(MATCHES, currencyPair),
+        listener,
+        message -> {
+          // the side of the maker, as for the trades of the REST API
+          OrderType type =
+              "sell".equals(message.path("side").asText()) ? OrderType.BID : OrderType.ASK;
+          Trade trade =
+              new Trade.Builder()
+                  .currencyPair(currencyPair)
+                  .type(type)
+                  .price(decimal(message, "price"))
+                  .originalAmount(decimal(message, "size"))
+                  .timestamp(date(message))
+                  .id(message.path("trade_id").asText())
+                  .build();
+          trade.setMakerOrderId(message.path("maker_order_id").asText(null));
+          trade.setTakerOrderId(message.path("taker_order_id").asText(null));
+          listener.onNext(trade);
+        });
+  }
+
+  @Override
+  public MarketDataSubscription subscribeOrderBook(
+      CurrencyPair currencyPair, MarketDataListener<OrderBook> listener) {
+
+    String productId = CoinbaseProAdapters.adaptProductID(currencyPair);
+    return subscribe(
+        channel(LEVEL2, currencyPair),
+        listener,
+        message -> {
+          OrderBook book = books.get(productId);
+          if (book != null) {
+            listener.onNext(copy(book));
+          }
+        });
+  }
+
+  @Override
+  protected String subscribeMessage(String channel) {
+
+    return request("subscribe", channel);
+  }
+
+  @Override
+  protected String unsubscribeMessage(String channel) {
+
+    return request("unsubscribe", channel);
+  }
+
+  @Override
+  protected String channelOf(JsonNode message) {
+
+    String productId = message.path("product_id").asText(null);
+    if (productId == null) {
+      return null;
+    }
+    switch (message.path("type").asText()) {
+      case "ticker":
+        return TICKER + ":" + productId;
+      case "match":
+      case "last_match":
+        return MATCHES + ":" + productId;
+      case "snapshot":
+      case "l2update":
+        return LEVEL2 + ":" + productId;
+      default:
+        return null;
+    }
+  }
+
+  /** Applies level2 messages to the book of their product, once for all its listeners. */
+  @Override
+  protected JsonNode payloadOf(JsonNode message) {
+
+    String productId = message.path("product_id").asText();
+    switch (message.path("type").asText()) {
+      case "snapshot":
+        CurrencyPair currencyPair = CoinbaseProAdapters.adaptProductID(productId);
+        books.put(
+            productId,
+            new OrderBook(
+                null,
+                levels(message.path("asks"), OrderType.ASK, currencyPair),
+                levels(message.path("bids"), OrderType.BID, currencyPair)));
+        break;
+      case "l2update":
+        OrderBook book = books.get(productId);
+        if (book != null) {
+          CurrencyPair pair = CoinbaseProAdapters.adaptProductID(productId);
+          Date timestamp = date(message);
+          for (JsonNode change : message.path("changes")) {
+            FixedPoint amount = FixedPoint.parse(change.get(2).asText());
+            book.update(
+                new OrderBookUpdate(
+                    "buy".equals(change.get(0).asText()) ? OrderType.BID : OrderType.ASK,
+                    amount,
+                    pair,
+                    FixedPoint.parse(change.get(1).asText()),
+                    timestamp,
+                    amount));
+          }
+        }
+        break;
+      default:
+    }
+    return message;
+  }
+
+  private String request(String type, String channel) {
+
+    int separator = channel.indexOf(':');
+    ObjectNode request = objectMapper.createObjectNode();
+    request.put("type", type);
+    request.putArray("product_ids").add(channel.substring(separator + 1));
+    request.putArray("channels").add(channel.substring(0, separator));
+    return request.toString();
+  }
+
+  private static String channel(String name, CurrencyPair currencyPair) {
+
+    return name + ":" + CoinbaseProAdapters.adaptProductID(currencyPair);
+  }
+
+  private static OrderBook copy(OrderBook book) {
+
+    return new OrderBook(
+        book.getTimeStamp(), new ArrayList<>(book.getAsks()), new ArrayList<>(book.getBids()));
+  }
+
+  private static List<LimitOrder> levels(
+      JsonNode levels, OrderType type, CurrencyPair currencyPair) {
+
+    List<LimitOrder> orders = new ArrayList<>(levels.size());
+    for (JsonNode level : levels) {
+      orders.add(
+          new LimitOrder.Builder(type, currencyPair)
+              .originalAmount(new BigDecimal(level.get(1).asText()))
+              .limitPrice(FixedPoint.parse(level.get(0).asText()))
+              .build());
+    }
+    return orders;
+  }
+
+  private static BigDecimal decimal(JsonNode message, String field) {
+
+    JsonNode value = message.get(field);
+    return value == null || value.isNull() ? null : new BigDecimal(value.asText());
+  }
+
+  private static Date date(JsonNode message) {
+
+    JsonNode time = message.get("time");
+    return time == null || time.isNull() ? null : Date.from(Instant.parse(time.asText()));
+  }
+}
@@ -20,6 +20,7 @@ import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
@@ -98,6 +99,27 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
     return CoinbaseProAdapters.adaptTradeHistory(coinbaseExFills);
   }
 
+  /**
+   * Coinbase Pro returns the fills newest first, those older than the after trade id if set, so
+   * each page continues after the lowest trade id of the previous one.
+   */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor(TradeHistoryParams params) {
+
+    if (!(params instanceof CoinbaseProTradeHistoryParams)) {
+      return TradeService.super.getTradeHistoryCursor(params);
+    }
+    return (cursorParams, page) -> {
+      int lowest =
+          page.getUserTrades().stream()
+              .mapToInt(trade -> Integer.parseInt(trade.getId()))
+              .min()
+              .getAsInt();
+      ((CoinbaseProTradeHistoryParams) cursorParams).setAfterTradeId(lowest);
+      return true;
+    };
+  }
+
   @Override
   public TradeHistoryParams createTradeHistoryParams() {
 
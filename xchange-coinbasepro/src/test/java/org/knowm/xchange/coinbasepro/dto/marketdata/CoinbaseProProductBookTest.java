@@ -0,0 +1,43 @@
+package org.knowm.xchange.coinbasepro.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Test;
+import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import si.mazi.rescu.serialization.jackson.DefaultJacksonObjectMapperFactory;
+
+public class CoinbaseProProductBookTest {
+
+  private final ObjectMapper mapper = new DefaultJacksonObjectMapperFactory().createObjectMapper();
+
+  @Test
+  public void testStreamedParseMatchesProductBook() throws IOException {
+
+    CoinbaseProProductBook book = read(CoinbaseProProductBook.class);
+    CoinbaseProStreamedProductBook streamed = read(CoinbaseProStreamedProductBook.class);
+
+    assertThat(streamed.getSequence()).isEqualTo(book.getSequence()).isEqualTo(3L);
+    assertThat(streamed.getOrderBook().size(OrderType.BID)).isEqualTo(3);
+
+    OrderBook expected = CoinbaseProAdapters.adaptOrderBook(book, CurrencyPair.ETH_USD);
+    OrderBook actual = streamed.getOrderBook().toOrderBook(CurrencyPair.ETH_USD);
+    assertThat(actual.getAsks()).isEqualTo(expected.getAsks());
+    assertThat(actual.getBids()).isEqualTo(expected.getBids());
+  }
+
+  private <T> T read(Class<T> type) throws IOException {
+
+    try (InputStream is =
+        getClass()
+            .getResourceAsStream(
+                "/org/knowm/xchange/coinbasepro/dto/marketdata/example-product-book-level3.json")) {
+      return mapper.readValue(is, type);
+    }
+  }
+}
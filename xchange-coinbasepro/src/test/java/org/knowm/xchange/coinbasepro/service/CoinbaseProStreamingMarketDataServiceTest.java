@@ -0,0 +1,135 @@
+package org.knowm.xchange.coinbasepro.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.service.marketdata.MarketDataListener;
+import org.knowm.xchange.service.marketdata.MarketDataSubscription;
+import org.knowm.xchange.utils.websocket.MockWebSocketServer;
+
+public class CoinbaseProStreamingMarketDataServiceTest {
+
+  private final BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+
+  private MockWebSocketServer server;
+  private CoinbaseProStreamingMarketDataService streaming;
+
+  @Before
+  public void setUp() throws Exception {
+
+    server = new MockWebSocketServer();
+    streaming = new CoinbaseProStreamingMarketDataService(server.getUri());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+
+    streaming.shutdown();
+    server.close();
+  }
+
+  @Test
+  public void testTickerAndMatches() throws Exception {
+
+    streaming.subscribeTicker(CurrencyPair.BTC_USD, collecting());
+    MarketDataSubscription matches = streaming.subscribeTrades(CurrencyPair.BTC_USD, collecting());
+    assertThat(server.nextMessage())
+        .isEqualTo(
+            "{\"type\":\"subscribe\",\"product_ids\":[\"BTC-USD\"],\"channels\":[\"ticker\"]}");
+    assertThat(server.nextMessage())
+        .isEqualTo(
+            "{\"type\":\"subscribe\",\"product_ids\":[\"BTC-USD\"],\"channels\":[\"matches\"]}");
+
+    server.send("{\"type\":\"subscriptions\",\"channels\":[{\"name\":\"ticker\"}]}");
+    server.send(
+        "{\"type\":\"ticker\",\"sequence\":1,\"product_id\":\"BTC-USD\",\"price\":\"4388.01\","
+            + "\"open_24h\":\"4300\",\"volume_24h\":\"1000\",\"low_24h\":\"4200\","
+            + "\"high_24h\":\"4400\",\"best_bid\":\"4388\",\"best_ask\":\"4388.01\","
+            + "\"time\":\"2019-01-02T03:04:05.678Z\"}");
+    server.send(
+        "{\"type\":\"last_match\",\"trade_id\":10,\"sequence\":50,"
+            + "\"maker_order_id\":\"ac928c66\",\"taker_order_id\":\"132fb6ae\","
+            + "\"time\":\"2019-01-02T03:04:06.000Z\",\"product_id\":\"BTC-USD\","
+            + "\"size\":\"5.2\",\"price\":\"400.23\",\"side\":\"sell\"}");
+
+    Ticker ticker = (Ticker) next();
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(ticker.getLast()).isEqualByComparingTo("4388.01");
+    assertThat(ticker.getBid()).isEqualByComparingTo("4388");
+    assertThat(ticker.getHigh()).isEqualByComparingTo("4400");
+    assertThat(ticker.getTimestamp().getTime() % 1000).isEqualTo(678);
+
+    Trade trade = (Trade) next();
+    assertThat(trade.getId()).isEqualTo("10");
+    assertThat(trade.getType()).isEqualTo(OrderType.BID);
+    assertThat(trade.getOriginalAmount()).isEqualByComparingTo("5.2");
+    assertThat(trade.getMakerOrderId()).isEqualTo("ac928c66");
+
+    matches.cancel();
+    assertThat(server.nextMessage())
+        .isEqualTo(
+            "{\"type\":\"unsubscribe\",\"product_ids\":[\"BTC-USD\"],\"channels\":[\"matches\"]}");
+  }
+
+  @Test
+  public void testOrderBookFromSnapshotAndUpdates() throws Exception {
+
+    streaming.subscribeOrderBook(CurrencyPair.BTC_USD, collecting());
+    assertThat(server.nextMessage()).contains("\"level2\"");
+
+    server.send(
+        "{\"type\":\"snapshot\",\"product_id\":\"BTC-USD\","
+            + "\"bids\":[[\"10.1\",\"2\"],[\"10.0\",\"1\"]],\"asks\":[[\"10.2\",\"3\"]]}");
+    server.send(
+        "{\"type\":\"l2update\",\"product_id\":\"BTC-USD\",\"time\":\"2019-01-02T03:04:05.000Z\","
+            + "\"changes\":[[\"buy\",\"10.1\",\"0\"],[\"sell\",\"10.15\",\"4\"]]}");
+
+    OrderBook snapshot = (OrderBook) next();
+    assertThat(snapshot.getBids()).hasSize(2);
+    assertThat(snapshot.getAsks()).hasSize(1);
+
+    OrderBook updated = (OrderBook) next();
+    assertThat(updated.getBids()).hasSize(1);
+    assertThat(updated.getBids().get(0).getLimitPrice()).isEqualByComparingTo("10.0");
+    assertThat(updated.getAsks()).hasSize(2);
+    assertThat(updated.getAsks().get(0).getLimitPrice()).isEqualByComparingTo("10.15");
+    assertThat(updated.getAsks().get(0).getLimitPriceMantissa(2)).isEqualTo(1015L);
+    assertThat(updated.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("4");
+    assertThat(updated.getTimeStamp()).isNotNull();
+    // the books delivered are copies
+    assertThat(snapshot.getBids()).hasSize(2);
+  }
+
+  private <T> MarketDataListener<T> collecting() {
+
+    return new MarketDataListener<T>() {
+
+      @Override
+      public void onNext(T item) {
+        delivered.add(item);
+      }
+
+      @Override
+      public void onError(Throwable error) {
+        delivered.add(error);
+      }
+    };
+  }
+
+  private Object next() throws InterruptedException {
+
+    Object item = delivered.poll(5, TimeUnit.SECONDS);
+    assertThat(item).isNotNull();
+    return item;
+  }
+}
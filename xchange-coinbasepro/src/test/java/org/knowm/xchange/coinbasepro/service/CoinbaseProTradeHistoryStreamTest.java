@@ -0,0 +1,77 @@
+package org.knowm.xchange.coinbasepro.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProFill;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProTradeHistoryParams;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+
+public class CoinbaseProTradeHistoryStreamTest {
+
+  @Test
+  public void testPagesContinueAfterTheLowestTradeId() {
+
+    // fills 1 to 5, newest first, 2 per page, those below the after trade id if set
+    List<Integer> afters = new ArrayList<>();
+    CoinbaseProTradeService service =
+        new CoinbaseProTradeService(exchange()) {
+
+          @Override
+          public CoinbaseProFill[] getCoinbaseProFills(TradeHistoryParams params) {
+            Integer after = ((CoinbaseProTradeHistoryParams) params).getAfterTradeId();
+            afters.add(after);
+            List<CoinbaseProFill> fills = new ArrayList<>();
+            for (int id = 5; id >= 1 && fills.size() < 2; id--) {
+              if (after == null || id < after) {
+                fills.add(fill(id));
+              }
+            }
+            return fills.toArray(new CoinbaseProFill[0]);
+          }
+        };
+
+    CoinbaseProTradeHistoryParams params = new CoinbaseProTradeHistoryParams();
+    params.setCurrencyPair(CurrencyPair.BTC_USD);
+
+    // newest page first, each page sorted by id by the adapter
+    assertThat(
+            service.streamTradeHistory(params).map(UserTrade::getId).collect(Collectors.toList()))
+        .containsExactly("4", "5", "2", "3", "1");
+    assertThat(afters).containsExactly(null, 4, 2, 1);
+  }
+
+  private static CoinbaseProFill fill(int id) {
+
+    return new CoinbaseProFill(
+        Integer.toString(id),
+        "BTC-USD",
+        BigDecimal.TEN,
+        BigDecimal.ONE,
+        "order-" + id,
+        "2019-01-01T00:00:0" + id + ".000Z",
+        "T",
+        BigDecimal.ZERO,
+        true,
+        "buy");
+  }
+
+  private static CoinbaseProExchange exchange() {
+
+    ExchangeSpecification specification =
+        new CoinbaseProExchange().getDefaultExchangeSpecification();
+    specification.setApiKey("key");
+    specification.setSecretKey("c2VjcmV0");
+    specification.setShouldLoadRemoteMetaData(false);
+    return (CoinbaseProExchange) ExchangeFactory.INSTANCE.createExchange(specification);
+  }
+}
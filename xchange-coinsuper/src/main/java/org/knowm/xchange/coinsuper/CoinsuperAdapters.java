@@ -182,7 +182,7 @@ public class CoinsuperAdapters {
         new CoinsuperGenericOrder(
             action,
             amount,
-            new CurrencyPair(orderList.getSymbol()),
+            CurrencyPair.valueOf(orderList.getSymbol()),
             orderId,
             CommonUtil.timeStampToDate(orderList.getUtcCreate()),
             averagePrice,
@@ -214,7 +214,7 @@ public class CoinsuperAdapters {
           new UserTrade(
               orderType,
               orderDetail.getAmount().abs(),
-              new CurrencyPair(orderDetail.getSymbol()),
+              CurrencyPair.valueOf(orderDetail.getSymbol()),
               orderDetail.getPriceLimit().abs(),
               new Date(),
               Long.toString(orderDetail.getOrderNo()),
@@ -1,33 +1,57 @@
 package org.knowm.xchange;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.io.IOUtils;
+import org.knowm.xchange.client.HttpTransport;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.account.AccountService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.PollingStreamingMarketDataService;
+import org.knowm.xchange.service.marketdata.StreamingMarketDataService;
 import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.utils.AsyncUtils;
+import org.knowm.xchange.utils.MetaDataCache;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
+import org.knowm.xchange.utils.ratelimit.ExchangeRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class BaseExchange implements Exchange {
 
+  /**
+   * Exchange specific parameter, the URI a streaming market data service connects to instead of the
+   * exchange's default, e.g. a test server
+   */
+  public static final String PARAM_STREAMING_URI = "Streaming_Uri";
+
   protected final Logger logger = LoggerFactory.getLogger(getClass());
   protected ExchangeSpecification exchangeSpecification;
-  protected ExchangeMetaData exchangeMetaData;
+  protected volatile ExchangeMetaData exchangeMetaData;
   protected MarketDataService marketDataService;
   protected TradeService tradeService;
   protected AccountService accountService;
 
+  private StreamingMarketDataService streamingMarketDataService;
+  private ExchangeRateLimiter rateLimiter;
+  private ExchangeMetaData rateLimiterMetaData;
+  private HttpTransport httpTransport;
+  private ExchangeSpecification httpTransportSpecification;
+  /** true for the instance loading the meta data for {@link #refreshMetaData} */
+  private boolean refreshingInstance;
+
+  private final AtomicBoolean metaDataRefreshing = new AtomicBoolean();
+
   protected abstract void initServices();
 
   @Override
@@ -110,15 +134,113 @@ public abstract class BaseExchange implements Exchange {
     initServices();
 
     if (this.exchangeSpecification.isShouldLoadRemoteMetaData()) {
-      try {
-        logger.info("Calling Remote Init...");
-        remoteInit();
-      } catch (IOException e) {
-        throw new ExchangeException(e);
+      MetaDataCache cache =
+          refreshingInstance || this.exchangeSpecification.getExchangeName() == null
+              ? null
+              : MetaDataCache.of(
+                  this.exchangeSpecification, getMetaDataFileName(this.exchangeSpecification));
+      if (cache == null || !loadCachedMetaData(cache)) {
+        try {
+          logger.info("Calling Remote Init...");
+          remoteInit();
+        } catch (IOException e) {
+          throw new ExchangeException(e);
+        }
+        if (cache != null) {
+          saveMetaData(cache);
+        }
       }
     }
   }
 
+  /**
+   * Restores the state {@link #remoteInit()} keeps besides the meta data from the meta data cache,
+   * e.g. the raw exchange info it was built from. The cached meta data is only used by exchanges
+   * overriding this method, as the default implementation returns false: {@link #remoteInit()} of
+   * most exchanges has side effects the cache knows nothing about. Exchanges whose remote state is
+   * just the meta data override it to return true.
+   *
+   * @param cache the meta data cache of the exchange
+   * @return false if the state is not cached, so that the exchange calls {@link #remoteInit()}
+   *     instead of using the cached meta data
+   */
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    return false;
+  }
+
+  /**
+   * Writes the state {@link #remoteInit()} keeps besides the meta data to the meta data cache, to
+   * be restored by {@link #restoreCachedState(MetaDataCache)}. The default implementation writes
+   * nothing.
+   *
+   * @param cache the meta data cache of the exchange
+   */
+  protected void cacheState(MetaDataCache cache) throws IOException {}
+
+  /**
+   * Starts with the cached meta data, if any, and refreshes it in the background if it is stale.
+   *
+   * @return false if nothing is cached
+   */
+  private boolean loadCachedMetaData(MetaDataCache cache) {
+
+    MetaDataCache.Entry<ExchangeMetaData> cached =
+        cache.read(MetaDataCache.META_DATA, ExchangeMetaData.class);
+    if (cached == null || !restoreCachedState(cache)) {
+      return false;
+    }
+    exchangeMetaData = cached.getValue();
+    logger.info("Using the meta data cached at {}", new Date(cached.getWritten()));
+    if (cached.isStale()) {
+      refreshMetaData(cache);
+    }
+    return true;
+  }
+
+  private boolean saveMetaData(MetaDataCache cache) {
+
+    try {
+      cacheState(cache);
+      cache.write(MetaDataCache.META_DATA, exchangeMetaData);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Could not cache the meta data", e);
+      return false;
+    }
+  }
+
+  /**
+   * Loads the current meta data on the async executor, with another instance of the exchange so
+   * that this one keeps using the cached meta data until the new one replaces it.
+   */
+  private void refreshMetaData(MetaDataCache cache) {
+
+    if (!metaDataRefreshing.compareAndSet(false, true)) {
+      return;
+    }
+    AsyncUtils.executorFor(exchangeSpecification)
+        .execute(
+            () -> {
+              try {
+                BaseExchange refreshed = getClass().getDeclaredConstructor().newInstance();
+                refreshed.refreshingInstance = true;
+                refreshed.applySpecification(exchangeSpecification);
+                // the meta data and the state it was built from are only replaced together
+                if (refreshed.saveMetaData(cache) && restoreCachedState(cache)) {
+                  exchangeMetaData = refreshed.exchangeMetaData;
+                  logger.info("Refreshed the cached meta data");
+                } else {
+                  logger.warn("Could not cache the refreshed meta data, using the cached copy");
+                }
+              } catch (Exception e) {
+                logger.warn("Could not refresh the meta data, using the cached copy", e);
+              } finally {
+                metaDataRefreshing.set(false);
+              }
+            });
+  }
+
   @Override
   public void remoteInit() throws IOException, ExchangeException {
 
@@ -134,11 +256,8 @@ public abstract class BaseExchange implements Exchange {
 
   protected <T> T loadMetaData(InputStream is, Class<T> type) {
 
-    // Use Jackson to parse it
-    ObjectMapper mapper = new ObjectMapper();
-
     try {
-      T result = mapper.readValue(is, type);
+      T result = JacksonRegistry.DEFAULT.readerFor(type).readValue(is);
       logger.debug(result.toString());
       return result;
     } catch (Exception e) {
@@ -177,11 +296,69 @@ public abstract class BaseExchange implements Exchange {
     return exchangeMetaData;
   }
 
+  /**
+   * The rate limiter shared by all services of this exchange, built from the rate limits in the
+   * current {@link #getExchangeMetaData()} and rebuilt if the meta data is replaced, e.g. by {@link
+   * #remoteInit()}.
+   *
+   * @return the rate limiter of this exchange
+   */
+  public synchronized ExchangeRateLimiter getRateLimiter() {
+
+    if (rateLimiter == null || rateLimiterMetaData != exchangeMetaData) {
+      rateLimiter = ExchangeRateLimiter.of(exchangeMetaData);
+      rateLimiterMetaData = exchangeMetaData;
+      logger.debug("Using {}", rateLimiter);
+    }
+    return rateLimiter;
+  }
+
+  /**
+   * The HTTP transport shared by all services of this exchange, built from the rest proxy factory
+   * and connection limit in the current {@link #getExchangeSpecification()}.
+   *
+   * @return the HTTP transport of this exchange
+   */
+  public synchronized HttpTransport getHttpTransport() {
+
+    if (httpTransport == null || httpTransportSpecification != exchangeSpecification) {
+      httpTransport = HttpTransport.of(exchangeSpecification);
+      httpTransportSpecification = exchangeSpecification;
+      logger.debug("Using {}", httpTransport);
+    }
+    return httpTransport;
+  }
+
   public MarketDataService getMarketDataService() {
 
     return marketDataService;
   }
 
+  /**
+   * The streaming market data service, created by {@link #createStreamingMarketDataService()} on
+   * first use and shared from then on.
+   *
+   * @return the streaming market data service of this exchange
+   */
+  @Override
+  public synchronized StreamingMarketDataService getStreamingMarketDataService() {
+
+    if (streamingMarketDataService == null) {
+      streamingMarketDataService = createStreamingMarketDataService();
+    }
+    return streamingMarketDataService;
+  }
+
+  /**
+   * Override to use the streaming API of the exchange instead of polling.
+   *
+   * @return a new streaming market data service for this exchange
+   */
+  protected StreamingMarketDataService createStreamingMarketDataService() {
+
+    return PollingStreamingMarketDataService.of(this);
+  }
+
   public TradeService getTradeService() {
 
     return tradeService;
@@ -5,9 +5,15 @@ import java.util.List;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.StreamingMarketDataService;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.utils.AsyncUtils;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 /**
@@ -93,6 +99,61 @@ public interface Exchange {
    */
   AccountService getAccountService();
 
+  /**
+   * The asynchronous version of {@link #getMarketDataService()}. By default its calls run the
+   * blocking service on {@link ExchangeSpecification#getAsyncExecutor()}; exchanges with a
+   * non-blocking client override this.
+   *
+   * @return The exchange's async market data service
+   */
+  default AsyncMarketDataService getAsyncMarketDataService() {
+
+    return AsyncMarketDataService.of(
+        getMarketDataService(), AsyncUtils.executorFor(getExchangeSpecification()));
+  }
+
+  /**
+   * The asynchronous version of {@link #getTradeService()}. By default its calls run the blocking
+   * service on {@link ExchangeSpecification#getAsyncExecutor()}; exchanges with a non-blocking
+   * client override this.
+   *
+   * @return The exchange's async trade service
+   */
+  default AsyncTradeService getAsyncTradeService() {
+
+    return AsyncTradeService.of(
+        getTradeService(), AsyncUtils.executorFor(getExchangeSpecification()));
+  }
+
+  /**
+   * The asynchronous version of {@link #getAccountService()}. By default its calls run the blocking
+   * service on {@link ExchangeSpecification#getAsyncExecutor()}; exchanges with a non-blocking
+   * client override this.
+   *
+   * @return The exchange's async account service
+   */
+  default AsyncAccountService getAsyncAccountService() {
+
+    return AsyncAccountService.of(
+        getAccountService(), AsyncUtils.executorFor(getExchangeSpecification()));
+  }
+
+  /**
+   * The streaming version of {@link #getMarketDataService()}, delivering market data as it changes.
+   * {@link BaseExchange} creates one on first use and shares it, by default one polling the market
+   * data service within the exchange's public rate limits; exchanges with a streaming API override
+   * {@link BaseExchange#createStreamingMarketDataService()}. Other implementations must hold on to
+   * their service as well, since each one runs a thread of its own, so there is no default.
+   *
+   * @return The exchange's streaming market data service
+   * @throws NotYetImplementedForExchangeException if the exchange has no streaming market data
+   *     service
+   */
+  default StreamingMarketDataService getStreamingMarketDataService() {
+
+    throw new NotYetImplementedForExchangeException("getStreamingMarketDataService");
+  }
+
   /**
    * Initialize this instance with the remote meta data. Most exchanges require this method to be
    * called before {@link #getExchangeMetaData()}. Some exchanges require it before using some of
@@ -1,7 +1,15 @@
 package org.knowm.xchange;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.utils.Assert;
+import org.knowm.xchange.utils.AsyncUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +26,9 @@ public enum ExchangeFactory {
   // flags
   private final Logger log = LoggerFactory.getLogger(ExchangeFactory.class);
 
+  /** The number of exchanges {@link #createExchanges(List)} starts at a time */
+  public static final int DEFAULT_STARTUP_PARALLELISM = 8;
+
   /** Constructor */
   ExchangeFactory() {}
 
@@ -129,6 +140,97 @@ public enum ExchangeFactory {
     return exchange;
   }
 
+  /**
+   * Create several Exchange objects in parallel, {@link #DEFAULT_STARTUP_PARALLELISM} at a time.
+   *
+   * @param exchangeSpecifications the exchange specifications
+   * @return the outcome of every exchange, in the order of the specifications
+   * @see #createExchanges(List, int)
+   */
+  public List<ExchangeStartup> createExchanges(List<ExchangeSpecification> exchangeSpecifications) {
+
+    return createExchanges(exchangeSpecifications, DEFAULT_STARTUP_PARALLELISM);
+  }
+
+  /**
+   * Create several Exchange objects in parallel, each as {@link
+   * #createExchange(ExchangeSpecification)} does. Starting an exchange mostly waits for the remote
+   * initialization of its meta data, so exchanges are started on the {@link
+   * AsyncUtils#defaultExecutor() default async executor}, at most {@code parallelism} at a time. An
+   * exchange that fails to start does not stop the others, its outcome holds the error.
+   *
+   * @param exchangeSpecifications the exchange specifications
+   * @param parallelism the maximum number of exchanges started at a time
+   * @return the outcome of every exchange with its startup time, in the order of the specifications
+   */
+  public List<ExchangeStartup> createExchanges(
+      List<ExchangeSpecification> exchangeSpecifications, int parallelism) {
+
+    Assert.notNull(exchangeSpecifications, "exchangeSpecifications cannot be null");
+    Assert.isTrue(parallelism > 0, "parallelism must be positive");
+    for (ExchangeSpecification exchangeSpecification : exchangeSpecifications) {
+      Assert.notNull(exchangeSpecification, "exchangeSpecifications cannot contain null");
+    }
+
+    ExchangeStartup[] startups = new ExchangeStartup[exchangeSpecifications.size()];
+    int workers = Math.min(parallelism, startups.length);
+    AtomicInteger next = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(workers);
+    Executor executor = AsyncUtils.defaultExecutor();
+    for (int i = 0; i < workers; i++) {
+      executor.execute(
+          () -> {
+            try {
+              for (int index = next.getAndIncrement();
+                  index < startups.length;
+                  index = next.getAndIncrement()) {
+                startups[index] = startExchange(exchangeSpecifications.get(index));
+              }
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // stop handing out further exchanges
+      next.set(startups.length);
+      throw new ExchangeException("Interrupted while creating exchanges", e);
+    }
+    return new ArrayList<>(Arrays.asList(startups));
+  }
+
+  private ExchangeStartup startExchange(ExchangeSpecification exchangeSpecification) {
+
+    long start = System.nanoTime();
+    Exchange exchange = null;
+    RuntimeException error = null;
+    try {
+      exchange = createExchange(exchangeSpecification);
+    } catch (RuntimeException e) {
+      error = e;
+    } catch (LinkageError e) {
+      error = new ExchangeException("Problem creating Exchange (linkage)", e);
+    }
+    ExchangeStartup startup =
+        new ExchangeStartup(exchangeSpecification, exchange, error, System.nanoTime() - start);
+    if (error == null) {
+      log.info(
+          "Created {} in {} ms",
+          exchangeSpecification.getExchangeClassName(),
+          startup.getDuration(TimeUnit.MILLISECONDS));
+    } else {
+      log.warn(
+          "Could not create {} after {} ms",
+          exchangeSpecification.getExchangeClassName(),
+          startup.getDuration(TimeUnit.MILLISECONDS),
+          error);
+    }
+    return startup;
+  }
+
   /**
    * Create an Exchange object without default ExchangeSpecification
    *
@@ -2,6 +2,8 @@ package org.knowm.xchange;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import si.mazi.rescu.IRestProxyFactory;
 
 /**
  * Specification to provide the following to {@link ExchangeFactory}:
@@ -30,6 +32,11 @@ public class ExchangeSpecification {
   private int httpReadTimeout = 0; // default rescu configuration will be used if value not changed
   private String metaDataJsonFileOverride = null;
   private boolean shouldLoadRemoteMetaData = true; // default value
+  private String metaDataCacheDirectory = null; // meta data is not cached if not set
+  private long metaDataCacheTtl = 60 * 60 * 1000; // milliseconds
+  private Executor asyncExecutor = null; // shared default executor will be used if not set
+  private IRestProxyFactory restProxyFactory = null; // rescu default will be used if not set
+  private int httpMaxConnectionsPerHost = 0; // no limit if value not changed
   /** arbitrary exchange params that can be set for unique cases */
   private Map<String, Object> exchangeSpecificParameters = new HashMap<>();
 
@@ -454,4 +461,120 @@ public class ExchangeSpecification {
 
     this.shouldLoadRemoteMetaData = shouldLoadRemoteMetaData;
   }
+
+  /**
+   * The directory the remotely loaded meta data of the exchange is cached in, null if it is not
+   * cached.
+   *
+   * @return the meta data cache directory
+   */
+  public String getMetaDataCacheDirectory() {
+
+    return metaDataCacheDirectory;
+  }
+
+  /**
+   * Set the directory the remotely loaded meta data of the exchange is cached in. If a cached copy
+   * exists, the exchange starts with it instead of calling {@link Exchange#remoteInit()}, and
+   * refreshes it in the background once it is older than the {@link #setMetaDataCacheTtl(long) time
+   * to live}. Exchanges with the same name share their cached copy. Only exchanges able to restore
+   * everything their remote initialization sets up use the cache, the others ignore it.
+   *
+   * @param metaDataCacheDirectory the directory, created if it does not exist, null to not cache
+   */
+  public void setMetaDataCacheDirectory(String metaDataCacheDirectory) {
+
+    this.metaDataCacheDirectory = metaDataCacheDirectory;
+  }
+
+  /**
+   * The age in milliseconds from which cached meta data is refreshed, 1 hour by default.
+   *
+   * @return the time to live of cached meta data
+   */
+  public long getMetaDataCacheTtl() {
+
+    return metaDataCacheTtl;
+  }
+
+  /**
+   * Set the age in milliseconds from which cached meta data is refreshed. Older meta data is still
+   * used at startup, while the exchange loads the current one in the background.
+   *
+   * @param milliseconds the time to live of cached meta data
+   */
+  public void setMetaDataCacheTtl(long milliseconds) {
+
+    this.metaDataCacheTtl = milliseconds;
+  }
+
+  /**
+   * The executor on which the async services of the exchange run blocking calls, null if the shared
+   * default executor is used.
+   *
+   * @return the executor for async service calls
+   */
+  public Executor getAsyncExecutor() {
+
+    return asyncExecutor;
+  }
+
+  /**
+   * Set the executor on which the async services of the exchange run blocking calls. By default a
+   * shared executor is used, starting a virtual thread per call where the runtime supports them.
+   *
+   * @param asyncExecutor the executor for async service calls, null for the default
+   */
+  public void setAsyncExecutor(Executor asyncExecutor) {
+
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  /**
+   * The factory creating the rescu proxies of the exchange services, null if the rescu default on
+   * top of {@link java.net.HttpURLConnection} is used.
+   *
+   * @return the rest proxy factory
+   */
+  public IRestProxyFactory getRestProxyFactory() {
+
+    return restProxyFactory;
+  }
+
+  /**
+   * Set the factory creating the rescu proxies of the exchange services. This is the extension
+   * point for an alternative HTTP transport, e.g. a pooled HTTP/2 client. The factory is shared by
+   * all services of the exchange.
+   *
+   * @param restProxyFactory the rest proxy factory, null for the rescu default
+   */
+  public void setRestProxyFactory(IRestProxyFactory restProxyFactory) {
+
+    this.restProxyFactory = restProxyFactory;
+  }
+
+  /**
+   * The maximum number of requests the services of the exchange have in flight to one host at a
+   * time, 0 if not limited.
+   *
+   * @return the maximum number of concurrent requests per host
+   */
+  public int getHttpMaxConnectionsPerHost() {
+
+    return httpMaxConnectionsPerHost;
+  }
+
+  /**
+   * Set the maximum number of requests the services of the exchange have in flight to one host at a
+   * time. Further requests wait for a free slot. With the default transport, a limit no higher than
+   * the JDK keep-alive pool size (system property {@code http.maxConnections}, 5 by default) makes
+   * every connection return to the pool instead of being closed after use.
+   *
+   * @param httpMaxConnectionsPerHost the maximum number of concurrent requests per host, 0 for no
+   *     limit
+   */
+  public void setHttpMaxConnectionsPerHost(int httpMaxConnectionsPerHost) {
+
+    this.httpMaxConnectionsPerHost = httpMaxConnectionsPerHost;
+  }
 }
@@ -0,0 +1,72 @@
+package org.knowm.xchange;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of starting one exchange with {@link ExchangeFactory#createExchanges}: the exchange,
+ * or why it could not be created, and how long it took.
+ */
+public final class ExchangeStartup {
+
+  private final ExchangeSpecification exchangeSpecification;
+  private final Exchange exchange;
+  private final RuntimeException error;
+  private final long durationNanos;
+
+  ExchangeStartup(
+      ExchangeSpecification exchangeSpecification,
+      Exchange exchange,
+      RuntimeException error,
+      long durationNanos) {
+
+    this.exchangeSpecification = exchangeSpecification;
+    this.exchange = exchange;
+    this.error = error;
+    this.durationNanos = durationNanos;
+  }
+
+  /** @return the specification the exchange was created with */
+  public ExchangeSpecification getExchangeSpecification() {
+
+    return exchangeSpecification;
+  }
+
+  /** @return the exchange, null if it could not be created */
+  public Exchange getExchange() {
+
+    return exchange;
+  }
+
+  /** @return the reason the exchange could not be created, null if it was */
+  public RuntimeException getError() {
+
+    return error;
+  }
+
+  /** @return true if the exchange was created */
+  public boolean isSuccessful() {
+
+    return error == null;
+  }
+
+  /**
+   * @param unit the unit of the result
+   * @return the time it took to create the exchange, including its remote initialization
+   */
+  public long getDuration(TimeUnit unit) {
+
+    return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+
+    return "ExchangeStartup [exchange="
+        + exchangeSpecification.getExchangeClassName()
+        + ", duration="
+        + getDuration(TimeUnit.MILLISECONDS)
+        + "ms"
+        + (error == null ? "" : ", error=" + error)
+        + "]";
+  }
+}
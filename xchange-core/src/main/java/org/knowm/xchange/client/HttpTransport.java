@@ -0,0 +1,158 @@
+package org.knowm.xchange.client;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.exceptions.ExchangeException;
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.IRestProxyFactory;
+import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.RestProxyFactoryImpl;
+
+/**
+ * The HTTP transport shared by the services of one exchange, see {@link
+ * org.knowm.xchange.BaseExchange#getHttpTransport()}.
+ *
+ * <p>Proxies are created with the {@link ExchangeSpecification#getRestProxyFactory() configured
+ * factory}, so an alternative client such as a pooled HTTP/2 client is plugged in once per exchange
+ * and serves all its services. The number of requests in flight per host is limited to {@link
+ * ExchangeSpecification#getHttpMaxConnectionsPerHost()}, counted across all proxies created by this
+ * transport.
+ *
+ * <p>Instances are thread safe.
+ */
+public final class HttpTransport implements IRestProxyFactory {
+
+  private final IRestProxyFactory restProxyFactory;
+  private final int maxConnectionsPerHost;
+  private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+  /**
+   * @param restProxyFactory the factory creating the proxies
+   * @param maxConnectionsPerHost the maximum number of concurrent requests per host, 0 for no limit
+   */
+  public HttpTransport(IRestProxyFactory restProxyFactory, int maxConnectionsPerHost) {
+
+    if (restProxyFactory == null) {
+      throw new IllegalArgumentException("restProxyFactory must not be null");
+    }
+    if (maxConnectionsPerHost < 0) {
+      throw new IllegalArgumentException("maxConnectionsPerHost must not be negative");
+    }
+    this.restProxyFactory = restProxyFactory;
+    this.maxConnectionsPerHost = maxConnectionsPerHost;
+  }
+
+  /**
+   * @param exchangeSpecification the specification of the exchange
+   * @return a transport as configured in the specification
+   */
+  public static HttpTransport of(ExchangeSpecification exchangeSpecification) {
+
+    IRestProxyFactory restProxyFactory = exchangeSpecification.getRestProxyFactory();
+    return new HttpTransport(
+        restProxyFactory == null ? new RestProxyFactoryImpl() : restProxyFactory,
+        exchangeSpecification.getHttpMaxConnectionsPerHost());
+  }
+
+  /** @return the factory creating the proxies */
+  public IRestProxyFactory getRestProxyFactory() {
+
+    return restProxyFactory;
+  }
+
+  /** @return the maximum number of concurrent requests per host, 0 if not limited */
+  public int getMaxConnectionsPerHost() {
+
+    return maxConnectionsPerHost;
+  }
+
+  @Override
+  public <I> I createProxy(
+      Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... interceptors) {
+
+    if (maxConnectionsPerHost == 0) {
+      return restProxyFactory.createProxy(restInterface, baseUrl, config, interceptors);
+    }
+
+    // rescu wraps the interceptors in order, the first one ends up innermost, so a call only
+    // takes a connection slot after passing the other interceptors, e.g. a rate limiter
+    Interceptor[] withLimit = new Interceptor[interceptors.length + 1];
+    withLimit[0] = connectionLimit(permits(baseUrl));
+    System.arraycopy(interceptors, 0, withLimit, 1, interceptors.length);
+    return restProxyFactory.createProxy(restInterface, baseUrl, config, withLimit);
+  }
+
+  @Override
+  public <I> I createProxy(Class<I> restInterface, String baseUrl) {
+
+    return createProxy(restInterface, baseUrl, new ClientConfig());
+  }
+
+  /**
+   * Like {@link #createProxy(Class, String, ClientConfig, Interceptor...)}, but the proxy is only
+   * created on the first call through the returned one. A rescu proxy introspects the interface and
+   * sets up its own JSON mapper, which adds up for exchanges with many services and interfaces that
+   * are never called.
+   *
+   * @param restInterface the rescu annotated interface
+   * @param baseUrl the base url of the interface
+   * @param config the client config
+   * @param interceptors interceptors applied to every call
+   * @return a proxy creating the actual proxy on first use
+   */
+  public <I> I createLazyProxy(
+      Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... interceptors) {
+
+    return LazyProxy.of(
+        restInterface, () -> createProxy(restInterface, baseUrl, config, interceptors));
+  }
+
+  private Semaphore permits(String baseUrl) {
+
+    return hostPermits.computeIfAbsent(
+        hostOf(baseUrl), host -> new Semaphore(maxConnectionsPerHost, true));
+  }
+
+  private static Interceptor connectionLimit(Semaphore permits) {
+
+    return (invocationHandler, proxy, method, args) -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ExchangeException("Interrupted while waiting for a connection", e);
+      }
+      try {
+        return invocationHandler.invoke(proxy, method, args);
+      } finally {
+        permits.release();
+      }
+    };
+  }
+
+  static String hostOf(String baseUrl) {
+
+    try {
+      URI uri = URI.create(baseUrl);
+      if (uri.getHost() != null) {
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+      }
+    } catch (IllegalArgumentException ignored) {
+      // not a valid URI, the whole base url identifies the host
+    }
+    return baseUrl;
+  }
+
+  @Override
+  public String toString() {
+
+    return "HttpTransport [restProxyFactory="
+        + restProxyFactory.getClass().getName()
+        + ", maxConnectionsPerHost="
+        + maxConnectionsPerHost
+        + "]";
+  }
+}
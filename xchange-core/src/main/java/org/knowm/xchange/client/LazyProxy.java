@@ -0,0 +1,66 @@
+package org.knowm.xchange.client;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Implements an interface by delegating to an instance created on the first call of one of its
+ * methods. {@code equals}, {@code hashCode} and {@code toString} are answered without creating it.
+ */
+final class LazyProxy<I> implements InvocationHandler {
+
+  private final Class<I> type;
+  private final Supplier<I> factory;
+  private volatile I target;
+
+  private LazyProxy(Class<I> type, Supplier<I> factory) {
+
+    this.type = type;
+    this.factory = factory;
+  }
+
+  static <I> I of(Class<I> type, Supplier<I> factory) {
+
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(), new Class<?>[] {type}, new LazyProxy<>(type, factory)));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+    if (method.getDeclaringClass() == Object.class) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          return "LazyProxy [" + type.getName() + (target == null ? "" : ", created") + "]";
+      }
+    }
+    try {
+      return method.invoke(target(), args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private I target() {
+
+    I result = target;
+    if (result == null) {
+      synchronized (this) {
+        result = target;
+        if (result == null) {
+          result = factory.get();
+          target = result;
+        }
+      }
+    }
+    return result;
+  }
+}
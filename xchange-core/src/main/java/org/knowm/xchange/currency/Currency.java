@@ -3,11 +3,11 @@ package org.knowm.xchange.currency;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A Currency class roughly modeled after {@link java.util.Currency}. Each object retains the code
@@ -16,7 +16,16 @@ import java.util.TreeSet;
  */
 public class Currency implements Comparable<Currency>, Serializable {
 
-  private static final Map<String, Currency> currencies = new HashMap<>();
+  private static final ConcurrentMap<String, Currency> currencies = new ConcurrentHashMap<>();
+
+  /**
+   * Codes as received from exchanges (e.g. lower case "btc") that differ from the registered upper
+   * case code, so repeated lookups do not upper case the code again
+   */
+  private static final ConcurrentMap<String, Currency> caseVariants = new ConcurrentHashMap<>();
+
+  /** The number of case variants remembered, protects against unbounded growth from bad input */
+  private static final int MAX_CASE_VARIANTS = 10_000;
 
   /** Global currency codes */
   // TODO: Load from json resource
@@ -331,22 +340,43 @@ public class Currency implements Comparable<Currency>, Serializable {
     return new TreeSet<>(currencies.keySet());
   }
 
-  /** Returns a Currency instance for the given currency code. */
+  /**
+   * Returns a Currency instance for the given currency code, registering a new currency if the code
+   * is not known yet. The lookup is case insensitive and safe to call from many threads.
+   */
   public static Currency getInstance(String currencyCode) {
 
-    Currency currency = getInstanceNoCreate(currencyCode.toUpperCase());
+    Currency currency = getInstanceNoCreate(currencyCode);
 
     if (currency == null) {
-      return createCurrency(currencyCode.toUpperCase(), null, null);
+      String code = currencyCode.toUpperCase();
+      return currencies.computeIfAbsent(
+          code, c -> new Currency(c, new CurrencyAttributes(c, null, null)));
     } else {
       return currency;
     }
   }
 
-  /** Returns the Currency instance for the given currency code only if one already exists. */
+  /**
+   * Returns the Currency instance for the given currency code only if one already exists. Codes in
+   * registered case and previously seen case variants are found without allocating.
+   */
   public static Currency getInstanceNoCreate(String currencyCode) {
 
-    return currencies.get(currencyCode.toUpperCase());
+    Currency currency = currencies.get(currencyCode);
+    if (currency == null) {
+      currency = caseVariants.get(currencyCode);
+    }
+    if (currency == null) {
+      String code = currencyCode.toUpperCase();
+      if (!code.equals(currencyCode)) {
+        currency = currencies.get(code);
+        if (currency != null && caseVariants.size() < MAX_CASE_VARIANTS) {
+          caseVariants.putIfAbsent(currencyCode, currency);
+        }
+      }
+    }
+    return currency;
   }
 
   /**
@@ -2,6 +2,10 @@ package org.knowm.xchange.currency;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Value object to provide the following to API:
@@ -17,6 +21,12 @@ import java.io.Serializable;
 @JsonSerialize(using = CustomCurrencyPairSerializer.class)
 public class CurrencyPair implements Comparable<CurrencyPair>, Serializable {
 
+  /** Canonical instances by symbol, both as received and in toString() form */
+  private static final ConcurrentMap<String, CurrencyPair> interned = new ConcurrentHashMap<>();
+
+  /** The number of symbols interned, protects against unbounded growth from bad input */
+  private static final int MAX_INTERNED = 50_000;
+
   // Provide some standard major symbols
   public static final CurrencyPair EUR_USD = new CurrencyPair(Currency.EUR, Currency.USD);
   public static final CurrencyPair GBP_USD = new CurrencyPair(Currency.GBP, Currency.USD);
@@ -426,6 +436,71 @@ public class CurrencyPair implements Comparable<CurrencyPair>, Serializable {
     this.counter = Currency.getInstance(counter);
   }
 
+  /**
+   * Returns the canonical instance for a symbol in the format of {@link #toString()} - ABC/XYZ. The
+   * constants of this class are canonical for their symbols, so {@code valueOf("BTC/USD") ==
+   * CurrencyPair.BTC_USD}. Repeated lookups of a symbol, in any case, return the same instance
+   * without parsing it again; adapters should prefer this over {@link #CurrencyPair(String)}.
+   *
+   * @param symbol the currency pair symbol
+   * @return the canonical currency pair
+   */
+  public static CurrencyPair valueOf(String symbol) {
+
+    CurrencyPair currencyPair = interned.get(symbol);
+    if (currencyPair == null) {
+      currencyPair = intern(new CurrencyPair(symbol));
+      if (interned.size() < MAX_INTERNED) {
+        interned.putIfAbsent(symbol, currencyPair);
+      }
+    }
+    return currencyPair;
+  }
+
+  /**
+   * @param base the base currency
+   * @param counter the counter currency
+   * @return the canonical currency pair
+   */
+  public static CurrencyPair valueOf(Currency base, Currency counter) {
+
+    return intern(new CurrencyPair(base, counter));
+  }
+
+  /**
+   * Returns the canonical instance equal to the given pair with the same currency codes, making it
+   * the canonical instance if there is none yet.
+   *
+   * @param currencyPair a currency pair
+   * @return the canonical currency pair
+   */
+  public static CurrencyPair intern(CurrencyPair currencyPair) {
+
+    String symbol = currencyPair.toString();
+    CurrencyPair canonical = interned.get(symbol);
+    if (canonical != null) {
+      return canonical;
+    }
+    if (interned.size() >= MAX_INTERNED) {
+      return currencyPair;
+    }
+    canonical = interned.putIfAbsent(symbol, currencyPair);
+    return canonical != null ? canonical : currencyPair;
+  }
+
+  static {
+    // the constants are the canonical instances of their symbols
+    for (Field field : CurrencyPair.class.getFields()) {
+      if (Modifier.isStatic(field.getModifiers()) && field.getType() == CurrencyPair.class) {
+        try {
+          intern((CurrencyPair) field.get(null));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+
   @Override
   public String toString() {
 
@@ -0,0 +1,134 @@
+package org.knowm.xchange.currency;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Translates between {@link CurrencyPair}s and the symbols an exchange uses for them on the wire,
+ * e.g. "BTCUSDT", "XXBTZUSD" or "BTC-USD", in constant time.
+ *
+ * <p>Symbols known up front, typically from the exchange meta data or {@code remoteInit()}, are
+ * {@link #register registered}. Pairs and symbols that are not registered are translated with the
+ * exchange specific encoder and decoder, and the results are remembered so each distinct pair or
+ * symbol is only computed once. Decoded pairs are {@link CurrencyPair#intern interned}.
+ *
+ * <p>Pairs are matched with {@link CurrencyPair#equals}, so pairs of aliased currencies, such as
+ * BTC/USD and XBT/USD, share a symbol. Instances are thread safe.
+ */
+public class SymbolCodec {
+
+  /** The number of computed translations remembered, protects against bad input */
+  private static final int MAX_COMPUTED = 10_000;
+
+  private final Function<CurrencyPair, String> encoder;
+  private final Function<String, CurrencyPair> decoder;
+
+  private final ConcurrentMap<CurrencyPair, String> symbols = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CurrencyPair> currencyPairs = new ConcurrentHashMap<>();
+  private final Set<CurrencyPair> registered = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param encoder computes the symbol of a pair that is not registered, null to only translate
+   *     registered pairs
+   * @param decoder computes the pair of a symbol that is not registered, null to only translate
+   *     registered symbols
+   */
+  public SymbolCodec(
+      Function<CurrencyPair, String> encoder, Function<String, CurrencyPair> decoder) {
+
+    this.encoder = encoder;
+    this.decoder = decoder;
+  }
+
+  /**
+   * Registers a pair traded on the exchange with its symbol.
+   *
+   * @param currencyPair the pair
+   * @param symbol the symbol of the pair at the exchange
+   */
+  public void register(CurrencyPair currencyPair, String symbol) {
+
+    CurrencyPair canonical = CurrencyPair.intern(currencyPair);
+    symbols.put(canonical, symbol);
+    currencyPairs.put(symbol, canonical);
+    registered.add(canonical);
+  }
+
+  /**
+   * Registers pairs traded on the exchange with the symbols computed by the encoder.
+   *
+   * @param currencyPairs the pairs, e.g. the keys of {@code ExchangeMetaData.getCurrencyPairs()}
+   */
+  public void registerAll(Collection<CurrencyPair> currencyPairs) {
+
+    if (encoder == null) {
+      throw new IllegalStateException("No encoder to compute the symbols with");
+    }
+    for (CurrencyPair currencyPair : currencyPairs) {
+      register(currencyPair, encoder.apply(currencyPair));
+    }
+  }
+
+  /**
+   * @param currencyPair a pair
+   * @return true if the pair was registered as traded on the exchange
+   */
+  public boolean isRegistered(CurrencyPair currencyPair) {
+
+    return registered.contains(currencyPair);
+  }
+
+  /** @return the registered pairs */
+  public Set<CurrencyPair> getRegisteredPairs() {
+
+    return Collections.unmodifiableSet(registered);
+  }
+
+  /**
+   * @param currencyPair a pair
+   * @return the symbol of the pair at the exchange, null if it is not registered and there is no
+   *     encoder
+   */
+  public String encode(CurrencyPair currencyPair) {
+
+    String symbol = symbols.get(currencyPair);
+    if (symbol == null && encoder != null) {
+      symbol = encoder.apply(currencyPair);
+      if (symbol != null && symbols.size() < MAX_COMPUTED) {
+        symbols.putIfAbsent(currencyPair, symbol);
+      }
+    }
+    return symbol;
+  }
+
+  /**
+   * @param symbol a symbol at the exchange
+   * @return the pair of the symbol, null if it is not registered and there is no decoder
+   */
+  public CurrencyPair decode(String symbol) {
+
+    CurrencyPair currencyPair = currencyPairs.get(symbol);
+    if (currencyPair == null && decoder != null) {
+      currencyPair = decoder.apply(symbol);
+      if (currencyPair != null) {
+        currencyPair = CurrencyPair.intern(currencyPair);
+        if (currencyPairs.size() < MAX_COMPUTED) {
+          currencyPairs.putIfAbsent(symbol, currencyPair);
+        }
+      }
+    }
+    return currencyPair;
+  }
+
+  /** Forgets all registered and computed translations. */
+  public void clear() {
+
+    registered.clear();
+    symbols.clear();
+    currencyPairs.clear();
+  }
+}
@@ -0,0 +1,261 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Aggregated (level 2) order book keyed by price, intended for consumers that apply a high rate of
+ * {@link OrderBookUpdate}s.
+ *
+ * <p>Unlike {@link OrderBook#update(OrderBookUpdate)}, which shifts an array backed list and
+ * allocates a new {@link LimitOrder} per change, every level update here is a single O(log n) map
+ * operation. Levels can be read in place through {@link
+ * #getLevels(org.knowm.xchange.dto.Order.OrderType)} or {@link
+ * #forEachLevel(org.knowm.xchange.dto.Order.OrderType, int, BiConsumer)}, and {@link
+ * #toOrderBook()} produces a regular {@link OrderBook} for existing callers. Exit orders are filed
+ * on the side they trade, see {@link OrderBookSink#side(org.knowm.xchange.dto.Order.OrderType)}. As
+ * an {@link OrderBookSink} it can be loaded straight from a streamed snapshot, see {@link
+ * PackedOrderBook#forEach(OrderBookSink)}.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class IndexedOrderBook implements OrderBookSink {
+
+  private final CurrencyPair currencyPair;
+  /** ask levels, price to total volume, best (lowest) price first */
+  private final NavigableMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+  /** bid levels, price to total volume, best (highest) price first */
+  private final NavigableMap<BigDecimal, BigDecimal> bids =
+      new TreeMap<>(Comparator.reverseOrder());
+  /** the timestamp of the last applied change according to the exchange's server, may be null */
+  private Date timeStamp;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair the currency pair of the orders in this book
+   */
+  public IndexedOrderBook(CurrencyPair currencyPair) {
+
+    this.currencyPair = currencyPair;
+  }
+
+  /**
+   * Build a new book from a snapshot. Orders sharing the same price are aggregated into a single
+   * level.
+   *
+   * @param currencyPair the currency pair of the orders in this book
+   * @param orderBook the snapshot to load
+   * @return the new book
+   */
+  public static IndexedOrderBook of(CurrencyPair currencyPair, OrderBook orderBook) {
+
+    IndexedOrderBook book = new IndexedOrderBook(currencyPair);
+    book.reset(orderBook);
+    return book;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  /**
+   * Discards all levels and loads the given snapshot.
+   *
+   * @param orderBook the snapshot to load
+   */
+  public void reset(OrderBook orderBook) {
+
+    clear();
+    for (LimitOrder ask : orderBook.getAsks()) {
+      asks.merge(ask.getLimitPrice(), ask.getRemainingAmount(), BigDecimal::add);
+    }
+    for (LimitOrder bid : orderBook.getBids()) {
+      bids.merge(bid.getLimitPrice(), bid.getRemainingAmount(), BigDecimal::add);
+    }
+    timeStamp = orderBook.getTimeStamp();
+  }
+
+  /** Discards all levels. */
+  public void clear() {
+
+    asks.clear();
+    bids.clear();
+    timeStamp = null;
+  }
+
+  /**
+   * Adds the amount of an order to the level at its price, for loading a snapshot order by order
+   * after {@link #clear()}.
+   */
+  @Override
+  public void accept(
+      OrderType type, BigDecimal price, BigDecimal amount, String id, Date timestamp) {
+
+    levels(type).merge(price, amount, BigDecimal::add);
+    if (timestamp != null && (timeStamp == null || timestamp.after(timeStamp))) {
+      timeStamp = timestamp;
+    }
+  }
+
+  /**
+   * Applies an update, replacing the total volume at its price or removing the level when the new
+   * total volume is zero.
+   *
+   * @param orderBookUpdate the update
+   */
+  public void update(OrderBookUpdate orderBookUpdate) {
+
+    LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
+    update(
+        limitOrder.getType(),
+        limitOrder.getLimitPrice(),
+        orderBookUpdate.getTotalVolume(),
+        limitOrder.getTimestamp());
+  }
+
+  /**
+   * Replaces the total volume at a price level, removing the level when the volume is zero.
+   *
+   * @param type BID or ASK
+   * @param price the price of the level
+   * @param totalVolume the new total volume at this price
+   * @param timestamp the time of the change according to the exchange's server, null if not
+   *     provided
+   */
+  public void update(OrderType type, BigDecimal price, BigDecimal totalVolume, Date timestamp) {
+
+    NavigableMap<BigDecimal, BigDecimal> levels = levels(type);
+    if (totalVolume.signum() == 0) {
+      levels.remove(price);
+    } else {
+      levels.put(price, totalVolume);
+    }
+    if (timestamp != null && (timeStamp == null || timestamp.after(timeStamp))) {
+      timeStamp = timestamp;
+    }
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the number of levels on the given side
+   */
+  public int getDepth(OrderType type) {
+
+    return levels(type).size();
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the best price on the given side, null if the side is empty
+   */
+  public BigDecimal getBestPrice(OrderType type) {
+
+    NavigableMap<BigDecimal, BigDecimal> levels = levels(type);
+    return levels.isEmpty() ? null : levels.firstKey();
+  }
+
+  /**
+   * @param type the side of the book
+   * @param price the price of the level
+   * @return the total volume at the given price, null if there is no such level
+   */
+  public BigDecimal getVolume(OrderType type, BigDecimal price) {
+
+    return levels(type).get(price);
+  }
+
+  /**
+   * Read only live view of one side of the book, price to total volume, best price first. The view
+   * is backed by the book and reflects subsequent updates.
+   *
+   * @param type BID or ASK
+   * @return the levels
+   */
+  public NavigableMap<BigDecimal, BigDecimal> getLevels(OrderType type) {
+
+    return Collections.unmodifiableNavigableMap(levels(type));
+  }
+
+  /**
+   * Visits at most {@code depth} levels on one side of the book, best price first, without copying
+   * them.
+   *
+   * @param type BID or ASK
+   * @param depth maximum number of levels to visit
+   * @param consumer receives price and total volume of each level
+   */
+  public void forEachLevel(OrderType type, int depth, BiConsumer<BigDecimal, BigDecimal> consumer) {
+
+    int remaining = depth;
+    for (Map.Entry<BigDecimal, BigDecimal> level : levels(type).entrySet()) {
+      if (remaining-- <= 0) {
+        break;
+      }
+      consumer.accept(level.getKey(), level.getValue());
+    }
+  }
+
+  /** @return a full depth snapshot as an {@link OrderBook} */
+  public OrderBook toOrderBook() {
+
+    return toOrderBook(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param depth maximum number of levels per side
+   * @return a snapshot of the top {@code depth} levels of each side as an {@link OrderBook}
+   */
+  public OrderBook toOrderBook(int depth) {
+
+    return new OrderBook(
+        timeStamp, toLimitOrders(OrderType.ASK, depth), toLimitOrders(OrderType.BID, depth));
+  }
+
+  private List<LimitOrder> toLimitOrders(OrderType type, int depth) {
+
+    List<LimitOrder> orders = new ArrayList<>(Math.min(depth, getDepth(type)));
+    forEachLevel(
+        type,
+        depth,
+        (price, volume) ->
+            orders.add(new LimitOrder(type, volume, currencyPair, "", timeStamp, price)));
+    return orders;
+  }
+
+  private NavigableMap<BigDecimal, BigDecimal> levels(OrderType type) {
+
+    return OrderBookSink.side(type) == OrderType.ASK ? asks : bids;
+  }
+
+  @Override
+  public String toString() {
+
+    return "IndexedOrderBook [currencyPair="
+        + currencyPair
+        + ", timestamp="
+        + timeStamp
+        + ", asks="
+        + asks
+        + ", bids="
+        + bids
+        + "]";
+  }
+}
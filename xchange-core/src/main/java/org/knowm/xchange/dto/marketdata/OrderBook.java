@@ -212,19 +212,16 @@ public final class OrderBook implements Serializable {
         : !this.timeStamp.equals(other.timeStamp)) {
       return false;
     }
-    if (this.bids.size() != other.bids.size()) {
-      return false;
-    }
-    for (int index = 0; index < this.bids.size(); index++) {
-      if (!this.bids.get(index).equals(other.bids.get(index))) {
-        return false;
-      }
-    }
-    if (this.asks.size() != other.asks.size()) {
+    return ordersEqual(this.bids, other.bids) && ordersEqual(this.asks, other.asks);
+  }
+
+  private static boolean ordersEqual(List<LimitOrder> these, List<LimitOrder> those) {
+
+    if (these.size() != those.size()) {
       return false;
     }
-    for (int index = 0; index < this.asks.size(); index++) {
-      if (!this.asks.get(index).equals(other.asks.get(index))) {
+    for (int index = 0; index < these.size(); index++) {
+      if (!these.get(index).equals(those.get(index))) {
         return false;
       }
     }
@@ -237,19 +234,15 @@ public final class OrderBook implements Serializable {
    * OrderBooks are equal but their timestamps are unequal. It returns false if any order between
    * the two are different.
    *
-   * @param ob
-   * @return
+   * <p>The orders are compared in place, without copying either book. To find out what changed
+   * between two snapshots, see {@link OrderBookDiff#diff(OrderBook, OrderBook)}.
+   *
+   * @param ob the other order book
+   * @return true if both books hold equal orders in the same sequence
    */
   public boolean ordersEqual(OrderBook ob) {
 
-    if (ob == null) {
-      return false;
-    }
-
-    Date timestamp = new Date();
-    OrderBook thisOb = new OrderBook(timestamp, this.getAsks(), this.getBids());
-    OrderBook thatOb = new OrderBook(timestamp, ob.getAsks(), ob.getBids());
-    return thisOb.equals(thatOb);
+    return ob != null && ordersEqual(this.bids, ob.bids) && ordersEqual(this.asks, ob.asks);
   }
 
   @Override
@@ -0,0 +1,200 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Turns consecutive {@link OrderBook} snapshots into the {@link OrderBookUpdate}s between them, and
+ * computes the CRC32 checksums exchanges publish alongside their book updates, so a consumer
+ * polling snapshots can pass on and verify deltas instead of whole books.
+ *
+ * <p>Both work on aggregated price levels: orders at the same price are added up, so level 3 books
+ * are compared level by level. The asks and bids of the books must be sorted best price first, as
+ * {@link OrderBook} keeps them, which lets {@link #diff(OrderBook, OrderBook)} walk both books
+ * once, in time linear in their sizes.
+ */
+public final class OrderBookDiff {
+
+  private OrderBookDiff() {}
+
+  /**
+   * The updates which turn the levels of one snapshot into those of the next: one per price whose
+   * total volume changed, with a total volume of zero for levels which are gone. Applying them with
+   * {@link OrderBook#update(OrderBookUpdate)} or {@link IndexedOrderBook#update(OrderBookUpdate)}
+   * to the aggregated previous book gives the aggregated current one.
+   *
+   * @param previous the earlier snapshot
+   * @param current the later snapshot, whose timestamp the updates carry
+   * @return the updates, asks first, each side best price first
+   */
+  public static List<OrderBookUpdate> diff(OrderBook previous, OrderBook current) {
+
+    List<OrderBookUpdate> updates = new ArrayList<>();
+    diff(OrderType.ASK, previous.getAsks(), current.getAsks(), current.getTimeStamp(), updates);
+    diff(OrderType.BID, previous.getBids(), current.getBids(), current.getTimeStamp(), updates);
+    return updates;
+  }
+
+  private static void diff(
+      OrderType type,
+      List<LimitOrder> previous,
+      List<LimitOrder> current,
+      Date timestamp,
+      List<OrderBookUpdate> updates) {
+
+    // bids are sorted by descending price
+    int direction = type == OrderType.BID ? -1 : 1;
+    Levels before = new Levels(previous);
+    Levels after = new Levels(current);
+    boolean hasBefore = before.next();
+    boolean hasAfter = after.next();
+    while (hasBefore || hasAfter) {
+      int order = !hasBefore ? 1 : !hasAfter ? -1 : before.price.compareTo(after.price) * direction;
+      if (order < 0) {
+        updates.add(update(type, before.currencyPair, before.price, BigDecimal.ZERO, timestamp));
+        hasBefore = before.next();
+      } else if (order > 0) {
+        updates.add(update(type, after.currencyPair, after.price, after.amount, timestamp));
+        hasAfter = after.next();
+      } else {
+        if (before.amount.compareTo(after.amount) != 0) {
+          updates.add(update(type, after.currencyPair, after.price, after.amount, timestamp));
+        }
+        hasBefore = before.next();
+        hasAfter = after.next();
+      }
+    }
+  }
+
+  private static OrderBookUpdate update(
+      OrderType type,
+      CurrencyPair currencyPair,
+      BigDecimal price,
+      BigDecimal totalVolume,
+      Date timestamp) {
+
+    return new OrderBookUpdate(type, totalVolume, currencyPair, price, timestamp, totalVolume);
+  }
+
+  /**
+   * The checksum Kraken sends with its book updates: the CRC32 of the best 10 asks, lowest first,
+   * followed by the best 10 bids, highest first, each level written as its price and then its
+   * volume without the decimal point and leading zeros.
+   *
+   * <p>Kraken writes prices and volumes with a fixed number of decimals per pair, so the amounts in
+   * the book must keep the scale they were received with.
+   *
+   * @param orderBook the book
+   * @return the checksum, an unsigned 32 bit value
+   */
+  public static long krakenChecksum(OrderBook orderBook) {
+
+    StringBuilder text = new StringBuilder();
+    appendKraken(text, orderBook.getAsks());
+    appendKraken(text, orderBook.getBids());
+    return crc32(text);
+  }
+
+  private static void appendKraken(StringBuilder text, List<LimitOrder> orders) {
+
+    Levels levels = new Levels(orders);
+    for (int depth = 0; depth < 10 && levels.next(); depth++) {
+      appendWithoutPointAndLeadingZeros(text, levels.price.toPlainString());
+      appendWithoutPointAndLeadingZeros(text, levels.amount.toPlainString());
+    }
+  }
+
+  private static void appendWithoutPointAndLeadingZeros(StringBuilder text, String number) {
+
+    boolean leading = true;
+    for (int i = 0; i < number.length(); i++) {
+      char c = number.charAt(i);
+      if (c == '.' || (leading && c == '0')) {
+        continue;
+      }
+      leading = false;
+      text.append(c);
+    }
+  }
+
+  /**
+   * The checksum OKEx sends with its book updates: the CRC32 of the best 25 bids and asks,
+   * alternating from the best bid, as {@code bidPrice:bidVolume:askPrice:askVolume:...}, where a
+   * side with fewer levels just ends early.
+   *
+   * <p>The prices and volumes are written as plain decimals, so they must keep the scale they were
+   * received with.
+   *
+   * @param orderBook the book
+   * @return the checksum, a signed 32 bit value as OKEx sends it
+   */
+  public static int okexChecksum(OrderBook orderBook) {
+
+    StringBuilder text = new StringBuilder();
+    Levels bids = new Levels(orderBook.getBids());
+    Levels asks = new Levels(orderBook.getAsks());
+    for (int depth = 0; depth < 25; depth++) {
+      if (bids.next()) {
+        appendOkex(text, bids);
+      }
+      if (asks.next()) {
+        appendOkex(text, asks);
+      }
+    }
+    return (int) crc32(text);
+  }
+
+  private static void appendOkex(StringBuilder text, Levels levels) {
+
+    if (text.length() > 0) {
+      text.append(':');
+    }
+    text.append(levels.price.toPlainString()).append(':').append(levels.amount.toPlainString());
+  }
+
+  private static long crc32(CharSequence text) {
+
+    CRC32 crc32 = new CRC32();
+    crc32.update(text.toString().getBytes(StandardCharsets.US_ASCII));
+    return crc32.getValue();
+  }
+
+  /** Walks the orders of one side of a book level by level, adding up orders at equal prices. */
+  private static final class Levels {
+
+    private final List<LimitOrder> orders;
+    private int index;
+
+    CurrencyPair currencyPair;
+    BigDecimal price;
+    BigDecimal amount;
+
+    Levels(List<LimitOrder> orders) {
+
+      this.orders = orders;
+    }
+
+    /** Moves to the next level, false once there are no more levels. */
+    boolean next() {
+
+      if (index >= orders.size()) {
+        return false;
+      }
+      LimitOrder order = orders.get(index++);
+      currencyPair = order.getCurrencyPair();
+      price = order.getLimitPrice();
+      amount = order.getOriginalAmount();
+      while (index < orders.size() && orders.get(index).getLimitPrice().compareTo(price) == 0) {
+        amount = amount.add(orders.get(index++).getOriginalAmount());
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import org.knowm.xchange.dto.Order.OrderType;
+
+/**
+ * Receives the orders or price levels of an order book one at a time, e.g. while a snapshot is
+ * being parsed, so that no intermediate objects need to be created per order.
+ *
+ * @see PackedOrderBook
+ * @see IndexedOrderBook
+ */
+@FunctionalInterface
+public interface OrderBookSink {
+
+  /**
+   * @param type the type of the order, see {@link #side(org.knowm.xchange.dto.Order.OrderType)}
+   * @param price the limit price
+   * @param amount the amount at this price
+   * @param id the order id, null if not provided
+   * @param timestamp the time of the order according to the exchange's server, null if not provided
+   */
+  void accept(OrderType type, BigDecimal price, BigDecimal amount, String id, Date timestamp);
+
+  /**
+   * The side of the book an order of the given type rests on. {@link OrderType#EXIT_ASK} closes a
+   * short position by buying and belongs to the bids, {@link OrderType#EXIT_BID} closes a long
+   * position by selling and belongs to the asks.
+   *
+   * @param type the type of the order
+   * @return {@link OrderType#BID} or {@link OrderType#ASK}
+   */
+  static OrderType side(OrderType type) {
+
+    switch (type) {
+      case BID:
+      case EXIT_ASK:
+        return OrderType.BID;
+      case ASK:
+      case EXIT_BID:
+        return OrderType.ASK;
+      default:
+        throw new IllegalArgumentException("Unexpected order type: " + type);
+    }
+  }
+}
@@ -6,6 +6,7 @@ import java.util.Date;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.FixedPoint;
 
 /** Immutable data object representing a Market Depth update. */
 public final class OrderBookUpdate implements Serializable {
@@ -15,6 +16,12 @@ public final class OrderBookUpdate implements Serializable {
   /** this is the total volume at this price in the order book */
   private final BigDecimal totalVolume;
 
+  /** the total volume as given in fixed point, {@link FixedPoint#NONE} if it was not */
+  private final long totalVolumeMantissa;
+
+  /** the scale of the total volume mantissa, {@link FixedPoint#NO_SCALE} if there is none */
+  private final int totalVolumeScale;
+
   /**
    * Build an order book update.
    *
@@ -38,6 +45,42 @@ public final class OrderBookUpdate implements Serializable {
 
     this.limitOrder = new LimitOrder(type, volume, currencyPair, "", timestamp, limitPrice);
     this.totalVolume = totalVolume;
+    this.totalVolumeMantissa = FixedPoint.NONE;
+    this.totalVolumeScale = FixedPoint.NO_SCALE;
+  }
+
+  /**
+   * Build an order book update from fixed-point values, as parsed by {@link
+   * FixedPoint#parse(CharSequence)}. {@link LimitOrder#getLimitPriceMantissa(int)} and {@link
+   * #getTotalVolumeMantissa(int)} then return the mantissas without converting.
+   *
+   * @param type the order type (BID/ASK)
+   * @param volume volume of the limit order in the base currency (i.e. BTC for BTC/USD)
+   * @param currencyPair the currencies traded (e.g. BTC/USD)
+   * @param limitPrice the price of this update in counter currency per base currency (i.e. $/BTC in
+   *     BTC/USD)
+   * @param timestamp the timestamp for the update
+   * @param totalVolume the total new volume of open orders for this price in the order book, in the
+   *     base currency
+   */
+  public OrderBookUpdate(
+      OrderType type,
+      FixedPoint volume,
+      CurrencyPair currencyPair,
+      FixedPoint limitPrice,
+      Date timestamp,
+      FixedPoint totalVolume) {
+
+    this.limitOrder =
+        new LimitOrder.Builder(type, currencyPair)
+            .originalAmount(volume.toBigDecimal())
+            .id("")
+            .timestamp(timestamp)
+            .limitPrice(limitPrice)
+            .build();
+    this.totalVolume = totalVolume.toBigDecimal();
+    this.totalVolumeMantissa = totalVolume.getMantissa();
+    this.totalVolumeScale = totalVolume.getScale();
   }
 
   /**
@@ -60,6 +103,20 @@ public final class OrderBookUpdate implements Serializable {
     return totalVolume;
   }
 
+  /**
+   * Get the total volume as a {@link FixedPoint} mantissa. This does not allocate if the update was
+   * built from fixed-point values, otherwise it converts the total volume on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's base scale
+   * @return the total volume mantissa
+   */
+  public long getTotalVolumeMantissa(int scale) {
+
+    return totalVolumeScale == FixedPoint.NO_SCALE
+        ? FixedPoint.mantissa(totalVolume, scale)
+        : FixedPoint.rescale(totalVolumeMantissa, totalVolumeScale, scale);
+  }
+
   @Override
   public String toString() {
 
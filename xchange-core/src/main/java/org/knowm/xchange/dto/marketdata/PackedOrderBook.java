@@ -0,0 +1,166 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Column oriented order book snapshot, filled while a response is parsed, see {@link
+ * org.knowm.xchange.utils.jackson.OrderBookJsonReader}.
+ *
+ * <p>Each side keeps its prices, amounts and, when the exchange provides them, ids and timestamps
+ * in plain arrays, so a snapshot of thousands of orders costs a handful of arrays instead of an
+ * object graph per order. The orders are kept in the order they were received. {@link
+ * #toOrderBook(CurrencyPair)} creates the {@link LimitOrder}s once the currency pair is known and
+ * {@link #forEach(OrderBookSink)} replays the snapshot into any other book structure.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class PackedOrderBook implements OrderBookSink {
+
+  private final Side asks = new Side();
+  private final Side bids = new Side();
+  /** the latest order timestamp or the time of the snapshot, null if not provided */
+  private Date timeStamp;
+
+  @Override
+  public void accept(
+      OrderType type, BigDecimal price, BigDecimal amount, String id, Date timestamp) {
+
+    side(type).add(price, amount, id, timestamp);
+    if (timestamp != null && (timeStamp == null || timestamp.after(timeStamp))) {
+      timeStamp = timestamp;
+    }
+  }
+
+  /** @return the number of orders on the given side */
+  public int size(OrderType type) {
+
+    return side(type).size;
+  }
+
+  /** @return the latest order timestamp or the time of the snapshot, null if not provided */
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  /** @param timeStamp the time of the snapshot according to the exchange's server */
+  public void setTimeStamp(Date timeStamp) {
+
+    this.timeStamp = timeStamp;
+  }
+
+  /**
+   * Replays the asks and then the bids, each in the order they were received.
+   *
+   * @param sink receives every order
+   */
+  public void forEach(OrderBookSink sink) {
+
+    asks.forEach(OrderType.ASK, sink);
+    bids.forEach(OrderType.BID, sink);
+  }
+
+  /**
+   * @param currencyPair the currency pair of the orders
+   * @return the snapshot as an {@link OrderBook}
+   */
+  public OrderBook toOrderBook(CurrencyPair currencyPair) {
+
+    return new OrderBook(
+        timeStamp,
+        asks.toLimitOrders(OrderType.ASK, currencyPair),
+        bids.toLimitOrders(OrderType.BID, currencyPair));
+  }
+
+  private Side side(OrderType type) {
+
+    return OrderBookSink.side(type) == OrderType.ASK ? asks : bids;
+  }
+
+  @Override
+  public String toString() {
+
+    return "PackedOrderBook [timestamp="
+        + timeStamp
+        + ", asks="
+        + asks.size
+        + ", bids="
+        + bids.size
+        + "]";
+  }
+
+  private static final class Side {
+
+    private BigDecimal[] prices = new BigDecimal[16];
+    private BigDecimal[] amounts = new BigDecimal[16];
+    /** allocated with the first id */
+    private String[] ids;
+    /** allocated with the first timestamp */
+    private Date[] timestamps;
+
+    private int size;
+
+    void add(BigDecimal price, BigDecimal amount, String id, Date timestamp) {
+
+      if (size == prices.length) {
+        int capacity = size << 1;
+        prices = Arrays.copyOf(prices, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        if (ids != null) {
+          ids = Arrays.copyOf(ids, capacity);
+        }
+        if (timestamps != null) {
+          timestamps = Arrays.copyOf(timestamps, capacity);
+        }
+      }
+      if (id != null && ids == null) {
+        ids = new String[prices.length];
+      }
+      if (timestamp != null && timestamps == null) {
+        timestamps = new Date[prices.length];
+      }
+      prices[size] = price;
+      amounts[size] = amount;
+      if (ids != null) {
+        ids[size] = id;
+      }
+      if (timestamps != null) {
+        timestamps[size] = timestamp;
+      }
+      size++;
+    }
+
+    void forEach(OrderType type, OrderBookSink sink) {
+
+      for (int i = 0; i < size; i++) {
+        sink.accept(type, prices[i], amounts[i], id(i), timestamp(i));
+      }
+    }
+
+    List<LimitOrder> toLimitOrders(OrderType type, CurrencyPair currencyPair) {
+
+      List<LimitOrder> orders = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        orders.add(new LimitOrder(type, amounts[i], currencyPair, id(i), timestamp(i), prices[i]));
+      }
+      return orders;
+    }
+
+    private String id(int i) {
+
+      return ids == null ? null : ids[i];
+    }
+
+    private Date timestamp(int i) {
+
+      return timestamps == null ? null : timestamps[i];
+    }
+  }
+}
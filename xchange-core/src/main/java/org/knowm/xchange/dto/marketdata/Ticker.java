@@ -6,6 +6,7 @@ import java.util.Date;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.utils.Assert;
 import org.knowm.xchange.utils.DateUtils;
+import org.knowm.xchange.utils.FixedPoint;
 
 /**
  * A class encapsulating the information a "Ticker" can contain. Some fields can be empty if not
@@ -31,6 +32,13 @@ public final class Ticker implements Serializable {
   private final BigDecimal bidSize;
   private final BigDecimal askSize;
 
+  /** the scale of the mantissas below, {@link FixedPoint#NO_SCALE} if they were not set */
+  private final int priceScale;
+
+  private final long lastMantissa;
+  private final long bidMantissa;
+  private final long askMantissa;
+
   /**
    * Constructor
    *
@@ -47,6 +55,10 @@ public final class Ticker implements Serializable {
    *     provided
    * @param bidSize The instantaneous size at the bid price
    * @param askSize The instantaneous size at the ask price
+   * @param priceScale the scale of the mantissas, {@link FixedPoint#NO_SCALE} if there are none
+   * @param lastMantissa last price at the price scale
+   * @param bidMantissa bid price at the price scale
+   * @param askMantissa ask price at the price scale
    */
   private Ticker(
       CurrencyPair currencyPair,
@@ -61,7 +73,11 @@ public final class Ticker implements Serializable {
       BigDecimal quoteVolume,
       Date timestamp,
       BigDecimal bidSize,
-      BigDecimal askSize) {
+      BigDecimal askSize,
+      int priceScale,
+      long lastMantissa,
+      long bidMantissa,
+      long askMantissa) {
     this.open = open;
     this.currencyPair = currencyPair;
     this.last = last;
@@ -75,6 +91,10 @@ public final class Ticker implements Serializable {
     this.timestamp = timestamp;
     this.bidSize = bidSize;
     this.askSize = askSize;
+    this.priceScale = priceScale;
+    this.lastMantissa = lastMantissa;
+    this.bidMantissa = bidMantissa;
+    this.askMantissa = askMantissa;
   }
 
   public CurrencyPair getCurrencyPair() {
@@ -102,6 +122,52 @@ public final class Ticker implements Serializable {
     return ask;
   }
 
+  /**
+   * Returns the last price without allocating if the ticker was built with a price scale or from
+   * {@link FixedPoint} prices, otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's price scale
+   * @return the last price as a {@link FixedPoint} mantissa, {@link FixedPoint#NONE} if there is
+   *     none
+   */
+  public long getLastMantissa(int scale) {
+
+    return mantissa(last, lastMantissa, scale);
+  }
+
+  /**
+   * Returns the bid price without allocating if the ticker was built with a price scale or from
+   * {@link FixedPoint} prices, otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's price scale
+   * @return the bid price as a {@link FixedPoint} mantissa, {@link FixedPoint#NONE} if there is
+   *     none
+   */
+  public long getBidMantissa(int scale) {
+
+    return mantissa(bid, bidMantissa, scale);
+  }
+
+  /**
+   * Returns the ask price without allocating if the ticker was built with a price scale or from
+   * {@link FixedPoint} prices, otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's price scale
+   * @return the ask price as a {@link FixedPoint} mantissa, {@link FixedPoint#NONE} if there is
+   *     none
+   */
+  public long getAskMantissa(int scale) {
+
+    return mantissa(ask, askMantissa, scale);
+  }
+
+  private long mantissa(BigDecimal value, long mantissa, int scale) {
+
+    return priceScale == FixedPoint.NO_SCALE
+        ? FixedPoint.mantissa(value, scale)
+        : FixedPoint.rescale(mantissa, priceScale, scale);
+  }
+
   public BigDecimal getHigh() {
 
     return high;
@@ -196,6 +262,10 @@ public final class Ticker implements Serializable {
     private Date timestamp;
     private BigDecimal bidSize;
     private BigDecimal askSize;
+    private FixedPoint fixedLast;
+    private FixedPoint fixedBid;
+    private FixedPoint fixedAsk;
+    private int priceScale = FixedPoint.NO_SCALE;
 
     // Prevent repeat builds
     private boolean isBuilt = false;
@@ -204,6 +274,7 @@ public final class Ticker implements Serializable {
 
       validateState();
 
+      int scale = priceScale == FixedPoint.NO_SCALE ? fixedScale() : priceScale;
       Ticker ticker =
           new Ticker(
               currencyPair,
@@ -218,13 +289,50 @@ public final class Ticker implements Serializable {
               quoteVolume,
               timestamp,
               bidSize,
-              askSize);
+              askSize,
+              scale,
+              mantissa(last, fixedLast, scale),
+              mantissa(bid, fixedBid, scale),
+              mantissa(ask, fixedAsk, scale));
 
       isBuilt = true;
 
       return ticker;
     }
 
+    /** @return the scale of the prices if all of them were given as one scale */
+    private int fixedScale() {
+
+      FixedPoint any = fixedLast != null ? fixedLast : fixedBid != null ? fixedBid : fixedAsk;
+      if (any == null
+          || !isFixed(last, fixedLast, any)
+          || !isFixed(bid, fixedBid, any)
+          || !isFixed(ask, fixedAsk, any)) {
+        return FixedPoint.NO_SCALE;
+      }
+      return any.getScale();
+    }
+
+    private static boolean isFixed(BigDecimal value, FixedPoint fixed, FixedPoint any) {
+
+      return fixed == null ? value == null : fixed.getScale() == any.getScale();
+    }
+
+    private static long mantissa(BigDecimal value, FixedPoint fixed, int scale) {
+
+      if (scale == FixedPoint.NO_SCALE) {
+        return FixedPoint.NONE;
+      }
+      return fixed == null
+          ? FixedPoint.mantissa(value, scale)
+          : FixedPoint.rescale(fixed.getMantissa(), fixed.getScale(), scale);
+    }
+
+    private static BigDecimal toBigDecimal(FixedPoint value) {
+
+      return value == null ? null : value.toBigDecimal();
+    }
+
     private void validateState() {
 
       if (isBuilt) {
@@ -232,6 +340,18 @@ public final class Ticker implements Serializable {
       }
     }
 
+    /**
+     * Converts last, bid and ask to mantissas of the given scale once when the ticker is built, so
+     * that {@link Ticker#getLastMantissa(int)} and its siblings return them without converting
+     *
+     * @param priceScale the number of decimal places, usually the pair's price scale
+     */
+    public Builder priceScale(int priceScale) {
+
+      this.priceScale = priceScale;
+      return this;
+    }
+
     public Builder currencyPair(CurrencyPair currencyPair) {
       Assert.notNull(currencyPair, "Null currencyPair");
       this.currencyPair = currencyPair;
@@ -247,18 +367,54 @@ public final class Ticker implements Serializable {
     public Builder last(BigDecimal last) {
 
       this.last = last;
+      this.fixedLast = null;
+      return this;
+    }
+
+    /**
+     * Sets the last price from a fixed-point value, which {@link Ticker#getLastMantissa(int)} then
+     * returns without converting at the value's scale
+     */
+    public Builder last(FixedPoint last) {
+
+      this.last = toBigDecimal(last);
+      this.fixedLast = last;
       return this;
     }
 
     public Builder bid(BigDecimal bid) {
 
       this.bid = bid;
+      this.fixedBid = null;
+      return this;
+    }
+
+    /**
+     * Sets the bid price from a fixed-point value, which {@link Ticker#getBidMantissa(int)} then
+     * returns without converting at the value's scale
+     */
+    public Builder bid(FixedPoint bid) {
+
+      this.bid = toBigDecimal(bid);
+      this.fixedBid = bid;
       return this;
     }
 
     public Builder ask(BigDecimal ask) {
 
       this.ask = ask;
+      this.fixedAsk = null;
+      return this;
+    }
+
+    /**
+     * Sets the ask price from a fixed-point value, which {@link Ticker#getAskMantissa(int)} then
+     * returns without converting at the value's scale
+     */
+    public Builder ask(FixedPoint ask) {
+
+      this.ask = toBigDecimal(ask);
+      this.fixedAsk = ask;
       return this;
     }
 
@@ -7,6 +7,7 @@ import java.util.Objects;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.utils.FixedPoint;
 
 /** Data object representing a Trade */
 public class Trade implements Serializable {
@@ -29,6 +30,16 @@ public class Trade implements Serializable {
   /** The trade id */
   protected final String id;
 
+  /** The amount and price as given in fixed point, {@link FixedPoint#NONE} if they were not */
+  private final long originalAmountMantissa;
+
+  private final long priceMantissa;
+
+  /** The scales of the mantissas above, {@link FixedPoint#NO_SCALE} if there are none */
+  private final int originalAmountScale;
+
+  private final int priceScale;
+
   private String makerOrderId;
 
   private String takerOrderId;
@@ -53,12 +64,31 @@ public class Trade implements Serializable {
       Date timestamp,
       String id) {
 
+    this(type, originalAmount, currencyPair, price, timestamp, id, null, null);
+  }
+
+  private Trade(
+      OrderType type,
+      BigDecimal originalAmount,
+      CurrencyPair currencyPair,
+      BigDecimal price,
+      Date timestamp,
+      String id,
+      FixedPoint fixedOriginalAmount,
+      FixedPoint fixedPrice) {
+
     this.type = type;
     this.originalAmount = originalAmount;
     this.currencyPair = currencyPair;
     this.price = price;
     this.timestamp = timestamp;
     this.id = id;
+    this.originalAmountMantissa =
+        fixedOriginalAmount == null ? FixedPoint.NONE : fixedOriginalAmount.getMantissa();
+    this.originalAmountScale =
+        fixedOriginalAmount == null ? FixedPoint.NO_SCALE : fixedOriginalAmount.getScale();
+    this.priceMantissa = fixedPrice == null ? FixedPoint.NONE : fixedPrice.getMantissa();
+    this.priceScale = fixedPrice == null ? FixedPoint.NO_SCALE : fixedPrice.getScale();
   }
 
   public OrderType getType() {
@@ -81,6 +111,34 @@ public class Trade implements Serializable {
     return price;
   }
 
+  /**
+   * Returns the price without allocating if the trade was built from a {@link FixedPoint} price,
+   * otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's price scale
+   * @return the price as a {@link FixedPoint} mantissa
+   */
+  public long getPriceMantissa(int scale) {
+
+    return priceScale == FixedPoint.NO_SCALE
+        ? FixedPoint.mantissa(price, scale)
+        : FixedPoint.rescale(priceMantissa, priceScale, scale);
+  }
+
+  /**
+   * Returns the amount without allocating if the trade was built from a {@link FixedPoint} amount,
+   * otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's base scale
+   * @return the amount as a {@link FixedPoint} mantissa
+   */
+  public long getOriginalAmountMantissa(int scale) {
+
+    return originalAmountScale == FixedPoint.NO_SCALE
+        ? FixedPoint.mantissa(originalAmount, scale)
+        : FixedPoint.rescale(originalAmountMantissa, originalAmountScale, scale);
+  }
+
   public Date getTimestamp() {
 
     return timestamp;
@@ -158,15 +216,26 @@ public class Trade implements Serializable {
     protected BigDecimal price;
     protected Date timestamp;
     protected String id;
+    private FixedPoint fixedOriginalAmount;
+    private FixedPoint fixedPrice;
 
     public static Builder from(Trade trade) {
-      return new Builder()
-          .type(trade.getType())
-          .originalAmount(trade.getOriginalAmount())
-          .currencyPair(trade.getCurrencyPair())
-          .price(trade.getPrice())
-          .timestamp(trade.getTimestamp())
-          .id(trade.getId());
+      Builder builder =
+          new Builder()
+              .type(trade.getType())
+              .originalAmount(trade.getOriginalAmount())
+              .currencyPair(trade.getCurrencyPair())
+              .price(trade.getPrice())
+              .timestamp(trade.getTimestamp())
+              .id(trade.getId());
+      if (trade.originalAmountScale != FixedPoint.NO_SCALE) {
+        builder.originalAmount(
+            FixedPoint.valueOf(trade.originalAmountMantissa, trade.originalAmountScale));
+      }
+      if (trade.priceScale != FixedPoint.NO_SCALE) {
+        builder.price(FixedPoint.valueOf(trade.priceMantissa, trade.priceScale));
+      }
+      return builder;
     }
 
     public Builder type(OrderType type) {
@@ -178,6 +247,18 @@ public class Trade implements Serializable {
     public Builder originalAmount(BigDecimal originalAmount) {
 
       this.originalAmount = originalAmount;
+      this.fixedOriginalAmount = null;
+      return this;
+    }
+
+    /**
+     * Sets the amount from a fixed-point value, which {@link Trade#getOriginalAmountMantissa(int)}
+     * then returns without converting
+     */
+    public Builder originalAmount(FixedPoint originalAmount) {
+
+      this.originalAmount = originalAmount == null ? null : originalAmount.toBigDecimal();
+      this.fixedOriginalAmount = originalAmount;
       return this;
     }
 
@@ -190,6 +271,18 @@ public class Trade implements Serializable {
     public Builder price(BigDecimal price) {
 
       this.price = price;
+      this.fixedPrice = null;
+      return this;
+    }
+
+    /**
+     * Sets the price from a fixed-point value, which {@link Trade#getPriceMantissa(int)} then
+     * returns without converting
+     */
+    public Builder price(FixedPoint price) {
+
+      this.price = price == null ? null : price.toBigDecimal();
+      this.fixedPrice = price;
       return this;
     }
 
@@ -207,7 +300,15 @@ public class Trade implements Serializable {
 
     public Trade build() {
 
-      return new Trade(type, originalAmount, currencyPair, price, timestamp, id);
+      return new Trade(
+          type,
+          originalAmount,
+          currencyPair,
+          price,
+          timestamp,
+          id,
+          fixedOriginalAmount,
+          fixedPrice);
     }
   }
 }
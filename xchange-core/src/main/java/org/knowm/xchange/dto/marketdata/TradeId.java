@@ -0,0 +1,119 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigInteger;
+
+/**
+ * A trade id parsed once for ordering, as {@link Trades.TradeIDComparator} orders ids: numerically
+ * if both ids are decimal numbers, else numerically if both are hexadecimal numbers, else as
+ * strings. Decimal ids of up to 18 digits, which most exchanges use, are compared as longs without
+ * allocating.
+ */
+public final class TradeId implements Comparable<TradeId> {
+
+  private static final BigInteger NOT_HEX = BigInteger.valueOf(-1);
+
+  private final String id;
+  private final boolean decimal;
+  private final long longValue;
+  /** the decimal value where it does not fit a long, else null */
+  private final BigInteger bigValue;
+
+  private BigInteger hexValue;
+
+  private TradeId(String id, boolean decimal, long longValue, BigInteger bigValue) {
+
+    this.id = id;
+    this.decimal = decimal;
+    this.longValue = longValue;
+    this.bigValue = bigValue;
+  }
+
+  /**
+   * @param id the id of a trade, may be null
+   * @return the parsed id
+   */
+  public static TradeId of(String id) {
+
+    if (id == null) {
+      return new TradeId(null, false, 0, null);
+    }
+    int length = id.length();
+    if (length > 0 && length <= 18) {
+      long value = 0;
+      int i = 0;
+      for (; i < length; i++) {
+        char c = id.charAt(i);
+        if (c < '0' || c > '9') {
+          break;
+        }
+        value = value * 10 + (c - '0');
+      }
+      if (i == length) {
+        return new TradeId(id, true, value, null);
+      }
+    }
+    BigInteger value = parse(id, 10);
+    if (value == null) {
+      return new TradeId(id, false, 0, null);
+    }
+    return value.bitLength() < 64
+        ? new TradeId(id, true, value.longValue(), null)
+        : new TradeId(id, true, 0, value);
+  }
+
+  /** @return the id as given */
+  public String getId() {
+
+    return id;
+  }
+
+  @Override
+  public int compareTo(TradeId other) {
+
+    if (decimal && other.decimal) {
+      if (bigValue == null && other.bigValue == null) {
+        return Long.compare(longValue, other.longValue);
+      }
+      return decimalValue().compareTo(other.decimalValue());
+    }
+    BigInteger hex = hexValue();
+    BigInteger otherHex = other.hexValue();
+    if (hex != null && otherHex != null) {
+      return hex.compareTo(otherHex);
+    }
+    if (id == null || other.id == null) {
+      return id == null ? (other.id == null ? 0 : -1) : 1;
+    }
+    return id.compareTo(other.id);
+  }
+
+  @Override
+  public String toString() {
+
+    return id;
+  }
+
+  private BigInteger decimalValue() {
+
+    return bigValue != null ? bigValue : BigInteger.valueOf(longValue);
+  }
+
+  /** @return the value of the id as a hexadecimal number, null if it is none */
+  private BigInteger hexValue() {
+
+    if (hexValue == null) {
+      BigInteger value = id == null ? null : parse(id, 16);
+      hexValue = value == null ? NOT_HEX : value;
+    }
+    return hexValue == NOT_HEX ? null : hexValue;
+  }
+
+  private static BigInteger parse(String id, int radix) {
+
+    try {
+      return new BigInteger(id, radix);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -3,16 +3,16 @@ package org.knowm.xchange.dto.marketdata;
 import static org.knowm.xchange.dto.marketdata.Trades.TradeSortType.SortByID;
 
 import java.io.Serializable;
-import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 
 /** DTO representing a collection of trades */
 public class Trades implements Serializable {
 
-  private static final TradeIDComparator TRADE_ID_COMPARATOR = new TradeIDComparator();
   private static final TradeTimestampComparator TRADE_TIMESTAMP_COMPARATOR =
       new TradeTimestampComparator();
 
@@ -72,10 +72,12 @@ public class Trades implements Serializable {
 
     switch (tradeSortType) {
       case SortByTimestamp:
-        Collections.sort(this.trades, TRADE_TIMESTAMP_COMPARATOR);
+        if (!isSorted(this.trades, TRADE_TIMESTAMP_COMPARATOR)) {
+          Collections.sort(this.trades, TRADE_TIMESTAMP_COMPARATOR);
+        }
         break;
       case SortByID:
-        Collections.sort(this.trades, TRADE_ID_COMPARATOR);
+        sortById(this.trades);
         break;
 
       default:
@@ -83,6 +85,64 @@ public class Trades implements Serializable {
     }
   }
 
+  private static boolean isSorted(List<Trade> trades, Comparator<Trade> comparator) {
+
+    for (int i = 1; i < trades.size(); i++) {
+      if (comparator.compare(trades.get(i - 1), trades.get(i)) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sorts as {@link TradeIDComparator} does, parsing each id once rather than on every comparison,
+   * and not at all sorting trades which are already in order, as most exchanges return them.
+   */
+  private static void sortById(List<Trade> trades) {
+
+    int size = trades.size();
+    if (size < 2) {
+      return;
+    }
+    TradeId[] ids = new TradeId[size];
+    boolean sorted = true;
+    for (int i = 0; i < size; i++) {
+      ids[i] = TradeId.of(trades.get(i).getId());
+      if (sorted && i > 0 && compare(ids[i - 1], trades.get(i - 1), ids[i], trades.get(i)) > 0) {
+        sorted = false;
+      }
+    }
+    if (sorted) {
+      return;
+    }
+    IdentifiedTrade[] identified = new IdentifiedTrade[size];
+    for (int i = 0; i < size; i++) {
+      identified[i] = new IdentifiedTrade(ids[i], trades.get(i));
+    }
+    Arrays.sort(identified, (t1, t2) -> compare(t1.id, t1.trade, t2.id, t2.trade));
+    for (int i = 0; i < size; i++) {
+      trades.set(i, identified[i].trade);
+    }
+  }
+
+  private static int compare(TradeId id1, Trade trade1, TradeId id2, Trade trade2) {
+
+    int result = id1.compareTo(id2);
+    return result != 0 ? result : compareTimestamps(trade1, trade2);
+  }
+
+  /** Orders trades by timestamp, trades without one first */
+  private static int compareTimestamps(Trade trade1, Trade trade2) {
+
+    Date timestamp1 = trade1.getTimestamp();
+    Date timestamp2 = trade2.getTimestamp();
+    if (timestamp1 == null || timestamp2 == null) {
+      return timestamp1 == null ? (timestamp2 == null ? 0 : -1) : 1;
+    }
+    return timestamp1.compareTo(timestamp2);
+  }
+
   /** @return A list of trades ordered by id */
   public List<Trade> getTrades() {
 
@@ -131,21 +191,28 @@ public class Trades implements Serializable {
     }
   }
 
+  /**
+   * Orders trades by id: numerically if both ids are decimal numbers, else numerically if both are
+   * hexadecimal numbers, else as strings, see {@link TradeId}. Trades with equal ids, e.g. trades
+   * without an id, are ordered by timestamp.
+   */
   public static class TradeIDComparator implements Comparator<Trade> {
 
-    private static final int[] ALLOWED_RADIXES = {10, 16};
-
     @Override
     public int compare(Trade trade1, Trade trade2) {
-      for (int radix : ALLOWED_RADIXES) {
-        try {
-          BigInteger id1 = new BigInteger(trade1.getId(), radix);
-          BigInteger id2 = new BigInteger(trade2.getId(), radix);
-          return id1.compareTo(id2);
-        } catch (NumberFormatException ignored) {
-        }
-      }
-      return trade1.getId().compareTo(trade2.getId());
+      return Trades.compare(TradeId.of(trade1.getId()), trade1, TradeId.of(trade2.getId()), trade2);
+    }
+  }
+
+  private static final class IdentifiedTrade {
+
+    private final TradeId id;
+    private final Trade trade;
+
+    private IdentifiedTrade(TradeId id, Trade trade) {
+
+      this.id = id;
+      this.trade = trade;
     }
   }
 }
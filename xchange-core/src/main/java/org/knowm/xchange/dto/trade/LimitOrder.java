@@ -5,6 +5,7 @@ import java.util.Date;
 import java.util.Set;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.utils.FixedPoint;
 
 /**
  * DTO representing a limit order
@@ -19,6 +20,12 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
   /** The limit price */
   protected final BigDecimal limitPrice;
 
+  /** The limit price as given in fixed point, {@link FixedPoint#NONE} if it was not */
+  private final long limitPriceMantissa;
+
+  /** The scale of the limit price mantissa, {@link FixedPoint#NO_SCALE} if there is none */
+  private final int limitPriceScale;
+
   /**
    * @param type Either BID (buying) or ASK (selling)
    * @param originalAmount The amount to trade
@@ -39,6 +46,8 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
 
     super(type, originalAmount, currencyPair, id, timestamp);
     this.limitPrice = limitPrice;
+    this.limitPriceMantissa = FixedPoint.NONE;
+    this.limitPriceScale = FixedPoint.NO_SCALE;
   }
 
   /**
@@ -72,6 +81,8 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
         BigDecimal.ZERO,
         OrderStatus.PENDING_NEW);
     this.limitPrice = limitPrice;
+    this.limitPriceMantissa = FixedPoint.NONE;
+    this.limitPriceScale = FixedPoint.NO_SCALE;
   }
 
   /**
@@ -100,6 +111,33 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
       BigDecimal fee,
       OrderStatus status) {
 
+    this(
+        type,
+        originalAmount,
+        currencyPair,
+        id,
+        timestamp,
+        limitPrice,
+        averagePrice,
+        cumulativeAmount,
+        fee,
+        status,
+        null);
+  }
+
+  private LimitOrder(
+      OrderType type,
+      BigDecimal originalAmount,
+      CurrencyPair currencyPair,
+      String id,
+      Date timestamp,
+      BigDecimal limitPrice,
+      BigDecimal averagePrice,
+      BigDecimal cumulativeAmount,
+      BigDecimal fee,
+      OrderStatus status,
+      FixedPoint fixedLimitPrice) {
+
     super(
         type,
         originalAmount,
@@ -111,6 +149,10 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
         fee,
         status);
     this.limitPrice = limitPrice;
+    this.limitPriceMantissa =
+        fixedLimitPrice == null ? FixedPoint.NONE : fixedLimitPrice.getMantissa();
+    this.limitPriceScale =
+        fixedLimitPrice == null ? FixedPoint.NO_SCALE : fixedLimitPrice.getScale();
   }
 
   /** @return The limit price */
@@ -119,6 +161,20 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
     return limitPrice;
   }
 
+  /**
+   * Returns the limit price without allocating if the order was built from a {@link FixedPoint}
+   * price, otherwise converts it on every call.
+   *
+   * @param scale the number of decimal places, usually the pair's price scale
+   * @return The limit price as a {@link FixedPoint} mantissa
+   */
+  public long getLimitPriceMantissa(int scale) {
+
+    return limitPriceScale == FixedPoint.NO_SCALE
+        ? FixedPoint.mantissa(limitPrice, scale)
+        : FixedPoint.rescale(limitPriceMantissa, limitPriceScale, scale);
+  }
+
   @Override
   public String toString() {
 
@@ -176,6 +232,7 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
   public static class Builder extends Order.Builder {
 
     protected BigDecimal limitPrice;
+    private FixedPoint fixedLimitPrice;
 
     public Builder(OrderType orderType, CurrencyPair currencyPair) {
 
@@ -196,7 +253,12 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
               .averagePrice(order.getAveragePrice());
       if (order instanceof LimitOrder) {
         LimitOrder limitOrder = (LimitOrder) order;
-        builder.limitPrice(limitOrder.getLimitPrice());
+        if (limitOrder.limitPriceScale == FixedPoint.NO_SCALE) {
+          builder.limitPrice(limitOrder.getLimitPrice());
+        } else {
+          builder.limitPrice(
+              FixedPoint.valueOf(limitOrder.limitPriceMantissa, limitOrder.limitPriceScale));
+        }
       }
       return builder;
     }
@@ -274,6 +336,18 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
     public Builder limitPrice(BigDecimal limitPrice) {
 
       this.limitPrice = limitPrice;
+      this.fixedLimitPrice = null;
+      return this;
+    }
+
+    /**
+     * Sets the limit price from a fixed-point value, which {@link
+     * LimitOrder#getLimitPriceMantissa(int)} then returns without converting
+     */
+    public Builder limitPrice(FixedPoint limitPrice) {
+
+      this.limitPrice = limitPrice == null ? null : limitPrice.toBigDecimal();
+      this.fixedLimitPrice = limitPrice;
       return this;
     }
 
@@ -292,7 +366,8 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
                   ? cumulativeAmount
                   : originalAmount.subtract(remainingAmount),
               fee,
-              status);
+              status,
+              fixedLimitPrice);
       order.setOrderFlags(flags);
       return order;
     }
@@ -1,23 +1,39 @@
 package org.knowm.xchange.service;
 
 import java.math.BigDecimal;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.client.HttpTransport;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.utils.AsyncUtils;
+import org.knowm.xchange.utils.ratelimit.ExchangeRateLimiter;
+import org.knowm.xchange.utils.ratelimit.RateLimiter;
 import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.Interceptor;
 
 /** Top of the hierarchy abstract class for an "exchange service" */
 public abstract class BaseExchangeService<E extends Exchange> {
 
+  /**
+   * Exchange specific parameter, set to true to parse order book snapshots token by token straight
+   * into the order book where the exchange supports it
+   */
+  public static final String PARAM_STREAMING_ORDER_BOOK = "Use_Streaming_Order_Book";
+
   /**
    * The base Exchange. Every service has access to the containing exchange class, which hold meta
    * data and the exchange specification
    */
   protected final E exchange;
 
+  private ExchangeRateLimiter rateLimiter;
+  private HttpTransport httpTransport;
+
   /** Constructor */
   protected BaseExchangeService(E exchange) {
 
@@ -72,6 +88,127 @@ public abstract class BaseExchangeService<E extends Exchange> {
     return rescuConfig;
   }
 
+  /**
+   * @return the rate limiter of the exchange, shared with its other services, for calls that need a
+   *     weight or a non-blocking check
+   */
+  public ExchangeRateLimiter getRateLimiter() {
+
+    if (exchange instanceof BaseExchange) {
+      return ((BaseExchange) exchange).getRateLimiter();
+    }
+    synchronized (this) {
+      if (rateLimiter == null) {
+        rateLimiter = ExchangeRateLimiter.of(exchange.getExchangeMetaData());
+      }
+      return rateLimiter;
+    }
+  }
+
+  /**
+   * @return the limiter that calls this service makes on its own, e.g. one per currency pair,
+   *     should wait for: the public limiter of the exchange, or an unlimited one if the proxies of
+   *     this service already wait, see {@link #isRateLimitedByProxies()}
+   */
+  public RateLimiter getPublicCallRateLimiter() {
+
+    return isRateLimitedByProxies() ? RateLimiter.unlimited() : getRateLimiter().getPublicLimiter();
+  }
+
+  /**
+   * @return the limiter that authenticated calls this service makes on its own, e.g. one per page
+   *     of the trade history, should wait for, see {@link #getPublicCallRateLimiter()}
+   */
+  public RateLimiter getPrivateCallRateLimiter() {
+
+    return isRateLimitedByProxies()
+        ? RateLimiter.unlimited()
+        : getRateLimiter().getPrivateLimiter();
+  }
+
+  /** @return the executor for calls this service runs in parallel, see {@link AsyncUtils} */
+  public Executor getAsyncExecutor() {
+
+    return AsyncUtils.executorFor(exchange.getExchangeSpecification());
+  }
+
+  /** @return the HTTP transport of the exchange, shared with its other services */
+  public HttpTransport getHttpTransport() {
+
+    if (exchange instanceof BaseExchange) {
+      return ((BaseExchange) exchange).getHttpTransport();
+    }
+    synchronized (this) {
+      if (httpTransport == null) {
+        httpTransport = HttpTransport.of(exchange.getExchangeSpecification());
+      }
+      return httpTransport;
+    }
+  }
+
+  /**
+   * Creates a rescu proxy through the {@link #getHttpTransport() HTTP transport} of the exchange,
+   * in place of {@code RestProxyFactory.createProxy(...)}, so that all services of the exchange
+   * share the configured rest proxy factory and connection limit. The rescu proxy is only created
+   * on the first call, see {@link HttpTransport#createLazyProxy}, so that creating the services of
+   * an exchange is cheap.
+   *
+   * @param restInterface the rescu annotated interface
+   * @param baseUrl the base url of the interface
+   * @param config the client config, usually from {@link #getClientConfig()}
+   * @param interceptors interceptors applied to every call
+   * @return the proxy
+   */
+  protected <I> I createProxy(
+      Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... interceptors) {
+
+    return getHttpTransport().createLazyProxy(restInterface, baseUrl, config, interceptors);
+  }
+
+  /**
+   * An interceptor which makes every call through a rescu proxy wait for the exchange rate limits
+   * from the meta data. Subclasses pass it when creating the proxy:
+   *
+   * <pre>
+   * RestProxyFactory.createProxy(MyExchange.class, uri, getClientConfig(), getRateLimitInterceptor())
+   * </pre>
+   *
+   * The service must also override {@link #isRateLimitedByProxies()} to return true.
+   *
+   * @return a rescu interceptor applying {@link #getRateLimiter()}
+   * @throws IllegalStateException if this service does not declare its proxies rate limited
+   */
+  protected Interceptor getRateLimitInterceptor() {
+
+    if (!isRateLimitedByProxies()) {
+      throw new IllegalStateException(
+          getClass().getName() + " uses the rate limit interceptor without declaring it");
+    }
+    return (invocationHandler, proxy, method, args) ->
+        getRateLimiter().aroundInvoke(invocationHandler, proxy, method, args);
+  }
+
+  /**
+   * Override to return true in services whose proxies are all created with {@link
+   * #getRateLimitInterceptor()}. Calls such a service makes on its own then do not wait for the
+   * rate limits a second time.
+   *
+   * @return true if every call through the proxies of this service waits for the rate limits
+   */
+  protected boolean isRateLimitedByProxies() {
+
+    return false;
+  }
+
+  /** @return true if {@link #PARAM_STREAMING_ORDER_BOOK} is set for this exchange */
+  protected boolean isStreamingOrderBook() {
+
+    return Boolean.TRUE.equals(
+        exchange
+            .getExchangeSpecification()
+            .getExchangeSpecificParametersItem(PARAM_STREAMING_ORDER_BOOK));
+  }
+
   protected final void verifyOrder(Order order, ExchangeMetaData exchangeMetaData) {
 
     CurrencyPairMetaData metaData =
@@ -1,12 +1,9 @@
 package org.knowm.xchange.service;
 
-import java.io.UnsupportedEncodingException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import javax.crypto.Mac;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
+import org.knowm.xchange.utils.HmacSigner;
 import si.mazi.rescu.ParamsDigest;
 
 public abstract class BaseParamsDigest implements ParamsDigest {
@@ -17,6 +14,7 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   public static final String HMAC_SHA_1 = "HmacSHA1";
   public static final String HMAC_MD5 = "HmacMD5";
 
+  private final HmacSigner signer;
   private final ThreadLocal<Mac> threadLocalMac;
 
   /**
@@ -29,29 +27,7 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   protected BaseParamsDigest(String secretKeyBase64, final String hmacString)
       throws IllegalArgumentException {
 
-    try {
-      final SecretKey secretKey = new SecretKeySpec(secretKeyBase64.getBytes("UTF-8"), hmacString);
-      threadLocalMac =
-          new ThreadLocal<Mac>() {
-
-            @Override
-            protected Mac initialValue() {
-
-              try {
-                Mac mac = Mac.getInstance(hmacString);
-                mac.init(secretKey);
-                return mac;
-              } catch (InvalidKeyException e) {
-                throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
-              } catch (NoSuchAlgorithmException e) {
-                throw new RuntimeException(
-                    "Illegal algorithm for post body digest. Check the implementation.");
-              }
-            }
-          };
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("Illegal encoding, check the code.", e);
-    }
+    this(secretKeyBase64.getBytes(StandardCharsets.UTF_8), hmacString);
   }
 
   /**
@@ -64,31 +40,24 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   protected BaseParamsDigest(byte[] secretKeyBase64, final String hmacString)
       throws IllegalArgumentException {
 
-    final SecretKey secretKey = new SecretKeySpec(secretKeyBase64, hmacString);
-    threadLocalMac =
-        new ThreadLocal<Mac>() {
-
-          @Override
-          protected Mac initialValue() {
-
-            try {
-              Mac mac = Mac.getInstance(hmacString);
-              mac.init(secretKey);
-              return mac;
-            } catch (InvalidKeyException e) {
-              throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
-            } catch (NoSuchAlgorithmException e) {
-              throw new RuntimeException(
-                  "Illegal algorithm for post body digest. Check the implementation.");
-            }
-          }
-        };
+    signer = HmacSigner.create(hmacString, secretKeyBase64);
+    threadLocalMac = ThreadLocal.withInitial(signer::newMac);
   }
 
   protected static byte[] decodeBase64(String secretKey) {
     return Base64.getDecoder().decode(secretKey);
   }
 
+  /**
+   * @return the signer with the key of this digest, which can be shared by any number of threads
+   *     and encodes string payloads without copying them
+   */
+  protected HmacSigner getSigner() {
+
+    return signer;
+  }
+
+  /** @return a {@code Mac} with the key of this digest, for the calling thread only */
   protected Mac getMac() {
 
     return threadLocalMac.get();
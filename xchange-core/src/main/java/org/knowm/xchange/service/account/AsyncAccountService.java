@@ -0,0 +1,105 @@
+package org.knowm.xchange.service.account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.dto.account.AddressWithTag;
+import org.knowm.xchange.dto.account.Fee;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
+import org.knowm.xchange.utils.AsyncUtils;
+
+/**
+ * Asynchronous counterpart of {@link AccountService}, obtained from {@link
+ * Exchange#getAsyncAccountService()}.
+ *
+ * <p>The default implementations run the blocking {@link #getBlockingService()} on {@link
+ * #getExecutor()}. Exchanges with a non-blocking client can override individual methods. The
+ * returned futures complete exceptionally with the same exceptions the blocking methods throw.
+ */
+public interface AsyncAccountService extends BaseService {
+
+  /**
+   * @param accountService the blocking service
+   * @param executor the executor to run its calls on
+   * @return an async service running the blocking calls on the executor
+   */
+  static AsyncAccountService of(AccountService accountService, Executor executor) {
+
+    return new AsyncAccountService() {
+
+      @Override
+      public AccountService getBlockingService() {
+        return accountService;
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+  }
+
+  /** @return the blocking service the default implementations delegate to */
+  AccountService getBlockingService();
+
+  /** @return the executor the default implementations run on */
+  Executor getExecutor();
+
+  /** @see AccountService#getAccountInfo() */
+  default CompletableFuture<AccountInfo> getAccountInfoAsync() {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().getAccountInfo(), getExecutor());
+  }
+
+  /** @see AccountService#withdrawFunds(Currency, BigDecimal, String) */
+  default CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, String address) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().withdrawFunds(currency, amount, address), getExecutor());
+  }
+
+  /** @see AccountService#withdrawFunds(Currency, BigDecimal, AddressWithTag) */
+  default CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, AddressWithTag address) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().withdrawFunds(currency, amount, address), getExecutor());
+  }
+
+  /** @see AccountService#withdrawFunds(WithdrawFundsParams) */
+  default CompletableFuture<String> withdrawFundsAsync(WithdrawFundsParams params) {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().withdrawFunds(params), getExecutor());
+  }
+
+  /** @see AccountService#requestDepositAddress(Currency, String...) */
+  default CompletableFuture<String> requestDepositAddressAsync(Currency currency, String... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().requestDepositAddress(currency, args), getExecutor());
+  }
+
+  /** @see AccountService#requestDepositAddressData(Currency, String...) */
+  default CompletableFuture<AddressWithTag> requestDepositAddressDataAsync(
+      Currency currency, String... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().requestDepositAddressData(currency, args), getExecutor());
+  }
+
+  /** @see AccountService#getFundingHistory(TradeHistoryParams) */
+  default CompletableFuture<List<FundingRecord>> getFundingHistoryAsync(TradeHistoryParams params) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getFundingHistory(params), getExecutor());
+  }
+
+  /** @see AccountService#getDynamicTradingFees() */
+  default CompletableFuture<Map<CurrencyPair, Fee>> getDynamicTradingFeesAsync() {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getDynamicTradingFees(), getExecutor());
+  }
+}
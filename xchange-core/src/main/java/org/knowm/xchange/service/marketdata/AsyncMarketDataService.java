@@ -0,0 +1,91 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.marketdata.params.Params;
+import org.knowm.xchange.utils.AsyncUtils;
+
+/**
+ * Asynchronous counterpart of {@link MarketDataService}, obtained from {@link
+ * Exchange#getAsyncMarketDataService()}.
+ *
+ * <p>The default implementations run the blocking {@link #getBlockingService()} on {@link
+ * #getExecutor()}. Exchanges with a non-blocking client can override individual methods. The
+ * returned futures complete exceptionally with the same exceptions the blocking methods throw.
+ */
+public interface AsyncMarketDataService extends BaseService {
+
+  /**
+   * @param marketDataService the blocking service
+   * @param executor the executor to run its calls on
+   * @return an async service running the blocking calls on the executor
+   */
+  static AsyncMarketDataService of(MarketDataService marketDataService, Executor executor) {
+
+    return new AsyncMarketDataService() {
+
+      @Override
+      public MarketDataService getBlockingService() {
+        return marketDataService;
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+  }
+
+  /** @return the blocking service the default implementations delegate to */
+  MarketDataService getBlockingService();
+
+  /** @return the executor the default implementations run on */
+  Executor getExecutor();
+
+  /** @see MarketDataService#getTicker(CurrencyPair, Object...) */
+  default CompletableFuture<Ticker> getTickerAsync(CurrencyPair currencyPair, Object... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getTicker(currencyPair, args), getExecutor());
+  }
+
+  /** @see MarketDataService#getTickers(Params) */
+  default CompletableFuture<List<Ticker>> getTickersAsync(Params params) {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().getTickers(params), getExecutor());
+  }
+
+  /** @see MarketDataService#getTickersFor(Collection) */
+  default CompletableFuture<List<Ticker>> getTickersForAsync(
+      Collection<CurrencyPair> currencyPairs) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getTickersFor(currencyPairs), getExecutor());
+  }
+
+  /** @see MarketDataService#getOrderBook(CurrencyPair, Object...) */
+  default CompletableFuture<OrderBook> getOrderBookAsync(
+      CurrencyPair currencyPair, Object... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getOrderBook(currencyPair, args), getExecutor());
+  }
+
+  /** @see MarketDataService#getOrderBooks(Collection, Object...) */
+  default CompletableFuture<Map<CurrencyPair, OrderBook>> getOrderBooksAsync(
+      Collection<CurrencyPair> currencyPairs, Object... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getOrderBooks(currencyPairs, args), getExecutor());
+  }
+
+  /** @see MarketDataService#getTrades(CurrencyPair, Object...) */
+  default CompletableFuture<Trades> getTradesAsync(CurrencyPair currencyPair, Object... args) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getTrades(currencyPair, args), getExecutor());
+  }
+}
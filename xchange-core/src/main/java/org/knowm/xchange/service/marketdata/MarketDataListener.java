@@ -0,0 +1,26 @@
+package org.knowm.xchange.service.marketdata;
+
+/**
+ * Receives the items of a {@link StreamingMarketDataService} subscription.
+ *
+ * @param <T> the type of the items, e.g. {@link org.knowm.xchange.dto.marketdata.Ticker}
+ */
+@FunctionalInterface
+public interface MarketDataListener<T> {
+
+  /**
+   * Called for every item, in order and never concurrently for the same subscription.
+   *
+   * @param item the new item
+   */
+  void onNext(T item);
+
+  /**
+   * Called when the stream failed, e.g. a poll or the connection failed. The subscription stays
+   * active unless it is cancelled; polling retries at the next interval and connections are
+   * re-established.
+   *
+   * @param error the failure
+   */
+  default void onError(Throwable error) {}
+}
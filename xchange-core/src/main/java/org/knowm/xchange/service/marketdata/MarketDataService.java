@@ -1,7 +1,11 @@
 package org.knowm.xchange.service.marketdata;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
@@ -11,6 +15,7 @@ import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 /**
@@ -57,6 +62,41 @@ public interface MarketDataService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Get the tickers of several currency pairs, from a single call where the exchange has one.
+   *
+   * <p>By default this asks {@link #getTickers(Params)} with a {@link CurrencyPairsParam} and keeps
+   * the requested pairs. Exchanges which don't implement that get one {@link #getTicker} call per
+   * pair, in parallel within the public rate limits of the exchange.
+   *
+   * @param currencyPairs the currency pairs
+   * @return the tickers in the order of the pairs, leaving out pairs the exchange has none for
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  default List<Ticker> getTickersFor(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    List<Ticker> tickers;
+    try {
+      CurrencyPairsParam params = () -> currencyPairs;
+      tickers = getTickers(params);
+    } catch (NotYetImplementedForExchangeException | NotAvailableFromExchangeException e) {
+      return new ArrayList<>(
+          PerPairCalls.of(this).call(currencyPairs, pair -> getTicker(pair)).values());
+    }
+    Map<CurrencyPair, Ticker> byPair = new HashMap<>();
+    for (Ticker ticker : tickers) {
+      byPair.put(ticker.getCurrencyPair(), ticker);
+    }
+    List<Ticker> requested = new ArrayList<>(currencyPairs.size());
+    for (CurrencyPair currencyPair : currencyPairs) {
+      Ticker ticker = byPair.get(currencyPair);
+      if (ticker != null) {
+        requested.add(ticker);
+      }
+    }
+    return requested;
+  }
+
   /**
    * Get an order book representing the current offered exchange rates (market depth)
    *
@@ -74,6 +114,22 @@ public interface MarketDataService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Get the order books of several currency pairs, from a single call where the exchange has one.
+   * By default this makes one {@link #getOrderBook} call per pair, in parallel within the public
+   * rate limits of the exchange.
+   *
+   * @param currencyPairs the currency pairs
+   * @param args Optional arguments, as for {@link #getOrderBook}. Exchange-specific
+   * @return the order books by pair, in the order of the pairs
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  default Map<CurrencyPair, OrderBook> getOrderBooks(
+      Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    return PerPairCalls.of(this).call(currencyPairs, pair -> getOrderBook(pair, args));
+  }
+
   /**
    * Get the trades recently performed by the exchange
    *
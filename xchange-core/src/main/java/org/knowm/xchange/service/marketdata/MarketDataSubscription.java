@@ -0,0 +1,15 @@
+package org.knowm.xchange.service.marketdata;
+
+/** An active subscription of a {@link StreamingMarketDataService}. */
+@FunctionalInterface
+public interface MarketDataSubscription extends AutoCloseable {
+
+  /** Stops delivering items to the listener. Cancelling again has no effect. */
+  void cancel();
+
+  /** Same as {@link #cancel()}. */
+  @Override
+  default void close() {
+    cancel();
+  }
+}
@@ -0,0 +1,117 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.service.BaseExchangeService;
+import org.knowm.xchange.utils.AsyncUtils;
+import org.knowm.xchange.utils.ratelimit.RateLimiter;
+
+/**
+ * Makes one call per currency pair, for exchanges without an endpoint covering several pairs at
+ * once. The calls run in parallel on the async executor of the exchange and each waits for the
+ * public rate limits, so together they go out as fast as the exchange allows.
+ */
+final class PerPairCalls {
+
+  /** A call for one currency pair. */
+  @FunctionalInterface
+  interface PairCall<T> {
+
+    T call(CurrencyPair currencyPair) throws IOException;
+  }
+
+  private final Executor executor;
+  private final RateLimiter rateLimiter;
+
+  private PerPairCalls(Executor executor, RateLimiter rateLimiter) {
+
+    this.executor = executor;
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * @param service the service making the calls
+   * @return parallel rate limited calls for services of an exchange, otherwise sequential calls
+   */
+  static PerPairCalls of(Object service) {
+
+    if (service instanceof BaseExchangeService) {
+      BaseExchangeService<?> exchangeService = (BaseExchangeService<?>) service;
+      return new PerPairCalls(
+          exchangeService.getAsyncExecutor(), exchangeService.getPublicCallRateLimiter());
+    }
+    return new PerPairCalls(Runnable::run, RateLimiter.unlimited());
+  }
+
+  /**
+   * Calls for every pair and waits for all the calls to complete.
+   *
+   * @param currencyPairs the pairs
+   * @param call the call
+   * @return the results by pair, in the order of the pairs
+   * @throws IOException the first exception of a failed call, once all calls completed
+   */
+  <T> Map<CurrencyPair, T> call(Collection<CurrencyPair> currencyPairs, PairCall<T> call)
+      throws IOException {
+
+    Map<CurrencyPair, T> results = new LinkedHashMap<>();
+    if (currencyPairs.size() == 1) {
+      CurrencyPair currencyPair = currencyPairs.iterator().next();
+      acquire();
+      results.put(currencyPair, call.call(currencyPair));
+      return results;
+    }
+    List<CompletableFuture<T>> futures = new ArrayList<>(currencyPairs.size());
+    for (CurrencyPair currencyPair : currencyPairs) {
+      futures.add(
+          AsyncUtils.supplyAsync(
+              () -> {
+                acquire();
+                return call.call(currencyPair);
+              },
+              executor));
+    }
+    Throwable failure = null;
+    int index = 0;
+    for (CurrencyPair currencyPair : currencyPairs) {
+      try {
+        results.put(currencyPair, futures.get(index++).get());
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(future -> future.cancel(true));
+        throw new InterruptedIOException("Interrupted waiting for " + currencyPair);
+      }
+    }
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    return results;
+  }
+
+  private void acquire() throws InterruptedIOException {
+
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for the rate limit");
+    }
+  }
+}
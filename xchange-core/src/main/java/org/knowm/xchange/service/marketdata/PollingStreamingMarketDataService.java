@@ -0,0 +1,335 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.BaseExchange;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.utils.AsyncUtils.BlockingCall;
+import org.knowm.xchange.utils.ratelimit.ExchangeRateLimiter;
+import org.knowm.xchange.utils.ratelimit.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link StreamingMarketDataService} for exchanges without a streaming API, which polls their
+ * {@link MarketDataService} and delivers only what changed.
+ *
+ * <p>All subscriptions share one polling thread. Polls are spaced so that together they stay within
+ * the public rate limits of the exchange, e.g. 200ms apart for 5 calls per second, and the
+ * subscriptions take turns, so with many subscriptions each one is polled less often. No
+ * subscription is polled more often than the {@link #setMinimumInterval(long, TimeUnit) minimum
+ * interval}, one second by default, which leaves the remaining budget to other calls.
+ *
+ * <ul>
+ *   <li>Tickers are delivered when any of their prices, volumes or the timestamp changed.
+ *   <li>Trades are delivered when they first appear; those returned by the first poll are taken as
+ *       already known.
+ *   <li>Order books are delivered when their orders changed.
+ * </ul>
+ *
+ * <p>A failed poll is reported to {@link MarketDataListener#onError(Throwable)} and retried at the
+ * next turn.
+ */
+public class PollingStreamingMarketDataService implements StreamingMarketDataService {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(PollingStreamingMarketDataService.class);
+
+  private final MarketDataService marketDataService;
+  private final long spacingNanos;
+  private final ScheduledExecutorService scheduler;
+  private final List<Poll<?>> polls = new CopyOnWriteArrayList<>();
+
+  private volatile long minimumIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+  // guarded by this
+  private long lastPollNanos = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+  private ScheduledFuture<?> nextTick;
+
+  /**
+   * @param marketDataService the service to poll
+   * @param rateLimiter the rate limits the polls must stay within
+   */
+  public PollingStreamingMarketDataService(
+      MarketDataService marketDataService, RateLimiter rateLimiter) {
+
+    this.marketDataService = marketDataService;
+    this.spacingNanos = spacingNanos(rateLimiter.getLimits());
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "xchange-market-data-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * @param exchange the exchange
+   * @return a service polling the market data service of the exchange within its public rate limits
+   */
+  public static PollingStreamingMarketDataService of(Exchange exchange) {
+
+    ExchangeRateLimiter rateLimiter =
+        exchange instanceof BaseExchange
+            ? ((BaseExchange) exchange).getRateLimiter()
+            : ExchangeRateLimiter.of(exchange.getExchangeMetaData());
+    return new PollingStreamingMarketDataService(
+        exchange.getMarketDataService(), rateLimiter.getPublicLimiter());
+  }
+
+  /** @return the time between polls spending the calls of each limit evenly over its time span */
+  static long spacingNanos(RateLimit... limits) {
+
+    long spacing = 0;
+    for (RateLimit limit : limits) {
+      // a limit without calls limits nothing, rather than forbidding all calls
+      if (limit.calls > 0) {
+        spacing = Math.max(spacing, limit.timeUnit.toNanos(limit.timeSpan) / limit.calls);
+      }
+    }
+    return spacing;
+  }
+
+  /**
+   * @param interval the shortest time between two polls of the same subscription
+   * @param unit the unit of the interval
+   */
+  public void setMinimumInterval(long interval, TimeUnit unit) {
+
+    this.minimumIntervalNanos = unit.toNanos(interval);
+  }
+
+  /** Stops polling for all subscriptions. */
+  public void shutdown() {
+
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTicker(
+      CurrencyPair currencyPair, MarketDataListener<Ticker> listener) {
+
+    return start(
+        new Poll<Ticker>(listener, () -> marketDataService.getTicker(currencyPair)) {
+
+          private Ticker previous;
+
+          @Override
+          void deliver(Ticker ticker) {
+            if (previous == null || !sameTicker(previous, ticker)) {
+              previous = ticker;
+              listener.onNext(ticker);
+            }
+          }
+        });
+  }
+
+  @Override
+  public MarketDataSubscription subscribeTrades(
+      CurrencyPair currencyPair, MarketDataListener<Trade> listener) {
+
+    return start(
+        new Poll<Trades>(listener, () -> marketDataService.getTrades(currencyPair)) {
+
+          private Set<String> previousKeys;
+          private Date previousOldest;
+
+          @Override
+          void deliver(Trades trades) {
+            List<Trade> oldestFirst = new ArrayList<>(trades.getTrades());
+            oldestFirst.sort(
+                Comparator.comparing(
+                    Trade::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())));
+            Set<String> keys = new HashSet<>();
+            for (Trade trade : oldestFirst) {
+              String key = key(trade);
+              keys.add(key);
+              if (previousKeys != null && !previousKeys.contains(key) && !before(trade)) {
+                listener.onNext(trade);
+              }
+            }
+            previousKeys = keys;
+            previousOldest = oldestFirst.isEmpty() ? null : oldestFirst.get(0).getTimestamp();
+          }
+
+          /**
+           * True for trades older than the previous page, which paged out rather than being new.
+           */
+          private boolean before(Trade trade) {
+            return previousOldest != null
+                && trade.getTimestamp() != null
+                && trade.getTimestamp().before(previousOldest);
+          }
+        });
+  }
+
+  @Override
+  public MarketDataSubscription subscribeOrderBook(
+      CurrencyPair currencyPair, MarketDataListener<OrderBook> listener) {
+
+    return start(
+        new Poll<OrderBook>(listener, () -> marketDataService.getOrderBook(currencyPair)) {
+
+          private OrderBook previous;
+
+          @Override
+          void deliver(OrderBook orderBook) {
+            if (previous == null || !previous.ordersEqual(orderBook)) {
+              previous = orderBook;
+              listener.onNext(orderBook);
+            }
+          }
+        });
+  }
+
+  private MarketDataSubscription start(Poll<?> poll) {
+
+    synchronized (this) {
+      poll.dueNanos = System.nanoTime();
+      polls.add(poll);
+      scheduleNext();
+    }
+    return () -> {
+      poll.cancelled = true;
+      polls.remove(poll);
+    };
+  }
+
+  /** Schedules a tick for the subscription whose turn comes first. */
+  private synchronized void scheduleNext() {
+
+    if (nextTick != null) {
+      nextTick.cancel(false);
+      nextTick = null;
+    }
+    Poll<?> next = next();
+    if (next == null || scheduler.isShutdown()) {
+      return;
+    }
+    long start = Math.max(next.dueNanos, lastPollNanos + spacingNanos);
+    nextTick =
+        scheduler.schedule(
+            this::tick, Math.max(0, start - System.nanoTime()), TimeUnit.NANOSECONDS);
+  }
+
+  private Poll<?> next() {
+
+    Poll<?> next = null;
+    for (Poll<?> poll : polls) {
+      if (next == null || poll.dueNanos - next.dueNanos < 0) {
+        next = poll;
+      }
+    }
+    return next;
+  }
+
+  private void tick() {
+
+    Poll<?> poll;
+    synchronized (this) {
+      long now = System.nanoTime();
+      poll = next();
+      if (poll == null) {
+        nextTick = null;
+        return;
+      }
+      if (poll.dueNanos - now > 0 || lastPollNanos + spacingNanos - now > 0) {
+        scheduleNext();
+        return;
+      }
+      lastPollNanos = now;
+      poll.dueNanos = now + Math.max(minimumIntervalNanos, spacingNanos);
+    }
+    poll.run();
+    scheduleNext();
+  }
+
+  private static boolean sameTicker(Ticker a, Ticker b) {
+
+    return same(a.getLast(), b.getLast())
+        && same(a.getBid(), b.getBid())
+        && same(a.getAsk(), b.getAsk())
+        && same(a.getBidSize(), b.getBidSize())
+        && same(a.getAskSize(), b.getAskSize())
+        && same(a.getHigh(), b.getHigh())
+        && same(a.getLow(), b.getLow())
+        && same(a.getVolume(), b.getVolume())
+        && Objects.equals(a.getTimestamp(), b.getTimestamp());
+  }
+
+  private static boolean same(BigDecimal a, BigDecimal b) {
+
+    return a == null ? b == null : b != null && a.compareTo(b) == 0;
+  }
+
+  private static String key(Trade trade) {
+
+    if (trade.getId() != null) {
+      return trade.getId();
+    }
+    return trade.getTimestamp()
+        + " "
+        + trade.getType()
+        + " "
+        + trade.getOriginalAmount()
+        + "@"
+        + trade.getPrice();
+  }
+
+  /** One subscription: the call polling it and how to deliver its result. */
+  private abstract static class Poll<S> {
+
+    private final MarketDataListener<?> listener;
+    private final BlockingCall<S> call;
+
+    volatile boolean cancelled;
+    long dueNanos; // guarded by the service
+
+    Poll(MarketDataListener<?> listener, BlockingCall<S> call) {
+
+      this.listener = listener;
+      this.call = call;
+    }
+
+    abstract void deliver(S result);
+
+    void run() {
+
+      S result;
+      try {
+        result = call.call();
+      } catch (Exception e) {
+        if (!cancelled) {
+          listener.onError(e);
+        }
+        return;
+      }
+      if (cancelled) {
+        return;
+      }
+      try {
+        deliver(result);
+      } catch (RuntimeException e) {
+        LOG.warn("Market data listener failed", e);
+      }
+    }
+  }
+}
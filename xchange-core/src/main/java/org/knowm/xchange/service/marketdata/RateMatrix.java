@@ -0,0 +1,247 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.CurrencyPairNotValidException;
+import org.knowm.xchange.utils.Assert;
+
+/**
+ * A snapshot of exchange rates of a rate provider, quoted against one or more pivot currencies such
+ * as USD and BTC, from which the rate of any two of its currencies is derived.
+ *
+ * <p>The rates are kept in one primitive array per pivot, indexed by currency, so a rate costs a
+ * lookup of the two currencies and a division. A pair is derived through a pivot both currencies
+ * are quoted against, otherwise through the rate between two pivots.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ */
+public final class RateMatrix {
+
+  private final Map<Currency, Integer> indices;
+  private final Currency[] pivots;
+  private final int[] pivotIndices;
+
+  /** rates[p][i] is the amount of currency i worth one unit of pivot p, NaN if not quoted */
+  private final double[][] rates;
+
+  private final Date timestamp;
+
+  private RateMatrix(
+      Map<Currency, Integer> indices, Currency[] pivots, double[][] rates, Date timestamp) {
+
+    this.indices = indices;
+    this.pivots = pivots;
+    this.rates = rates;
+    this.timestamp = timestamp;
+    this.pivotIndices = new int[pivots.length];
+    for (int p = 0; p < pivots.length; p++) {
+      pivotIndices[p] = indices.get(pivots[p]);
+    }
+  }
+
+  /**
+   * @param pivots the currencies the rates are quoted against, in the order they are tried when
+   *     deriving a rate
+   * @return a builder of a matrix
+   */
+  public static Builder builder(Currency... pivots) {
+
+    return new Builder(pivots);
+  }
+
+  /** @return the currencies the rates are quoted against */
+  public List<Currency> getPivots() {
+
+    return Collections.unmodifiableList(Arrays.asList(pivots));
+  }
+
+  /** @return the currencies of the matrix, pivots first, then in the order they were quoted */
+  public Set<Currency> getCurrencies() {
+
+    return Collections.unmodifiableSet(indices.keySet());
+  }
+
+  /** @return the time of the rates, null if the provider did not tell */
+  public Date getTimestamp() {
+
+    return timestamp;
+  }
+
+  /**
+   * @param base the currency sold
+   * @param counter the currency bought
+   * @return the amount of the counter currency worth one unit of the base currency, NaN if the rate
+   *     cannot be derived from the quotes
+   */
+  public double rate(Currency base, Currency counter) {
+
+    Integer b = indices.get(base);
+    Integer c = indices.get(counter);
+    if (b == null || c == null) {
+      return Double.NaN;
+    }
+    if (b.intValue() == c.intValue()) {
+      return 1;
+    }
+    for (double[] row : rates) {
+      double rate = row[c] / row[b];
+      if (!Double.isNaN(rate)) {
+        return rate;
+      }
+    }
+    // base -> pivot p -> pivot q -> counter
+    for (int p = 0; p < pivots.length; p++) {
+      if (Double.isNaN(rates[p][b])) {
+        continue;
+      }
+      for (int q = 0; q < pivots.length; q++) {
+        double pivotRate = rates[p][pivotIndices[q]];
+        if (Double.isNaN(pivotRate)) {
+          pivotRate = 1 / rates[q][pivotIndices[p]];
+        }
+        double rate = pivotRate * rates[q][c] / rates[p][b];
+        if (!Double.isNaN(rate)) {
+          return rate;
+        }
+      }
+    }
+    return Double.NaN;
+  }
+
+  /**
+   * @param currencyPair the pair
+   * @return the rate of the pair as the last price of a ticker
+   * @throws CurrencyPairNotValidException if the rate of the pair cannot be derived
+   */
+  public Ticker getTicker(CurrencyPair currencyPair) {
+
+    double rate = rate(currencyPair.base, currencyPair.counter);
+    if (Double.isNaN(rate) || Double.isInfinite(rate)) {
+      throw new CurrencyPairNotValidException("No rate for " + currencyPair, currencyPair);
+    }
+    return ticker(currencyPair, rate);
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @return the tickers of the pairs in their order, leaving out pairs without a rate
+   */
+  public List<Ticker> getTickers(Collection<CurrencyPair> currencyPairs) {
+
+    List<Ticker> tickers = new ArrayList<>(currencyPairs.size());
+    for (CurrencyPair currencyPair : currencyPairs) {
+      double rate = rate(currencyPair.base, currencyPair.counter);
+      if (!Double.isNaN(rate) && !Double.isInfinite(rate)) {
+        tickers.add(ticker(currencyPair, rate));
+      }
+    }
+    return tickers;
+  }
+
+  private Ticker ticker(CurrencyPair currencyPair, double rate) {
+
+    return new Ticker.Builder()
+        .currencyPair(currencyPair)
+        .last(BigDecimal.valueOf(rate))
+        .timestamp(timestamp)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+
+    return "RateMatrix [pivots="
+        + Arrays.toString(pivots)
+        + ", currencies="
+        + indices.size()
+        + ", timestamp="
+        + timestamp
+        + "]";
+  }
+
+  /** Collects the quotes of a {@link RateMatrix}. */
+  public static final class Builder {
+
+    private final Currency[] pivots;
+    private final Map<Currency, Integer> indices = new LinkedHashMap<>();
+    private final Map<Currency, Map<Currency, Double>> quotes = new HashMap<>();
+    private Date timestamp;
+
+    private Builder(Currency[] pivots) {
+
+      Assert.isTrue(pivots.length > 0, "At least one pivot currency is required");
+      this.pivots = pivots.clone();
+      for (Currency pivot : pivots) {
+        Assert.notNull(pivot, "Null pivot currency");
+        index(pivot);
+        quotes.put(pivot, new HashMap<>());
+      }
+    }
+
+    /**
+     * Adds a quote. One of the currencies must be a pivot.
+     *
+     * @param base the currency sold
+     * @param counter the currency bought
+     * @param rate the amount of the counter currency worth one unit of the base currency
+     * @return this builder
+     */
+    public Builder quote(Currency base, Currency counter, double rate) {
+
+      Assert.isTrue(rate > 0 && !Double.isInfinite(rate), "Invalid rate " + rate);
+      if (quotes.containsKey(base)) {
+        index(counter);
+        quotes.get(base).put(counter, rate);
+      } else if (quotes.containsKey(counter)) {
+        index(base);
+        quotes.get(counter).put(base, 1 / rate);
+      } else {
+        throw new IllegalArgumentException(
+            "Neither " + base + " nor " + counter + " is a pivot currency");
+      }
+      return this;
+    }
+
+    /**
+     * @param timestamp the time of the rates
+     * @return this builder
+     */
+    public Builder timestamp(Date timestamp) {
+
+      this.timestamp = timestamp;
+      return this;
+    }
+
+    public RateMatrix build() {
+
+      double[][] rates = new double[pivots.length][indices.size()];
+      for (int p = 0; p < pivots.length; p++) {
+        double[] row = rates[p];
+        Arrays.fill(row, Double.NaN);
+        row[indices.get(pivots[p])] = 1;
+        for (Map.Entry<Currency, Double> quote : quotes.get(pivots[p]).entrySet()) {
+          row[indices.get(quote.getKey())] = quote.getValue();
+        }
+      }
+      return new RateMatrix(new LinkedHashMap<>(indices), pivots, rates, timestamp);
+    }
+
+    private void index(Currency currency) {
+
+      Assert.notNull(currency, "Null currency");
+      indices.putIfAbsent(currency, indices.size());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.CurrencyPairNotValidException;
+import org.knowm.xchange.utils.Assert;
+import org.knowm.xchange.utils.AsyncUtils.BlockingCall;
+
+/**
+ * Holds the {@link RateMatrix} of a rate provider and fetches it again once it is older than the
+ * refresh interval, so that the tickers of any number of pairs cost one call per interval.
+ *
+ * <p>Only one thread fetches at a time; threads asking meanwhile wait for and share its result.
+ */
+public final class RateMatrixCache {
+
+  private final BlockingCall<RateMatrix> fetch;
+  private final long refreshInterval;
+  private final Object lock = new Object();
+
+  private volatile RateMatrix matrix;
+  private volatile long fetched;
+
+  /**
+   * @param fetch fetches all the rates of the provider
+   * @param refreshInterval the time a matrix is used for, in milliseconds
+   */
+  public RateMatrixCache(BlockingCall<RateMatrix> fetch, long refreshInterval) {
+
+    Assert.notNull(fetch, "Null fetch");
+    Assert.isTrue(refreshInterval >= 0, "Negative refresh interval");
+    this.fetch = fetch;
+    this.refreshInterval = refreshInterval;
+  }
+
+  /**
+   * @return the current matrix, fetched if there is none yet or it is older than the refresh
+   *     interval
+   * @throws IOException if the matrix had to be fetched and could not be
+   */
+  public RateMatrix get() throws IOException {
+
+    RateMatrix current = matrix;
+    if (current != null && !isStale()) {
+      return current;
+    }
+    synchronized (lock) {
+      current = matrix;
+      if (current == null || isStale()) {
+        current = fetch.call();
+        Assert.notNull(current, "Null rate matrix fetched");
+        matrix = current;
+        fetched = System.currentTimeMillis();
+      }
+      return current;
+    }
+  }
+
+  /** Drops the current matrix, so that the next call fetches a new one. */
+  public void invalidate() {
+
+    synchronized (lock) {
+      matrix = null;
+    }
+  }
+
+  /**
+   * @param currencyPair the pair
+   * @return the rate of the pair as the last price of a ticker
+   * @throws CurrencyPairNotValidException if the rate of the pair cannot be derived
+   * @throws IOException if the matrix had to be fetched and could not be
+   */
+  public Ticker getTicker(CurrencyPair currencyPair) throws IOException {
+
+    return get().getTicker(currencyPair);
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @return the tickers of the pairs in their order, leaving out pairs without a rate
+   * @throws IOException if the matrix had to be fetched and could not be
+   */
+  public List<Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return get().getTickers(currencyPairs);
+  }
+
+  private boolean isStale() {
+
+    return System.currentTimeMillis() - fetched >= refreshInterval;
+  }
+}
@@ -0,0 +1,52 @@
+package org.knowm.xchange.service.marketdata;
+
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.service.BaseService;
+
+/**
+ * Pushes market data as it changes instead of answering requests, obtained from {@link
+ * Exchange#getStreamingMarketDataService()}.
+ *
+ * <p>Exchanges with a streaming API implement this on top of it. All others get a {@link
+ * PollingStreamingMarketDataService}, which polls the {@link MarketDataService} within the
+ * exchange's rate limits and only delivers changes.
+ *
+ * <p>Listeners are called on a thread of the service and should not block it.
+ */
+public interface StreamingMarketDataService extends BaseService {
+
+  /**
+   * Delivers the ticker of a currency pair whenever it changes.
+   *
+   * @param currencyPair the currency pair
+   * @param listener the listener
+   * @return the subscription, to cancel it
+   */
+  MarketDataSubscription subscribeTicker(
+      CurrencyPair currencyPair, MarketDataListener<Ticker> listener);
+
+  /**
+   * Delivers every new public trade of a currency pair, oldest first.
+   *
+   * @param currencyPair the currency pair
+   * @param listener the listener
+   * @return the subscription, to cancel it
+   */
+  MarketDataSubscription subscribeTrades(
+      CurrencyPair currencyPair, MarketDataListener<Trade> listener);
+
+  /**
+   * Delivers the order book of a currency pair, first as it is when subscribing and then whenever
+   * it changes. Each delivered book is a new instance the listener may keep.
+   *
+   * @param currencyPair the currency pair
+   * @param listener the listener
+   * @return the subscription, to cancel it
+   */
+  MarketDataSubscription subscribeOrderBook(
+      CurrencyPair currencyPair, MarketDataListener<OrderBook> listener);
+}
@@ -0,0 +1,291 @@
+package org.knowm.xchange.service.marketdata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.knowm.xchange.utils.AsyncUtils.BlockingCall;
+import org.knowm.xchange.utils.websocket.WebSocketClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base for {@link StreamingMarketDataService}s on the WebSocket API of an exchange, where JSON
+ * messages subscribe to named channels, e.g. the trades of one currency pair.
+ *
+ * <p>All subscriptions share one connection, opened with the first subscription and closed after
+ * the last one is cancelled. A channel is subscribed at the exchange when its first listener
+ * subscribes and unsubscribed when its last listener cancels. If the connection fails, every
+ * listener is told through {@link MarketDataListener#onError(Throwable)} and the connection is
+ * re-established after {@link #setReconnectDelay(long, TimeUnit) a delay}, subscribing all channels
+ * again. A connection which stays quiet and does not answer a ping within {@link
+ * #setPingInterval(long, TimeUnit) the ping interval} counts as failed.
+ *
+ * <p>Subclasses provide the messages to subscribe and unsubscribe a channel and route incoming
+ * messages to channels. Listeners are called on the thread of the connection.
+ */
+public abstract class WebSocketStreamingMarketDataService implements StreamingMarketDataService {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(WebSocketStreamingMarketDataService.class);
+
+  protected final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final URI uri;
+  private final Map<String, List<Handler>> channels = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService reconnector =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "xchange-websocket-reconnect");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private volatile long reconnectDelayMillis = 5000;
+  private volatile int pingIntervalMillis = WebSocketClient.DEFAULT_PING_INTERVAL;
+
+  // guarded by this
+  private WebSocketClient connection;
+  private boolean reconnecting;
+
+  /** @param uri the WebSocket URI of the exchange's streaming API */
+  protected WebSocketStreamingMarketDataService(URI uri) {
+
+    this.uri = uri;
+  }
+
+  /** @return the WebSocket URI of the exchange's streaming API */
+  public URI getUri() {
+
+    return uri;
+  }
+
+  /**
+   * @param delay the time to wait before re-establishing a failed connection
+   * @param unit the unit of the delay
+   */
+  public void setReconnectDelay(long delay, TimeUnit unit) {
+
+    this.reconnectDelayMillis = unit.toMillis(delay);
+  }
+
+  /**
+   * @param interval the time without messages after which the exchange is pinged, and after which
+   *     the connection is re-established if the ping is not answered either
+   * @param unit the unit of the interval
+   */
+  public void setPingInterval(long interval, TimeUnit unit) {
+
+    this.pingIntervalMillis = (int) Math.min(Integer.MAX_VALUE, unit.toMillis(interval));
+  }
+
+  /** Closes the connection and cancels all subscriptions. */
+  public synchronized void shutdown() {
+
+    reconnector.shutdownNow();
+    channels.clear();
+    if (connection != null) {
+      connection.close();
+      connection = null;
+    }
+  }
+
+  /**
+   * @param channel the channel
+   * @return the message subscribing to the channel
+   */
+  protected abstract String subscribeMessage(String channel) throws IOException;
+
+  /**
+   * @param channel the channel
+   * @return the message unsubscribing from the channel
+   */
+  protected abstract String unsubscribeMessage(String channel) throws IOException;
+
+  /**
+   * @param message a message received from the exchange
+   * @return the channel the message belongs to, null for messages which belong to none, e.g. the
+   *     confirmation of a subscription
+   */
+  protected abstract String channelOf(JsonNode message);
+
+  /**
+   * @param message a message of a channel
+   * @return the part of the message passed to the handlers of the channel, by default all of it
+   */
+  protected JsonNode payloadOf(JsonNode message) {
+
+    return message;
+  }
+
+  /**
+   * Adds a handler to a channel, subscribing to the channel at the exchange if it is the first.
+   * Exceptions thrown by the handler are passed to the listener.
+   *
+   * @param channel the channel
+   * @param listener the listener the handler delivers to
+   * @param handler turns the payloads of the channel into items for the listener
+   * @return the subscription, to remove the handler
+   */
+  protected synchronized MarketDataSubscription subscribe(
+      String channel, MarketDataListener<?> listener, Consumer<JsonNode> handler) {
+
+    Handler subscription = new Handler(listener, handler);
+    List<Handler> handlers = channels.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>());
+    handlers.add(subscription);
+    if (handlers.size() == 1) {
+      if (connection == null) {
+        connect();
+      } else {
+        send(() -> subscribeMessage(channel), listener);
+      }
+    }
+    return () -> unsubscribe(channel, subscription);
+  }
+
+  private synchronized void unsubscribe(String channel, Handler subscription) {
+
+    List<Handler> handlers = channels.get(channel);
+    if (handlers == null || !handlers.remove(subscription) || !handlers.isEmpty()) {
+      return;
+    }
+    channels.remove(channel);
+    if (channels.isEmpty()) {
+      if (connection != null) {
+        connection.close();
+        connection = null;
+      }
+    } else if (connection != null) {
+      send(() -> unsubscribeMessage(channel), subscription.listener);
+    }
+  }
+
+  /** Connects and subscribes all channels, or schedules another attempt if that fails. */
+  private synchronized void connect() {
+
+    reconnecting = false;
+    if (connection != null || channels.isEmpty() || reconnector.isShutdown()) {
+      return;
+    }
+    try {
+      Connection listener = new Connection();
+      connection = WebSocketClient.connect(uri, listener, 10_000, pingIntervalMillis);
+      listener.client = connection;
+      for (String channel : channels.keySet()) {
+        connection.send(subscribeMessage(channel));
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to connect to {}: {}", uri, e.toString());
+      if (connection != null) {
+        connection.close();
+      }
+      disconnected(connection, e);
+    }
+  }
+
+  /** Reports a failed connection to all listeners and schedules reconnecting. */
+  private synchronized void disconnected(WebSocketClient failed, Throwable error) {
+
+    if (failed != connection || reconnecting) {
+      return;
+    }
+    connection = null;
+    for (List<Handler> handlers : channels.values()) {
+      for (Handler handler : handlers) {
+        handler.error(error);
+      }
+    }
+    if (!channels.isEmpty() && !reconnector.isShutdown()) {
+      reconnecting = true;
+      reconnector.schedule(this::connect, reconnectDelayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void send(BlockingCall<String> message, MarketDataListener<?> listener) {
+
+    try {
+      connection.send(message.call());
+    } catch (IOException e) {
+      listener.onError(e);
+    }
+  }
+
+  private synchronized void closed(Connection closed, Throwable error) {
+
+    disconnected(closed.client, error);
+  }
+
+  /** Dispatches the messages of the current connection. */
+  private final class Connection implements WebSocketClient.Listener {
+
+    WebSocketClient client; // guarded by the service
+
+    @Override
+    public void onMessage(String text) {
+
+      JsonNode message;
+      try {
+        message = objectMapper.readTree(text);
+      } catch (IOException e) {
+        LOG.warn("Ignoring unreadable message from {}: {}", uri, text);
+        return;
+      }
+      String channel = channelOf(message);
+      List<Handler> handlers = channel == null ? null : channels.get(channel);
+      if (handlers == null) {
+        LOG.debug("Ignoring message from {}: {}", uri, text);
+        return;
+      }
+      JsonNode payload = payloadOf(message);
+      for (Handler handler : handlers) {
+        handler.handle(payload);
+      }
+    }
+
+    @Override
+    public void onClose(Throwable error) {
+
+      LOG.info("Connection to {} closed", uri, error);
+      closed(this, error != null ? error : new IOException("Connection to " + uri + " closed"));
+    }
+  }
+
+  /** A handler of a channel with the listener it delivers to. */
+  private static final class Handler {
+
+    private final MarketDataListener<?> listener;
+    private final Consumer<JsonNode> handler;
+
+    Handler(MarketDataListener<?> listener, Consumer<JsonNode> handler) {
+
+      this.listener = listener;
+      this.handler = handler;
+    }
+
+    void handle(JsonNode payload) {
+
+      try {
+        handler.accept(payload);
+      } catch (RuntimeException e) {
+        error(e);
+      }
+    }
+
+    void error(Throwable error) {
+
+      try {
+        listener.onError(error);
+      } catch (RuntimeException e) {
+        LOG.warn("Market data listener failed", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package org.knowm.xchange.service.trade;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+import org.knowm.xchange.utils.AsyncUtils;
+
+/**
+ * Asynchronous counterpart of {@link TradeService}, obtained from {@link
+ * Exchange#getAsyncTradeService()}.
+ *
+ * <p>The default implementations run the blocking {@link #getBlockingService()} on {@link
+ * #getExecutor()}. Exchanges with a non-blocking client can override individual methods. The
+ * returned futures complete exceptionally with the same exceptions the blocking methods throw.
+ */
+public interface AsyncTradeService extends BaseService {
+
+  /**
+   * @param tradeService the blocking service
+   * @param executor the executor to run its calls on
+   * @return an async service running the blocking calls on the executor
+   */
+  static AsyncTradeService of(TradeService tradeService, Executor executor) {
+
+    return new AsyncTradeService() {
+
+      @Override
+      public TradeService getBlockingService() {
+        return tradeService;
+      }
+
+      @Override
+      public Executor getExecutor() {
+        return executor;
+      }
+    };
+  }
+
+  /** @return the blocking service the default implementations delegate to */
+  TradeService getBlockingService();
+
+  /** @return the executor the default implementations run on */
+  Executor getExecutor();
+
+  /** @see TradeService#getOpenOrders() */
+  default CompletableFuture<OpenOrders> getOpenOrdersAsync() {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().getOpenOrders(), getExecutor());
+  }
+
+  /** @see TradeService#getOpenOrders(OpenOrdersParams) */
+  default CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().getOpenOrders(params), getExecutor());
+  }
+
+  /** @see TradeService#placeMarketOrder(MarketOrder) */
+  default CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().placeMarketOrder(marketOrder), getExecutor());
+  }
+
+  /** @see TradeService#placeLimitOrder(LimitOrder) */
+  default CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().placeLimitOrder(limitOrder), getExecutor());
+  }
+
+  /** @see TradeService#placeStopOrder(StopOrder) */
+  default CompletableFuture<String> placeStopOrderAsync(StopOrder stopOrder) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().placeStopOrder(stopOrder), getExecutor());
+  }
+
+  /** @see TradeService#changeOrder(LimitOrder) */
+  default CompletableFuture<String> changeOrderAsync(LimitOrder limitOrder) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().changeOrder(limitOrder), getExecutor());
+  }
+
+  /** @see TradeService#cancelOrder(String) */
+  default CompletableFuture<Boolean> cancelOrderAsync(String orderId) {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().cancelOrder(orderId), getExecutor());
+  }
+
+  /** @see TradeService#cancelOrder(CancelOrderParams) */
+  default CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().cancelOrder(orderParams), getExecutor());
+  }
+
+  /** @see TradeService#getTradeHistory(TradeHistoryParams) */
+  default CompletableFuture<UserTrades> getTradeHistoryAsync(TradeHistoryParams params) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getTradeHistory(params), getExecutor());
+  }
+
+  /** @see TradeService#getOrder(String...) */
+  default CompletableFuture<Collection<Order>> getOrderAsync(String... orderIds) {
+    return AsyncUtils.supplyAsync(() -> getBlockingService().getOrder(orderIds), getExecutor());
+  }
+
+  /** @see TradeService#getOrder(OrderQueryParams...) */
+  default CompletableFuture<Collection<Order>> getOrderAsync(OrderQueryParams... orderQueryParams) {
+    return AsyncUtils.supplyAsync(
+        () -> getBlockingService().getOrder(orderQueryParams), getExecutor());
+  }
+}
@@ -0,0 +1,158 @@
+package org.knowm.xchange.service.trade;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Objects;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamNextPageCursor;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamOffset;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsIdSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
+
+/**
+ * Moves {@link TradeHistoryParams} from one page of {@link
+ * TradeService#getTradeHistory(TradeHistoryParams)} to the next, the way the exchange pages its
+ * history. Used by {@link TradeService#streamTradeHistory(TradeHistoryParams)}, which also ends the
+ * history at a page without any trade it has not returned yet, so a cursor of an exchange ignoring
+ * its params does not page forever.
+ */
+@FunctionalInterface
+public interface TradeHistoryCursor {
+
+  /**
+   * Sets the params to request the page after the given one.
+   *
+   * @param params the params the page was fetched with, updated in place
+   * @param page the page just fetched, not empty
+   * @return false if the page was the last one
+   */
+  boolean advance(TradeHistoryParams params, UserTrades page);
+
+  /** @return a cursor for a history which comes in a single page */
+  static TradeHistoryCursor singlePage() {
+
+    return (params, page) -> false;
+  }
+
+  /**
+   * @return a cursor passing {@link UserTrades#getNextPageCursor()} back through {@link
+   *     TradeHistoryParamNextPageCursor}, until the exchange returns no cursor
+   */
+  static TradeHistoryCursor nextPageCursor() {
+
+    return (params, page) -> {
+      TradeHistoryParamNextPageCursor cursorParams = (TradeHistoryParamNextPageCursor) params;
+      String cursor = page.getNextPageCursor();
+      if (cursor == null || cursor.equals(cursorParams.getNextPageCursor())) {
+        return false;
+      }
+      cursorParams.setNextPageCursor(cursor);
+      return true;
+    };
+  }
+
+  /** @return a cursor moving {@link TradeHistoryParamOffset} past the trades of each page */
+  static TradeHistoryCursor offset() {
+
+    return (params, page) -> {
+      TradeHistoryParamOffset offsetParams = (TradeHistoryParamOffset) params;
+      long offset = offsetParams.getOffset() == null ? 0 : offsetParams.getOffset();
+      offsetParams.setOffset(offset + page.getTrades().size());
+      return true;
+    };
+  }
+
+  /**
+   * @return a cursor moving {@link TradeHistoryParamPaging} to the next page number, until a page
+   *     is shorter than the page length
+   */
+  static TradeHistoryCursor paging() {
+
+    return (params, page) -> {
+      TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
+      Integer pageLength = pagingParams.getPageLength();
+      if (pageLength != null && page.getTrades().size() < pageLength) {
+        return false;
+      }
+      int pageNumber = pagingParams.getPageNumber() == null ? 0 : pagingParams.getPageNumber();
+      pagingParams.setPageNumber(pageNumber + 1);
+      return true;
+    };
+  }
+
+  /**
+   * A cursor for exchanges returning the trades from {@link TradeHistoryParamsIdSpan#getStartId()}
+   * on, oldest first: it sets the start id past the highest numeric trade id of each page.
+   *
+   * @return the cursor
+   */
+  static TradeHistoryCursor fromId() {
+
+    return (params, page) -> {
+      BigInteger highest = null;
+      for (UserTrade trade : page.getUserTrades()) {
+        BigInteger id = new BigInteger(trade.getId());
+        if (highest == null || id.compareTo(highest) > 0) {
+          highest = id;
+        }
+      }
+      String startId = highest.add(BigInteger.ONE).toString();
+      TradeHistoryParamsIdSpan idParams = (TradeHistoryParamsIdSpan) params;
+      if (Objects.equals(startId, idParams.getStartId())) {
+        return false;
+      }
+      idParams.setStartId(startId);
+      return true;
+    };
+  }
+
+  /**
+   * A cursor for exchanges returning the trades from {@link
+   * TradeHistoryParamsTimeSpan#getStartTime()} on, oldest first: it sets the start time to the time
+   * of the newest trade of each page. Trades of that time are returned again and left out by the
+   * stream.
+   *
+   * @return the cursor
+   */
+  static TradeHistoryCursor fromTime() {
+
+    return (params, page) -> {
+      Date newest = null;
+      for (UserTrade trade : page.getUserTrades()) {
+        Date timestamp = trade.getTimestamp();
+        if (timestamp != null && (newest == null || timestamp.after(newest))) {
+          newest = timestamp;
+        }
+      }
+      TradeHistoryParamsTimeSpan timeParams = (TradeHistoryParamsTimeSpan) params;
+      if (newest == null || newest.equals(timeParams.getStartTime())) {
+        return false;
+      }
+      timeParams.setStartTime(newest);
+      return true;
+    };
+  }
+
+  /**
+   * The cursor for params of an exchange which does not say how it pages its history: {@link
+   * #nextPageCursor()}, {@link #offset()} or {@link #paging()}, depending on which the params
+   * support, in that order, and otherwise {@link #singlePage()}.
+   *
+   * @param params the params
+   * @return the cursor
+   */
+  static TradeHistoryCursor of(TradeHistoryParams params) {
+
+    if (params instanceof TradeHistoryParamNextPageCursor) {
+      return nextPageCursor();
+    } else if (params instanceof TradeHistoryParamOffset) {
+      return offset();
+    } else if (params instanceof TradeHistoryParamPaging) {
+      return paging();
+    }
+    return singlePage();
+  }
+}
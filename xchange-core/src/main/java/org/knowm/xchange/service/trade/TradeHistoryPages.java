@@ -0,0 +1,188 @@
+package org.knowm.xchange.service.trade;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.BaseExchangeService;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.utils.AsyncUtils;
+import org.knowm.xchange.utils.ratelimit.RateLimiter;
+
+/**
+ * Iterates over the trade history of a {@link TradeService} page by page. The first page is only
+ * fetched once a trade is asked for. For services of an exchange, each following page is fetched on
+ * the async executor of the exchange while the previous one is consumed, after waiting for the
+ * private rate limits, so at most two pages are held at a time.
+ *
+ * <p>The ids of the trades are remembered, so a trade returned again on a later page is left out,
+ * and the history ends at a page without any new trade. That also ends the history of an exchange
+ * which ignores the paging params and returns the same page again.
+ */
+final class TradeHistoryPages implements Iterator<UserTrade>, AutoCloseable {
+
+  private final TradeService service;
+  private final TradeHistoryParams params;
+  private final TradeHistoryCursor cursor;
+  private final Executor executor;
+  private final RateLimiter rateLimiter;
+
+  private final Set<String> seenIds = new HashSet<>();
+
+  private Iterator<UserTrade> page = Collections.emptyIterator();
+  private CompletableFuture<UserTrades> nextPage;
+  private boolean last;
+
+  private TradeHistoryPages(
+      TradeService service,
+      TradeHistoryParams params,
+      TradeHistoryCursor cursor,
+      Executor executor,
+      RateLimiter rateLimiter) {
+
+    this.service = service;
+    this.params = params;
+    this.cursor = cursor;
+    this.executor = executor;
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * @param service the service
+   * @param params the params of the first page, advanced in place by the cursor
+   * @param cursor the cursor
+   * @return the trades of all pages, fetching further pages as the stream is consumed; closing the
+   *     stream cancels a page being prefetched
+   */
+  static Stream<UserTrade> stream(
+      TradeService service, TradeHistoryParams params, TradeHistoryCursor cursor) {
+
+    TradeHistoryPages pages;
+    if (service instanceof BaseExchangeService) {
+      BaseExchangeService<?> exchangeService = (BaseExchangeService<?>) service;
+      pages =
+          new TradeHistoryPages(
+              service,
+              params,
+              cursor,
+              exchangeService.getAsyncExecutor(),
+              exchangeService.getPrivateCallRateLimiter());
+    } else {
+      pages = new TradeHistoryPages(service, params, cursor, null, RateLimiter.unlimited());
+    }
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(pages::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    while (!page.hasNext()) {
+      if (last) {
+        return false;
+      }
+      UserTrades trades = fetch();
+      List<UserTrade> newTrades = newTrades(trades);
+      if (newTrades.isEmpty()) {
+        last = true;
+      } else {
+        last = !cursor.advance(params, trades);
+        if (!last && executor != null) {
+          nextPage = AsyncUtils.supplyAsync(this::call, executor);
+        }
+      }
+      page = newTrades.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public UserTrade next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.next();
+  }
+
+  @Override
+  public void close() {
+
+    last = true;
+    page = Collections.emptyIterator();
+    if (nextPage != null) {
+      nextPage.cancel(true);
+      nextPage = null;
+    }
+  }
+
+  private List<UserTrade> newTrades(UserTrades trades) {
+
+    List<UserTrade> newTrades = new ArrayList<>(trades.getUserTrades().size());
+    for (UserTrade trade : trades.getUserTrades()) {
+      if (trade.getId() == null || seenIds.add(trade.getId())) {
+        newTrades.add(trade);
+      }
+    }
+    return newTrades;
+  }
+
+  private UserTrades fetch() {
+
+    if (nextPage == null) {
+      try {
+        return call();
+      } catch (IOException e) {
+        last = true;
+        throw new UncheckedIOException(e);
+      }
+    }
+    CompletableFuture<UserTrades> future = nextPage;
+    nextPage = null;
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new UncheckedIOException(
+          new InterruptedIOException("Interrupted waiting for the trade history"));
+    } catch (ExecutionException e) {
+      last = true;
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw new UncheckedIOException((IOException) cause);
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (RuntimeException) cause;
+    }
+  }
+
+  private UserTrades call() throws IOException {
+
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for the rate limit");
+    }
+    return service.getTradeHistory(params);
+  }
+}
@@ -2,11 +2,13 @@ package org.knowm.xchange.service.trade;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.stream.Stream;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
@@ -228,6 +230,36 @@ public interface TradeService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Streams the whole history of user trades matching the params, page by page, using the way the
+   * exchange pages its history, see {@link #getTradeHistoryCursor(TradeHistoryParams)}.
+   *
+   * <p>The stream is lazy: the first page is fetched once the first trade is consumed. For services
+   * of an exchange, the next page is fetched in the background, within the private rate limits of
+   * the exchange, while the current one is consumed, so no more than two pages are held at a time.
+   * Close the stream, e.g. with try-with-resources, when not consuming it to the end. A failed page
+   * is thrown from the stream, as an {@link java.io.UncheckedIOException} for an {@link
+   * IOException}.
+   *
+   * @param params the params of the first page, which are moved from page to page in place
+   * @return the trades of all pages, in the order the exchange returns them
+   */
+  default Stream<UserTrade> streamTradeHistory(TradeHistoryParams params) {
+    return TradeHistoryPages.stream(this, params, getTradeHistoryCursor(params));
+  }
+
+  /**
+   * The cursor moving params of {@link #getTradeHistory(TradeHistoryParams)} from page to page.
+   * Exchanges override this where their paging is not the one {@link TradeHistoryCursor#of} picks
+   * from the params.
+   *
+   * @param params the params
+   * @return the cursor
+   */
+  default TradeHistoryCursor getTradeHistoryCursor(TradeHistoryParams params) {
+    return TradeHistoryCursor.of(params);
+  }
+
   /**
    * Create {@link TradeHistoryParams} object specific to this exchange. Object created by this
    * method may be used to discover supported and required {@link
@@ -0,0 +1,102 @@
+package org.knowm.xchange.utils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.knowm.xchange.ExchangeSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Utilities for running blocking service calls asynchronously */
+public class AsyncUtils {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncUtils.class);
+
+  /** A blocking call such as a method of a polling service */
+  @FunctionalInterface
+  public interface BlockingCall<T> {
+
+    T call() throws IOException;
+  }
+
+  private AsyncUtils() {}
+
+  /**
+   * Runs a blocking call on an executor. Any exception thrown by the call, including {@link
+   * IOException}, completes the returned future exceptionally as is.
+   *
+   * @param call the blocking call
+   * @param executor the executor to run it on
+   * @return a future completed with the result of the call
+   */
+  public static <T> CompletableFuture<T> supplyAsync(BlockingCall<T> call, Executor executor) {
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(call.call());
+            } catch (Throwable t) {
+              future.completeExceptionally(t);
+            }
+          });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * @param exchangeSpecification the specification of an exchange, may be null
+   * @return the async executor set on the specification, or the {@link #defaultExecutor()}
+   */
+  public static Executor executorFor(ExchangeSpecification exchangeSpecification) {
+
+    if (exchangeSpecification != null && exchangeSpecification.getAsyncExecutor() != null) {
+      return exchangeSpecification.getAsyncExecutor();
+    }
+    return defaultExecutor();
+  }
+
+  /**
+   * The executor used for async service calls when none is configured. It starts a virtual thread
+   * per call on Java runtimes that have them, otherwise it is an unbounded pool of daemon threads
+   * reused between calls, since the calls spend their time waiting on the network.
+   *
+   * @return the shared default executor
+   */
+  public static Executor defaultExecutor() {
+
+    return DefaultExecutorHolder.EXECUTOR;
+  }
+
+  private static class DefaultExecutorHolder {
+
+    private static final ExecutorService EXECUTOR = create();
+
+    private static ExecutorService create() {
+
+      try {
+        Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        ExecutorService executor = (ExecutorService) factory.invoke(null);
+        LOG.debug("Using virtual threads for async service calls");
+        return executor;
+      } catch (ReflectiveOperationException e) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory =
+            runnable -> {
+              Thread thread = new Thread(runnable, "xchange-async-" + count.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            };
+        return Executors.newCachedThreadPool(threadFactory);
+      }
+    }
+  }
+}
@@ -2,14 +2,15 @@ package org.knowm.xchange.utils;
 
 public class DigestUtils {
 
+  private static final char[] HEX_ARRAY = "0123456789abcdef".toCharArray();
+
   public static String bytesToHex(byte[] bytes) {
 
-    char[] hexArray = "0123456789abcdef".toCharArray();
     char[] hexChars = new char[bytes.length * 2];
     for (int j = 0; j < bytes.length; j++) {
       int v = bytes[j] & 0xFF;
-      hexChars[j * 2] = hexArray[v >>> 4];
-      hexChars[j * 2 + 1] = hexArray[v & 0x0F];
+      hexChars[j * 2] = HEX_ARRAY[v >>> 4];
+      hexChars[j * 2 + 1] = HEX_ARRAY[v & 0x0F];
     }
     return new String(hexChars);
   }
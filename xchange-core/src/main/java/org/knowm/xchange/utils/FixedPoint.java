@@ -0,0 +1,336 @@
+package org.knowm.xchange.utils;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+
+/**
+ * Fixed-point decimal stored as a {@code long} mantissa and a decimal scale, i.e. the value is
+ * {@code mantissa * 10^-scale}.
+ *
+ * <p>This is an opt-in alternative to {@link BigDecimal} for hot market-data paths (book
+ * maintenance, spread math) where the scale of a value is known per currency pair, typically from
+ * {@link CurrencyPairMetaData#getPriceScale()} and {@link CurrencyPairMetaData#getBaseScale()}. The
+ * static methods work on raw mantissas so that callers can keep values in primitive fields and
+ * avoid allocating at all; {@link #parseMantissa(CharSequence, int)} lets adapters convert exchange
+ * supplied decimal strings without creating an intermediate {@link BigDecimal}.
+ *
+ * <p>Values with more fractional digits than the target scale are rounded {@link
+ * RoundingMode#HALF_UP}. Values that do not fit in a {@code long} at the requested scale raise an
+ * {@link ArithmeticException}.
+ *
+ * <p>A missing value, e.g. a ticker without a bid, has the mantissa {@link #NONE}.
+ */
+public final class FixedPoint implements Comparable<FixedPoint>, Serializable {
+
+  /** The largest scale for which every power of ten fits in a long */
+  public static final int MAX_SCALE = 18;
+
+  /** The mantissa of a missing value, which no {@link BigDecimal} converts to */
+  public static final long NONE = Long.MIN_VALUE;
+
+  /** The scale kept by data objects for a value that was not given in fixed point */
+  public static final int NO_SCALE = -1;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1L;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+    }
+  }
+
+  private final long mantissa;
+  private final int scale;
+
+  private FixedPoint(long mantissa, int scale) {
+
+    this.mantissa = mantissa;
+    this.scale = scale;
+  }
+
+  /**
+   * @param mantissa the unscaled value
+   * @param scale the number of decimal places
+   * @return the value {@code mantissa * 10^-scale}
+   */
+  public static FixedPoint valueOf(long mantissa, int scale) {
+
+    checkScale(scale);
+    return new FixedPoint(mantissa, scale);
+  }
+
+  /**
+   * @param value the value to convert
+   * @param scale the number of decimal places
+   * @return the value rounded to the given scale
+   */
+  public static FixedPoint of(BigDecimal value, int scale) {
+
+    Assert.notNull(value, "Null value");
+    return new FixedPoint(mantissa(value, scale), scale);
+  }
+
+  /**
+   * @param text a plain decimal string such as {@code "-123.4500"}
+   * @param scale the number of decimal places
+   * @return the value rounded to the given scale
+   */
+  public static FixedPoint parse(CharSequence text, int scale) {
+
+    return new FixedPoint(parseMantissa(text, scale), scale);
+  }
+
+  /**
+   * Parses a decimal string at the scale it is written in, so {@code "0.01000000"} has scale 8.
+   * Strings with more than {@link #MAX_SCALE} decimal places are rounded to it.
+   *
+   * @param text a decimal string such as {@code "-123.4500"}
+   * @return the exact value of the string
+   * @throws NumberFormatException if the text is not a decimal number
+   */
+  public static FixedPoint parse(CharSequence text) {
+
+    int scale = 0;
+    for (int i = text.length() - 1; i >= 0; i--) {
+      char c = text.charAt(i);
+      if (c == '.') {
+        scale = text.length() - 1 - i;
+        break;
+      }
+      if (c == 'e' || c == 'E') {
+        BigDecimal value = new BigDecimal(text.toString());
+        return of(value, Math.max(0, Math.min(value.scale(), MAX_SCALE)));
+      }
+    }
+    return parse(text, Math.min(scale, MAX_SCALE));
+  }
+
+  /**
+   * @param metaData the meta data of a currency pair
+   * @return the price scale of the pair
+   * @throws IllegalArgumentException if the meta data does not define a price scale
+   */
+  public static int priceScale(CurrencyPairMetaData metaData) {
+
+    Assert.notNull(metaData, "Required currency pair meta data is null");
+    Assert.notNull(metaData.getPriceScale(), "Currency pair meta data has no price scale");
+    return metaData.getPriceScale();
+  }
+
+  /**
+   * Converts a {@link BigDecimal} to a mantissa at the given scale.
+   *
+   * @param value the value to convert, may be null
+   * @param scale the number of decimal places
+   * @return the unscaled long value, {@link #NONE} if the value is null
+   */
+  public static long mantissa(BigDecimal value, int scale) {
+
+    checkScale(scale);
+    if (value == null) {
+      return NONE;
+    }
+    if (value.scale() == scale && value.precision() <= MAX_SCALE) {
+      return value.unscaledValue().longValue();
+    }
+    long mantissa = value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    if (mantissa == NONE) {
+      throw new ArithmeticException("Overflow: " + value + " at scale " + scale);
+    }
+    return mantissa;
+  }
+
+  /**
+   * Converts a mantissa from one scale to another with long arithmetic only, rounding {@link
+   * RoundingMode#HALF_UP} when the target scale is smaller.
+   *
+   * @param mantissa the unscaled value, may be {@link #NONE}
+   * @param fromScale the number of decimal places of the mantissa
+   * @param toScale the number of decimal places to convert to
+   * @return the unscaled long value at the target scale, {@link #NONE} if the mantissa is {@link
+   *     #NONE}
+   */
+  public static long rescale(long mantissa, int fromScale, int toScale) {
+
+    checkScale(fromScale);
+    checkScale(toScale);
+    if (mantissa == NONE || fromScale == toScale) {
+      return mantissa;
+    }
+    if (toScale > fromScale) {
+      return Math.multiplyExact(mantissa, POWERS_OF_TEN[toScale - fromScale]);
+    }
+    long divisor = POWERS_OF_TEN[fromScale - toScale];
+    long quotient = mantissa / divisor;
+    if (Math.abs(mantissa % divisor) * 2 >= divisor) {
+      quotient += Long.signum(mantissa);
+    }
+    return quotient;
+  }
+
+  /**
+   * Parses a plain decimal string directly to a mantissa at the given scale, without creating a
+   * {@link BigDecimal}. Strings in scientific notation fall back to {@link BigDecimal} parsing.
+   *
+   * @param text a decimal string such as {@code "-123.4500"}
+   * @param scale the number of decimal places
+   * @return the unscaled long value
+   * @throws NumberFormatException if the text is not a decimal number
+   */
+  public static long parseMantissa(CharSequence text, int scale) {
+
+    checkScale(scale);
+    int length = text.length();
+    if (length == 0) {
+      throw new NumberFormatException("Empty decimal string");
+    }
+    int i = 0;
+    boolean negative = false;
+    char first = text.charAt(0);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+
+    long result = 0;
+    int fractionDigits = -1;
+    boolean digits = false;
+    boolean roundUp = false;
+    for (; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+      } else if (c >= '0' && c <= '9') {
+        digits = true;
+        if (fractionDigits >= scale) {
+          // first dropped digit decides the rounding, the rest only need validating
+          if (fractionDigits == scale) {
+            roundUp = c >= '5';
+          }
+          fractionDigits++;
+          continue;
+        }
+        result = Math.addExact(Math.multiplyExact(result, 10L), c - '0');
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+      } else if (c == 'e' || c == 'E') {
+        return mantissa(new BigDecimal(text.toString()), scale);
+      } else {
+        throw new NumberFormatException("Invalid decimal string: " + text);
+      }
+    }
+    if (!digits) {
+      throw new NumberFormatException("Invalid decimal string: " + text);
+    }
+
+    int kept = fractionDigits < 0 ? 0 : Math.min(fractionDigits, scale);
+    result = Math.multiplyExact(result, POWERS_OF_TEN[scale - kept]);
+    if (roundUp) {
+      result = Math.addExact(result, 1L);
+    }
+    return negative ? -result : result;
+  }
+
+  /**
+   * @param mantissa the unscaled value
+   * @param scale the number of decimal places
+   * @return the value as a {@link BigDecimal}
+   */
+  public static BigDecimal toBigDecimal(long mantissa, int scale) {
+
+    return BigDecimal.valueOf(mantissa, scale);
+  }
+
+  private static void checkScale(int scale) {
+
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+    }
+  }
+
+  public long getMantissa() {
+
+    return mantissa;
+  }
+
+  public int getScale() {
+
+    return scale;
+  }
+
+  public int signum() {
+
+    return Long.signum(mantissa);
+  }
+
+  /**
+   * @param other a value of the same scale
+   * @return this + other
+   */
+  public FixedPoint add(FixedPoint other) {
+
+    checkSameScale(other);
+    return new FixedPoint(Math.addExact(mantissa, other.mantissa), scale);
+  }
+
+  /**
+   * @param other a value of the same scale
+   * @return this - other
+   */
+  public FixedPoint subtract(FixedPoint other) {
+
+    checkSameScale(other);
+    return new FixedPoint(Math.subtractExact(mantissa, other.mantissa), scale);
+  }
+
+  public BigDecimal toBigDecimal() {
+
+    return toBigDecimal(mantissa, scale);
+  }
+
+  private void checkSameScale(FixedPoint other) {
+
+    if (scale != other.scale) {
+      throw new IllegalArgumentException(
+          "Scale mismatch: " + scale + " and " + other.scale + " cannot be combined");
+    }
+  }
+
+  @Override
+  public int compareTo(FixedPoint other) {
+
+    if (scale == other.scale) {
+      return Long.compare(mantissa, other.mantissa);
+    }
+    return toBigDecimal().compareTo(other.toBigDecimal());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FixedPoint that = (FixedPoint) o;
+    return mantissa == that.mantissa && scale == that.scale;
+  }
+
+  @Override
+  public int hashCode() {
+
+    return 31 * Long.hashCode(mantissa) + scale;
+  }
+
+  @Override
+  public String toString() {
+
+    return toBigDecimal().toPlainString();
+  }
+}
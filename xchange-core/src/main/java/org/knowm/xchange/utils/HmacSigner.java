@@ -0,0 +1,252 @@
+package org.knowm.xchange.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs request payloads with an HMAC key, safely from any number of threads.
+ *
+ * <p>A {@link Mac} is not thread safe, and creating and initialising one per request costs a
+ * provider lookup and a key schedule. A signer initialises one {@code Mac} and hands out clones of
+ * it from a small lock-free pool, each together with a buffer the payload is encoded into as UTF-8,
+ * so signing a string allocates nothing but the signature. Virtual threads, which come and go with
+ * each call, share the pooled instances instead of each initialising its own, as they would with a
+ * {@link ThreadLocal}.
+ */
+public final class HmacSigner {
+
+  private static final int POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+  private final SecretKeySpec key;
+  private final Mac prototype;
+  private final AtomicReferenceArray<Instance> pool = new AtomicReferenceArray<>(POOL_SIZE);
+
+  private HmacSigner(SecretKeySpec key, Mac prototype) {
+
+    this.key = key;
+    this.prototype = prototype;
+  }
+
+  /**
+   * @param algorithm the HMAC algorithm, e.g. {@code HmacSHA256}
+   * @param secretKey the key
+   * @return the signer
+   * @throws IllegalArgumentException if the algorithm is not available or the key is invalid
+   */
+  public static HmacSigner create(String algorithm, byte[] secretKey) {
+
+    Assert.notNull(algorithm, "Null algorithm");
+    Assert.notNull(secretKey, "Null secretKey");
+    try {
+      SecretKeySpec key = new SecretKeySpec(secretKey, algorithm);
+      Mac mac = Mac.getInstance(algorithm);
+      mac.init(key);
+      return new HmacSigner(key, mac);
+    } catch (InvalidKeyException e) {
+      throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException("Unknown hmac algorithm " + algorithm, e);
+    }
+  }
+
+  /**
+   * @param algorithm the HMAC algorithm, e.g. {@code HmacSHA256}
+   * @param secretKey the key, used as its UTF-8 bytes
+   * @return the signer
+   * @throws IllegalArgumentException if the algorithm is not available or the key is invalid
+   */
+  public static HmacSigner create(String algorithm, String secretKey) {
+
+    Assert.notNull(secretKey, "Null secretKey");
+    return create(algorithm, secretKey.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** @return the algorithm of the signer */
+  public String getAlgorithm() {
+
+    return prototype.getAlgorithm();
+  }
+
+  /**
+   * @return a new {@code Mac} initialised with the key of this signer, for code which holds on to
+   *     one, e.g. per thread
+   */
+  public Mac newMac() {
+
+    try {
+      return (Mac) prototype.clone();
+    } catch (CloneNotSupportedException e) {
+      try {
+        Mac mac = Mac.getInstance(prototype.getAlgorithm(), prototype.getProvider());
+        mac.init(key);
+        return mac;
+      } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+        throw new IllegalStateException("Cannot create another " + prototype.getAlgorithm(), ex);
+      }
+    }
+  }
+
+  /**
+   * @param message the message, encoded as UTF-8
+   * @return the signature
+   */
+  public byte[] sign(CharSequence message) {
+
+    Instance instance = acquire();
+    instance.append(message);
+    instance.mac.update(instance.bytes, 0, instance.size);
+    return release(instance, instance.mac.doFinal());
+  }
+
+  /**
+   * @param parts the parts of the message, each encoded as UTF-8 and signed one after the other
+   * @return the signature
+   */
+  public byte[] sign(CharSequence... parts) {
+
+    Instance instance = acquire();
+    for (CharSequence part : parts) {
+      instance.append(part);
+    }
+    instance.mac.update(instance.bytes, 0, instance.size);
+    return release(instance, instance.mac.doFinal());
+  }
+
+  /**
+   * @param message the message
+   * @return the signature
+   */
+  public byte[] sign(byte[] message) {
+
+    Instance instance = acquire();
+    return release(instance, instance.mac.doFinal(message));
+  }
+
+  /**
+   * @param message the message, from its position to its limit, which it is read up to
+   * @return the signature
+   */
+  public byte[] sign(ByteBuffer message) {
+
+    Instance instance = acquire();
+    instance.mac.update(message);
+    return release(instance, instance.mac.doFinal());
+  }
+
+  /**
+   * @param parts the parts of the message, see {@link #sign(CharSequence...)}
+   * @return the signature as lower case hex
+   */
+  public String signHex(CharSequence... parts) {
+
+    return DigestUtils.bytesToHex(sign(parts));
+  }
+
+  /**
+   * @param parts the parts of the message, see {@link #sign(CharSequence...)}
+   * @return the signature as Base64
+   */
+  public String signBase64(CharSequence... parts) {
+
+    return Base64.getEncoder().encodeToString(sign(parts));
+  }
+
+  private Instance acquire() {
+
+    int start = (int) (Thread.currentThread().getId() % POOL_SIZE);
+    for (int i = 0; i < POOL_SIZE; i++) {
+      Instance instance = pool.getAndSet((start + i) % POOL_SIZE, null);
+      if (instance != null) {
+        return instance;
+      }
+    }
+    return new Instance(newMac());
+  }
+
+  /**
+   * Returns an instance to the pool once it signed a message, which resets it. An instance which
+   * failed half way through a message is dropped instead.
+   */
+  private byte[] release(Instance instance, byte[] signature) {
+
+    instance.clear();
+    int start = (int) (Thread.currentThread().getId() % POOL_SIZE);
+    for (int i = 0; i < POOL_SIZE; i++) {
+      if (pool.compareAndSet((start + i) % POOL_SIZE, null, instance)) {
+        break;
+      }
+    }
+    return signature;
+  }
+
+  /** A {@code Mac} of the pool with the buffer its messages are encoded into. */
+  private static final class Instance {
+
+    /** larger buffers, grown for a large message, are not kept in the pool */
+    private static final int MAX_RETAINED = 1 << 16;
+
+    private final Mac mac;
+    private final CharsetEncoder encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private byte[] bytes = new byte[512];
+    private int size;
+
+    private Instance(Mac mac) {
+
+      this.mac = mac;
+    }
+
+    /** Appends text as UTF-8, copying ASCII directly and using the encoder for the rest. */
+    void append(CharSequence text) {
+
+      int length = text.length();
+      ensureCapacity(length);
+      int i = 0;
+      for (; i < length; i++) {
+        char c = text.charAt(i);
+        if (c >= 0x80) {
+          break;
+        }
+        bytes[size++] = (byte) c;
+      }
+      if (i < length) {
+        CharBuffer chars = CharBuffer.wrap(text, i, length);
+        // at most 3 bytes per char
+        ensureCapacity(3 * chars.remaining());
+        ByteBuffer out = ByteBuffer.wrap(bytes, size, bytes.length - size);
+        encoder.reset();
+        encoder.encode(chars, out, true);
+        encoder.flush(out);
+        size = out.position();
+      }
+    }
+
+    void clear() {
+
+      size = 0;
+      if (bytes.length > MAX_RETAINED) {
+        bytes = new byte[512];
+      }
+    }
+
+    private void ensureCapacity(int more) {
+
+      if (size + more > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, size + more));
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package org.knowm.xchange.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the meta data an exchange loads in {@link Exchange#remoteInit()}, and the raw exchange
+ * info it is built from, in JSON files of a local directory, so that an exchange can start with the
+ * cached copy instead of calling the exchange.
+ *
+ * <p>Each file records the version of the cache format and of XChange, the exchange class and the
+ * URI it was loaded from. A file written by another version or for another exchange or URI is
+ * ignored. Files are replaced atomically, so exchanges of several processes can share a directory.
+ */
+public final class MetaDataCache {
+
+  /** The name of the {@link org.knowm.xchange.dto.meta.ExchangeMetaData} entry */
+  public static final String META_DATA = "metadata";
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetaDataCache.class);
+
+  private static final int FORMAT_VERSION = 1;
+  private static final String XCHANGE_VERSION =
+      Exchange.class.getPackage().getImplementationVersion();
+
+  private static final JacksonRegistry JSON =
+      JacksonRegistry.create(
+          mapper -> mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+  private final Path directory;
+  private final String prefix;
+  private final String exchange;
+  private final String uri;
+  private final long ttl;
+
+  private MetaDataCache(Path directory, String prefix, String exchange, String uri, long ttl) {
+
+    this.directory = directory;
+    this.prefix = prefix;
+    this.exchange = exchange;
+    this.uri = uri;
+    this.ttl = ttl;
+  }
+
+  /**
+   * @param exchangeSpecification the specification of the exchange
+   * @param name the name of the exchange in file names, e.g. the name of its meta data file
+   * @return the cache of the exchange, null if the specification has no cache directory
+   */
+  public static MetaDataCache of(ExchangeSpecification exchangeSpecification, String name) {
+
+    String directory = exchangeSpecification.getMetaDataCacheDirectory();
+    if (directory == null) {
+      return null;
+    }
+    return new MetaDataCache(
+        Paths.get(directory),
+        name,
+        exchangeSpecification.getExchangeClassName(),
+        exchangeSpecification.getSslUri(),
+        exchangeSpecification.getMetaDataCacheTtl());
+  }
+
+  /**
+   * @param name the name of the entry
+   * @param type the type of the value
+   * @return the entry, null if there is none for this version, exchange and URI, or it cannot be
+   *     read
+   */
+  public <T> Entry<T> read(String name, Class<T> type) {
+
+    Path file = file(name);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (InputStream is = Files.newInputStream(file)) {
+      JsonNode envelope = JSON.reader().readTree(is);
+      if (envelope == null
+          || envelope.path("format").asInt() != FORMAT_VERSION
+          || !Objects.equals(text(envelope, "xchange_version"), XCHANGE_VERSION)
+          || !Objects.equals(text(envelope, "exchange"), exchange)
+          || !Objects.equals(text(envelope, "uri"), uri)) {
+        LOG.debug("Ignoring {}, written by another version or for another exchange", file);
+        return null;
+      }
+      T value = JSON.readerFor(type).readValue(envelope.get("value"));
+      return value == null ? null : new Entry<>(value, envelope.path("written").asLong());
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Ignoring unreadable {}", file, e);
+      return null;
+    }
+  }
+
+  /**
+   * @param name the name of the entry
+   * @param value the value, written as JSON
+   * @throws IOException if the file cannot be written
+   */
+  public void write(String name, Object value) throws IOException {
+
+    Map<String, Object> envelope = new LinkedHashMap<>();
+    envelope.put("format", FORMAT_VERSION);
+    envelope.put("xchange_version", XCHANGE_VERSION);
+    envelope.put("exchange", exchange);
+    envelope.put("uri", uri);
+    envelope.put("written", System.currentTimeMillis());
+    envelope.put("value", value);
+
+    Files.createDirectories(directory);
+    Path file = file(name);
+    Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      JSON.writerFor(Map.class).writeValue(temporary.toFile(), envelope);
+      try {
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private Path file(String name) {
+
+    return directory.resolve(prefix + "-" + name + ".json");
+  }
+
+  private static String text(JsonNode node, String field) {
+
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+  /** A cached value. */
+  public final class Entry<T> {
+
+    private final T value;
+    private final long written;
+
+    private Entry(T value, long written) {
+
+      this.value = value;
+      this.written = written;
+    }
+
+    public T getValue() {
+
+      return value;
+    }
+
+    /** @return the time the value was written, in milliseconds since the epoch */
+    public long getWritten() {
+
+      return written;
+    }
+
+    /** @return true if the value is older than the time to live of the cache */
+    public boolean isStale() {
+
+      return System.currentTimeMillis() - written >= ttl;
+    }
+  }
+}
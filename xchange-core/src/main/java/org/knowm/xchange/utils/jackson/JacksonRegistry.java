@@ -0,0 +1,118 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import org.knowm.xchange.utils.Assert;
+
+/**
+ * Shared {@link ObjectReader}s and {@link ObjectWriter}s per target type, for code that binds JSON
+ * outside of a rest proxy, e.g. custom deserializers and digests.
+ *
+ * <p>Creating an {@link ObjectMapper} is expensive, and a new mapper starts with empty
+ * introspection and deserializer caches, so a mapper created per call pays for both on every call.
+ * A registry owns one mapper, configured once when it is created, and only hands out readers and
+ * writers, which are immutable and safe to share between threads. Modules that need feature flags
+ * create their own registry once and keep it in a constant:
+ *
+ * <pre>{@code
+ * private static final JacksonRegistry JSON =
+ *     JacksonRegistry.create(
+ *         mapper -> mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+ * }</pre>
+ */
+public final class JacksonRegistry {
+
+  /** A registry with the default configuration of an {@link ObjectMapper}. */
+  public static final JacksonRegistry DEFAULT = new JacksonRegistry(new ObjectMapper());
+
+  private final ObjectMapper mapper;
+  private final ObjectReader reader;
+  private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  private JacksonRegistry(ObjectMapper mapper) {
+
+    this.mapper = mapper;
+    this.reader = mapper.reader();
+  }
+
+  /**
+   * @param configuration configures the mapper of the registry, e.g. its features and modules. It
+   *     is called once, the mapper must not be kept.
+   * @return a new registry
+   */
+  public static JacksonRegistry create(Consumer<ObjectMapper> configuration) {
+
+    Assert.notNull(configuration, "Null configuration");
+    ObjectMapper mapper = new ObjectMapper();
+    configuration.accept(mapper);
+    return new JacksonRegistry(mapper);
+  }
+
+  /** @return a reader without a target type, e.g. to read trees */
+  public ObjectReader reader() {
+
+    return reader;
+  }
+
+  /**
+   * @param type the target type
+   * @return the shared reader of the type
+   */
+  public ObjectReader readerFor(Class<?> type) {
+
+    return readers.computeIfAbsent(type, key -> mapper.readerFor(type));
+  }
+
+  /**
+   * @param type the target type
+   * @return the shared reader of the type
+   */
+  public ObjectReader readerFor(JavaType type) {
+
+    return readers.computeIfAbsent(type, key -> mapper.readerFor(type));
+  }
+
+  /**
+   * @param type the target type, e.g. {@code new TypeReference<Map<String, String>>() {}}
+   * @return the shared reader of the type
+   */
+  public ObjectReader readerFor(TypeReference<?> type) {
+
+    return readerFor(mapper.getTypeFactory().constructType(type));
+  }
+
+  /**
+   * @param type the type of the values written
+   * @return the shared writer of the type
+   */
+  public ObjectWriter writerFor(Class<?> type) {
+
+    return writers.computeIfAbsent(type, key -> mapper.writerFor(type));
+  }
+
+  /**
+   * @param type the type of the values written
+   * @return the shared writer of the type
+   */
+  public ObjectWriter writerFor(JavaType type) {
+
+    return writers.computeIfAbsent(type, key -> mapper.writerFor(type));
+  }
+
+  /**
+   * @param type the type of the values written
+   * @return the shared writer of the type
+   */
+  public ObjectWriter writerFor(TypeReference<?> type) {
+
+    return writerFor(mapper.getTypeFactory().constructType(type));
+  }
+}
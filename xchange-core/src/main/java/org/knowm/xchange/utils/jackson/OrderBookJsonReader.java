@@ -0,0 +1,146 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBookSink;
+
+/**
+ * Token level reading of order book snapshots, for deserializers that feed the rows of large
+ * responses straight into an {@link OrderBookSink} instead of binding them to a DTO per row first.
+ *
+ * <p>Rows are arrays starting with the price and the amount, as strings or numbers, e.g. {@code
+ * ["530.75513", "0.248", 1391825343]}. Exchange specific trailing values are handed to a {@link
+ * RowHandler}.
+ */
+public final class OrderBookJsonReader {
+
+  private OrderBookJsonReader() {}
+
+  /** Receives a row, see {@link #readRows(JsonParser, RowHandler)}. */
+  @FunctionalInterface
+  public interface RowHandler {
+
+    /**
+     * @param price the first value of the row
+     * @param amount the second value of the row
+     * @param parser positioned on the value after the amount, {@link JsonToken#END_ARRAY} if there
+     *     is none. The handler may read further values of the row with {@link
+     *     JsonParser#nextToken()}, the rest of the row is skipped.
+     */
+    void row(BigDecimal price, BigDecimal amount, JsonParser parser) throws IOException;
+  }
+
+  /** Receives the fields of an object, see {@link #readObject(JsonParser, FieldHandler)}. */
+  @FunctionalInterface
+  public interface FieldHandler {
+
+    /**
+     * @param name the field name
+     * @param parser positioned on the value of the field. The handler either reads the whole value
+     *     or leaves the parser where it is to skip it.
+     */
+    void field(String name, JsonParser parser) throws IOException;
+  }
+
+  /**
+   * Reads the fields of an object. The parser is left on the end of the object.
+   *
+   * @param parser positioned on the start of the object or on its first field name
+   * @param handler receives the fields
+   */
+  public static void readObject(JsonParser parser, FieldHandler handler) throws IOException {
+
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    }
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      handler.field(name, parser);
+      parser.skipChildren();
+    }
+    expect(parser, JsonToken.END_OBJECT);
+  }
+
+  /**
+   * Reads an array of rows, each into the sink as an order without id or timestamp.
+   *
+   * @param parser positioned on the array of rows, or on null
+   * @param type BID or ASK
+   * @param sink receives the rows
+   */
+  public static void readLevels(JsonParser parser, OrderType type, OrderBookSink sink)
+      throws IOException {
+
+    readRows(parser, (price, amount, p) -> sink.accept(type, price, amount, null, null));
+  }
+
+  /**
+   * Reads an array of rows. The parser is left on the end of the array.
+   *
+   * @param parser positioned on the array of rows, or on null
+   * @param handler receives the rows
+   */
+  public static void readRows(JsonParser parser, RowHandler handler) throws IOException {
+
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    while (parser.nextToken() == JsonToken.START_ARRAY) {
+      parser.nextToken();
+      BigDecimal price = readDecimal(parser);
+      parser.nextToken();
+      BigDecimal amount = readDecimal(parser);
+      parser.nextToken();
+      handler.row(price, amount, parser);
+      while (parser.currentToken() != JsonToken.END_ARRAY) {
+        if (parser.currentToken() == null) {
+          throw JsonMappingException.from(parser, "Unexpected end of input in order book row");
+        }
+        parser.skipChildren();
+        parser.nextToken();
+      }
+    }
+    expect(parser, JsonToken.END_ARRAY);
+  }
+
+  /**
+   * @param parser positioned on a string or number
+   * @return the exact decimal value, without creating an intermediate string
+   */
+  public static BigDecimal readDecimal(JsonParser parser) throws IOException {
+
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      try {
+        return new BigDecimal(
+            parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      } catch (NumberFormatException e) {
+        throw JsonMappingException.from(parser, "Not a decimal: " + parser.getText(), e);
+      }
+    }
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return parser.getDecimalValue();
+    }
+    throw JsonMappingException.from(parser, "Expected a decimal but was " + token);
+  }
+
+  /**
+   * @param parser the parser
+   * @param token the expected current token
+   * @throws JsonMappingException if the current token is a different one
+   */
+  public static void expect(JsonParser parser, JsonToken token) throws IOException {
+
+    if (parser.currentToken() != token) {
+      throw JsonMappingException.from(
+          parser, "Expected " + token + " but was " + parser.currentToken());
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package org.knowm.xchange.utils.ratelimit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.ExchangeException;
+import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.ParamsDigest;
+
+/**
+ * The public and private {@link RateLimiter}s of an exchange, built from the rate limits in its
+ * {@link ExchangeMetaData}. When {@link ExchangeMetaData#isShareRateLimits()} is set, public and
+ * private calls draw from the same limiter, configured with the private limits.
+ *
+ * <p>This is also a rescu {@link Interceptor}: pass it to {@code RestProxyFactory.createProxy} and
+ * every call through the proxy waits for its limiter first. Calls taking a {@link ParamsDigest}
+ * argument are signed and count as private, all others as public.
+ */
+public class ExchangeRateLimiter implements Interceptor {
+
+  private final RateLimiter publicLimiter;
+  private final RateLimiter privateLimiter;
+
+  public ExchangeRateLimiter(RateLimiter publicLimiter, RateLimiter privateLimiter) {
+
+    this.publicLimiter = publicLimiter;
+    this.privateLimiter = privateLimiter;
+  }
+
+  /**
+   * @param exchangeMetaData the meta data of the exchange, may be null
+   * @return limiters for the rate limits of the exchange, unlimited where none are defined
+   */
+  public static ExchangeRateLimiter of(ExchangeMetaData exchangeMetaData) {
+
+    if (exchangeMetaData == null) {
+      return new ExchangeRateLimiter(RateLimiter.unlimited(), RateLimiter.unlimited());
+    }
+    RateLimit[] publicLimits = exchangeMetaData.getPublicRateLimits();
+    RateLimit[] privateLimits = exchangeMetaData.getPrivateRateLimits();
+    if (exchangeMetaData.isShareRateLimits()) {
+      RateLimiter shared = RateLimiter.of(privateLimits != null ? privateLimits : publicLimits);
+      return new ExchangeRateLimiter(shared, shared);
+    }
+    return new ExchangeRateLimiter(RateLimiter.of(publicLimits), RateLimiter.of(privateLimits));
+  }
+
+  public RateLimiter getPublicLimiter() {
+
+    return publicLimiter;
+  }
+
+  public RateLimiter getPrivateLimiter() {
+
+    return privateLimiter;
+  }
+
+  /**
+   * @param authenticated whether the call is signed
+   * @return the limiter for that kind of call
+   */
+  public RateLimiter get(boolean authenticated) {
+
+    return authenticated ? privateLimiter : publicLimiter;
+  }
+
+  @Override
+  public Object aroundInvoke(
+      InvocationHandler invocationHandler, Object proxy, Method method, Object[] args)
+      throws Throwable {
+
+    RateLimiter limiter = get(isAuthenticated(args));
+    if (!limiter.isUnlimited()) {
+      try {
+        limiter.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ExchangeException("Interrupted while waiting for rate limit", e);
+      }
+    }
+    return invocationHandler.invoke(proxy, method, args);
+  }
+
+  private static boolean isAuthenticated(Object[] args) {
+
+    if (args != null) {
+      for (Object arg : args) {
+        if (arg instanceof ParamsDigest) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+
+    return "ExchangeRateLimiter [publicLimiter="
+        + publicLimiter
+        + ", privateLimiter="
+        + privateLimiter
+        + "]";
+  }
+}
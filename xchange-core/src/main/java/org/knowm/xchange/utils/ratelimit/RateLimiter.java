@@ -0,0 +1,189 @@
+package org.knowm.xchange.utils.ratelimit;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.knowm.xchange.dto.meta.RateLimit;
+
+/**
+ * Client side rate limiter enforcing one or more {@link RateLimit}s at once, e.g. "10 calls per
+ * second and 600 calls per 10 minutes".
+ *
+ * <p>Each limit is tracked with the generic cell rate algorithm (GCRA), which behaves like a token
+ * bucket of {@link RateLimit#calls} tokens refilled continuously over {@link RateLimit#timeSpan}: a
+ * full bucket allows a burst of {@code calls} requests, after which requests are admitted every
+ * {@link RateLimit#getPollDelayMillis()}. The state of all limits is a single array of theoretical
+ * arrival times swapped with compare-and-set, so the limiter is thread safe without locks and a
+ * request is either admitted by every limit or by none.
+ *
+ * <p>Calls can carry a weight for APIs that charge some endpoints more than one unit. A limiter
+ * built from no limits admits everything.
+ */
+public final class RateLimiter {
+
+  private static final RateLimiter UNLIMITED = new RateLimiter(new RateLimit[0], System::nanoTime);
+
+  private final RateLimit[] limits;
+  private final long[] periodNanos;
+  private final long[] intervalNanos;
+  private final int maxWeight;
+  private final LongSupplier clock;
+  private final AtomicReference<long[]> arrivalTimes;
+
+  RateLimiter(RateLimit[] limits, LongSupplier clock) {
+
+    this.limits = limits.clone();
+    this.clock = clock;
+    this.periodNanos = new long[limits.length];
+    this.intervalNanos = new long[limits.length];
+    int maxWeight = Integer.MAX_VALUE;
+    for (int i = 0; i < limits.length; i++) {
+      RateLimit limit = limits[i];
+      if (limit.calls <= 0 || limit.timeSpan <= 0) {
+        throw new IllegalArgumentException("Invalid rate limit " + limit);
+      }
+      periodNanos[i] = limit.timeUnit.toNanos(limit.timeSpan);
+      intervalNanos[i] = periodNanos[i] / limit.calls;
+      maxWeight = Math.min(maxWeight, limit.calls);
+    }
+    this.maxWeight = maxWeight;
+
+    long[] initial = new long[limits.length];
+    Arrays.fill(initial, clock.getAsLong());
+    this.arrivalTimes = new AtomicReference<>(initial);
+  }
+
+  /**
+   * @param limits the limits to enforce, null or empty for no limit
+   * @return a limiter admitting calls only while all the limits allow
+   */
+  public static RateLimiter of(RateLimit... limits) {
+
+    if (limits == null || limits.length == 0) {
+      return UNLIMITED;
+    }
+    return new RateLimiter(limits, System::nanoTime);
+  }
+
+  /** @return a limiter that admits every call */
+  public static RateLimiter unlimited() {
+
+    return UNLIMITED;
+  }
+
+  /** @return true if this limiter enforces no limit */
+  public boolean isUnlimited() {
+
+    return limits.length == 0;
+  }
+
+  /** @return a copy of the limits enforced by this limiter */
+  public RateLimit[] getLimits() {
+
+    return limits.clone();
+  }
+
+  /** @return true if a call of weight 1 was admitted now */
+  public boolean tryAcquire() {
+
+    return tryAcquire(1);
+  }
+
+  /**
+   * Admits a call only if it can go out immediately, never blocks.
+   *
+   * @param weight the number of units the call consumes
+   * @return true if the call was admitted
+   */
+  public boolean tryAcquire(int weight) {
+
+    return reserve(weight, 0) == 0;
+  }
+
+  /**
+   * Admits a call if it can go out within the timeout, waiting for it if necessary.
+   *
+   * @param weight the number of units the call consumes
+   * @param timeout the longest time to wait
+   * @param unit the unit of the timeout
+   * @return true if the call was admitted, false if the timeout would have been exceeded, in which
+   *     case nothing is consumed
+   * @throws InterruptedException if interrupted while waiting; the units stay consumed
+   */
+  public boolean tryAcquire(int weight, long timeout, TimeUnit unit) throws InterruptedException {
+
+    long waitNanos = reserve(weight, unit.toNanos(timeout));
+    if (waitNanos < 0) {
+      return false;
+    }
+    TimeUnit.NANOSECONDS.sleep(waitNanos);
+    return true;
+  }
+
+  /**
+   * Waits until a call of weight 1 is admitted.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void acquire() throws InterruptedException {
+
+    acquire(1);
+  }
+
+  /**
+   * Waits until a call is admitted.
+   *
+   * @param weight the number of units the call consumes
+   * @throws InterruptedException if interrupted while waiting; the units stay consumed
+   */
+  public void acquire(int weight) throws InterruptedException {
+
+    TimeUnit.NANOSECONDS.sleep(reserve(weight, Long.MAX_VALUE));
+  }
+
+  /**
+   * Consumes units for a call that may go out after a delay. Callers that schedule work rather than
+   * block can use the returned delay directly.
+   *
+   * @param weight the number of units the call consumes
+   * @param maxWaitNanos the longest acceptable delay
+   * @return the delay in nanoseconds after which the call may go out, or -1 if the delay would
+   *     exceed {@code maxWaitNanos}, in which case nothing is consumed
+   */
+  public long reserve(int weight, long maxWaitNanos) {
+
+    if (weight <= 0 || weight > maxWeight) {
+      throw new IllegalArgumentException(
+          "Weight must be between 1 and " + maxWeight + " but was " + weight);
+    }
+    if (limits.length == 0) {
+      return 0;
+    }
+
+    while (true) {
+      long now = clock.getAsLong();
+      long[] current = arrivalTimes.get();
+      long[] next = new long[current.length];
+      long waitNanos = 0;
+      for (int i = 0; i < current.length; i++) {
+        // compare relative to now, nanoTime values may be negative or wrap
+        long start = current[i] - now > 0 ? current[i] : now;
+        next[i] = start + intervalNanos[i] * weight;
+        waitNanos = Math.max(waitNanos, next[i] - periodNanos[i] - now);
+      }
+      if (waitNanos > maxWaitNanos) {
+        return -1;
+      }
+      if (arrivalTimes.compareAndSet(current, next)) {
+        return waitNanos;
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "RateLimiter [limits=" + Arrays.toString(limits) + "]";
+  }
+}
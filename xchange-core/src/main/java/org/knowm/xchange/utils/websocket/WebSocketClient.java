@@ -0,0 +1,490 @@
+package org.knowm.xchange.utils.websocket;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A minimal WebSocket (RFC 6455) client for the streaming APIs of exchanges, using only the JDK,
+ * which has no WebSocket client before Java 11. It supports {@code ws} and {@code wss} URIs, text
+ * messages including fragmented ones, ping and close. Binary messages are ignored.
+ *
+ * <p>Messages are received on a daemon thread of the connection, which calls the {@link Listener}.
+ * {@link #send(String)} may be called from any thread.
+ *
+ * <p>A connection whose server goes quiet is pinged once it has received nothing for the ping
+ * interval. If nothing arrives for another interval, the connection is taken as dead, closed and
+ * reported to {@link Listener#onClose(Throwable)} with a {@link SocketTimeoutException}, so that a
+ * half-open TCP connection does not silently stop the stream.
+ */
+public final class WebSocketClient implements Closeable {
+
+  /** Receives the messages and the end of a connection. */
+  public interface Listener {
+
+    /** @param message a text message */
+    void onMessage(String message);
+
+    /**
+     * Called once when the server closed the connection or it failed, but not after {@link
+     * #close()}.
+     *
+     * @param error the failure, null if the server closed the connection normally
+     */
+    default void onClose(Throwable error) {}
+  }
+
+  static final int CONTINUATION = 0x0;
+  static final int TEXT = 0x1;
+  static final int BINARY = 0x2;
+  static final int CLOSE = 0x8;
+  static final int PING = 0x9;
+  static final int PONG = 0xA;
+
+  static final int MAX_MESSAGE_LENGTH = 64 * 1024 * 1024;
+
+  /** The default time without messages after which the server is pinged, in milliseconds */
+  public static final int DEFAULT_PING_INTERVAL = 30_000;
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebSocketClient.class);
+  private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+  private static final int NORMAL_CLOSURE = 1000;
+
+  private final URI uri;
+  private final Socket socket;
+  private final InputStream in;
+  private final OutputStream out;
+  private final Listener listener;
+  private final int pingIntervalMillis;
+
+  private volatile boolean closed;
+
+  private WebSocketClient(
+      URI uri,
+      Socket socket,
+      InputStream in,
+      OutputStream out,
+      Listener listener,
+      int pingIntervalMillis) {
+
+    this.uri = uri;
+    this.socket = socket;
+    this.in = in;
+    this.out = out;
+    this.listener = listener;
+    this.pingIntervalMillis = pingIntervalMillis;
+  }
+
+  /**
+   * Opens a connection with a 10 second timeout.
+   *
+   * @see #connect(URI, Listener, int)
+   */
+  public static WebSocketClient connect(URI uri, Listener listener) throws IOException {
+
+    return connect(uri, listener, 10_000);
+  }
+
+  /**
+   * Opens a connection pinging the server after {@link #DEFAULT_PING_INTERVAL} without messages.
+   *
+   * @see #connect(URI, Listener, int, int)
+   */
+  public static WebSocketClient connect(URI uri, Listener listener, int timeoutMillis)
+      throws IOException {
+
+    return connect(uri, listener, timeoutMillis, DEFAULT_PING_INTERVAL);
+  }
+
+  /**
+   * Opens a connection and starts receiving messages.
+   *
+   * @param uri a {@code ws} or {@code wss} URI
+   * @param listener the listener for messages
+   * @param timeoutMillis the timeout for connecting and the opening handshake
+   * @param pingIntervalMillis the time without messages after which the server is pinged, and after
+   *     which the connection fails if the ping is not answered either
+   * @return the open connection
+   * @throws IOException if the connection or the handshake failed
+   */
+  public static WebSocketClient connect(
+      URI uri, Listener listener, int timeoutMillis, int pingIntervalMillis) throws IOException {
+
+    if (pingIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Ping interval must be positive: " + pingIntervalMillis);
+    }
+    boolean secure = "wss".equalsIgnoreCase(uri.getScheme());
+    if (!secure && !"ws".equalsIgnoreCase(uri.getScheme())) {
+      throw new IllegalArgumentException("Not a WebSocket URI: " + uri);
+    }
+    int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+    Socket socket = new Socket();
+    try {
+      socket.connect(new InetSocketAddress(uri.getHost(), port), timeoutMillis);
+      if (secure) {
+        SSLSocket sslSocket =
+            (SSLSocket)
+                ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(socket, uri.getHost(), port, true);
+        SSLParameters parameters = sslSocket.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        sslSocket.setSSLParameters(parameters);
+        socket = sslSocket;
+      }
+      socket.setSoTimeout(timeoutMillis);
+      socket.setTcpNoDelay(true);
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+      handshake(uri, port, secure, in, out);
+      socket.setSoTimeout(pingIntervalMillis);
+
+      WebSocketClient client =
+          new WebSocketClient(uri, socket, in, out, listener, pingIntervalMillis);
+      Thread reader = new Thread(client::read, "xchange-websocket-" + uri.getHost());
+      reader.setDaemon(true);
+      reader.start();
+      return client;
+    } catch (IOException | RuntimeException e) {
+      closeQuietly(socket);
+      throw e;
+    }
+  }
+
+  private static void handshake(URI uri, int port, boolean secure, InputStream in, OutputStream out)
+      throws IOException {
+
+    byte[] nonce = new byte[16];
+    ThreadLocalRandom.current().nextBytes(nonce);
+    String key = Base64.getEncoder().encodeToString(nonce);
+    String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+    if (uri.getRawQuery() != null) {
+      path += "?" + uri.getRawQuery();
+    }
+    String host = port == (secure ? 443 : 80) ? uri.getHost() : uri.getHost() + ":" + port;
+    String request =
+        "GET "
+            + path
+            + " HTTP/1.1\r\n"
+            + "Host: "
+            + host
+            + "\r\n"
+            + "Upgrade: websocket\r\n"
+            + "Connection: Upgrade\r\n"
+            + "Sec-WebSocket-Key: "
+            + key
+            + "\r\n"
+            + "Sec-WebSocket-Version: 13\r\n\r\n";
+    out.write(request.getBytes(StandardCharsets.US_ASCII));
+    out.flush();
+
+    String status = readLine(in);
+    if (!status.startsWith("HTTP/1.1 101")) {
+      throw new IOException("WebSocket handshake with " + uri + " failed: " + status);
+    }
+    String accept = null;
+    for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+      int colon = line.indexOf(':');
+      if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Accept")) {
+        accept = line.substring(colon + 1).trim();
+      }
+    }
+    if (!acceptKey(key).equals(accept)) {
+      throw new IOException("WebSocket handshake with " + uri + " failed: wrong accept key");
+    }
+  }
+
+  /** @return the {@code Sec-WebSocket-Accept} a server answers to a {@code Sec-WebSocket-Key} */
+  static String acceptKey(String key) {
+
+    try {
+      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+      byte[] digest = sha1.digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Reads a line of the HTTP handshake without reading ahead into the frames. */
+  static String readLine(InputStream in) throws IOException {
+
+    StringBuilder line = new StringBuilder();
+    for (int b = in.read(); b != '\n'; b = in.read()) {
+      if (b < 0) {
+        throw new EOFException("Connection closed during the WebSocket handshake");
+      }
+      if (b != '\r') {
+        line.append((char) b);
+      }
+    }
+    return line.toString();
+  }
+
+  /**
+   * Sends a text message.
+   *
+   * @param message the message
+   * @throws IOException if the connection failed or is closed
+   */
+  public void send(String message) throws IOException {
+
+    if (closed) {
+      throw new IOException("WebSocket to " + uri + " is closed");
+    }
+    sendFrame(TEXT, message.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void sendFrame(int opcode, byte[] payload) throws IOException {
+
+    synchronized (out) {
+      writeFrame(out, opcode, payload, true);
+    }
+  }
+
+  /** @return true until the connection is closed by either side or fails */
+  public boolean isOpen() {
+
+    return !closed;
+  }
+
+  /** Closes the connection without calling {@link Listener#onClose(Throwable)}. */
+  @Override
+  public void close() {
+
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      sendFrame(CLOSE, closePayload(NORMAL_CLOSURE));
+    } catch (IOException e) {
+      LOG.debug("Failed to send close to {}", uri, e);
+    } finally {
+      closeQuietly(socket);
+    }
+  }
+
+  private void read() {
+
+    ByteArrayOutputStream message = null;
+    Throwable error = null;
+    boolean closedByServer = false;
+    boolean pinged = false;
+    try {
+      while (!closed) {
+        int first;
+        try {
+          first = in.read();
+        } catch (SocketTimeoutException e) {
+          if (pinged) {
+            throw new SocketTimeoutException(
+                "No answer from " + uri + " within " + pingIntervalMillis + " ms of a ping");
+          }
+          sendFrame(PING, new byte[0]);
+          pinged = true;
+          continue;
+        }
+        if (first < 0) {
+          throw new EOFException("WebSocket connection closed");
+        }
+        pinged = false;
+        Frame frame = readFrame(first, in);
+        switch (frame.opcode) {
+          case TEXT:
+          case BINARY:
+            message = frame.opcode == TEXT ? new ByteArrayOutputStream() : null;
+            // fall through
+          case CONTINUATION:
+            if (message != null) {
+              message.write(frame.payload);
+              if (message.size() > MAX_MESSAGE_LENGTH) {
+                throw new IOException("Message from " + uri + " is too long");
+              }
+              if (frame.fin) {
+                deliver(message.toString(StandardCharsets.UTF_8.name()));
+                message = null;
+              }
+            }
+            break;
+          case PING:
+            sendFrame(PONG, frame.payload);
+            break;
+          case PONG:
+            break;
+          case CLOSE:
+            if (!closed) {
+              closed = true;
+              closedByServer = true;
+              sendFrame(CLOSE, closePayload(NORMAL_CLOSURE));
+            }
+            break;
+          default:
+            throw new IOException("Unknown WebSocket opcode " + frame.opcode + " from " + uri);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      error = e;
+    } finally {
+      closeQuietly(socket);
+    }
+    if (closedByServer || !closed) {
+      closed = true;
+      listener.onClose(closedByServer ? null : error);
+    }
+  }
+
+  private void deliver(String message) {
+
+    try {
+      listener.onMessage(message);
+    } catch (RuntimeException e) {
+      LOG.warn("WebSocket listener failed on message from {}", uri, e);
+    }
+  }
+
+  private static byte[] closePayload(int code) {
+
+    return new byte[] {(byte) (code >>> 8), (byte) code};
+  }
+
+  /** One frame of a message. */
+  static final class Frame {
+
+    final boolean fin;
+    final int opcode;
+    final byte[] payload;
+
+    Frame(boolean fin, int opcode, byte[] payload) {
+
+      this.fin = fin;
+      this.opcode = opcode;
+      this.payload = payload;
+    }
+  }
+
+  /** Reads a frame, unmasking the payload if it is masked. */
+  static Frame readFrame(InputStream in) throws IOException {
+
+    return readFrame(readByte(in), in);
+  }
+
+  /** Reads the rest of a frame whose first byte was read. */
+  static Frame readFrame(int first, InputStream in) throws IOException {
+
+    int second = readByte(in);
+    long length = second & 0x7F;
+    if (length == 126) {
+      length = (readByte(in) << 8) | readByte(in);
+    } else if (length == 127) {
+      length = 0;
+      for (int i = 0; i < 8; i++) {
+        length = (length << 8) | readByte(in);
+      }
+    }
+    if (length < 0 || length > MAX_MESSAGE_LENGTH) {
+      throw new IOException("WebSocket frame of " + length + " bytes is too long");
+    }
+    byte[] mask = null;
+    if ((second & 0x80) != 0) {
+      mask = new byte[4];
+      readFully(in, mask);
+    }
+    byte[] payload = new byte[(int) length];
+    readFully(in, payload);
+    if (mask != null) {
+      for (int i = 0; i < payload.length; i++) {
+        payload[i] ^= mask[i & 3];
+      }
+    }
+    return new Frame((first & 0x80) != 0, first & 0x0F, payload);
+  }
+
+  /** Writes an unfragmented frame, masked as clients must and servers must not. */
+  static void writeFrame(OutputStream out, int opcode, byte[] payload, boolean masked)
+      throws IOException {
+
+    out.write(0x80 | opcode);
+    int maskBit = masked ? 0x80 : 0;
+    int length = payload.length;
+    if (length < 126) {
+      out.write(maskBit | length);
+    } else if (length <= 0xFFFF) {
+      out.write(maskBit | 126);
+      out.write(length >>> 8);
+      out.write(length);
+    } else {
+      out.write(maskBit | 127);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        out.write((int) ((long) length >>> shift));
+      }
+    }
+    if (masked) {
+      byte[] mask = new byte[4];
+      ThreadLocalRandom.current().nextBytes(mask);
+      out.write(mask);
+      byte[] maskedPayload = new byte[length];
+      for (int i = 0; i < length; i++) {
+        maskedPayload[i] = (byte) (payload[i] ^ mask[i & 3]);
+      }
+      out.write(maskedPayload);
+    } else {
+      out.write(payload);
+    }
+    out.flush();
+  }
+
+  private static int readByte(InputStream in) throws IOException {
+
+    int b = in.read();
+    if (b < 0) {
+      throw new EOFException("WebSocket connection closed");
+    }
+    return b;
+  }
+
+  private static void readFully(InputStream in, byte[] buffer) throws IOException {
+
+    int offset = 0;
+    while (offset < buffer.length) {
+      int read = in.read(buffer, offset, buffer.length - offset);
+      if (read < 0) {
+        throw new EOFException("WebSocket connection closed");
+      }
+      offset += read;
+    }
+  }
+
+  private static void closeQuietly(Socket socket) {
+
+    try {
+      socket.close();
+    } catch (IOException e) {
+      // already failed
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "WebSocketClient [" + uri + (closed ? ", closed" : "") + "]";
+  }
+}
@@ -3,6 +3,7 @@ package org.knowm.xchange;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 
 public class CurrencyPairTest {
@@ -53,4 +54,24 @@ public class CurrencyPairTest {
     assertThat(CurrencyPair.BTC_CAD.base.getCurrencyCode()).isEqualTo("BTC");
     assertThat(CurrencyPair.BTC_CAD.counter.getCurrencyCode()).isEqualTo("CAD");
   }
+
+  @Test
+  public void testValueOfReturnsCanonicalInstance() {
+
+    assertThat(CurrencyPair.valueOf("BTC/USD")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(CurrencyPair.valueOf("btc/usd")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(CurrencyPair.valueOf(Currency.ETH, Currency.BTC)).isSameAs(CurrencyPair.ETH_BTC);
+    assertThat(CurrencyPair.intern(new CurrencyPair("LTC/EUR"))).isSameAs(CurrencyPair.LTC_EUR);
+
+    CurrencyPair pair = CurrencyPair.valueOf("ABCX/DEFX");
+    assertThat(pair.base.getCurrencyCode()).isEqualTo("ABCX");
+    assertThat(CurrencyPair.valueOf("ABCX/DEFX")).isSameAs(pair);
+    assertThat(CurrencyPair.valueOf("abcx/defx")).isSameAs(pair);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testValueOfInvalid() {
+
+    CurrencyPair.valueOf("BTCUSD");
+  }
 }
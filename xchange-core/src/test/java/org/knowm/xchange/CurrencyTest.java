@@ -2,7 +2,14 @@ package org.knowm.xchange;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
@@ -45,4 +52,34 @@ public class CurrencyTest {
     assertEquals("XBT", Currency.XBT.toString());
     assertEquals("BTC", Currency.BTC.toString());
   }
+
+  @Test
+  public void testGetInstanceReturnsRegisteredInstance() {
+    assertSame(Currency.ETH, Currency.getInstance("ETH"));
+    assertSame(Currency.ETH, Currency.getInstance("eth"));
+    assertSame(Currency.ETH, Currency.getInstance("Eth"));
+    assertSame(Currency.ETH, Currency.getInstanceNoCreate("eth"));
+  }
+
+  @Test
+  public void testConcurrentCreation() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<Currency>> tasks = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String code = i % 2 == 0 ? "zzconcurrent" : "ZZCONCURRENT";
+        tasks.add(() -> Currency.getInstance(code));
+      }
+      Currency first = null;
+      for (Future<Currency> future : executor.invokeAll(tasks)) {
+        if (first == null) {
+          first = future.get();
+        }
+        assertSame(first, future.get());
+      }
+      assertEquals("ZZCONCURRENT", first.getCurrencyCode());
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,105 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.marketdata.PollingStreamingMarketDataService;
+import org.knowm.xchange.service.marketdata.StreamingMarketDataService;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class ExchangeFactoryTest {
+
+  @Test
+  public void testCreateExchangesInParallel() {
+
+    List<ExchangeSpecification> specifications = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      ExchangeSpecification specification = new ExchangeSpecification(SlowExchange.class.getName());
+      specification.setExchangeSpecificParametersItem("index", i);
+      specifications.add(specification);
+    }
+    ExchangeSpecification failing = new ExchangeSpecification(SlowExchange.class.getName());
+    failing.setExchangeSpecificParametersItem("fail", true);
+    specifications.add(3, failing);
+    specifications.add(new ExchangeSpecification("org.knowm.xchange.NoSuchExchange"));
+
+    List<ExchangeStartup> startups = ExchangeFactory.INSTANCE.createExchanges(specifications, 3);
+
+    assertThat(SlowExchange.maxStarting).hasValue(3);
+    assertThat(startups).hasSize(12);
+    for (int i = 0; i < startups.size(); i++) {
+      ExchangeStartup startup = startups.get(i);
+      assertThat(startup.getExchangeSpecification()).isSameAs(specifications.get(i));
+      if (i == 3 || i == 11) {
+        assertThat(startup.isSuccessful()).isFalse();
+        assertThat(startup.getExchange()).isNull();
+        assertThat(startup.getError()).isInstanceOf(ExchangeException.class);
+      } else {
+        assertThat(startup.isSuccessful()).isTrue();
+        assertThat(startup.getExchange().getExchangeSpecification())
+            .isSameAs(specifications.get(i));
+        assertThat(startup.getDuration(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+      }
+    }
+  }
+
+  @Test
+  public void testStreamingMarketDataServiceIsShared() {
+
+    ExchangeSpecification specification = new ExchangeSpecification(SlowExchange.class.getName());
+    specification.setShouldLoadRemoteMetaData(false);
+    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(specification);
+
+    StreamingMarketDataService streaming = exchange.getStreamingMarketDataService();
+    try {
+      assertThat(streaming).isInstanceOf(PollingStreamingMarketDataService.class);
+      assertThat(exchange.getStreamingMarketDataService()).isSameAs(streaming);
+    } finally {
+      ((PollingStreamingMarketDataService) streaming).shutdown();
+    }
+  }
+
+  public static class SlowExchange extends BaseExchange {
+
+    static final AtomicInteger starting = new AtomicInteger();
+    static final AtomicInteger maxStarting = new AtomicInteger();
+
+    @Override
+    public void remoteInit() {
+
+      maxStarting.accumulateAndGet(starting.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        starting.decrementAndGet();
+      }
+      if (exchangeSpecification.getExchangeSpecificParametersItem("fail") != null) {
+        throw new ExchangeException("Failed to initialize");
+      }
+    }
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      ExchangeSpecification specification = new ExchangeSpecification(getClass());
+      specification.setExchangeName("Slow");
+      return specification;
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+}
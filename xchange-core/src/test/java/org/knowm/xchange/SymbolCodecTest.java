@@ -0,0 +1,79 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
+
+public class SymbolCodecTest {
+
+  private final AtomicInteger encoded = new AtomicInteger();
+  private final AtomicInteger decoded = new AtomicInteger();
+
+  private final SymbolCodec codec =
+      new SymbolCodec(
+          pair -> {
+            encoded.incrementAndGet();
+            return pair.base.getCurrencyCode() + "-" + pair.counter.getCurrencyCode();
+          },
+          symbol -> {
+            decoded.incrementAndGet();
+            return new CurrencyPair(symbol.replace('-', '/'));
+          });
+
+  @Test
+  public void testRegisteredSymbols() {
+
+    codec.register(CurrencyPair.BTC_USD, "XXBTZUSD");
+
+    assertThat(codec.encode(CurrencyPair.BTC_USD)).isEqualTo("XXBTZUSD");
+    assertThat(codec.decode("XXBTZUSD")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(codec.isRegistered(new CurrencyPair("BTC", "USD"))).isTrue();
+    assertThat(codec.isRegistered(CurrencyPair.ETH_BTC)).isFalse();
+    assertThat(encoded.get()).isZero();
+    assertThat(decoded.get()).isZero();
+  }
+
+  @Test
+  public void testRegisterAllUsesEncoder() {
+
+    codec.registerAll(Arrays.asList(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC));
+
+    assertThat(codec.getRegisteredPairs())
+        .containsExactlyInAnyOrder(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC);
+    assertThat(codec.decode("ETH-BTC")).isSameAs(CurrencyPair.ETH_BTC);
+    assertThat(decoded.get()).isZero();
+  }
+
+  @Test
+  public void testComputedTranslationsAreRemembered() {
+
+    assertThat(codec.encode(CurrencyPair.LTC_BTC)).isEqualTo("LTC-BTC");
+    assertThat(codec.encode(new CurrencyPair("LTC", "BTC"))).isEqualTo("LTC-BTC");
+    assertThat(encoded.get()).isEqualTo(1);
+
+    CurrencyPair pair = codec.decode("LTC-BTC");
+    assertThat(pair).isSameAs(CurrencyPair.LTC_BTC);
+    assertThat(codec.decode("LTC-BTC")).isSameAs(pair);
+    assertThat(decoded.get()).isEqualTo(1);
+    assertThat(codec.isRegistered(pair)).isFalse();
+  }
+
+  @Test
+  public void testWithoutEncoderAndDecoder() {
+
+    SymbolCodec registeredOnly = new SymbolCodec(null, null);
+    registeredOnly.register(CurrencyPair.BTC_EUR, "XXBTZEUR");
+
+    assertThat(registeredOnly.encode(CurrencyPair.BTC_EUR)).isEqualTo("XXBTZEUR");
+    assertThat(registeredOnly.encode(CurrencyPair.BTC_USD)).isNull();
+    assertThat(registeredOnly.decode("XXBTZUSD")).isNull();
+
+    registeredOnly.clear();
+    assertThat(registeredOnly.encode(CurrencyPair.BTC_EUR)).isNull();
+    assertThat(registeredOnly.getRegisteredPairs()).isEmpty();
+  }
+}
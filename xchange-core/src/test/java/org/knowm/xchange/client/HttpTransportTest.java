@@ -0,0 +1,136 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeSpecification;
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.IRestProxyFactory;
+import si.mazi.rescu.Interceptor;
+
+public class HttpTransportTest {
+
+  public interface Api {
+
+    String call();
+  }
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final List<Interceptor[]> created = new ArrayList<>();
+
+  /** Builds the interceptor chain the way rescu does, around a slow call */
+  private final IRestProxyFactory fakeFactory =
+      new IRestProxyFactory() {
+
+        @Override
+        public <I> I createProxy(
+            Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... ics) {
+
+          created.add(ics);
+          InvocationHandler handler =
+              (proxy, method, args) -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                inFlight.decrementAndGet();
+                return baseUrl;
+              };
+          for (Interceptor interceptor : ics) {
+            InvocationHandler inner = handler;
+            handler = (proxy, method, args) -> interceptor.aroundInvoke(inner, proxy, method, args);
+          }
+          return restInterface.cast(
+              Proxy.newProxyInstance(
+                  restInterface.getClassLoader(), new Class<?>[] {restInterface}, handler));
+        }
+
+        @Override
+        public <I> I createProxy(Class<I> restInterface, String baseUrl) {
+
+          return createProxy(restInterface, baseUrl, null);
+        }
+      };
+
+  @Test
+  public void testLimitsConcurrentRequestsPerHostAcrossProxies() throws Exception {
+
+    HttpTransport transport = new HttpTransport(fakeFactory, 2);
+    Api v1 = transport.createProxy(Api.class, "https://api.example.com/v1", new ClientConfig());
+    Api v2 = transport.createProxy(Api.class, "https://api.example.com/v2", new ClientConfig());
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        Api api = i % 2 == 0 ? v1 : v2;
+        results.add(executor.submit(api::call));
+      }
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("https://api.example.com/");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(maxInFlight.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testConnectionLimitIsInnermostInterceptor() {
+
+    Interceptor rateLimit = (handler, proxy, method, args) -> handler.invoke(proxy, method, args);
+    new HttpTransport(fakeFactory, 1)
+        .createProxy(Api.class, "https://api.example.com", new ClientConfig(), rateLimit);
+    new HttpTransport(fakeFactory, 0)
+        .createProxy(Api.class, "https://api.example.com", new ClientConfig(), rateLimit);
+
+    assertThat(created.get(0)).hasSize(2);
+    assertThat(created.get(0)[1]).isSameAs(rateLimit);
+    assertThat(created.get(1)).containsExactly(rateLimit);
+  }
+
+  @Test
+  public void testLazyProxyIsCreatedOnFirstCall() {
+
+    HttpTransport transport = new HttpTransport(fakeFactory, 1);
+    Api api = transport.createLazyProxy(Api.class, "https://api.example.com", new ClientConfig());
+
+    assertThat(api.toString()).contains(Api.class.getName());
+    assertThat(api).isEqualTo(api);
+    assertThat(created).isEmpty();
+
+    assertThat(api.call()).isEqualTo("https://api.example.com");
+    assertThat(api.call()).isEqualTo("https://api.example.com");
+    assertThat(created).hasSize(1);
+    assertThat(created.get(0)).hasSize(1);
+  }
+
+  @Test
+  public void testFromSpecification() {
+
+    ExchangeSpecification specification = new ExchangeSpecification("test");
+    assertThat(HttpTransport.of(specification).getMaxConnectionsPerHost()).isZero();
+
+    specification.setRestProxyFactory(fakeFactory);
+    specification.setHttpMaxConnectionsPerHost(4);
+    HttpTransport transport = HttpTransport.of(specification);
+    assertThat(transport.getRestProxyFactory()).isSameAs(fakeFactory);
+    assertThat(transport.getMaxConnectionsPerHost()).isEqualTo(4);
+  }
+
+  @Test
+  public void testHostOf() {
+
+    assertThat(HttpTransport.hostOf("https://api.example.com/v1")).isEqualTo("api.example.com");
+    assertThat(HttpTransport.hostOf("http://localhost:8080")).isEqualTo("localhost:8080");
+    assertThat(HttpTransport.hostOf("not a url")).isEqualTo("not a url");
+  }
+}
@@ -0,0 +1,146 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class IndexedOrderBookTest {
+
+  private IndexedOrderBook book;
+
+  @Before
+  public void setUp() {
+
+    List<LimitOrder> asks =
+        Arrays.asList(ask("11", "1"), ask("12", "2"), ask("12.00", "0.5"), ask("13", "3"));
+    List<LimitOrder> bids = Arrays.asList(bid("10", "1"), bid("9", "2"));
+    book = IndexedOrderBook.of(CurrencyPair.BTC_USD, new OrderBook(new Date(0), asks, bids));
+  }
+
+  @Test
+  public void testSnapshotIsAggregatedAndSorted() {
+
+    assertThat(book.getDepth(OrderType.ASK)).isEqualTo(3);
+    assertThat(book.getVolume(OrderType.ASK, new BigDecimal("12"))).isEqualByComparingTo("2.5");
+    assertThat(book.getBestPrice(OrderType.ASK)).isEqualByComparingTo("11");
+    assertThat(book.getBestPrice(OrderType.BID)).isEqualByComparingTo("10");
+  }
+
+  @Test
+  public void testUpdateAddReplaceRemove() {
+
+    book.update(update(OrderType.BID, "9.5", "4", 5));
+    book.update(update(OrderType.BID, "10", "7", 6));
+    book.update(update(OrderType.ASK, "11", "0", 7));
+
+    assertThat(book.getDepth(OrderType.BID)).isEqualTo(3);
+    assertThat(book.getVolume(OrderType.BID, new BigDecimal("10"))).isEqualByComparingTo("7");
+    assertThat(book.getBestPrice(OrderType.ASK)).isEqualByComparingTo("12");
+    assertThat(book.getTimeStamp()).isEqualTo(new Date(7));
+  }
+
+  @Test
+  public void testExitOrdersGoToTheSideTheyTrade() {
+
+    // closing a short buys, closing a long sells
+    book.update(update(OrderType.EXIT_ASK, "9.5", "4", 5));
+    book.update(update(OrderType.EXIT_BID, "10.5", "3", 6));
+
+    assertThat(book.getBestPrice(OrderType.BID)).isEqualByComparingTo("10");
+    assertThat(book.getVolume(OrderType.BID, new BigDecimal("9.5"))).isEqualByComparingTo("4");
+    assertThat(book.getBestPrice(OrderType.ASK)).isEqualByComparingTo("10.5");
+    assertThat(book.getLevels(OrderType.EXIT_BID)).isEqualTo(book.getLevels(OrderType.ASK));
+  }
+
+  @Test
+  public void testMatchesOrderBookUpdate() {
+
+    OrderBook reference =
+        new OrderBook(
+            new Date(0),
+            new ArrayList<>(Arrays.asList(ask("11", "1"), ask("12", "2"))),
+            new ArrayList<>(Arrays.asList(bid("10", "1"), bid("9", "2"))));
+    IndexedOrderBook indexed = IndexedOrderBook.of(CurrencyPair.BTC_USD, reference);
+
+    List<OrderBookUpdate> updates =
+        Arrays.asList(
+            update(OrderType.ASK, "11.5", "3", 1),
+            update(OrderType.BID, "9", "0", 2),
+            update(OrderType.BID, "8", "5", 3),
+            update(OrderType.ASK, "12", "1", 4));
+    for (OrderBookUpdate update : updates) {
+      reference.update(update);
+      indexed.update(update);
+    }
+
+    OrderBook snapshot = indexed.toOrderBook();
+    assertSameLevels(snapshot.getAsks(), reference.getAsks());
+    assertSameLevels(snapshot.getBids(), reference.getBids());
+  }
+
+  @Test
+  public void testTopN() {
+
+    OrderBook top = book.toOrderBook(2);
+    assertThat(top.getAsks()).hasSize(2);
+    assertThat(top.getAsks().get(1).getLimitPrice()).isEqualByComparingTo("12");
+    assertThat(top.getBids()).hasSize(2);
+
+    List<BigDecimal> prices = new ArrayList<>();
+    book.forEachLevel(OrderType.BID, 1, (price, volume) -> prices.add(price));
+    assertThat(prices).containsExactly(new BigDecimal("10"));
+  }
+
+  private static void assertSameLevels(List<LimitOrder> actual, List<LimitOrder> expected) {
+
+    assertThat(actual).hasSameSizeAs(expected);
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(actual.get(i).getLimitPrice())
+          .isEqualByComparingTo(expected.get(i).getLimitPrice());
+      assertThat(actual.get(i).getOriginalAmount())
+          .isEqualByComparingTo(expected.get(i).getOriginalAmount());
+    }
+  }
+
+  private static LimitOrder ask(String price, String amount) {
+
+    return new LimitOrder(
+        OrderType.ASK,
+        new BigDecimal(amount),
+        CurrencyPair.BTC_USD,
+        "",
+        null,
+        new BigDecimal(price));
+  }
+
+  private static LimitOrder bid(String price, String amount) {
+
+    return new LimitOrder(
+        OrderType.BID,
+        new BigDecimal(amount),
+        CurrencyPair.BTC_USD,
+        "",
+        null,
+        new BigDecimal(price));
+  }
+
+  private static OrderBookUpdate update(OrderType type, String price, String volume, long time) {
+
+    return new OrderBookUpdate(
+        type,
+        new BigDecimal(volume),
+        CurrencyPair.BTC_USD,
+        new BigDecimal(price),
+        new Date(time),
+        new BigDecimal(volume));
+  }
+}
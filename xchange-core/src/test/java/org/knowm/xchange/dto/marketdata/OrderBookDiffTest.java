@@ -0,0 +1,144 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class OrderBookDiffTest {
+
+  @Test
+  public void testDiffAddsChangesAndRemovesLevels() {
+
+    OrderBook previous =
+        new OrderBook(
+            new Date(0),
+            Arrays.asList(ask("11", "1"), ask("12", "2"), ask("13", "3")),
+            Arrays.asList(bid("10", "1"), bid("9", "2"), bid("8", "3")));
+    OrderBook current =
+        new OrderBook(
+            new Date(1),
+            Arrays.asList(ask("10.5", "4"), ask("11", "1"), ask("12", "2.5")),
+            Arrays.asList(bid("10", "1.00"), bid("8", "3"), bid("7", "1")));
+
+    List<OrderBookUpdate> updates = OrderBookDiff.diff(previous, current);
+
+    assertThat(updates)
+        .extracting(
+            update ->
+                update.getLimitOrder().getType()
+                    + " "
+                    + update.getLimitOrder().getLimitPrice()
+                    + " "
+                    + update.getTotalVolume())
+        .containsExactly("ASK 10.5 4", "ASK 12 2.5", "ASK 13 0", "BID 9 0", "BID 7 1");
+    assertThat(updates)
+        .allMatch(update -> new Date(1).equals(update.getLimitOrder().getTimestamp()));
+  }
+
+  @Test
+  public void testAppliedDiffReproducesTheSnapshot() {
+
+    OrderBook previous =
+        new OrderBook(
+            null,
+            Arrays.asList(ask("11", "1"), ask("12", "2"), ask("12", "0.5"), ask("14", "3")),
+            Arrays.asList(bid("10", "1"), bid("9", "2")));
+    OrderBook current =
+        new OrderBook(
+            null,
+            Arrays.asList(ask("12", "2.5"), ask("13", "1"), ask("14", "3")),
+            Collections.singletonList(bid("9.5", "2")));
+
+    // the previous book has two orders at 12, which add up to the same level
+    List<OrderBookUpdate> updates = OrderBookDiff.diff(previous, current);
+    assertThat(updates).hasSize(5);
+
+    IndexedOrderBook book = IndexedOrderBook.of(CurrencyPair.BTC_USD, previous);
+    updates.forEach(book::update);
+    assertThat(OrderBookDiff.diff(book.toOrderBook(), current)).isEmpty();
+  }
+
+  @Test
+  public void testOrdersEqualIgnoresTimestamps() {
+
+    OrderBook book =
+        new OrderBook(
+            new Date(0), new ArrayList<>(Arrays.asList(ask("11", "1"))), new ArrayList<>());
+    OrderBook later =
+        new OrderBook(new Date(1), Arrays.asList(ask("11", "1")), Collections.emptyList());
+
+    assertThat(book.ordersEqual(later)).isTrue();
+    assertThat(book).isNotEqualTo(later);
+    assertThat(book.ordersEqual(null)).isFalse();
+
+    book.getAsks().add(ask("12", "1"));
+    assertThat(book.ordersEqual(later)).isFalse();
+  }
+
+  @Test
+  public void testKrakenChecksum() {
+
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      asks.add(ask("0.0" + (5005 + i), "0.00000500"));
+      bids.add(bid("0.0" + (5000 - i), "1.00000000"));
+    }
+    OrderBook book = new OrderBook(null, asks, bids);
+
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      expected.append(5005 + i).append("500");
+    }
+    for (int i = 0; i < 10; i++) {
+      expected.append(5000 - i).append("100000000");
+    }
+    assertThat(OrderBookDiff.krakenChecksum(book)).isEqualTo(crc32(expected.toString()));
+  }
+
+  @Test
+  public void testOkexChecksum() {
+
+    OrderBook book =
+        new OrderBook(
+            null,
+            Arrays.asList(ask("3366.8", "9"), ask("3368", "8")),
+            Collections.singletonList(bid("3366.1", "7")));
+
+    assertThat(OrderBookDiff.okexChecksum(book)).isEqualTo((int) crc32("3366.1:7:3366.8:9:3368:8"));
+  }
+
+  private static long crc32(String text) {
+
+    CRC32 crc32 = new CRC32();
+    crc32.update(text.getBytes(StandardCharsets.US_ASCII));
+    return crc32.getValue();
+  }
+
+  private static LimitOrder ask(String price, String amount) {
+
+    return order(OrderType.ASK, price, amount);
+  }
+
+  private static LimitOrder bid(String price, String amount) {
+
+    return order(OrderType.BID, price, amount);
+  }
+
+  private static LimitOrder order(OrderType type, String price, String amount) {
+
+    return new LimitOrder(
+        type, new BigDecimal(amount), CurrencyPair.BTC_USD, null, null, new BigDecimal(price));
+  }
+}
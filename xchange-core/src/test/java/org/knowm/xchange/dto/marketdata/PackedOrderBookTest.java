@@ -0,0 +1,125 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.jackson.OrderBookJsonReader;
+
+public class PackedOrderBookTest {
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  @Test
+  public void testReadLevels() throws IOException {
+
+    PackedOrderBook book = new PackedOrderBook();
+    JsonParser parser =
+        parser("[[\"100.10\",\"1.5\",[]],[100.2,2,{\"a\":[1]}],[\"100.3\",\"0.25\"]]");
+    OrderBookJsonReader.readLevels(parser, OrderType.ASK, book);
+
+    assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+    assertThat(parser.nextToken()).isNull();
+    assertThat(book.size(OrderType.ASK)).isEqualTo(3);
+    assertThat(book.size(OrderType.BID)).isZero();
+
+    OrderBook orderBook = book.toOrderBook(CurrencyPair.BTC_USD);
+    assertThat(orderBook.getTimeStamp()).isNull();
+    LimitOrder first = orderBook.getAsks().get(0);
+    assertThat(first.getLimitPrice()).isEqualTo(new BigDecimal("100.10"));
+    assertThat(first.getOriginalAmount()).isEqualTo(new BigDecimal("1.5"));
+    assertThat(first.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(first.getId()).isNull();
+    assertThat(orderBook.getAsks().get(1).getLimitPrice()).isEqualTo(new BigDecimal("100.2"));
+    assertThat(orderBook.getAsks().get(2).getOriginalAmount()).isEqualTo(new BigDecimal("0.25"));
+  }
+
+  @Test
+  public void testRowHandlerReadsTrailingValues() throws IOException {
+
+    PackedOrderBook book = new PackedOrderBook();
+    JsonParser parser = parser("[[\"10\",\"1\",\"a\",5],[\"11\",\"2\",\"b\",7]]");
+    OrderBookJsonReader.readRows(
+        parser,
+        (price, amount, p) -> {
+          String id = p.getText();
+          p.nextToken();
+          book.accept(OrderType.BID, price, amount, id, new Date(p.getLongValue()));
+        });
+
+    assertThat(book.getTimeStamp()).isEqualTo(new Date(7));
+    OrderBook orderBook = book.toOrderBook(CurrencyPair.BTC_USD);
+    assertThat(orderBook.getBids()).extracting(LimitOrder::getId).containsExactly("a", "b");
+  }
+
+  @Test
+  public void testNullSide() throws IOException {
+
+    PackedOrderBook book = new PackedOrderBook();
+    OrderBookJsonReader.readLevels(parser("null"), OrderType.ASK, book);
+
+    assertThat(book.size(OrderType.ASK)).isZero();
+  }
+
+  @Test(expected = JsonMappingException.class)
+  public void testRejectsMalformedDecimal() throws IOException {
+
+    OrderBookJsonReader.readLevels(
+        parser("[[\"1.0.0\",\"1\"]]"), OrderType.ASK, new PackedOrderBook());
+  }
+
+  @Test
+  public void testGrowsAndReplaysIntoIndexedOrderBook() {
+
+    PackedOrderBook book = new PackedOrderBook();
+    for (int i = 0; i < 100; i++) {
+      book.accept(OrderType.BID, BigDecimal.valueOf(i % 10), BigDecimal.ONE, "id" + i, null);
+    }
+    book.accept(OrderType.ASK, BigDecimal.TEN, BigDecimal.ONE, null, null);
+
+    IndexedOrderBook indexed = new IndexedOrderBook(CurrencyPair.BTC_USD);
+    book.forEach(indexed);
+
+    assertThat(indexed.getDepth(OrderType.BID)).isEqualTo(10);
+    assertThat(indexed.getVolume(OrderType.BID, BigDecimal.ZERO)).isEqualTo(BigDecimal.TEN);
+    assertThat(indexed.getBestPrice(OrderType.ASK)).isEqualTo(BigDecimal.TEN);
+  }
+
+  @Test
+  public void testExitOrdersGoToTheSideTheyTrade() {
+
+    PackedOrderBook book = new PackedOrderBook();
+    // closing a short buys, closing a long sells
+    book.accept(OrderType.EXIT_ASK, new BigDecimal("99"), BigDecimal.ONE, null, null);
+    book.accept(OrderType.EXIT_BID, new BigDecimal("101"), new BigDecimal("2"), null, null);
+
+    assertThat(book.size(OrderType.BID)).isEqualTo(1);
+    assertThat(book.size(OrderType.ASK)).isEqualTo(1);
+    OrderBook orderBook = book.toOrderBook(CurrencyPair.BTC_USD);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualTo(new BigDecimal("99"));
+    assertThat(orderBook.getAsks().get(0).getLimitPrice()).isEqualTo(new BigDecimal("101"));
+
+    // both sinks file the same rows on the same sides
+    IndexedOrderBook indexed = new IndexedOrderBook(CurrencyPair.BTC_USD);
+    indexed.accept(OrderType.EXIT_ASK, new BigDecimal("99"), BigDecimal.ONE, null, null);
+    indexed.accept(OrderType.EXIT_BID, new BigDecimal("101"), new BigDecimal("2"), null, null);
+    assertThat(indexed.getBestPrice(OrderType.BID)).isEqualTo(new BigDecimal("99"));
+    assertThat(indexed.getBestPrice(OrderType.ASK)).isEqualTo(new BigDecimal("101"));
+  }
+
+  private JsonParser parser(String json) throws IOException {
+
+    JsonParser parser = jsonFactory.createParser(json);
+    parser.nextToken();
+    return parser;
+  }
+}
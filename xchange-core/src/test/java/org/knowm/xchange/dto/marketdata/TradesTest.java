@@ -1,5 +1,7 @@
 package org.knowm.xchange.dto.marketdata;
 
+import java.util.Arrays;
+import java.util.Date;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -22,4 +24,58 @@ public class TradesTest {
       Assert.fail("Could not compare trades");
     }
   }
+
+  @Test
+  public void TradeIdOrdersAsTheComparatorDid() {
+    Assert.assertTrue(TradeId.of("99").compareTo(TradeId.of("100")) < 0);
+    Assert.assertTrue(TradeId.of("123456789012345678901").compareTo(TradeId.of("99")) > 0);
+    Assert.assertTrue(
+        TradeId.of("123456789012345678901").compareTo(TradeId.of("123456789012345678902")) < 0);
+    Assert.assertEquals(0, TradeId.of("007").compareTo(TradeId.of("7")));
+    Assert.assertEquals(0, TradeId.of("-5").compareTo(TradeId.of("-05")));
+    // both hexadecimal: "10" is 16 compared with "a"
+    Assert.assertTrue(TradeId.of("10").compareTo(TradeId.of("a")) > 0);
+    Assert.assertTrue(TradeId.of("abc").compareTo(TradeId.of("zzz")) < 0);
+    Assert.assertTrue(TradeId.of(null).compareTo(TradeId.of("zzz")) < 0);
+  }
+
+  @Test
+  public void SortByIdKeepsOrderedTradesAndSortsOthers() {
+    Trade t1 = new Trade(null, null, null, null, null, "9");
+    Trade t2 = new Trade(null, null, null, null, null, "10");
+    Trade t3 = new Trade(null, null, null, null, null, "11");
+
+    Assert.assertEquals(
+        Arrays.asList(t1, t2, t3),
+        new Trades(Arrays.asList(t1, t2, t3), Trades.TradeSortType.SortByID).getTrades());
+    Assert.assertEquals(
+        Arrays.asList(t1, t2, t3),
+        new Trades(Arrays.asList(t3, t1, t2), Trades.TradeSortType.SortByID).getTrades());
+  }
+
+  @Test
+  public void SortByIdOrdersEqualIdsByTimestamp() {
+    Trade early = new Trade(null, null, null, null, new Date(1), null);
+    Trade late = new Trade(null, null, null, null, new Date(2), null);
+    Trade undated = new Trade(null, null, null, null, null, null);
+    Trade t1 = new Trade(null, null, null, null, new Date(2), "7");
+    Trade t2 = new Trade(null, null, null, null, new Date(1), "007");
+
+    Assert.assertEquals(
+        Arrays.asList(undated, early, late, t2, t1),
+        new Trades(Arrays.asList(late, t1, early, t2, undated), Trades.TradeSortType.SortByID)
+            .getTrades());
+    Assert.assertTrue(new Trades.TradeIDComparator().compare(late, early) > 0);
+    Assert.assertTrue(new Trades.TradeIDComparator().compare(t2, t1) < 0);
+  }
+
+  @Test
+  public void SortByTimestamp() {
+    Trade t1 = new Trade(null, null, null, null, new Date(1), "2");
+    Trade t2 = new Trade(null, null, null, null, new Date(2), "1");
+
+    Assert.assertEquals(
+        Arrays.asList(t1, t2),
+        new Trades(Arrays.asList(t2, t1), Trades.TradeSortType.SortByTimestamp).getTrades());
+  }
 }
@@ -0,0 +1,102 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.utils.AsyncUtils;
+
+public class AsyncMarketDataServiceTest {
+
+  private final MarketDataService blocking =
+      new MarketDataService() {
+
+        @Override
+        public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+          if (currencyPair == CurrencyPair.ETH_BTC) {
+            throw new IOException("connection reset");
+          }
+          return new Ticker.Builder().currencyPair(currencyPair).last(BigDecimal.TEN).build();
+        }
+      };
+
+  @Test
+  public void testRunsBlockingCallOnExecutor() throws Exception {
+
+    AsyncMarketDataService async =
+        AsyncMarketDataService.of(blocking, AsyncUtils.defaultExecutor());
+
+    Ticker ticker = async.getTickerAsync(CurrencyPair.BTC_USD).get(5, TimeUnit.SECONDS);
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+  }
+
+  @Test
+  public void testExceptionsCompleteTheFuture() throws Exception {
+
+    Executor callerRuns = Runnable::run;
+    AsyncMarketDataService async = AsyncMarketDataService.of(blocking, callerRuns);
+
+    assertCause(async.getTickerAsync(CurrencyPair.ETH_BTC), IOException.class);
+    assertCause(
+        async.getOrderBookAsync(CurrencyPair.BTC_USD), NotYetImplementedForExchangeException.class);
+
+    Executor rejecting =
+        command -> {
+          throw new RejectedExecutionException();
+        };
+    assertCause(
+        AsyncMarketDataService.of(blocking, rejecting).getTickerAsync(CurrencyPair.BTC_USD),
+        RejectedExecutionException.class);
+  }
+
+  @Test
+  public void testOverrideWithNonBlockingCall() throws Exception {
+
+    OrderBook book = new OrderBook(null, Collections.emptyList(), Collections.emptyList());
+    AsyncMarketDataService async =
+        new AsyncMarketDataService() {
+
+          @Override
+          public MarketDataService getBlockingService() {
+            return blocking;
+          }
+
+          @Override
+          public Executor getExecutor() {
+            return AsyncUtils.defaultExecutor();
+          }
+
+          @Override
+          public CompletableFuture<OrderBook> getOrderBookAsync(
+              CurrencyPair currencyPair, Object... args) {
+            return CompletableFuture.completedFuture(book);
+          }
+        };
+
+    assertThat(async.getOrderBookAsync(CurrencyPair.BTC_USD).get()).isSameAs(book);
+    assertThat(async.getTickerAsync(CurrencyPair.BTC_USD).get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  private static void assertCause(CompletableFuture<?> future, Class<?> type)
+      throws InterruptedException {
+
+    try {
+      future.get();
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(type);
+      return;
+    }
+    throw new AssertionError("Expected " + type.getSimpleName());
+  }
+}
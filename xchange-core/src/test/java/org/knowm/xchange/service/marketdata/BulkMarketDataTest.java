@@ -0,0 +1,218 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.BaseExchange;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.service.BaseExchangeService;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+import org.knowm.xchange.service.marketdata.params.Params;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class BulkMarketDataTest {
+
+  private static final List<CurrencyPair> PAIRS =
+      Arrays.asList(
+          CurrencyPair.ETH_BTC, CurrencyPair.BTC_USD, CurrencyPair.LTC_USD, CurrencyPair.XRP_USD);
+
+  @Test
+  public void testTickersFromBulkCall() throws IOException {
+
+    MarketDataService service =
+        new MarketDataService() {
+
+          @Override
+          public List<Ticker> getTickers(Params params) {
+            assertThat(((CurrencyPairsParam) params).getCurrencyPairs()).isEqualTo(PAIRS);
+            // all tickers of the exchange, but none for XRP/USD
+            return Arrays.asList(
+                ticker(CurrencyPair.BTC_USD), ticker(CurrencyPair.ETH_USD),
+                ticker(CurrencyPair.LTC_USD), ticker(CurrencyPair.ETH_BTC));
+          }
+
+          @Override
+          public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+            throw new AssertionError("single ticker requested");
+          }
+        };
+
+    assertThat(service.getTickersFor(PAIRS))
+        .extracting(Ticker::getCurrencyPair)
+        .containsExactly(CurrencyPair.ETH_BTC, CurrencyPair.BTC_USD, CurrencyPair.LTC_USD);
+  }
+
+  @Test
+  public void testTickersPerPairWithoutBulkCall() throws IOException {
+
+    MarketDataService service =
+        new MarketDataService() {
+
+          @Override
+          public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+            return ticker(currencyPair);
+          }
+        };
+
+    assertThat(service.getTickersFor(PAIRS)).extracting(Ticker::getCurrencyPair).isEqualTo(PAIRS);
+  }
+
+  @Test
+  public void testOrderBooksInParallelWithinRateLimit() throws IOException {
+
+    // one call per 100ms, each taking 250ms
+    SlowService service = new SlowService(new RateLimit(1, 100, TimeUnit.MILLISECONDS));
+
+    long start = System.nanoTime();
+    Map<CurrencyPair, OrderBook> orderBooks = service.getOrderBooks(PAIRS, 10);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertThat(orderBooks.keySet()).containsExactlyElementsOf(PAIRS);
+    assertThat(service.depths).containsOnly(10);
+    assertThat(service.maxInFlight.get()).isGreaterThan(1);
+    List<Long> starts = service.starts.stream().sorted().collect(Collectors.toList());
+    for (int i = 1; i < starts.size(); i++) {
+      assertThat(starts.get(i) - starts.get(i - 1))
+          .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+    assertThat(elapsedMillis).isLessThan(4 * 250);
+  }
+
+  @Test
+  public void testOrderBooksFailWithTheFirstFailure() {
+
+    SlowService service = new SlowService();
+    service.failing = CurrencyPair.LTC_USD;
+
+    try {
+      service.getOrderBooks(PAIRS);
+      fail("expected an IOException");
+    } catch (IOException e) {
+      assertThat(e).hasMessage("LTC/USD");
+    }
+    assertThat(service.starts).hasSize(PAIRS.size());
+  }
+
+  @Test
+  public void testSingleOrderBookOnCallingThread() throws IOException {
+
+    SlowService service = new SlowService();
+
+    service.getOrderBooks(Collections.singletonList(CurrencyPair.BTC_USD));
+
+    assertThat(service.threads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void testOwnCallsSkipTheLimiterOnlyForRateLimitedProxies() throws IOException {
+
+    RateLimit limit = new RateLimit(1, 100, TimeUnit.MILLISECONDS);
+    SlowService limited =
+        new SlowService(limit) {
+          @Override
+          protected boolean isRateLimitedByProxies() {
+            return true;
+          }
+        };
+    SlowService undeclared =
+        new SlowService(limit) {
+          @Override
+          public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) {
+            try {
+              getRateLimitInterceptor();
+              fail("expected an IllegalStateException");
+            } catch (IllegalStateException expected) {
+            }
+            return null;
+          }
+        };
+
+    assertThat(limited.getPublicCallRateLimiter().isUnlimited()).isTrue();
+    assertThat(limited.getPrivateCallRateLimiter().isUnlimited()).isTrue();
+    undeclared.getOrderBook(CurrencyPair.BTC_USD);
+    assertThat(undeclared.getPublicCallRateLimiter().isUnlimited()).isFalse();
+  }
+
+  private static Ticker ticker(CurrencyPair currencyPair) {
+
+    return new Ticker.Builder().currencyPair(currencyPair).last(BigDecimal.ONE).build();
+  }
+
+  /** A service of an exchange with rate limits, whose order book calls take a while. */
+  private static class SlowService extends BaseExchangeService<TestExchange>
+      implements MarketDataService {
+
+    final ConcurrentLinkedQueue<Long> starts = new ConcurrentLinkedQueue<>();
+    final ConcurrentLinkedQueue<Object> depths = new ConcurrentLinkedQueue<>();
+    final ConcurrentLinkedQueue<String> threads = new ConcurrentLinkedQueue<>();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    volatile CurrencyPair failing;
+
+    SlowService(RateLimit... publicRateLimits) {
+
+      super(new TestExchange(publicRateLimits));
+    }
+
+    @Override
+    public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
+
+      starts.add(System.nanoTime());
+      threads.add(Thread.currentThread().getName());
+      if (args.length > 0) {
+        depths.add(args[0]);
+      }
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(250);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      if (currencyPair.equals(failing)) {
+        throw new IOException(currencyPair.toString());
+      }
+      return new OrderBook(null, Collections.emptyList(), Collections.emptyList());
+    }
+  }
+
+  private static class TestExchange extends BaseExchange {
+
+    TestExchange(RateLimit... publicRateLimits) {
+
+      exchangeMetaData = new ExchangeMetaData(null, null, publicRateLimits, null, null);
+    }
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      return new ExchangeSpecification(getClass());
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+}
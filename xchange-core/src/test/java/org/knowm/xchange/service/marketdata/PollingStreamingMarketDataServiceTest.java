@@ -0,0 +1,163 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.utils.ratelimit.RateLimiter;
+
+public class PollingStreamingMarketDataServiceTest {
+
+  private final AtomicInteger polls = new AtomicInteger();
+  private final BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+
+  private final MarketDataService blocking =
+      new MarketDataService() {
+
+        @Override
+        public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+          int poll = polls.getAndIncrement();
+          if (poll == 0) {
+            throw new IOException("connection reset");
+          }
+          // changes every third poll
+          return new Ticker.Builder()
+              .currencyPair(currencyPair)
+              .last(new BigDecimal(poll / 3))
+              .build();
+        }
+
+        @Override
+        public Trades getTrades(CurrencyPair currencyPair, Object... args) {
+          // the latest three trades, one more each poll
+          int poll = polls.getAndIncrement();
+          List<Trade> trades = new ArrayList<>();
+          for (int id = poll + 2; id >= poll; id--) {
+            trades.add(
+                new Trade.Builder()
+                    .type(OrderType.BID)
+                    .currencyPair(currencyPair)
+                    .price(BigDecimal.ONE)
+                    .originalAmount(BigDecimal.ONE)
+                    .timestamp(new Date(id * 1000L))
+                    .id(Integer.toString(id))
+                    .build());
+          }
+          return new Trades(trades, TradeSortType.SortByTimestamp);
+        }
+      };
+
+  private final PollingStreamingMarketDataService streaming =
+      new PollingStreamingMarketDataService(blocking, RateLimiter.unlimited());
+
+  @After
+  public void tearDown() {
+
+    streaming.shutdown();
+  }
+
+  @Test
+  public void testDeliversChangedTickersAndErrors() throws Exception {
+
+    streaming.setMinimumInterval(5, TimeUnit.MILLISECONDS);
+    MarketDataSubscription subscription =
+        streaming.subscribeTicker(CurrencyPair.BTC_USD, collecting());
+
+    assertThat(next()).isInstanceOf(IOException.class);
+    for (int last = 0; last < 3; last++) {
+      assertThat(((Ticker) next()).getLast()).isEqualByComparingTo(new BigDecimal(last));
+    }
+
+    subscription.cancel();
+    Thread.sleep(50);
+    delivered.clear();
+    int cancelledAt = polls.get();
+    Thread.sleep(50);
+    assertThat(polls.get()).isEqualTo(cancelledAt);
+    assertThat(delivered).isEmpty();
+  }
+
+  @Test
+  public void testDeliversNewTradesOldestFirst() throws Exception {
+
+    streaming.setMinimumInterval(5, TimeUnit.MILLISECONDS);
+    try (MarketDataSubscription subscription =
+        streaming.subscribeTrades(CurrencyPair.BTC_USD, collecting())) {
+
+      // the trades of the first poll, 0 to 2, are known already
+      for (int id = 3; id < 8; id++) {
+        assertThat(((Trade) next()).getId()).isEqualTo(Integer.toString(id));
+      }
+    }
+  }
+
+  @Test
+  public void testPollsWithinRateLimit() throws Exception {
+
+    PollingStreamingMarketDataService limited =
+        new PollingStreamingMarketDataService(
+            blocking, RateLimiter.of(new RateLimit(10, 1, TimeUnit.SECONDS)));
+    limited.setMinimumInterval(0, TimeUnit.MILLISECONDS);
+    try {
+      limited.subscribeTrades(CurrencyPair.BTC_USD, trade -> {});
+      limited.subscribeTrades(CurrencyPair.ETH_BTC, trade -> {});
+      Thread.sleep(500);
+    } finally {
+      limited.shutdown();
+    }
+
+    // 100ms apart, starting at once
+    assertThat(polls.get()).isBetween(4, 6);
+  }
+
+  @Test
+  public void testSpacingSkipsLimitsWithoutCalls() {
+
+    assertThat(
+            PollingStreamingMarketDataService.spacingNanos(
+                new RateLimit(0, 1, TimeUnit.SECONDS), new RateLimit(5, 1, TimeUnit.SECONDS)))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(
+            PollingStreamingMarketDataService.spacingNanos(new RateLimit(0, 1, TimeUnit.SECONDS)))
+        .isZero();
+  }
+
+  private <T> MarketDataListener<T> collecting() {
+
+    return new MarketDataListener<T>() {
+
+      @Override
+      public void onNext(T item) {
+        delivered.add(item);
+      }
+
+      @Override
+      public void onError(Throwable error) {
+        delivered.add(error);
+      }
+    };
+  }
+
+  private Object next() throws InterruptedException {
+
+    Object item = delivered.poll(5, TimeUnit.SECONDS);
+    assertThat(item).isNotNull();
+    return item;
+  }
+}
@@ -0,0 +1,110 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.CurrencyPairNotValidException;
+
+public class RateMatrixTest {
+
+  private static final Currency AUD = Currency.AUD;
+  private static final Currency EUR = Currency.EUR;
+  private static final Currency USD = Currency.USD;
+  private static final Currency BTC = Currency.BTC;
+  private static final Currency ETH = Currency.ETH;
+
+  @Test
+  public void testDirectInverseAndCrossRates() {
+
+    RateMatrix matrix = RateMatrix.builder(USD).quote(USD, AUD, 1.5).quote(USD, EUR, 0.9).build();
+
+    assertThat(matrix.rate(USD, AUD)).isEqualTo(1.5);
+    assertThat(matrix.rate(AUD, USD)).isCloseTo(1 / 1.5, within(1e-12));
+    assertThat(matrix.rate(EUR, AUD)).isCloseTo(1.5 / 0.9, within(1e-12));
+    assertThat(matrix.rate(AUD, AUD)).isEqualTo(1);
+    assertThat(matrix.rate(USD, ETH)).isNaN();
+    assertThat(matrix.getCurrencies()).containsOnly(USD, AUD, EUR);
+  }
+
+  @Test
+  public void testRatesAcrossPivots() {
+
+    // fiat quoted against USD, coins against BTC, and BTC/USD between the pivots
+    RateMatrix matrix =
+        RateMatrix.builder(USD, BTC)
+            .quote(USD, EUR, 0.9)
+            .quote(BTC, USD, 10000)
+            .quote(ETH, BTC, 0.02)
+            .build();
+
+    assertThat(matrix.rate(ETH, USD)).isCloseTo(200, within(1e-9));
+    assertThat(matrix.rate(ETH, EUR)).isCloseTo(180, within(1e-9));
+    assertThat(matrix.rate(EUR, ETH)).isCloseTo(1 / 180d, within(1e-12));
+    assertThat(matrix.rate(BTC, EUR)).isCloseTo(9000, within(1e-9));
+  }
+
+  @Test
+  public void testTickers() {
+
+    Date timestamp = new Date(1354687208000L);
+    RateMatrix matrix = RateMatrix.builder(USD).quote(USD, AUD, 1.23).timestamp(timestamp).build();
+
+    Ticker ticker = matrix.getTicker(CurrencyPair.USD_AUD);
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.USD_AUD);
+    assertThat(ticker.getLast()).isEqualByComparingTo("1.23");
+    assertThat(ticker.getTimestamp()).isEqualTo(timestamp);
+
+    List<Ticker> tickers =
+        matrix.getTickers(Arrays.asList(CurrencyPair.ETH_USD, new CurrencyPair(AUD, USD)));
+    assertThat(tickers).hasSize(1);
+    assertThat(tickers.get(0).getCurrencyPair()).isEqualTo(new CurrencyPair(AUD, USD));
+
+    try {
+      matrix.getTicker(CurrencyPair.ETH_USD);
+      fail("expected a CurrencyPairNotValidException");
+    } catch (CurrencyPairNotValidException expected) {
+      assertThat(expected.getCurrencyPair()).isEqualTo(CurrencyPair.ETH_USD);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQuotesNeedAPivot() {
+
+    RateMatrix.builder(USD).quote(EUR, AUD, 1.6);
+  }
+
+  @Test
+  public void testCacheFetchesOncePerInterval() throws IOException {
+
+    AtomicInteger fetches = new AtomicInteger();
+    RateMatrixCache cache =
+        new RateMatrixCache(
+            () -> RateMatrix.builder(USD).quote(USD, AUD, fetches.incrementAndGet()).build(),
+            60_000);
+
+    assertThat(cache.getTicker(CurrencyPair.USD_AUD).getLast()).isEqualByComparingTo("1");
+    assertThat(cache.getTickers(Arrays.asList(CurrencyPair.USD_AUD, new CurrencyPair(AUD, USD))))
+        .hasSize(2);
+    assertThat(fetches).hasValue(1);
+
+    cache.invalidate();
+    assertThat(cache.getTicker(CurrencyPair.USD_AUD).getLast()).isEqualByComparingTo("2");
+
+    RateMatrixCache uncached =
+        new RateMatrixCache(
+            () -> RateMatrix.builder(USD).quote(USD, AUD, fetches.incrementAndGet()).build(), 0);
+    uncached.get();
+    uncached.get();
+    assertThat(fetches).hasValue(4);
+  }
+}
@@ -0,0 +1,321 @@
+package org.knowm.xchange.service.trade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.knowm.xchange.BaseExchange;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.BaseExchangeService;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamPaging;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamNextPageCursor;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamOffset;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsAll;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class TradeHistoryStreamTest {
+
+  @Test
+  public void testOffsetPagesAreFetchedLazily() {
+
+    // 5 trades, 2 per page
+    List<Long> offsets = new ArrayList<>();
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            long offset = ((TradeHistoryParamOffset) params).getOffset();
+            offsets.add(offset);
+            return page(offset, Math.min(offset + 2, 5));
+          }
+        };
+    TradeHistoryParamsAll params = new TradeHistoryParamsAll();
+    params.setOffset(0L);
+
+    Stream<UserTrade> trades = service.streamTradeHistory(params);
+    assertThat(offsets).isEmpty();
+
+    Iterator<UserTrade> iterator = trades.iterator();
+    assertThat(iterator.next().getId()).isEqualTo("0");
+    assertThat(offsets).containsExactly(0L);
+
+    List<String> ids = new ArrayList<>();
+    iterator.forEachRemaining(trade -> ids.add(trade.getId()));
+    assertThat(ids).containsExactly("1", "2", "3", "4");
+    assertThat(offsets).containsExactly(0L, 2L, 4L, 5L);
+  }
+
+  @Test
+  public void testNextPageCursorUntilThereIsNone() {
+
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            String cursor = ((TradeHistoryParamNextPageCursor) params).getNextPageCursor();
+            if (cursor == null) {
+              return page(0, 2, "a");
+            }
+            assertThat(cursor).isEqualTo("a");
+            return page(2, 3, null);
+          }
+        };
+
+    TradeHistoryParamNextPageCursor params =
+        new TradeHistoryParamNextPageCursor() {
+
+          private String cursor;
+
+          @Override
+          public String getNextPageCursor() {
+            return cursor;
+          }
+
+          @Override
+          public void setNextPageCursor(String cursor) {
+            this.cursor = cursor;
+          }
+        };
+
+    assertThat(service.streamTradeHistory(params).map(UserTrade::getId))
+        .containsExactly("0", "1", "2");
+  }
+
+  @Test
+  public void testPagingStopsAtAShortPage() {
+
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            int pageNumber = ((DefaultTradeHistoryParamPaging) params).getPageNumber();
+            return page(pageNumber * 2, pageNumber == 0 ? 2 : 3);
+          }
+        };
+
+    assertThat(service.streamTradeHistory(new DefaultTradeHistoryParamPaging(2)).count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  public void testOffsetStopsWhenTheExchangeIgnoresIt() {
+
+    List<Long> offsets = new ArrayList<>();
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            offsets.add(((TradeHistoryParamOffset) params).getOffset());
+            return page(0, 2);
+          }
+        };
+    TradeHistoryParamsAll params = new TradeHistoryParamsAll();
+    params.setOffset(0L);
+
+    assertThat(service.streamTradeHistory(params).map(UserTrade::getId)).containsExactly("0", "1");
+    assertThat(offsets).containsExactly(0L, 2L);
+  }
+
+  @Test
+  public void testPagingStopsWhenTheExchangeIgnoresIt() {
+
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            return page(0, 2);
+          }
+        };
+
+    assertThat(service.streamTradeHistory(new DefaultTradeHistoryParamPaging(2)).count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void testPagesRepeatingEarlierTradesAreLeftOut() {
+
+    // 5 trades, each page returning all trades up to the end of the page, as Bitfinex does
+    List<Integer> pageNumbers = new ArrayList<>();
+    TradeService service =
+        new TradeService() {
+
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            DefaultTradeHistoryParamPaging paging = (DefaultTradeHistoryParamPaging) params;
+            int pageNumber = paging.getPageNumber() == null ? 0 : paging.getPageNumber();
+            pageNumbers.add(pageNumber);
+            return page(0, Math.min(5, paging.getPageLength() * (pageNumber + 1)));
+          }
+        };
+
+    assertThat(
+            service.streamTradeHistory(new DefaultTradeHistoryParamPaging(2)).map(UserTrade::getId))
+        .containsExactly("0", "1", "2", "3", "4");
+    assertThat(pageNumbers).containsExactly(0, 1, 2, 3);
+  }
+
+  @Test
+  public void testFromTimeStartsAtTheNewestTrade() {
+
+    TradeHistoryParamsAll params = new TradeHistoryParamsAll();
+    UserTrades page = page(0, 3);
+
+    assertThat(TradeHistoryCursor.fromTime().advance(params, page)).isTrue();
+    assertThat(params.getStartTime()).isEqualTo(new Date(2000));
+    assertThat(TradeHistoryCursor.fromTime().advance(params, page)).isFalse();
+  }
+
+  @Test
+  public void testFromIdStartsPastTheHighestId() {
+
+    TradeHistoryParamsAll params = new TradeHistoryParamsAll();
+
+    assertThat(TradeHistoryCursor.fromId().advance(params, page(7, 10))).isTrue();
+    assertThat(params.getStartId()).isEqualTo("10");
+  }
+
+  @Test
+  public void testNextPageIsPrefetchedOneAhead() throws Exception {
+
+    PagedService service = new PagedService(4);
+
+    try (Stream<UserTrade> trades = service.streamTradeHistory(new TradeHistoryParamsAll())) {
+      Iterator<UserTrade> iterator = trades.iterator();
+      iterator.next();
+      // the second page is fetched in the background, but not the third
+      long deadline = System.currentTimeMillis() + 5000;
+      while (service.offsets.size() < 2 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      Thread.sleep(100);
+      assertThat(service.offsets).containsExactly(0L, 2L);
+      assertThat(service.threads.peek()).isEqualTo(Thread.currentThread().getName());
+
+      List<String> ids = new ArrayList<>();
+      iterator.forEachRemaining(trade -> ids.add(trade.getId()));
+      assertThat(ids).containsExactly("1", "2", "3", "4", "5", "6", "7");
+      assertThat(service.threads.stream().skip(1).collect(Collectors.toList()))
+          .doesNotContain(Thread.currentThread().getName());
+    }
+  }
+
+  @Test
+  public void testFailedPageIsThrownFromTheStream() {
+
+    PagedService service = new PagedService(3);
+    service.failingOffset = 2L;
+
+    Iterator<UserTrade> iterator =
+        service.streamTradeHistory(new TradeHistoryParamsAll()).iterator();
+    iterator.next();
+    iterator.next();
+    try {
+      iterator.next();
+      fail("expected an UncheckedIOException");
+    } catch (UncheckedIOException e) {
+      assertThat(e.getCause()).hasMessage("offset 2");
+    }
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  private static UserTrades page(long fromId, long toId) {
+
+    return page(fromId, toId, null);
+  }
+
+  private static UserTrades page(long fromId, long toId, String nextPageCursor) {
+
+    List<UserTrade> trades = new ArrayList<>();
+    for (long id = fromId; id < toId; id++) {
+      trades.add(
+          new UserTrade(
+              OrderType.BID,
+              BigDecimal.ONE,
+              CurrencyPair.BTC_USD,
+              BigDecimal.TEN,
+              new Date(id * 1000),
+              Long.toString(id),
+              null,
+              null,
+              null));
+    }
+    return new UserTrades(trades, 0, TradeSortType.SortByID, nextPageCursor);
+  }
+
+  /** A service of an exchange, with pages of 2 trades. */
+  private static class PagedService extends BaseExchangeService<TestExchange>
+      implements TradeService {
+
+    final ConcurrentLinkedQueue<Long> offsets = new ConcurrentLinkedQueue<>();
+    final ConcurrentLinkedQueue<String> threads = new ConcurrentLinkedQueue<>();
+    final int pages;
+    volatile Long failingOffset;
+
+    PagedService(int pages) {
+
+      super(new TestExchange());
+      this.pages = pages;
+    }
+
+    @Override
+    public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
+
+      Long offset = ((TradeHistoryParamOffset) params).getOffset();
+      long from = offset == null ? 0 : offset;
+      offsets.add(from);
+      threads.add(Thread.currentThread().getName());
+      if (failingOffset != null && failingOffset == from) {
+        throw new IOException("offset " + from);
+      }
+      return from < pages * 2
+          ? page(from, from + 2)
+          : new UserTrades(Collections.emptyList(), TradeSortType.SortByID);
+    }
+  }
+
+  private static class TestExchange extends BaseExchange {
+
+    TestExchange() {
+
+      exchangeMetaData = new ExchangeMetaData(null, null, null, null, null);
+    }
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      return new ExchangeSpecification(getClass());
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class FixedPointTest {
+
+  @Test
+  public void testParseMatchesBigDecimal() {
+
+    String[] values = {"0", "1", "-1", "123.45", "0.00012345", "-0.5", "+7.", ".25", "99.999999"};
+    for (int scale = 0; scale <= 8; scale++) {
+      for (String value : values) {
+        assertThat(FixedPoint.parseMantissa(value, scale))
+            .as("%s at scale %d", value, scale)
+            .isEqualTo(FixedPoint.mantissa(new BigDecimal(value), scale));
+      }
+    }
+  }
+
+  @Test
+  public void testParseScientificNotation() {
+
+    assertThat(FixedPoint.parseMantissa("1.5E-3", 4)).isEqualTo(15L);
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseInvalid() {
+
+    FixedPoint.parseMantissa("1.2.3", 2);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testOverflow() {
+
+    FixedPoint.parseMantissa("100000000000", 10);
+  }
+
+  @Test
+  public void testArithmeticAndCompare() {
+
+    FixedPoint bid = FixedPoint.parse("100.25", 2);
+    FixedPoint ask = FixedPoint.of(new BigDecimal("100.5"), 2);
+
+    assertThat(ask.subtract(bid)).isEqualTo(FixedPoint.valueOf(25, 2));
+    assertThat(bid.add(ask).toBigDecimal()).isEqualByComparingTo("200.75");
+    assertThat(bid.compareTo(ask)).isNegative();
+    assertThat(FixedPoint.valueOf(1005, 1).compareTo(ask)).isZero();
+    assertThat(ask.toString()).isEqualTo("100.50");
+  }
+
+  @Test
+  public void testDtoAccessor() {
+
+    LimitOrder order =
+        new LimitOrder(
+            OrderType.BID,
+            BigDecimal.ONE,
+            CurrencyPair.BTC_USD,
+            "",
+            null,
+            new BigDecimal("8500.1"));
+    assertThat(order.getLimitPriceMantissa(2)).isEqualTo(850010L);
+  }
+
+  @Test
+  public void testParseAtTheWrittenScale() {
+
+    assertThat(FixedPoint.parse("0.01000000")).isEqualTo(FixedPoint.valueOf(1000000, 8));
+    assertThat(FixedPoint.parse("-42")).isEqualTo(FixedPoint.valueOf(-42, 0));
+    assertThat(FixedPoint.parse("1.5E-3")).isEqualTo(FixedPoint.valueOf(15, 4));
+  }
+
+  @Test
+  public void testMissingTickerPricesAreNone() {
+
+    Ticker ticker =
+        new Ticker.Builder()
+            .currencyPair(CurrencyPair.BTC_USD)
+            .last(new BigDecimal("8500.1"))
+            .build();
+
+    assertThat(ticker.getLastMantissa(2)).isEqualTo(850010L);
+    assertThat(ticker.getBidMantissa(2)).isEqualTo(FixedPoint.NONE);
+    assertThat(ticker.getAskMantissa(2)).isEqualTo(FixedPoint.NONE);
+    assertThat(ticker.getLastMantissa(0)).isEqualTo(8500L);
+    assertThat(FixedPoint.mantissa(null, 2)).isEqualTo(FixedPoint.NONE);
+  }
+
+  @Test
+  public void testTickerBuiltFromFixedPoints() {
+
+    Ticker ticker =
+        new Ticker.Builder()
+            .currencyPair(CurrencyPair.BTC_USD)
+            .last(FixedPoint.parse("8500.10"))
+            .bid(FixedPoint.parse("8500.00"))
+            .ask(FixedPoint.parse("8500.20"))
+            .build();
+
+    assertThat(ticker.getLast()).isEqualByComparingTo("8500.1");
+    assertThat(ticker.getBidMantissa(2)).isEqualTo(850000L);
+    assertThat(ticker.getAskMantissa(2)).isEqualTo(850020L);
+    assertThat(ticker.getAskMantissa(1)).isEqualTo(85002L);
+    assertThat(ticker.getLastMantissa(2)).isEqualTo(850010L);
+  }
+
+  @Test
+  public void testRescale() {
+
+    assertThat(FixedPoint.rescale(15L, 1, 3)).isEqualTo(1500L);
+    assertThat(FixedPoint.rescale(1234L, 3, 1)).isEqualTo(12L);
+    assertThat(FixedPoint.rescale(1250L, 3, 1)).isEqualTo(13L);
+    assertThat(FixedPoint.rescale(-1250L, 3, 1)).isEqualTo(-13L);
+    assertThat(FixedPoint.rescale(FixedPoint.NONE, 2, 4)).isEqualTo(FixedPoint.NONE);
+  }
+
+  @Test
+  public void testTickerBuiltWithPriceScale() {
+
+    Ticker ticker =
+        new Ticker.Builder()
+            .currencyPair(CurrencyPair.BTC_USD)
+            .last(new BigDecimal("8500.1"))
+            .ask(FixedPoint.parse("8500.205"))
+            .priceScale(2)
+            .build();
+
+    assertThat(ticker.getLastMantissa(2)).isEqualTo(850010L);
+    assertThat(ticker.getBidMantissa(2)).isEqualTo(FixedPoint.NONE);
+    assertThat(ticker.getAskMantissa(2)).isEqualTo(850021L);
+    assertThat(ticker.getLastMantissa(3)).isEqualTo(8500100L);
+  }
+
+  @Test
+  public void testDtosBuiltFromFixedPoints() {
+
+    LimitOrder order =
+        new LimitOrder.Builder(OrderType.ASK, CurrencyPair.BTC_USD)
+            .originalAmount(BigDecimal.ONE)
+            .limitPrice(FixedPoint.parse("8500.10"))
+            .build();
+    assertThat(order.getLimitPrice()).isEqualByComparingTo("8500.1");
+    assertThat(order.getLimitPriceMantissa(2)).isEqualTo(850010L);
+    assertThat(LimitOrder.Builder.from(order).build().getLimitPriceMantissa(1)).isEqualTo(85001L);
+
+    Trade trade =
+        new Trade.Builder()
+            .currencyPair(CurrencyPair.BTC_USD)
+            .price(FixedPoint.parse("8500.10"))
+            .originalAmount(FixedPoint.parse("0.25000000"))
+            .build();
+    assertThat(trade.getPrice()).isEqualByComparingTo("8500.1");
+    assertThat(trade.getPriceMantissa(2)).isEqualTo(850010L);
+    assertThat(trade.getOriginalAmountMantissa(8)).isEqualTo(25000000L);
+    assertThat(Trade.Builder.from(trade).build().getOriginalAmountMantissa(2)).isEqualTo(25L);
+
+    OrderBookUpdate update =
+        new OrderBookUpdate(
+            OrderType.BID,
+            FixedPoint.parse("0.5"),
+            CurrencyPair.BTC_USD,
+            FixedPoint.parse("8500.00"),
+            null,
+            FixedPoint.parse("1.5"));
+    assertThat(update.getTotalVolume()).isEqualByComparingTo("1.5");
+    assertThat(update.getTotalVolumeMantissa(1)).isEqualTo(15L);
+    assertThat(update.getLimitOrder().getOriginalAmount()).isEqualByComparingTo("0.5");
+    assertThat(update.getLimitOrder().getLimitPriceMantissa(2)).isEqualTo(850000L);
+  }
+}
@@ -0,0 +1,101 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+
+public class HmacSignerTest {
+
+  private static final String KEY =
+      "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+  @Test
+  public void testSignaturesMatchAPlainMac() throws Exception {
+
+    HmacSigner signer = HmacSigner.create("HmacSHA256", KEY);
+    String message = "symbol=BTCUSDT&side=BUY&quantity=1&price=0.1&timestamp=1571400000000";
+    byte[] expected = reference("HmacSHA256", message);
+
+    assertThat(signer.sign(message)).isEqualTo(expected);
+    assertThat(
+            signer.sign("symbol=BTCUSDT&side=BUY", "&quantity=1&price=0.1&timestamp=1571400000000"))
+        .isEqualTo(expected);
+    assertThat(signer.sign(message.getBytes(StandardCharsets.UTF_8))).isEqualTo(expected);
+    ByteBuffer direct = ByteBuffer.allocateDirect(message.length());
+    direct.put(message.getBytes(StandardCharsets.UTF_8)).flip();
+    assertThat(signer.sign(direct)).isEqualTo(expected);
+    assertThat(signer.signHex(message)).isEqualTo(DigestUtils.bytesToHex(expected));
+    assertThat(signer.signBase64(message)).isEqualTo(Base64.getEncoder().encodeToString(expected));
+    assertThat(signer.newMac().doFinal(message.getBytes(StandardCharsets.UTF_8)))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  public void testNonAsciiAndLongMessages() throws Exception {
+
+    HmacSigner signer = HmacSigner.create("HmacSHA512", KEY);
+    StringBuilder longMessage = new StringBuilder();
+    for (int i = 0; i < 300; i++) {
+      longMessage.append("käse ").append(i).append(" 💰 ");
+    }
+    String[] messages = {"", "prix=€5", longMessage.toString(), "broken \uD800 surrogate"};
+
+    for (String message : messages) {
+      assertThat(signer.sign(message)).isEqualTo(reference("HmacSHA512", message));
+    }
+  }
+
+  @Test
+  public void testConcurrentSigning() throws Exception {
+
+    HmacSigner signer = HmacSigner.create("HmacSHA256", KEY);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int thread = t;
+        Callable<Boolean> signing =
+            () -> {
+              start.await();
+              for (int i = 0; i < 500; i++) {
+                String message = "thread=" + thread + "&nonce=" + i;
+                if (!signer
+                    .signHex(message)
+                    .equals(DigestUtils.bytesToHex(reference("HmacSHA256", message)))) {
+                  return false;
+                }
+              }
+              return true;
+            };
+        results.add(executor.submit(signing));
+      }
+      start.countDown();
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static byte[] reference(String algorithm, String message) throws Exception {
+
+    Mac mac = Mac.getInstance(algorithm);
+    mac.init(new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), algorithm));
+    return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,67 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.dto.meta.CurrencyMetaData;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
+
+public class JacksonRegistryTest {
+
+  @Test
+  public void testReadersAndWritersAreSharedPerType() {
+
+    JacksonRegistry registry = JacksonRegistry.create(mapper -> {});
+
+    assertThat(registry.readerFor(CurrencyMetaData.class))
+        .isSameAs(registry.readerFor(CurrencyMetaData.class));
+    assertThat(registry.readerFor(new TypeReference<Map<String, String>>() {}))
+        .isSameAs(registry.readerFor(new TypeReference<Map<String, String>>() {}));
+    assertThat(registry.writerFor(CurrencyMetaData.class))
+        .isSameAs(registry.writerFor(CurrencyMetaData.class));
+    assertThat(registry.reader()).isSameAs(registry.reader());
+  }
+
+  @Test
+  public void testRegistryUsesItsConfiguration() throws Exception {
+
+    String json = "{\"scale\":8,\"withdrawal_fee\":0.001,\"unknown\":true}";
+    JacksonRegistry lenient =
+        JacksonRegistry.create(
+            mapper -> mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+    CurrencyMetaData metaData = lenient.readerFor(CurrencyMetaData.class).readValue(json);
+    assertThat(metaData.getScale()).isEqualTo(8);
+    assertThat(metaData.getWithdrawalFee()).isEqualByComparingTo(new BigDecimal("0.001"));
+
+    try {
+      JacksonRegistry.DEFAULT.readerFor(CurrencyMetaData.class).readValue(json);
+      fail("expected an UnrecognizedPropertyException");
+    } catch (UnrecognizedPropertyException expected) {
+      assertThat(expected.getPropertyName()).isEqualTo("unknown");
+    }
+  }
+
+  @Test
+  public void testGenericReadersAndWriters() throws Exception {
+
+    Map<String, String> map =
+        JacksonRegistry.DEFAULT
+            .readerFor(new TypeReference<Map<String, String>>() {})
+            .readValue("{\"market\":\"KRW-BTC\",\"volume\":0.01}");
+
+    assertThat(map).containsEntry("market", "KRW-BTC").containsEntry("volume", "0.01");
+    assertThat(
+            JacksonRegistry.DEFAULT
+                .writerFor(Map.class)
+                .writeValueAsString(Collections.singletonMap("a", 1)))
+        .isEqualTo("{\"a\":1}");
+  }
+}
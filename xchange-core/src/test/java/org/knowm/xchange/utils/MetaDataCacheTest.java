@@ -0,0 +1,168 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.BaseExchange;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class MetaDataCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Before
+  public void reset() {
+
+    CachingExchange.remoteInits.set(0);
+    CachingExchange.fee = new BigDecimal("0.1");
+    CachingExchange.failCaching = false;
+  }
+
+  @Test
+  public void testSecondStartUsesTheCachedMetaData() {
+
+    BaseExchange first = start(60_000, "https://api.example.com");
+    assertThat(CachingExchange.remoteInits).hasValue(1);
+
+    CachingExchange.fee = new BigDecimal("0.2");
+    BaseExchange second = start(60_000, "https://api.example.com");
+
+    assertThat(CachingExchange.remoteInits).hasValue(1);
+    assertThat(tradingFee(second)).isEqualByComparingTo("0.1");
+    assertThat(((CachingExchange) second).state).isEqualTo("state of remoteInit 1");
+    assertThat(tradingFee(first)).isEqualByComparingTo("0.1");
+  }
+
+  @Test
+  public void testStaleMetaDataIsRefreshedInTheBackground() {
+
+    start(0, "https://api.example.com");
+    CachingExchange.fee = new BigDecimal("0.2");
+
+    // the async executor runs the refresh before the exchange is returned
+    BaseExchange second = start(0, "https://api.example.com");
+
+    assertThat(CachingExchange.remoteInits).hasValue(2);
+    assertThat(tradingFee(second)).isEqualByComparingTo("0.2");
+    assertThat(((CachingExchange) second).state).isEqualTo("state of remoteInit 2");
+
+    BaseExchange third = start(60_000, "https://api.example.com");
+    assertThat(CachingExchange.remoteInits).hasValue(2);
+    assertThat(tradingFee(third)).isEqualByComparingTo("0.2");
+  }
+
+  @Test
+  public void testFailedRefreshKeepsTheCachedMetaDataAndState() {
+
+    start(0, "https://api.example.com");
+    CachingExchange.fee = new BigDecimal("0.2");
+    CachingExchange.failCaching = true;
+
+    BaseExchange second = start(0, "https://api.example.com");
+
+    assertThat(CachingExchange.remoteInits).hasValue(2);
+    assertThat(tradingFee(second)).isEqualByComparingTo("0.1");
+    assertThat(((CachingExchange) second).state).isEqualTo("state of remoteInit 1");
+  }
+
+  @Test
+  public void testMetaDataOfAnotherUriIsIgnored() {
+
+    start(60_000, "https://api.example.com");
+    start(60_000, "https://sandbox.example.com");
+
+    assertThat(CachingExchange.remoteInits).hasValue(2);
+  }
+
+  private BaseExchange start(long ttl, String uri) {
+
+    ExchangeSpecification specification = new ExchangeSpecification(CachingExchange.class);
+    specification.setExchangeName("Caching");
+    specification.setSslUri(uri);
+    specification.setMetaDataCacheDirectory(folder.getRoot().getPath());
+    specification.setMetaDataCacheTtl(ttl);
+    specification.setAsyncExecutor(Runnable::run);
+    CachingExchange exchange = new CachingExchange();
+    exchange.applySpecification(specification);
+    return exchange;
+  }
+
+  private static BigDecimal tradingFee(BaseExchange exchange) {
+
+    return exchange
+        .getExchangeMetaData()
+        .getCurrencyPairs()
+        .get(CurrencyPair.BTC_USD)
+        .getTradingFee();
+  }
+
+  public static class CachingExchange extends BaseExchange {
+
+    static final AtomicInteger remoteInits = new AtomicInteger();
+    static volatile BigDecimal fee;
+    static volatile boolean failCaching;
+
+    volatile String state;
+
+    @Override
+    public void remoteInit() {
+
+      state = "state of remoteInit " + remoteInits.incrementAndGet();
+      exchangeMetaData =
+          new ExchangeMetaData(
+              Collections.singletonMap(
+                  CurrencyPair.BTC_USD,
+                  new CurrencyPairMetaData(fee, BigDecimal.ONE, null, 8, null)),
+              Collections.emptyMap(),
+              null,
+              null,
+              false);
+    }
+
+    @Override
+    protected boolean restoreCachedState(MetaDataCache cache) {
+
+      MetaDataCache.Entry<String> cached = cache.read("state", String.class);
+      if (cached == null) {
+        return false;
+      }
+      state = cached.getValue();
+      return true;
+    }
+
+    @Override
+    protected void cacheState(MetaDataCache cache) throws IOException {
+
+      if (failCaching) {
+        throw new IOException("Disk full");
+      }
+      cache.write("state", state);
+    }
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      return new ExchangeSpecification(getClass());
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+  }
+}
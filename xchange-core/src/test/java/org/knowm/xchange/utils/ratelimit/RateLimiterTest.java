@@ -0,0 +1,118 @@
+package org.knowm.xchange.utils.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+
+public class RateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+  private RateLimiter limiter(RateLimit... limits) {
+
+    return new RateLimiter(limits, clock::get);
+  }
+
+  @Test
+  public void testBurstThenSteadyRate() {
+
+    RateLimiter limiter = limiter(new RateLimit(3, 1, TimeUnit.SECONDS));
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(limiter.tryAcquire()).isFalse();
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(134));
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void testWeightedCalls() {
+
+    RateLimiter limiter = limiter(new RateLimit(10, 1, TimeUnit.SECONDS));
+
+    assertThat(limiter.tryAcquire(6)).isTrue();
+    assertThat(limiter.tryAcquire(5)).isFalse();
+    assertThat(limiter.tryAcquire(4)).isTrue();
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(limiter.tryAcquire(5)).isTrue();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWeightAboveCapacity() {
+
+    limiter(new RateLimit(10, 1, TimeUnit.SECONDS)).tryAcquire(11);
+  }
+
+  @Test
+  public void testAllLimitsApply() {
+
+    RateLimiter limiter =
+        limiter(new RateLimit(5, 1, TimeUnit.SECONDS), new RateLimit(6, 1, TimeUnit.MINUTES));
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(limiter.tryAcquire()).isTrue();
+    // the per second limit has room again but the per minute limit is used up
+    assertThat(limiter.tryAcquire()).isFalse();
+    assertThat(limiter.reserve(1, Long.MAX_VALUE))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(10) - TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void testReserveReportsDelayWithoutConsumingOnTimeout() {
+
+    RateLimiter limiter = limiter(new RateLimit(2, 1, TimeUnit.SECONDS));
+
+    assertThat(limiter.reserve(2, 0)).isZero();
+    assertThat(limiter.reserve(1, TimeUnit.MILLISECONDS.toNanos(100))).isEqualTo(-1);
+    assertThat(limiter.reserve(1, Long.MAX_VALUE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(limiter.reserve(1, Long.MAX_VALUE)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void testUnlimited() {
+
+    RateLimiter limiter = RateLimiter.of();
+
+    assertThat(limiter.isUnlimited()).isTrue();
+    for (int i = 0; i < 1000; i++) {
+      assertThat(limiter.tryAcquire(1000)).isTrue();
+    }
+  }
+
+  @Test
+  public void testExchangeLimitersFromMetaData() {
+
+    RateLimit[] publicLimits = {new RateLimit(3, 1, TimeUnit.SECONDS)};
+    RateLimit[] privateLimits = {new RateLimit(5, 1, TimeUnit.SECONDS)};
+
+    ExchangeRateLimiter separate =
+        ExchangeRateLimiter.of(
+            new ExchangeMetaData(null, null, publicLimits, privateLimits, false));
+    assertThat(separate.getPublicLimiter()).isNotSameAs(separate.getPrivateLimiter());
+    assertThat(separate.getPublicLimiter().getLimits()[0].calls).isEqualTo(3);
+    assertThat(separate.get(true).getLimits()[0].calls).isEqualTo(5);
+
+    ExchangeRateLimiter shared =
+        ExchangeRateLimiter.of(new ExchangeMetaData(null, null, publicLimits, privateLimits, true));
+    assertThat(shared.getPublicLimiter()).isSameAs(shared.getPrivateLimiter());
+    assertThat(shared.getPublicLimiter().getLimits()[0].calls).isEqualTo(5);
+
+    ExchangeRateLimiter none =
+        ExchangeRateLimiter.of(new ExchangeMetaData(null, null, null, null, null));
+    assertThat(none.getPublicLimiter().isUnlimited()).isTrue();
+    assertThat(none.getPrivateLimiter().isUnlimited()).isTrue();
+  }
+}
@@ -0,0 +1,165 @@
+package org.knowm.xchange.utils.websocket;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A WebSocket server on the loopback interface for tests, which records the text messages it
+ * receives and sends whatever the test tells it to. It serves one connection at a time.
+ */
+public class MockWebSocketServer implements Closeable {
+
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private final ServerSocket serverSocket;
+  private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+  private final BlockingQueue<Socket> connections = new LinkedBlockingQueue<>();
+
+  private volatile Socket connection;
+  private volatile boolean responding = true;
+
+  public MockWebSocketServer() throws IOException {
+
+    serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "mock-websocket-server");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  /** @return the URI to connect to */
+  public URI getUri() {
+
+    return URI.create("ws://127.0.0.1:" + serverSocket.getLocalPort() + "/");
+  }
+
+  /**
+   * Waits for the next connection.
+   *
+   * @return true if a client connected within a few seconds
+   */
+  public boolean awaitConnection() throws InterruptedException {
+
+    return connections.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS) != null;
+  }
+
+  /**
+   * Waits for the next text message from the client.
+   *
+   * @return the message, null if none arrived within a few seconds
+   */
+  public String nextMessage() throws InterruptedException {
+
+    return received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /** @param message the text message to send to the connected client */
+  public void send(String message) throws IOException {
+
+    Socket socket = connection;
+    if (socket == null) {
+      throw new IOException("No client connected");
+    }
+    OutputStream out = socket.getOutputStream();
+    synchronized (out) {
+      WebSocketClient.writeFrame(
+          out, WebSocketClient.TEXT, message.getBytes(StandardCharsets.UTF_8), false);
+    }
+  }
+
+  /** Stops answering pings, as a server behind a half-open connection would. */
+  public void stopResponding() {
+
+    responding = false;
+  }
+
+  /** Closes the connection without a close frame, as a failing network would. */
+  public void dropConnection() throws IOException {
+
+    Socket socket = connection;
+    if (socket != null) {
+      socket.close();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+
+    serverSocket.close();
+    dropConnection();
+  }
+
+  private void accept() {
+
+    while (!serverSocket.isClosed()) {
+      try (Socket socket = serverSocket.accept()) {
+        handshake(socket);
+        connection = socket;
+        connections.add(socket);
+        serve(socket);
+      } catch (IOException e) {
+        // the client or the test closed the connection, wait for the next one
+      } finally {
+        connection = null;
+      }
+    }
+  }
+
+  private static void handshake(Socket socket) throws IOException {
+
+    InputStream in = socket.getInputStream();
+    String key = null;
+    for (String line = WebSocketClient.readLine(in);
+        !line.isEmpty();
+        line = WebSocketClient.readLine(in)) {
+      if (line.toLowerCase().startsWith("sec-websocket-key:")) {
+        key = line.substring(line.indexOf(':') + 1).trim();
+      }
+    }
+    String response =
+        "HTTP/1.1 101 Switching Protocols\r\n"
+            + "Upgrade: websocket\r\n"
+            + "Connection: Upgrade\r\n"
+            + "Sec-WebSocket-Accept: "
+            + WebSocketClient.acceptKey(key)
+            + "\r\n\r\n";
+    socket.getOutputStream().write(response.getBytes(StandardCharsets.US_ASCII));
+    socket.getOutputStream().flush();
+  }
+
+  private void serve(Socket socket) throws IOException {
+
+    InputStream in = socket.getInputStream();
+    OutputStream out = socket.getOutputStream();
+    while (true) {
+      WebSocketClient.Frame frame = WebSocketClient.readFrame(in);
+      switch (frame.opcode) {
+        case WebSocketClient.TEXT:
+          received.add(new String(frame.payload, StandardCharsets.UTF_8));
+          break;
+        case WebSocketClient.PING:
+          if (responding) {
+            synchronized (out) {
+              WebSocketClient.writeFrame(out, WebSocketClient.PONG, frame.payload, false);
+            }
+          }
+          break;
+        case WebSocketClient.CLOSE:
+          synchronized (out) {
+            WebSocketClient.writeFrame(out, WebSocketClient.CLOSE, frame.payload, false);
+          }
+          return;
+        default:
+      }
+    }
+  }
+}
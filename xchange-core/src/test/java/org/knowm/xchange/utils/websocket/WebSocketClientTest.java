@@ -0,0 +1,135 @@
+package org.knowm.xchange.utils.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public class WebSocketClientTest {
+
+  private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+  private final WebSocketClient.Listener listener =
+      new WebSocketClient.Listener() {
+
+        @Override
+        public void onMessage(String message) {
+          events.add(message);
+        }
+
+        @Override
+        public void onClose(Throwable error) {
+          events.add(error != null ? error : "closed");
+        }
+      };
+
+  private MockWebSocketServer server;
+
+  @After
+  public void tearDown() throws IOException {
+
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  @Test
+  public void testAcceptKey() {
+
+    // the example of RFC 6455
+    assertThat(WebSocketClient.acceptKey("dGhlIHNhbXBsZSBub25jZQ=="))
+        .isEqualTo("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=");
+  }
+
+  @Test
+  public void testFramesRoundTrip() throws IOException {
+
+    for (int length : new int[] {0, 125, 126, 65535, 65536}) {
+      byte[] payload = new byte[length];
+      for (int i = 0; i < length; i++) {
+        payload[i] = (byte) i;
+      }
+      for (boolean masked : new boolean[] {false, true}) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WebSocketClient.writeFrame(out, WebSocketClient.TEXT, payload, masked);
+
+        WebSocketClient.Frame frame =
+            WebSocketClient.readFrame(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(frame.fin).isTrue();
+        assertThat(frame.opcode).isEqualTo(WebSocketClient.TEXT);
+        assertThat(frame.payload).isEqualTo(payload);
+      }
+    }
+  }
+
+  @Test
+  public void testExchangesMessages() throws Exception {
+
+    server = new MockWebSocketServer();
+    try (WebSocketClient client = WebSocketClient.connect(server.getUri(), listener)) {
+      assertThat(client.isOpen()).isTrue();
+
+      client.send("{\"op\":\"subscribe\"}");
+      assertThat(server.nextMessage()).isEqualTo("{\"op\":\"subscribe\"}");
+
+      String large = new String(new char[100_000]).replace('\0', 'x');
+      server.send("é");
+      server.send(large);
+      assertThat(events.poll(5, TimeUnit.SECONDS)).isEqualTo("é");
+      assertThat(events.poll(5, TimeUnit.SECONDS)).isEqualTo(large);
+    }
+    assertThat(events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  public void testReportsDroppedConnection() throws Exception {
+
+    server = new MockWebSocketServer();
+    WebSocketClient client = WebSocketClient.connect(server.getUri(), listener);
+    assertThat(server.awaitConnection()).isTrue();
+
+    server.dropConnection();
+
+    assertThat(events.poll(5, TimeUnit.SECONDS)).isInstanceOf(IOException.class);
+    assertThat(client.isOpen()).isFalse();
+  }
+
+  @Test
+  public void testPingsKeepAQuietConnectionOpen() throws Exception {
+
+    server = new MockWebSocketServer();
+    try (WebSocketClient client = WebSocketClient.connect(server.getUri(), listener, 1000, 100)) {
+      Thread.sleep(500);
+
+      assertThat(client.isOpen()).isTrue();
+      assertThat(events).isEmpty();
+    }
+  }
+
+  @Test
+  public void testReportsServerThatStopsResponding() throws Exception {
+
+    server = new MockWebSocketServer();
+    WebSocketClient client = WebSocketClient.connect(server.getUri(), listener, 1000, 100);
+    assertThat(server.awaitConnection()).isTrue();
+
+    server.stopResponding();
+
+    assertThat(events.poll(5, TimeUnit.SECONDS)).isInstanceOf(SocketTimeoutException.class);
+    assertThat(client.isOpen()).isFalse();
+  }
+
+  @Test(expected = IOException.class)
+  public void testFailsToConnectToClosedServer() throws Exception {
+
+    server = new MockWebSocketServer();
+    server.close();
+    WebSocketClient.connect(server.getUri(), listener, 1000);
+  }
+}
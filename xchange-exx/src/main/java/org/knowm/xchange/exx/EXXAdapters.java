@@ -100,7 +100,7 @@ public class EXXAdapters {
   }
 
   public static CurrencyPair convertTradingPair(String pair) {
-    return new CurrencyPair(pair);
+    return CurrencyPair.valueOf(pair);
   }
 
   /**
@@ -232,7 +232,7 @@ public class EXXAdapters {
   //        new CoinsuperGenericOrder(
   //            action,
   //            amount,
-  //            new CurrencyPair(orderList.getSymbol()),
+  //            CurrencyPair.valueOf(orderList.getSymbol()),
   //            orderId,
   //            CommonUtil.timeStampToDate(orderList.getUtcCreate()),
   //            averagePrice,
@@ -36,7 +36,7 @@ public class EXXAccountServiceRaw extends EXXBaseService {
   public EXXAccountInformation getExxAccountInfo() throws IOException {
     Long nonce = System.currentTimeMillis();
     String params = "accesskey=" + this.apiKey + "&nonce=" + nonce;
-    String signature = CommonUtil.HmacSHA512(params, this.secretKey);
+    String signature = CommonUtil.HmacSHA512(params, signer);
 
     return exxAuthenticated.getAccountInfo(this.apiKey, nonce, signature);
   }
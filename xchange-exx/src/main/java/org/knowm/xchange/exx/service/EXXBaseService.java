@@ -3,6 +3,7 @@ package org.knowm.xchange.exx.service;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.utils.HmacSigner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,6 +13,8 @@ public class EXXBaseService extends BaseExchangeService implements BaseService {
 
   protected final String apiKey;
   protected final String secretKey;
+  /** signs with the secret key, null without one */
+  protected final HmacSigner signer;
 
   protected EXXBaseService(Exchange exchange) {
 
@@ -19,5 +22,6 @@ public class EXXBaseService extends BaseExchangeService implements BaseService {
 
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.secretKey = exchange.getExchangeSpecification().getSecretKey();
+    this.signer = secretKey == null ? null : HmacSigner.create("HmacSHA512", secretKey);
   }
 }
@@ -54,7 +54,7 @@ public class EXXTradeServiceRaw extends EXXBaseService {
             + "&type="
             + type;
 
-    String signature = CommonUtil.HmacSHA512(params, this.secretKey);
+    String signature = CommonUtil.HmacSHA512(params, signer);
 
     return exxAuthenticated.placeLimitOrder(
         this.apiKey, amount, currency, nonce, price, type, signature);
@@ -69,7 +69,7 @@ public class EXXTradeServiceRaw extends EXXBaseService {
     String params =
         "accesskey=" + this.apiKey + "&currency=" + currency + "&id=" + orderId + "&nonce=" + nonce;
 
-    String signature = CommonUtil.HmacSHA512(params, this.secretKey);
+    String signature = CommonUtil.HmacSHA512(params, signer);
     EXXCancelOrder exxCancelOrder =
         exxAuthenticated.cancelOrder(this.apiKey, currency, orderId, nonce, signature);
 
@@ -99,7 +99,7 @@ public class EXXTradeServiceRaw extends EXXBaseService {
             + "&type="
             + type;
 
-    String signature = CommonUtil.HmacSHA512(params, this.secretKey);
+    String signature = CommonUtil.HmacSHA512(params, signer);
 
     return exxAuthenticated.getOpenOrders(this.apiKey, currency, nonce, pageIndex, type, signature);
   }
@@ -1,12 +1,8 @@
 package org.knowm.xchange.exx.utils;
 
-import java.math.BigInteger;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
+import org.knowm.xchange.utils.HmacSigner;
 
 public class CommonUtil {
 
@@ -46,21 +42,22 @@ public class CommonUtil {
    * @return String
    */
   public static String HmacSHA512(String value, String secret) {
-    String result;
-    try {
-      Mac hmacSHA512 = Mac.getInstance("HmacSHA512");
-      SecretKeySpec secretKeySpec = new SecretKeySpec(secret.getBytes(), "HmacSHA512");
-      hmacSHA512.init(secretKeySpec);
+    return HmacSHA512(value, HmacSigner.create("HmacSHA512", secret));
+  }
 
-      byte[] digest = hmacSHA512.doFinal(value.getBytes());
-      BigInteger hash = new BigInteger(1, digest);
-      result = hash.toString(16);
-      if ((result.length() % 2) != 0) {
-        result = "0" + result;
-      }
-    } catch (InvalidKeyException | NoSuchAlgorithmException ex) {
-      throw new RuntimeException("Problem as HMAC", ex);
+  /**
+   * HmacSHA512
+   *
+   * @param value the value to sign
+   * @param signer a HmacSHA512 signer with the secret
+   * @return the signature as hex, without leading zero bytes
+   */
+  public static String HmacSHA512(String value, HmacSigner signer) {
+    String result = signer.signHex(value);
+    int start = 0;
+    while (start < result.length() - 2 && result.startsWith("00", start)) {
+      start += 2;
     }
-    return result;
+    return result.substring(start);
   }
 }
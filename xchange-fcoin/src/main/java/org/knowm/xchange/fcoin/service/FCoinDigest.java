@@ -1,7 +1,6 @@
 package org.knowm.xchange.fcoin.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
@@ -11,6 +10,7 @@ import java.util.Map;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.QueryParam;
 import org.knowm.xchange.service.BaseParamsDigest;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 import si.mazi.rescu.Params;
 import si.mazi.rescu.RestInvocation;
 
@@ -56,10 +56,9 @@ public class FCoinDigest extends BaseParamsDigest {
       uri = params.get(QueryParam.class).applyToPath(uri);
     }
     String bodyStr = restInvocation.getRequestBody();
-    ObjectMapper mapper = new ObjectMapper();
     StringBuilder bodyQuery = new StringBuilder();
     try {
-      JsonNode body = mapper.readTree(bodyStr);
+      JsonNode body = JacksonRegistry.DEFAULT.reader().readTree(bodyStr);
       List<String> fields = Lists.newArrayList(body.fieldNames());
       fields.sort(String::compareTo);
       for (String field : fields) {
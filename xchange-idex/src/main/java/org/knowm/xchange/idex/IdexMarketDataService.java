@@ -1,6 +1,5 @@
 package org.knowm.xchange.idex;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -26,6 +25,7 @@ import org.knowm.xchange.idex.service.ReturnTickerApi;
 import org.knowm.xchange.idex.service.ReturnTradeHistoryApi;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 import si.mazi.rescu.RestProxyFactory;
 
 public class IdexMarketDataService extends BaseExchangeService implements MarketDataService {
@@ -216,13 +216,11 @@ public class IdexMarketDataService extends BaseExchangeService implements Market
       c.setRequestMethod("POST");
       c.setRequestProperty("Accept-Encoding", "gzip");
       c.setRequestProperty("User-Agent", "irrelevant");
-      ObjectMapper objectMapper = new ObjectMapper();
-
       try (InputStream inputStream = c.getInputStream();
           GZIPInputStream in = new GZIPInputStream(inputStream);
           InputStreamReader inputStreamReader = new InputStreamReader(in)) {
         o =
-            objectMapper
+            JacksonRegistry.DEFAULT
                 .readerFor(ReturnTickerRequestedWithNull.class)
                 .readValue(inputStreamReader);
       }
@@ -238,8 +236,9 @@ public class IdexMarketDataService extends BaseExchangeService implements Market
       c.setRequestProperty("User-Agent", "irrelevant");
       try (InputStreamReader inputStreamReader =
           new InputStreamReader(new GZIPInputStream(c.getInputStream()))) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readerFor(ReturnCurrenciesResponse.class).readValue(inputStreamReader);
+        return JacksonRegistry.DEFAULT
+            .readerFor(ReturnCurrenciesResponse.class)
+            .readValue(inputStreamReader);
       }
     }
   }
@@ -14,6 +14,7 @@ import org.knowm.xchange.kraken.dto.marketdata.results.KrakenOHLCResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenServerTimeResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenSpreadsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenStreamedDepthResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenTickerResult;
 
 /** @author Benedikt Bünz */
@@ -37,6 +38,11 @@ public interface Kraken {
   KrakenDepthResult getDepth(
       @QueryParam("pair") String currencyPair, @QueryParam("count") long count) throws IOException;
 
+  @GET
+  @Path("public/Depth")
+  KrakenStreamedDepthResult getDepthStreamed(
+      @QueryParam("pair") String currencyPair, @QueryParam("count") long count) throws IOException;
+
   @GET
   @Path("public/Trades")
   KrakenPublicTradesResult getTrades(@QueryParam("pair") String currencyPair) throws IOException;
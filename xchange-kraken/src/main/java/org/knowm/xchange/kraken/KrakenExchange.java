@@ -6,16 +6,20 @@ import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPairs;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssets;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenSymbols;
 import org.knowm.xchange.kraken.service.KrakenAccountService;
 import org.knowm.xchange.kraken.service.KrakenMarketDataService;
 import org.knowm.xchange.kraken.service.KrakenMarketDataServiceRaw;
 import org.knowm.xchange.kraken.service.KrakenTradeService;
+import org.knowm.xchange.utils.MetaDataCache;
 import org.knowm.xchange.utils.nonce.CurrentTimeNonceFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 /** @author Benedikt Bünz */
 public class KrakenExchange extends BaseExchange implements Exchange {
 
+  private static final String SYMBOLS = "symbols";
+
   private final SynchronizedValueFactory<Long> nonceFactory = new CurrentTimeNonceFactory();
 
   @Override
@@ -50,11 +54,31 @@ public class KrakenExchange extends BaseExchange implements Exchange {
     KrakenAssetPairs assetPairs =
         ((KrakenMarketDataServiceRaw) marketDataService).getKrakenAssetPairs();
     KrakenAssets assets = ((KrakenMarketDataServiceRaw) marketDataService).getKrakenAssets();
-    KrakenUtils.clearAssets();
+    KrakenUtils.setKrakenAssetsAndPairs(assets.getAssetPairMap(), assetPairs.getAssetPairMap());
     // other endpoints?
     // hard-coded meta data from json file not available at an endpoint?
     exchangeMetaData =
         KrakenAdapters.adaptToExchangeMetaData(
             exchangeMetaData, assetPairs.getAssetPairMap(), assets.getAssetPairMap());
   }
+
+  /** remoteInit also fills the asset and asset pair names of {@link KrakenUtils} */
+  @Override
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    MetaDataCache.Entry<KrakenSymbols> cached = cache.read(SYMBOLS, KrakenSymbols.class);
+    if (cached == null
+        || cached.getValue().getAssets() == null
+        || cached.getValue().getAssetPairs() == null) {
+      return false;
+    }
+    KrakenUtils.setKrakenSymbols(cached.getValue());
+    return true;
+  }
+
+  @Override
+  protected void cacheState(MetaDataCache cache) throws IOException {
+
+    cache.write(SYMBOLS, KrakenUtils.getKrakenSymbols());
+  }
 }
@@ -1,81 +1,115 @@
 package org.knowm.xchange.kraken;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenSymbols;
 
 /** @author timmolter */
 public class KrakenUtils {
 
-  private static Map<String, CurrencyPair> assetPairMap = new HashMap<String, CurrencyPair>();
-  private static Map<CurrencyPair, String> assetPairMapReverse =
-      new HashMap<CurrencyPair, String>();
-  private static Map<String, Currency> assetsMap = new HashMap<String, Currency>();
-  private static Map<Currency, String> assetsMapReverse = new HashMap<Currency, String>();
+  /**
+   * The assets and asset pairs from remoteInit. Exchanges initialize concurrently, so each update
+   * builds a complete new state and replaces the current one at once, and readers never see it half
+   * built.
+   */
+  private static volatile Symbols symbols = new Symbols();
 
   /** Private Constructor */
   private KrakenUtils() {}
 
-  public static void setKrakenAssetPairs(Map<String, KrakenAssetPair> pairs) {
-    if (assetPairMap.isEmpty()) {
-      for (Map.Entry<String, KrakenAssetPair> entry : pairs.entrySet()) {
-        //  skip dark markets!
-        if (!entry.getKey().endsWith(".d")) {
-          CurrencyPair pair =
-              new CurrencyPair(
-                  translateKrakenCurrencyCode(entry.getValue().getBase()),
-                  translateKrakenCurrencyCode(entry.getValue().getQuote()));
-          assetPairMap.put(entry.getKey(), pair);
-          assetPairMapReverse.put(pair, entry.getKey());
-        }
-      }
+  public static synchronized void setKrakenAssetPairs(Map<String, KrakenAssetPair> pairs) {
+    Symbols current = symbols;
+    if (current.assetPairs.getRegisteredPairs().isEmpty()) {
+      Symbols updated = new Symbols(current.assets, current.assetsReverse);
+      updated.registerAssetPairs(pairs);
+      symbols = updated;
     }
   }
 
-  public static void setKrakenAssets(Map<String, KrakenAsset> assetSource) {
-    if (assetsMap.isEmpty()) {
-      for (Map.Entry<String, KrakenAsset> entry : assetSource.entrySet()) {
-        assetsMap.put(entry.getKey(), Currency.getInstance(entry.getValue().getAltName()));
-        assetsMapReverse.put(Currency.getInstance(entry.getValue().getAltName()), entry.getKey());
-      }
+  public static synchronized void setKrakenAssets(Map<String, KrakenAsset> assetSource) {
+    if (symbols.assets.isEmpty()) {
+      Symbols updated = new Symbols();
+      updated.putAssets(assetSource);
+      symbols = updated;
+    }
+  }
+
+  /**
+   * Replaces the assets and asset pairs at once, so that concurrent readers see either the old or
+   * the new ones.
+   */
+  public static void setKrakenAssetsAndPairs(
+      Map<String, KrakenAsset> assetSource, Map<String, KrakenAssetPair> pairs) {
+    Symbols updated = new Symbols();
+    updated.putAssets(assetSource);
+    updated.registerAssetPairs(pairs);
+    synchronized (KrakenUtils.class) {
+      symbols = updated;
+    }
+  }
+
+  /** @return the assets and asset pairs set by remoteInit, to be restored by setKrakenSymbols */
+  public static KrakenSymbols getKrakenSymbols() {
+    Symbols current = symbols;
+    Map<String, String> assets = new LinkedHashMap<>();
+    for (Map.Entry<String, Currency> entry : current.assets.entrySet()) {
+      assets.put(entry.getKey(), entry.getValue().getCurrencyCode());
+    }
+    Map<String, String> pairs = new LinkedHashMap<>();
+    for (CurrencyPair pair : current.assetPairs.getRegisteredPairs()) {
+      pairs.put(current.assetPairs.encode(pair), pair.toString());
+    }
+    return new KrakenSymbols(assets, pairs);
+  }
+
+  /** Replaces the assets and asset pairs with ones from getKrakenSymbols */
+  public static void setKrakenSymbols(KrakenSymbols krakenSymbols) {
+    Symbols updated = new Symbols();
+    for (Map.Entry<String, String> entry : krakenSymbols.getAssets().entrySet()) {
+      updated.putAsset(entry.getKey(), Currency.getInstance(entry.getValue()));
+    }
+    for (Map.Entry<String, String> entry : krakenSymbols.getAssetPairs().entrySet()) {
+      updated.assetPairs.register(new CurrencyPair(entry.getValue()), entry.getKey());
+    }
+    synchronized (KrakenUtils.class) {
+      symbols = updated;
     }
   }
 
   public static String createKrakenCurrencyPair(CurrencyPair currencyPair) {
-    return assetPairMapReverse.get(currencyPair);
+    return symbols.assetPairs.encode(currencyPair);
   }
 
   public static CurrencyPair translateKrakenCurrencyPair(String currencyPairIn) {
-    CurrencyPair pair = assetPairMap.get(currencyPairIn);
-    if (pair == null) {
-      // kraken can give short pairs back from open orders ?
-      if (currencyPairIn.length() == 6) {
-        Currency base = Currency.getInstance(currencyPairIn.substring(0, 3));
-        if (base.getCommonlyUsedCurrency() != null) {
-          base = base.getCommonlyUsedCurrency();
-        }
-        Currency counter = Currency.getInstance(currencyPairIn.substring(3, 6));
-        if (counter.getCommonlyUsedCurrency() != null) {
-          counter = counter.getCommonlyUsedCurrency();
-        }
-        pair = new CurrencyPair(base, counter);
-      } else if (currencyPairIn.length() == 7) {
-        Currency base = Currency.getInstance(currencyPairIn.substring(0, 4));
-        if (base.getCommonlyUsedCurrency() != null) {
-          base = base.getCommonlyUsedCurrency();
-        }
-        Currency counter = Currency.getInstance(currencyPairIn.substring(4, 7));
-        if (counter.getCommonlyUsedCurrency() != null) {
-          counter = counter.getCommonlyUsedCurrency();
-        }
-        pair = new CurrencyPair(base, counter);
-      }
+    return symbols.assetPairs.decode(currencyPairIn);
+  }
+
+  /** Kraken can give short pairs back from open orders, e.g. "XBTUSD" or "DASHEUR" */
+  private static CurrencyPair parseShortKrakenCurrencyPair(String currencyPairIn) {
+    int baseLength;
+    if (currencyPairIn.length() == 6) {
+      baseLength = 3;
+    } else if (currencyPairIn.length() == 7) {
+      baseLength = 4;
+    } else {
+      return null;
     }
-    return pair;
+    Currency base = Currency.getInstance(currencyPairIn.substring(0, baseLength));
+    if (base.getCommonlyUsedCurrency() != null) {
+      base = base.getCommonlyUsedCurrency();
+    }
+    Currency counter = Currency.getInstance(currencyPairIn.substring(baseLength));
+    if (counter.getCommonlyUsedCurrency() != null) {
+      counter = counter.getCommonlyUsedCurrency();
+    }
+    return new CurrencyPair(base, counter);
   }
 
   public static String createKrakenCurrencyPair(Currency tradableIdentifier, Currency currency) {
@@ -86,7 +120,7 @@ public class KrakenUtils {
     if (currency.getIso4217Currency() != null) {
       currency = currency.getIso4217Currency();
     }
-    String krakenCode = assetsMapReverse.get(currency);
+    String krakenCode = symbols.assetsReverse.get(currency);
     if (krakenCode == null) {
       throw new ExchangeException("Kraken does not support the currency code " + currency);
     }
@@ -94,17 +128,62 @@ public class KrakenUtils {
   }
 
   public static Currency translateKrakenCurrencyCode(String currencyIn) {
-    Currency currencyOut = assetsMap.get(currencyIn);
+    return translateKrakenCurrencyCode(symbols.assets, currencyIn);
+  }
+
+  private static Currency translateKrakenCurrencyCode(
+      Map<String, Currency> assets, String currencyIn) {
+    Currency currencyOut = assets.get(currencyIn);
     if (currencyOut == null) {
       throw new ExchangeException("Kraken does not support the currency code " + currencyIn);
     }
     return currencyOut.getCommonlyUsedCurrency();
   }
 
-  public static void clearAssets() {
-    assetPairMap.clear();
-    assetPairMapReverse.clear();
-    assetsMap.clear();
-    assetsMapReverse.clear();
+  public static synchronized void clearAssets() {
+    symbols = new Symbols();
+  }
+
+  /** One state of the assets and asset pairs, only changed while it is built */
+  private static final class Symbols {
+
+    /** Asset pairs from remoteInit, and short pair names translated on first sight */
+    final SymbolCodec assetPairs = new SymbolCodec(null, KrakenUtils::parseShortKrakenCurrencyPair);
+
+    final Map<String, Currency> assets;
+    final Map<Currency, String> assetsReverse;
+
+    Symbols() {
+      this(new HashMap<>(), new HashMap<>());
+    }
+
+    Symbols(Map<String, Currency> assets, Map<Currency, String> assetsReverse) {
+      this.assets = assets;
+      this.assetsReverse = assetsReverse;
+    }
+
+    void putAssets(Map<String, KrakenAsset> assetSource) {
+      for (Map.Entry<String, KrakenAsset> entry : assetSource.entrySet()) {
+        putAsset(entry.getKey(), Currency.getInstance(entry.getValue().getAltName()));
+      }
+    }
+
+    void putAsset(String krakenCode, Currency currency) {
+      assets.put(krakenCode, currency);
+      assetsReverse.put(currency, krakenCode);
+    }
+
+    void registerAssetPairs(Map<String, KrakenAssetPair> pairs) {
+      for (Map.Entry<String, KrakenAssetPair> entry : pairs.entrySet()) {
+        //  skip dark markets!
+        if (!entry.getKey().endsWith(".d")) {
+          CurrencyPair pair =
+              new CurrencyPair(
+                  translateKrakenCurrencyCode(assets, entry.getValue().getBase()),
+                  translateKrakenCurrencyCode(assets, entry.getValue().getQuote()));
+          assetPairs.register(pair, entry.getKey());
+        }
+      }
+    }
   }
 }
@@ -0,0 +1,74 @@
+package org.knowm.xchange.kraken.dto.marketdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import java.util.Date;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.PackedOrderBook;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenStreamedDepth.KrakenStreamedDepthDeserializer;
+import org.knowm.xchange.utils.jackson.OrderBookJsonReader;
+
+/**
+ * Depth from Kraken parsed token by token into a {@link PackedOrderBook}, instead of a {@link
+ * KrakenPublicOrder} per order as in {@link KrakenDepth}
+ */
+@JsonDeserialize(using = KrakenStreamedDepthDeserializer.class)
+public class KrakenStreamedDepth {
+
+  private final PackedOrderBook orderBook;
+
+  /**
+   * Constructor
+   *
+   * @param orderBook
+   */
+  public KrakenStreamedDepth(PackedOrderBook orderBook) {
+
+    this.orderBook = orderBook;
+  }
+
+  /** @return the orders, with an empty id and a timestamp each, as {@link KrakenDepth} */
+  public PackedOrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  @Override
+  public String toString() {
+
+    return "KrakenStreamedDepth [orderBook=" + orderBook + "]";
+  }
+
+  static class KrakenStreamedDepthDeserializer extends JsonDeserializer<KrakenStreamedDepth> {
+
+    @Override
+    public KrakenStreamedDepth deserialize(JsonParser jsonParser, DeserializationContext ctxt)
+        throws IOException {
+
+      PackedOrderBook orderBook = new PackedOrderBook();
+      OrderBookJsonReader.readObject(
+          jsonParser,
+          (name, parser) -> {
+            if ("asks".equals(name)) {
+              readOrders(parser, OrderType.ASK, orderBook);
+            } else if ("bids".equals(name)) {
+              readOrders(parser, OrderType.BID, orderBook);
+            }
+          });
+      return new KrakenStreamedDepth(orderBook);
+    }
+
+    private static void readOrders(JsonParser parser, OrderType type, PackedOrderBook orderBook)
+        throws IOException {
+
+      // [price, volume, timestamp]
+      OrderBookJsonReader.readRows(
+          parser,
+          (price, volume, p) ->
+              orderBook.accept(type, price, volume, "", new Date(p.getValueAsLong() * 1000)));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package org.knowm.xchange.kraken.dto.marketdata;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/**
+ * The asset codes and asset pair names {@link org.knowm.xchange.kraken.KrakenUtils} translates
+ * with, as kept in the meta data cache.
+ */
+public class KrakenSymbols {
+
+  /** Kraken asset code, e.g. "XXBT", to the alternative name, e.g. "XBT" */
+  private final Map<String, String> assets;
+
+  /** Kraken asset pair name, e.g. "XXBTZUSD", to the pair, e.g. "BTC/USD" */
+  private final Map<String, String> assetPairs;
+
+  public KrakenSymbols(
+      @JsonProperty("assets") Map<String, String> assets,
+      @JsonProperty("assetPairs") Map<String, String> assetPairs) {
+
+    this.assets = assets;
+    this.assetPairs = assetPairs;
+  }
+
+  public Map<String, String> getAssets() {
+
+    return assets;
+  }
+
+  public Map<String, String> getAssetPairs() {
+
+    return assetPairs;
+  }
+
+  @Override
+  public String toString() {
+
+    return "KrakenSymbols [assets=" + assets + ", assetPairs=" + assetPairs + "]";
+  }
+}
@@ -0,0 +1,22 @@
+package org.knowm.xchange.kraken.dto.marketdata.results;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import org.knowm.xchange.kraken.dto.KrakenResult;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenStreamedDepth;
+
+public class KrakenStreamedDepthResult extends KrakenResult<Map<String, KrakenStreamedDepth>> {
+
+  /**
+   * Constructor
+   *
+   * @param error array of string error messages
+   * @param result the returned depths
+   */
+  public KrakenStreamedDepthResult(
+      @JsonProperty("error") String[] error,
+      @JsonProperty("result") Map<String, KrakenStreamedDepth> result) {
+
+    super(result, error);
+  }
+}
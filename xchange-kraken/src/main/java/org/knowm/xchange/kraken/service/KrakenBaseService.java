@@ -26,9 +26,8 @@ import org.knowm.xchange.kraken.dto.trade.KrakenOrderFlags;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 
-public class KrakenBaseService extends BaseExchangeService implements BaseService {
+public class KrakenBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected KrakenAuthenticated kraken;
   protected ParamsDigest signatureCreator;
@@ -43,7 +42,7 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
     super(exchange);
 
     kraken =
-        RestProxyFactory.createProxy(
+        createProxy(
             KrakenAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
             getClientConfig());
@@ -61,6 +61,9 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
       }
     }
 
+    if (isStreamingOrderBook()) {
+      return getKrakenStreamedDepth(currencyPair, count).getOrderBook().toOrderBook(currencyPair);
+    }
     KrakenDepth krakenDepth = getKrakenDepth(currencyPair, count);
 
     return KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair);
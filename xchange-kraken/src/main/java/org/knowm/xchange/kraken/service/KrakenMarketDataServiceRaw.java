@@ -11,12 +11,14 @@ import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenOHLCs;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenSpreads;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenStreamedDepth;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenTicker;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetPairsResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenOHLCResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenSpreadsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenStreamedDepthResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenTickerResult;
 
 public class KrakenMarketDataServiceRaw extends KrakenBaseService {
@@ -66,6 +68,15 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
     return checkResult(result).get(krakenCurrencyPair);
   }
 
+  public KrakenStreamedDepth getKrakenStreamedDepth(CurrencyPair currencyPair, long count)
+      throws IOException {
+
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    KrakenStreamedDepthResult result = kraken.getDepthStreamed(krakenCurrencyPair, count);
+
+    return checkResult(result).get(krakenCurrencyPair);
+  }
+
   public KrakenPublicTrades getKrakenTrades(CurrencyPair currencyPair) throws IOException {
 
     return getKrakenTrades(currencyPair, null);
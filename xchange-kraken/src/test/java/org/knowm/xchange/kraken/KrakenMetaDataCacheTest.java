@@ -0,0 +1,106 @@
+package org.knowm.xchange.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPairs;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAssets;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetPairsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetsResult;
+import org.knowm.xchange.kraken.service.KrakenMarketDataService;
+
+public class KrakenMetaDataCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Before
+  public void reset() {
+
+    FakeKrakenExchange.remoteCalls.set(0);
+  }
+
+  @Test
+  public void testStartFromTheCacheRestoresTheSymbols() {
+
+    KrakenExchange first = start();
+    assertThat(FakeKrakenExchange.remoteCalls).hasValue(2);
+    String btc = KrakenUtils.getKrakenCurrencyCode(Currency.BTC);
+    CurrencyPair adaUsd = KrakenUtils.translateKrakenCurrencyPair("ADAUSD");
+    String adaEur = KrakenUtils.createKrakenCurrencyPair(new CurrencyPair("ADA/EUR"));
+
+    // as if the JVM was restarted
+    KrakenUtils.clearAssets();
+    KrakenExchange second = start();
+
+    assertThat(FakeKrakenExchange.remoteCalls).hasValue(2);
+    assertThat(second.getExchangeMetaData().getCurrencyPairs())
+        .containsOnlyKeys(first.getExchangeMetaData().getCurrencyPairs().keySet());
+    assertThat(btc).isEqualTo("XXBT");
+    assertThat(KrakenUtils.getKrakenCurrencyCode(Currency.BTC)).isEqualTo(btc);
+    assertThat(KrakenUtils.translateKrakenCurrencyCode("XXBT")).isEqualTo(Currency.BTC);
+    assertThat(adaUsd).isEqualTo(new CurrencyPair("ADA/USD"));
+    assertThat(KrakenUtils.translateKrakenCurrencyPair("ADAUSD")).isEqualTo(adaUsd);
+    assertThat(KrakenUtils.createKrakenCurrencyPair(new CurrencyPair("ADA/EUR"))).isEqualTo(adaEur);
+  }
+
+  private KrakenExchange start() {
+
+    KrakenExchange exchange = new FakeKrakenExchange();
+    ExchangeSpecification specification = exchange.getDefaultExchangeSpecification();
+    specification.setMetaDataCacheDirectory(folder.getRoot().getPath());
+    specification.setMetaDataCacheTtl(60_000);
+    specification.setAsyncExecutor(Runnable::run);
+    exchange.applySpecification(specification);
+    return exchange;
+  }
+
+  /** Answers remoteInit with the example responses */
+  public static class FakeKrakenExchange extends KrakenExchange {
+
+    static final AtomicInteger remoteCalls = new AtomicInteger();
+
+    @Override
+    protected void initServices() {
+
+      super.initServices();
+      this.marketDataService =
+          new KrakenMarketDataService(this) {
+            @Override
+            public KrakenAssetPairs getKrakenAssetPairs(CurrencyPair... currencyPairs)
+                throws IOException {
+
+              remoteCalls.incrementAndGet();
+              return new KrakenAssetPairs(
+                  read("example-assetpairs-data.json", KrakenAssetPairsResult.class).getResult());
+            }
+
+            @Override
+            public KrakenAssets getKrakenAssets(Currency... assets) throws IOException {
+
+              remoteCalls.incrementAndGet();
+              return new KrakenAssets(
+                  read("example-assets-data.json", KrakenAssetsResult.class).getResult());
+            }
+          };
+    }
+
+    private static <T> T read(String name, Class<T> type) throws IOException {
+
+      try (InputStream is =
+          KrakenMetaDataCacheTest.class.getResourceAsStream(
+              "/org/knowm/xchange/kraken/dto/marketdata/" + name)) {
+        return new ObjectMapper().readValue(is, type);
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package org.knowm.xchange.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetPairsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetsResult;
+
+public class KrakenUtilsTest {
+
+  @Test
+  public void testReadersNeverSeeHalfReplacedSymbols() throws Exception {
+
+    Map<String, KrakenAsset> assets =
+        read("example-assets-data.json", KrakenAssetsResult.class).getResult();
+    Map<String, KrakenAssetPair> pairs =
+        read("example-assetpairs-data.json", KrakenAssetPairsResult.class).getResult();
+    KrakenUtils.setKrakenAssetsAndPairs(assets, pairs);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 500; j++) {
+                    KrakenUtils.setKrakenAssetsAndPairs(assets, pairs);
+                  }
+                }));
+        futures.add(
+            executor.submit(
+                (Callable<Void>)
+                    () -> {
+                      for (int j = 0; j < 5_000; j++) {
+                        assertThat(KrakenUtils.translateKrakenCurrencyCode("XXBT"))
+                            .isEqualTo(Currency.BTC);
+                        assertThat(KrakenUtils.translateKrakenCurrencyPair("ADAUSD"))
+                            .isEqualTo(new CurrencyPair("ADA/USD"));
+                      }
+                      return null;
+                    }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static <T> T read(String name, Class<T> type) throws IOException {
+
+    try (InputStream is =
+        KrakenUtilsTest.class.getResourceAsStream(
+            "/org/knowm/xchange/kraken/dto/marketdata/" + name)) {
+      return new ObjectMapper().readValue(is, type);
+    }
+  }
+}
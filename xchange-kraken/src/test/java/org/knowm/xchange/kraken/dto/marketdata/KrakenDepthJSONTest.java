@@ -9,7 +9,11 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.kraken.KrakenAdapters;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenStreamedDepthResult;
 
 /** Test KrakenDepth JSON parsing */
 public class KrakenDepthJSONTest {
@@ -36,4 +40,30 @@ public class KrakenDepthJSONTest {
     assertThat(krakenPublicOrder.getVolume()).isEqualTo(new BigDecimal("0.248"));
     assertThat(krakenPublicOrder.getTimestamp()).isEqualTo(1391825343L);
   }
+
+  @Test
+  public void testStreamedUnmarshalMatchesAdaptedDepth() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    KrakenDepth krakenDepth =
+        mapper.readValue(getDepthData(), KrakenDepthResult.class).getResult().get("XXBTZEUR");
+    KrakenStreamedDepth streamedDepth =
+        mapper
+            .readValue(getDepthData(), KrakenStreamedDepthResult.class)
+            .getResult()
+            .get("XXBTZEUR");
+
+    OrderBook expected = KrakenAdapters.adaptOrderBook(krakenDepth, CurrencyPair.BTC_EUR);
+    OrderBook actual = streamedDepth.getOrderBook().toOrderBook(CurrencyPair.BTC_EUR);
+
+    assertThat(actual.getAsks()).isEqualTo(expected.getAsks());
+    assertThat(actual.getBids()).isEqualTo(expected.getBids());
+    assertThat(actual.getTimeStamp()).isEqualTo(expected.getTimeStamp());
+  }
+
+  private static InputStream getDepthData() {
+
+    return KrakenDepthJSONTest.class.getResourceAsStream(
+        "/org/knowm/xchange/kraken/dto/marketdata/example-depth-data.json");
+  }
 }
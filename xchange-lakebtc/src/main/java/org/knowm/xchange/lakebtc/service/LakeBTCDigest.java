@@ -1,10 +1,8 @@
 package org.knowm.xchange.lakebtc.service;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import org.knowm.xchange.lakebtc.LakeBTCUtil;
 import org.knowm.xchange.lakebtc.dto.LakeBTCRequest;
 import org.knowm.xchange.service.BaseParamsDigest;
+import org.knowm.xchange.utils.HmacSigner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import si.mazi.rescu.BasicAuthCredentials;
@@ -39,20 +37,7 @@ public class LakeBTCDigest extends BaseParamsDigest {
 
   public static String makeSign(String data, String key) throws Exception {
 
-    SecretKeySpec sign = new SecretKeySpec(key.getBytes(), HMAC_SHA_1);
-    Mac mac = Mac.getInstance(HMAC_SHA_1);
-    mac.init(sign);
-    byte[] rawHmac = mac.doFinal(data.getBytes());
-
-    return arrayHex(rawHmac);
-  }
-
-  private static String arrayHex(byte[] a) {
-    StringBuilder sb = new StringBuilder();
-    for (byte b : a) {
-      sb.append(String.format("%02x", b & 0xff));
-    }
-    return sb.toString();
+    return HmacSigner.create(HMAC_SHA_1, key).signHex(data);
   }
 
   @Override
@@ -81,10 +66,7 @@ public class LakeBTCDigest extends BaseParamsDigest {
             tonce, clientId, method, id, request.getMethod(), params);
     log.debug("signature message: {}", signature);
 
-    Mac mac = getMac();
-    byte[] hash = mac.doFinal(signature.getBytes());
-
-    BasicAuthCredentials auth = new BasicAuthCredentials(apiKey, LakeBTCUtil.bytesToHex(hash));
+    BasicAuthCredentials auth = new BasicAuthCredentials(apiKey, getSigner().signHex(signature));
 
     return auth.digestParams(restInvocation);
   }
@@ -6,6 +6,7 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.oer.dto.marketdata.OERLatestRates;
 import org.knowm.xchange.oer.dto.marketdata.OERTickers;
 
 /** @author timmolter */
@@ -20,4 +21,9 @@ public interface OER {
       @QueryParam("base") String base,
       @QueryParam("symbols") String symbols)
       throws IOException;
+
+  @GET
+  @Path("latest.json")
+  OERLatestRates getLatestRates(@QueryParam("app_id") String appId, @QueryParam("base") String base)
+      throws IOException;
 }
@@ -1,8 +1,13 @@
 package org.knowm.xchange.oer;
 
 import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Map;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.oer.dto.marketdata.OERLatestRates;
+import org.knowm.xchange.service.marketdata.RateMatrix;
 
 /** Various adapters for converting from OER DTOs to XChange DTOs */
 public final class OERAdapters {
@@ -15,4 +20,21 @@ public final class OERAdapters {
     BigDecimal last = BigDecimal.valueOf(exchangeRate);
     return new Ticker.Builder().currencyPair(currencyPair).last(last).timestamp(null).build();
   }
+
+  public static RateMatrix adaptRateMatrix(OERLatestRates latestRates) {
+
+    Currency base =
+        latestRates.getBase() == null ? Currency.USD : Currency.getInstance(latestRates.getBase());
+    RateMatrix.Builder builder = RateMatrix.builder(base);
+    for (Map.Entry<String, Double> rate : latestRates.getRates().entrySet()) {
+      Double value = rate.getValue();
+      if (value != null && value > 0) {
+        builder.quote(base, Currency.getInstance(rate.getKey()), value);
+      }
+    }
+    if (latestRates.getTimestamp() != null) {
+      builder.timestamp(new Date(latestRates.getTimestamp() * 1000));
+    }
+    return builder.build();
+  }
 }
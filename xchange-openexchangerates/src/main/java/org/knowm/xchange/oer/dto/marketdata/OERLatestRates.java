@@ -0,0 +1,49 @@
+package org.knowm.xchange.oer.dto.marketdata;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/**
+ * Data object representing all the latest exchange rates from Open Exchange Rates, keyed by
+ * currency code
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class OERLatestRates {
+
+  private final String base;
+  private final Long timestamp;
+  private final Map<String, Double> rates;
+
+  public OERLatestRates(
+      @JsonProperty("base") String base,
+      @JsonProperty("timestamp") Long timestamp,
+      @JsonProperty("rates") Map<String, Double> rates) {
+
+    this.base = base;
+    this.timestamp = timestamp;
+    this.rates = rates;
+  }
+
+  public String getBase() {
+
+    return base;
+  }
+
+  /** @return the time of the rates, in seconds since the epoch */
+  public Long getTimestamp() {
+
+    return timestamp;
+  }
+
+  public Map<String, Double> getRates() {
+
+    return rates;
+  }
+
+  @Override
+  public String toString() {
+
+    return "OERLatestRates [base=" + base + ", timestamp=" + timestamp + ", rates=" + rates + "]";
+  }
+}
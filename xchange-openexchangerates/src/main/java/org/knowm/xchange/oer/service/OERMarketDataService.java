@@ -1,22 +1,37 @@
 package org.knowm.xchange.oer.service;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
-import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
 import org.knowm.xchange.oer.OERAdapters;
-import org.knowm.xchange.oer.dto.marketdata.OERRates;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.RateMatrix;
+import org.knowm.xchange.service.marketdata.RateMatrixCache;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+import org.knowm.xchange.service.marketdata.params.Params;
 
-/** @author timmolter */
+/**
+ * Tickers of Open Exchange Rates. All the rates are fetched with one call and kept for {@link
+ * #RATE_REFRESH_INTERVAL} milliseconds, and the rate of any two currencies is derived from them.
+ *
+ * @author timmolter
+ */
 public class OERMarketDataService extends OERMarketDataServiceRaw implements MarketDataService {
 
+  /** Exchange specific parameter: the time the rates are used for, in milliseconds */
+  public static final String RATE_REFRESH_INTERVAL = "rateRefreshInterval";
+
+  private static final long DEFAULT_RATE_REFRESH_INTERVAL = 60_000;
+
+  private final RateMatrixCache rateMatrix;
+
   /**
    * Constructor
    *
@@ -25,30 +40,61 @@ public class OERMarketDataService extends OERMarketDataServiceRaw implements Mar
   public OERMarketDataService(Exchange exchange) {
 
     super(exchange);
+    this.rateMatrix =
+        new RateMatrixCache(
+            () -> OERAdapters.adaptRateMatrix(getOERLatestRates(null)),
+            refreshInterval(
+                exchange
+                    .getExchangeSpecification()
+                    .getExchangeSpecificParametersItem(RATE_REFRESH_INTERVAL)));
+  }
+
+  /**
+   * @param value the {@link #RATE_REFRESH_INTERVAL} parameter, a number or, as read from a
+   *     properties file, a string
+   * @return the refresh interval in milliseconds
+   */
+  private static long refreshInterval(Object value) {
+
+    if (value == null) {
+      return DEFAULT_RATE_REFRESH_INTERVAL;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).longValue();
+    }
+    try {
+      return Long.parseLong(value.toString().trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          RATE_REFRESH_INTERVAL + " must be a number of milliseconds, not " + value, e);
+    }
   }
 
   @Override
   public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
 
-    OERRates rates = getOERTicker(currencyPair);
+    return rateMatrix.getTicker(currencyPair);
+  }
 
-    // Use reflection to get at data.
-    Method method = null;
-    try {
-      method = OERRates.class.getMethod("get" + currencyPair.counter.getCurrencyCode(), null);
-    } catch (SecurityException | NoSuchMethodException e) {
-      throw new ExchangeException("Problem getting exchange rate!", e);
-    }
+  /**
+   * @param params a {@link CurrencyPairsParam} for the tickers of its pairs, otherwise the tickers
+   *     of all the currencies against the base currency of the rates are returned
+   */
+  @Override
+  public List<Ticker> getTickers(Params params) throws IOException {
 
-    Double exchangeRate = null;
-    try {
-      exchangeRate = (Double) method.invoke(rates, null);
-    } catch (IllegalArgumentException | InvocationTargetException | IllegalAccessException e) {
-      throw new ExchangeException("Problem getting exchange rate!", e);
+    RateMatrix matrix = rateMatrix.get();
+    if (params instanceof CurrencyPairsParam) {
+      return matrix.getTickers(((CurrencyPairsParam) params).getCurrencyPairs());
     }
-
-    // Adapt to XChange DTOs
-    return OERAdapters.adaptTicker(currencyPair, exchangeRate);
+    Currency base = matrix.getPivots().get(0);
+    List<CurrencyPair> currencyPairs = new ArrayList<>();
+    for (Currency currency : matrix.getCurrencies()) {
+      if (!currency.equals(base)) {
+        currencyPairs.add(new CurrencyPair(base, currency));
+      }
+    }
+    return matrix.getTickers(currencyPairs);
   }
 
   @Override
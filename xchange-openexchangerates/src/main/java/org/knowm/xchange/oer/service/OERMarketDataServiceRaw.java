@@ -5,6 +5,7 @@ import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.oer.OER;
+import org.knowm.xchange.oer.dto.marketdata.OERLatestRates;
 import org.knowm.xchange.oer.dto.marketdata.OERRates;
 import org.knowm.xchange.oer.dto.marketdata.OERTickers;
 import si.mazi.rescu.RestProxyFactory;
@@ -40,4 +41,18 @@ public class OERMarketDataServiceRaw extends OERBaseService {
     }
     return oERTickers.getRates();
   }
+
+  /**
+   * @param base the currency the rates are quoted against, null for the default of the plan (USD)
+   * @return all the latest rates, from a single call
+   */
+  public OERLatestRates getOERLatestRates(String base) throws IOException {
+
+    OERLatestRates latestRates =
+        openExchangeRates.getLatestRates(exchange.getExchangeSpecification().getApiKey(), base);
+    if (latestRates == null || latestRates.getRates() == null) {
+      throw new ExchangeException("Null response returned from Open Exchange Rates!");
+    }
+    return latestRates;
+  }
 }
@@ -31,4 +31,18 @@ public class OERTickersTest {
     System.out.println(oERTickers.getRates().getAED());
     assertThat(oERTickers.getRates().getAED()).isEqualTo(3.672989);
   }
+
+  @Test
+  public void testUnmarshalLatestRates() throws IOException {
+
+    InputStream is =
+        OERTickersTest.class.getResourceAsStream(
+            "/org/knowm/xchange/oer/dto/marketdata/example-latest-rates.json");
+
+    OERLatestRates latestRates = new ObjectMapper().readValue(is, OERLatestRates.class);
+
+    assertThat(latestRates.getBase()).isEqualTo("USD");
+    assertThat(latestRates.getTimestamp()).isEqualTo(1354687208L);
+    assertThat(latestRates.getRates()).containsEntry("AED", 3.672989).containsEntry("BBD", 2d);
+  }
 }
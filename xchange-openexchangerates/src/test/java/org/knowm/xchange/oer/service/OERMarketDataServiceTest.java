@@ -1,37 +1,118 @@
 package org.knowm.xchange.oer.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.oer.OERExchange;
-import org.knowm.xchange.oer.dto.marketdata.OERRates;
+import org.knowm.xchange.oer.dto.marketdata.OERLatestRates;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+import org.knowm.xchange.service.marketdata.params.Params;
 
 public class OERMarketDataServiceTest {
 
+  private final AtomicInteger fetches = new AtomicInteger();
+
   @Test
   public void testTakesCorrectValueFromOERRates() throws IOException {
-    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(OERExchange.class.getName());
-
-    OERMarketDataService marketDataService =
-        new OERMarketDataService(exchange) {
-          @Override
-          public OERRates getOERTicker(CurrencyPair pair) {
-            assertThat(pair.base).isEqualTo(Currency.USD);
-            OERRates r = new OERRates();
-            r.setAUD(1.23d);
-            return r;
-          }
-        };
-
-    Ticker t = marketDataService.getTicker(CurrencyPair.USD_AUD);
+
+    Ticker t = marketDataService().getTicker(CurrencyPair.USD_AUD);
     assertThat(t.getCurrencyPair()).isEqualTo(CurrencyPair.USD_AUD);
     assertThat(t.getLast()).isEqualTo(BigDecimal.valueOf(1.23d));
+    assertThat(t.getTimestamp()).isEqualTo(new Date(1354687208000L));
+  }
+
+  @Test
+  public void testDerivesCrossRatesFromOneFetch() throws IOException {
+
+    OERMarketDataService marketDataService = marketDataService();
+
+    Ticker eurAud = marketDataService.getTicker(new CurrencyPair(Currency.EUR, Currency.AUD));
+    assertThat(eurAud.getLast().doubleValue()).isCloseTo(1.23d / 0.8d, within(1e-12));
+    Ticker btcEur = marketDataService.getTicker(new CurrencyPair(Currency.BTC, Currency.EUR));
+    assertThat(btcEur.getLast().doubleValue()).isCloseTo(0.8d / 0.0001d, within(1e-6));
+
+    CurrencyPairsParam params =
+        () -> Arrays.asList(CurrencyPair.EUR_USD, CurrencyPair.ETH_USD, CurrencyPair.USD_AUD);
+    List<Ticker> tickers = marketDataService.getTickers(params);
+    assertThat(tickers)
+        .extracting(Ticker::getCurrencyPair)
+        .containsExactly(CurrencyPair.EUR_USD, CurrencyPair.USD_AUD);
+
+    List<Ticker> all = marketDataService.getTickers((Params) null);
+    assertThat(all)
+        .extracting(Ticker::getCurrencyPair)
+        .containsExactly(
+            CurrencyPair.USD_AUD,
+            new CurrencyPair(Currency.USD, Currency.EUR),
+            new CurrencyPair(Currency.USD, Currency.BTC));
+
+    assertThat(fetches).hasValue(1);
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testUnknownCurrency() throws IOException {
+
+    marketDataService().getTicker(CurrencyPair.ETH_USD);
+  }
+
+  @Test
+  public void testRefreshIntervalFromNumberOrString() throws IOException {
+
+    for (Object refreshInterval : new Object[] {0, "0", " 0 "}) {
+      fetches.set(0);
+      OERMarketDataService marketDataService = marketDataService(refreshInterval);
+
+      marketDataService.getTicker(CurrencyPair.USD_AUD);
+      marketDataService.getTicker(CurrencyPair.USD_AUD);
+
+      assertThat(fetches).as("refresh interval %s", refreshInterval).hasValue(2);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRefreshInterval() {
+
+    marketDataService("1 minute");
+  }
+
+  private OERMarketDataService marketDataService() {
+
+    return marketDataService(null);
+  }
+
+  private OERMarketDataService marketDataService(Object refreshInterval) {
+
+    ExchangeSpecification specification = new OERExchange().getDefaultExchangeSpecification();
+    specification.setExchangeSpecificParametersItem(
+        OERMarketDataService.RATE_REFRESH_INTERVAL, refreshInterval);
+    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(specification);
+
+    return new OERMarketDataService(exchange) {
+      @Override
+      public OERLatestRates getOERLatestRates(String base) {
+        fetches.incrementAndGet();
+        Map<String, Double> rates = new LinkedHashMap<>();
+        rates.put("AUD", 1.23d);
+        rates.put("EUR", 0.8d);
+        rates.put("BTC", 0.0001d);
+        return new OERLatestRates("USD", 1354687208L, rates);
+      }
+    };
   }
 }
@@ -14,6 +14,7 @@ import org.knowm.xchange.poloniex.dto.marketdata.PoloniexCurrencyInfo;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexDepth;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexMarketData;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
+import org.knowm.xchange.poloniex.dto.marketdata.PoloniexStreamedDepth;
 
 @Path("public")
 @Produces(MediaType.APPLICATION_JSON)
@@ -54,6 +55,20 @@ public interface Poloniex {
       @QueryParam("depth") Integer depth)
       throws PoloniexException, IOException;
 
+  @GET
+  PoloniexStreamedDepth getOrderBookStreamed(
+      @QueryParam("command") String command,
+      @QueryParam("currencyPair") String currencyPair,
+      @QueryParam("depth") Integer depth)
+      throws PoloniexException, IOException;
+
+  @GET
+  Map<String, PoloniexStreamedDepth> getAllOrderBooksStreamed(
+      @QueryParam("command") String command,
+      @QueryParam("currencyPair") String pair,
+      @QueryParam("depth") Integer depth)
+      throws PoloniexException, IOException;
+
   @GET
   PoloniexChartData[] getChartData(
       @QueryParam("command") String command,
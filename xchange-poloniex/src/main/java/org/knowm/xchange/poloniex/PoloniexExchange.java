@@ -11,6 +11,7 @@ import org.knowm.xchange.poloniex.service.PoloniexAccountService;
 import org.knowm.xchange.poloniex.service.PoloniexMarketDataService;
 import org.knowm.xchange.poloniex.service.PoloniexMarketDataServiceRaw;
 import org.knowm.xchange.poloniex.service.PoloniexTradeService;
+import org.knowm.xchange.utils.MetaDataCache;
 import org.knowm.xchange.utils.nonce.TimestampIncrementingNonceFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
@@ -62,4 +63,11 @@ public class PoloniexExchange extends BaseExchange implements Exchange {
         PoloniexAdapters.adaptToExchangeMetaData(
             poloniexCurrencyInfoMap, poloniexMarketDataMap, exchangeMetaData);
   }
+
+  /** The currency infos and tickers of remoteInit end up in the meta data only */
+  @Override
+  protected boolean restoreCachedState(MetaDataCache cache) {
+
+    return true;
+  }
 }
@@ -10,18 +10,33 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolCodec;
 
 /** @author Zach Holmes */
 public class PoloniexUtils {
 
+  /** Pair strings such as "BTC_ETH", computed once per pair */
+  private static final SymbolCodec pairStrings =
+      new SymbolCodec(PoloniexUtils::createPairString, PoloniexUtils::parsePairString);
+
   public static String toPairString(CurrencyPair currencyPair) {
 
+    return pairStrings.encode(currencyPair);
+  }
+
+  public static CurrencyPair toCurrencyPair(String pair) {
+
+    return pairStrings.decode(pair);
+  }
+
+  private static String createPairString(CurrencyPair currencyPair) {
+
     return currencyPair.counter.getCurrencyCode().toUpperCase()
         + "_"
         + currencyPair.base.getCurrencyCode().toUpperCase();
   }
 
-  public static CurrencyPair toCurrencyPair(String pair) {
+  private static CurrencyPair parsePairString(String pair) {
 
     String[] currencies = pair.split("_");
     return new CurrencyPair(currencies[1], currencies[0]);
@@ -0,0 +1,88 @@
+package org.knowm.xchange.poloniex.dto.marketdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.PackedOrderBook;
+import org.knowm.xchange.utils.jackson.OrderBookJsonReader;
+
+/**
+ * The same response as {@link PoloniexDepth}, parsed token by token into a {@link PackedOrderBook}
+ * instead of a list of decimals per level.
+ */
+@JsonDeserialize(using = PoloniexStreamedDepth.Deserializer.class)
+public class PoloniexStreamedDepth {
+
+  private final PackedOrderBook orderBook;
+  private final String isFrozen;
+  private final Long seq;
+
+  public PoloniexStreamedDepth(PackedOrderBook orderBook, String isFrozen, Long seq) {
+
+    this.orderBook = orderBook;
+    this.isFrozen = isFrozen;
+    this.seq = seq;
+  }
+
+  public PackedOrderBook getOrderBook() {
+
+    return orderBook;
+  }
+
+  public String getIsFrozen() {
+
+    return isFrozen;
+  }
+
+  public Long getSeq() {
+
+    return seq;
+  }
+
+  @Override
+  public String toString() {
+
+    return "PoloniexStreamedDepth [orderBook="
+        + orderBook
+        + ", isFrozen="
+        + isFrozen
+        + ", seq="
+        + seq
+        + "]";
+  }
+
+  static class Deserializer extends JsonDeserializer<PoloniexStreamedDepth> {
+
+    @Override
+    public PoloniexStreamedDepth deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+
+      PackedOrderBook orderBook = new PackedOrderBook();
+      String[] isFrozen = new String[1];
+      Long[] seq = new Long[1];
+      OrderBookJsonReader.readObject(
+          p,
+          (name, parser) -> {
+            switch (name) {
+              case "asks":
+                OrderBookJsonReader.readLevels(parser, OrderType.ASK, orderBook);
+                break;
+              case "bids":
+                OrderBookJsonReader.readLevels(parser, OrderType.BID, orderBook);
+                break;
+              case "isFrozen":
+                isFrozen[0] = parser.getValueAsString();
+                break;
+              case "seq":
+                seq[0] = parser.getValueAsLong();
+                break;
+              default:
+            }
+          });
+      return new PoloniexStreamedDepth(orderBook, isFrozen[0], seq[0]);
+    }
+  }
+}
@@ -9,11 +9,10 @@ import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ClientConfig;
 import si.mazi.rescu.ParamsDigest;
-import si.mazi.rescu.RestProxyFactory;
 import si.mazi.rescu.serialization.jackson.DefaultJacksonObjectMapperFactory;
 
 /** @author Zach Holmes */
-public class PoloniexBaseService extends BaseExchangeService implements BaseService {
+public class PoloniexBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final String apiKey;
   protected final PoloniexAuthenticated poloniexAuthenticated;
@@ -43,7 +42,7 @@ public class PoloniexBaseService extends BaseExchangeService implements BaseServ
         });
 
     this.poloniexAuthenticated =
-        RestProxyFactory.createProxy(
+        createProxy(
             PoloniexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
             rescuConfig);
@@ -51,7 +50,6 @@ public class PoloniexBaseService extends BaseExchangeService implements BaseServ
     this.signatureCreator =
         PoloniexDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
     this.poloniex =
-        RestProxyFactory.createProxy(
-            Poloniex.class, exchange.getExchangeSpecification().getSslUri(), rescuConfig);
+        createProxy(Poloniex.class, exchange.getExchangeSpecification().getSslUri(), rescuConfig);
   }
 }
@@ -1,7 +1,10 @@
 package org.knowm.xchange.poloniex.service;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -16,6 +19,7 @@ import org.knowm.xchange.poloniex.PoloniexUtils;
 import org.knowm.xchange.poloniex.dto.PoloniexException;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexDepth;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
+import org.knowm.xchange.poloniex.dto.marketdata.PoloniexStreamedDepth;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexTicker;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 import org.knowm.xchange.service.marketdata.params.Params;
@@ -69,14 +73,11 @@ public class PoloniexMarketDataService extends PoloniexMarketDataServiceRaw
     try {
       PoloniexDepth depth = null;
 
-      int depthLimit = 999999; // ~full order book
-      if (args != null && args.length > 0) {
-        if (args[0] instanceof Integer) {
-
-          depthLimit = (Integer) args[0];
-        } else {
-          throw new ExchangeException("Orderbook size argument must be an Integer!");
-        }
+      int depthLimit = depthLimit(args);
+      if (isStreamingOrderBook()) {
+        return getPoloniexStreamedDepth(currencyPair, depthLimit)
+            .getOrderBook()
+            .toOrderBook(currencyPair);
       }
       depth = getPoloniexDepth(currencyPair, depthLimit);
       if (depth == null) {
@@ -88,6 +89,58 @@ public class PoloniexMarketDataService extends PoloniexMarketDataServiceRaw
     }
   }
 
+  /**
+   * Gets the order books of several pairs with a single call for all books.
+   *
+   * @param args Optional arguments, as for {@link #getOrderBook(CurrencyPair, Object...)}
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(
+      Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    if (currencyPairs.size() < 2) {
+      return MarketDataService.super.getOrderBooks(currencyPairs, args);
+    }
+    try {
+      int depthLimit = depthLimit(args);
+      Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<>();
+      if (isStreamingOrderBook()) {
+        Map<String, PoloniexStreamedDepth> depths = getAllPoloniexStreamedDepths(depthLimit);
+        for (CurrencyPair currencyPair : currencyPairs) {
+          PoloniexStreamedDepth depth = depths.get(PoloniexUtils.toPairString(currencyPair));
+          if (depth != null) {
+            orderBooks.put(currencyPair, depth.getOrderBook().toOrderBook(currencyPair));
+          }
+        }
+      } else {
+        Map<String, PoloniexDepth> depths = getAllPoloniexDepths(depthLimit);
+        for (CurrencyPair currencyPair : currencyPairs) {
+          PoloniexDepth depth = depths.get(PoloniexUtils.toPairString(currencyPair));
+          if (depth != null) {
+            orderBooks.put(currencyPair, PoloniexAdapters.adaptPoloniexDepth(depth, currencyPair));
+          }
+        }
+      }
+      return orderBooks;
+    } catch (PoloniexException e) {
+      throw PoloniexErrorAdapter.adapt(e);
+    }
+  }
+
+  private static int depthLimit(Object... args) {
+
+    int depthLimit = 999999; // ~full order book
+    if (args != null && args.length > 0) {
+      if (args[0] instanceof Integer) {
+
+        depthLimit = (Integer) args[0];
+      } else {
+        throw new ExchangeException("Orderbook size argument must be an Integer!");
+      }
+    }
+    return depthLimit;
+  }
+
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args)
       throws ExchangeException, IOException {
@@ -13,6 +13,7 @@ import org.knowm.xchange.poloniex.dto.marketdata.PoloniexCurrencyInfo;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexDepth;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexMarketData;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexPublicTrade;
+import org.knowm.xchange.poloniex.dto.marketdata.PoloniexStreamedDepth;
 import org.knowm.xchange.poloniex.dto.marketdata.PoloniexTicker;
 
 public class PoloniexMarketDataServiceRaw extends PoloniexBaseService {
@@ -95,6 +96,21 @@ public class PoloniexMarketDataServiceRaw extends PoloniexBaseService {
     return poloniex.getAllOrderBooks(command, "all", depth);
   }
 
+  public PoloniexStreamedDepth getPoloniexStreamedDepth(CurrencyPair currencyPair, Integer depth)
+      throws IOException {
+
+    String command = "returnOrderBook";
+    String pairString = PoloniexUtils.toPairString(currencyPair);
+    return poloniex.getOrderBookStreamed(command, pairString, depth);
+  }
+
+  public Map<String, PoloniexStreamedDepth> getAllPoloniexStreamedDepths(Integer depth)
+      throws IOException {
+
+    String command = "returnOrderBook";
+    return poloniex.getAllOrderBooksStreamed(command, "all", depth);
+  }
+
   public PoloniexPublicTrade[] getPoloniexPublicTrades(CurrencyPair currencyPair)
       throws IOException {
 
@@ -11,6 +11,10 @@ import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.poloniex.PoloniexAdapters;
+import org.knowm.xchange.poloniex.PoloniexUtils;
 
 public class PoloniexMarketDataTest {
 
@@ -37,4 +41,40 @@ public class PoloniexMarketDataTest {
     assertThat(abyCurrencyInfo.getMinConf()).isEqualTo(8);
     assertThat(abyCurrencyInfo.isDisabled()).isFalse();
   }
+
+  @Test
+  public void testStreamedOrderBooksMatchDepths() throws IOException {
+
+    final ObjectMapper mapper = new ObjectMapper();
+    final Map<String, PoloniexDepth> depths =
+        mapper.readValue(
+            getOrderBooks(),
+            mapper
+                .getTypeFactory()
+                .constructMapType(HashMap.class, String.class, PoloniexDepth.class));
+    final Map<String, PoloniexStreamedDepth> streamedDepths =
+        mapper.readValue(
+            getOrderBooks(),
+            mapper
+                .getTypeFactory()
+                .constructMapType(HashMap.class, String.class, PoloniexStreamedDepth.class));
+
+    assertThat(streamedDepths).hasSize(2);
+    assertThat(streamedDepths.get("USDT_BTC").getIsFrozen()).isEqualTo("1");
+    assertThat(streamedDepths.get("BTC_ETH").getSeq()).isEqualTo(606385436L);
+
+    for (String pair : depths.keySet()) {
+      CurrencyPair currencyPair = PoloniexUtils.toCurrencyPair(pair);
+      OrderBook expected = PoloniexAdapters.adaptPoloniexDepth(depths.get(pair), currencyPair);
+      OrderBook actual = streamedDepths.get(pair).getOrderBook().toOrderBook(currencyPair);
+      assertThat(actual.getAsks()).isEqualTo(expected.getAsks());
+      assertThat(actual.getBids()).isEqualTo(expected.getBids());
+    }
+  }
+
+  private static InputStream getOrderBooks() {
+
+    return PoloniexMarketDataTest.class.getResourceAsStream(
+        "/org/knowm/xchange/poloniex/dto/marketdata/order-books-all.json");
+  }
 }
@@ -22,11 +22,36 @@ class Account {
   private final ConcurrentMap<Currency, AtomicReference<Balance>> balances =
       new ConcurrentHashMap<>();
 
+  private final AccountFactory accountFactory;
+  private final String apiKey;
+
+  Account(AccountFactory accountFactory, String apiKey) {
+    this.accountFactory = accountFactory;
+    this.apiKey = apiKey;
+  }
+
   void initialize(Iterable<Currency> currencies) {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      doInitialize(currencies);
+      return;
+    }
+    synchronized (journal) {
+      journal.initialize(apiKey, currencies);
+      doInitialize(currencies);
+    }
+  }
+
+  private void doInitialize(Iterable<Currency> currencies) {
     currencies.forEach(
         currency -> balances.put(currency, new AtomicReference<>(new Balance(currency, ZERO))));
   }
 
+  /** Replaces the balance of its currency, used when restoring a snapshot. */
+  void restore(Balance balance) {
+    balances.put(balance.getCurrency(), new AtomicReference<>(balance));
+  }
+
   public Collection<Balance> balances() {
     return Collections2.transform(balances.values(), AtomicReference::get);
   }
@@ -129,48 +154,36 @@ class Account {
   }
 
   public void fill(UserTrade userTrade, boolean reserved) {
-    BigDecimal counterAmount = userTrade.getOriginalAmount().multiply(userTrade.getPrice());
+    changes(userTrade, reserved, this::settle);
+  }
+
+  /**
+   * Works out how a fill changes the balances of both currencies of the pair.
+   *
+   * @param userTrade The fill.
+   * @param reserved True if the amount given up was reserved by a resting order.
+   * @param change Called with the change to the total, available and frozen balance of each
+   *     currency.
+   */
+  static void changes(UserTrade userTrade, boolean reserved, BalanceChange change) {
+    BigDecimal amount = userTrade.getOriginalAmount();
+    BigDecimal counterAmount = amount.multiply(userTrade.getPrice());
     switch (userTrade.getType()) {
       case ASK:
-        balance(userTrade.getCurrencyPair().base)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .available(
-                            reserved
-                                ? b.getAvailable()
-                                : b.getAvailable().subtract(userTrade.getOriginalAmount()))
-                        .frozen(
-                            reserved
-                                ? b.getFrozen().subtract(userTrade.getOriginalAmount())
-                                : b.getFrozen())
-                        .total(b.getTotal().subtract(userTrade.getOriginalAmount()))
-                        .build());
-        balance(userTrade.getCurrencyPair().counter)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .total(b.getTotal().add(counterAmount))
-                        .available(b.getAvailable().add(counterAmount))
-                        .build());
+        change.apply(
+            userTrade.getCurrencyPair().base,
+            amount.negate(),
+            reserved ? ZERO : amount.negate(),
+            reserved ? amount.negate() : ZERO);
+        change.apply(userTrade.getCurrencyPair().counter, counterAmount, counterAmount, ZERO);
         break;
       case BID:
-        balance(userTrade.getCurrencyPair().base)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .total(b.getTotal().add(userTrade.getOriginalAmount()))
-                        .available(b.getAvailable().add(userTrade.getOriginalAmount()))
-                        .build());
-        balance(userTrade.getCurrencyPair().counter)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .available(
-                            reserved ? b.getAvailable() : b.getAvailable().subtract(counterAmount))
-                        .frozen(reserved ? b.getFrozen().subtract(counterAmount) : b.getFrozen())
-                        .total(b.getTotal().subtract(counterAmount))
-                        .build());
+        change.apply(userTrade.getCurrencyPair().base, amount, amount, ZERO);
+        change.apply(
+            userTrade.getCurrencyPair().counter,
+            counterAmount.negate(),
+            reserved ? ZERO : counterAmount.negate(),
+            reserved ? counterAmount.negate() : ZERO);
         break;
       default:
         throw new NotAvailableFromExchangeException(
@@ -178,11 +191,39 @@ class Account {
     }
   }
 
+  /** Applies a change to the total, available and frozen balance of a currency. */
+  void settle(Currency currency, BigDecimal total, BigDecimal available, BigDecimal frozen) {
+    balance(currency)
+        .updateAndGet(
+            b ->
+                Balance.Builder.from(b)
+                    .total(b.getTotal().add(total))
+                    .available(b.getAvailable().add(available))
+                    .frozen(b.getFrozen().add(frozen))
+                    .build());
+  }
+
+  Balance getBalance(Currency currency) {
+    return balance(currency).get();
+  }
+
   private AtomicReference<Balance> balance(Currency currency) {
     return balances.computeIfAbsent(currency, this::defaultBalance);
   }
 
   public void deposit(Currency currency, BigDecimal amount) {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      doDeposit(currency, amount);
+      return;
+    }
+    synchronized (journal) {
+      journal.deposit(apiKey, currency, amount);
+      doDeposit(currency, amount);
+    }
+  }
+
+  private void doDeposit(Currency currency, BigDecimal amount) {
     balance(currency)
         .updateAndGet(
             b ->
@@ -191,4 +232,10 @@ class Account {
                     .available(b.getAvailable().add(amount))
                     .build());
   }
+
+  @FunctionalInterface
+  interface BalanceChange {
+
+    void apply(Currency currency, BigDecimal total, BigDecimal available, BigDecimal frozen);
+  }
 }
@@ -1,5 +1,6 @@
 package org.knowm.xchange.simulated;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.knowm.xchange.ExchangeSpecification;
@@ -18,7 +19,23 @@ public class AccountFactory {
 
   private final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
 
+  private volatile SimulatedJournal journal;
+
   Account get(String apiKey) {
-    return accounts.computeIfAbsent(apiKey, key -> new Account());
+    return accounts.computeIfAbsent(apiKey, key -> new Account(this, key));
+  }
+
+  /** @return The accounts by API key. */
+  Map<String, Account> accounts() {
+    return accounts;
+  }
+
+  /** @return The journal recording the commands, null if not journaled. */
+  SimulatedJournal getJournal() {
+    return journal;
+  }
+
+  void setJournal(SimulatedJournal journal) {
+    this.journal = journal;
   }
 }
@@ -1,12 +1,37 @@
 package org.knowm.xchange.simulated;
 
+import static java.math.BigDecimal.ZERO;
+
 import java.math.BigDecimal;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.Data;
 
+/** The orders at one price, in time priority and indexed by id so a cancel does not scan them. */
 @Data
 final class BookLevel {
   private final BigDecimal price;
-  private final List<BookOrder> orders = new LinkedList<>();
+  private final Map<String, BookOrder> ordersById = new LinkedHashMap<>();
+
+  Collection<BookOrder> getOrders() {
+    return ordersById.values();
+  }
+
+  /** @return The total amount still to be filled at this price. */
+  BigDecimal getRemainingAmount() {
+    BigDecimal amount = ZERO;
+    for (BookOrder order : ordersById.values()) {
+      amount = amount.add(order.getRemainingAmount());
+    }
+    return amount;
+  }
+
+  void add(BookOrder order) {
+    ordersById.put(order.getId(), order);
+  }
+
+  boolean remove(String orderId) {
+    return ordersById.remove(orderId) != null;
+  }
 }
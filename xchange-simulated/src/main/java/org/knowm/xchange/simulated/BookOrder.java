@@ -1,7 +1,6 @@
 package org.knowm.xchange.simulated;
 
 import static java.math.BigDecimal.ZERO;
-import static java.util.UUID.randomUUID;
 import static org.knowm.xchange.dto.Order.OrderType.ASK;
 
 import java.math.BigDecimal;
@@ -25,22 +24,22 @@ final class BookOrder {
 
   private static final BigDecimal INF = BigDecimal.valueOf(Long.MAX_VALUE);
 
-  static BookOrder fromOrder(Order original, String apiKey) {
+  static BookOrder fromOrder(Order original, String apiKey, String id, Date timestamp) {
     return BookOrder.builder()
         .apiKey(apiKey)
-        .id(randomUUID().toString())
+        .id(id)
         .limitPrice(
             original instanceof LimitOrder
                 ? ((LimitOrder) original).getLimitPrice()
                 : original.getType() == ASK ? ZERO : INF)
         .originalAmount(original.getOriginalAmount())
-        .timestamp(new Date())
+        .timestamp(timestamp)
         .type(original.getType())
         .build();
   }
 
   private final String apiKey;
-  private final BigDecimal originalAmount;
+  private volatile BigDecimal originalAmount;
   private final String id;
   private final Date timestamp;
   private final BigDecimal limitPrice;
@@ -0,0 +1,276 @@
+package org.knowm.xchange.simulated;
+
+import static java.math.BigDecimal.ZERO;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderStatus;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays recorded market data through the order book of a {@link SimulatedExchange}, so that
+ * strategies written against the generic services can be backtested.
+ *
+ * <p>Recorded price levels are kept on the book as orders of a liquidity account, {@link
+ * #REPLAY_API_KEY}, which is funded as needed. A level change replaces the order at that price and
+ * a recorded trade is replayed as an immediate-or-cancel order of the taker, so the ticker, the
+ * order book and the fills of the strategy's own orders follow the recording.
+ *
+ * <p>Orders and trades are timestamped with a virtual clock, {@link #getClock()}, which follows the
+ * recorded timestamps. With a {@link #speed(double) speed} multiplier the replay is paced against
+ * the wall clock, by default it runs as fast as possible. The recording is read ahead on a separate
+ * thread into a bounded buffer, which blocks the reader when the replay falls behind.
+ *
+ * <p>The {@link #onEvent(Consumer) listener} runs on the replaying thread after each event, so a
+ * strategy placing orders from it sees the market exactly as of that event.
+ */
+public final class MarketDataReplay {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MarketDataReplay.class);
+
+  /** The account providing the recorded liquidity. */
+  public static final String REPLAY_API_KEY = "MarketDataReplay";
+
+  private static final BigDecimal LIQUIDITY = new BigDecimal("1000000000000000");
+  private static final ReplayEvent END = ReplayEvent.trade(Long.MIN_VALUE, ASK, ZERO, ZERO);
+
+  private final SimulatedExchange exchange;
+  private final CurrencyPair currencyPair;
+  private final ReplaySource source;
+  private final VirtualClock clock = new VirtualClock();
+  private final Map<BigDecimal, String> askOrders = new TreeMap<>();
+  private final Map<BigDecimal, String> bidOrders = new TreeMap<>();
+
+  private double speed = Double.POSITIVE_INFINITY;
+  private int bufferSize = 4096;
+  private Consumer<ReplayEvent> listener = event -> {};
+  private volatile boolean stopped;
+  private volatile IOException readFailure;
+  private long events;
+
+  /**
+   * @param exchange The exchange whose order book receives the recording.
+   * @param currencyPair The currency pair of the recording.
+   * @param source The recording, closed at the end of {@link #run()}.
+   */
+  public MarketDataReplay(
+      SimulatedExchange exchange, CurrencyPair currencyPair, ReplaySource source) {
+    this.exchange = exchange;
+    this.currencyPair = currencyPair;
+    this.source = source;
+  }
+
+  /**
+   * @param speed The recorded time replayed per unit of wall clock time, e.g. 3600 replays an hour
+   *     per second. {@link Double#POSITIVE_INFINITY}, the default, replays as fast as possible.
+   * @return This replay.
+   */
+  public MarketDataReplay speed(double speed) {
+    if (!(speed > 0)) {
+      throw new IllegalArgumentException("speed must be positive");
+    }
+    this.speed = speed;
+    return this;
+  }
+
+  /**
+   * @param bufferSize The number of events read ahead of the replay.
+   * @return This replay.
+   */
+  public MarketDataReplay bufferSize(int bufferSize) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive");
+    }
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  /**
+   * @param listener Called after each event has been applied.
+   * @return This replay.
+   */
+  public MarketDataReplay onEvent(Consumer<ReplayEvent> listener) {
+    this.listener = listener;
+    return this;
+  }
+
+  /** @return The virtual clock, at the timestamp of the latest replayed event. */
+  public Clock getClock() {
+    return clock;
+  }
+
+  /** @return The number of events replayed so far. */
+  public long getEvents() {
+    return events;
+  }
+
+  /** Stops the replay after the current event, e.g. from the listener. */
+  public void stop() {
+    stopped = true;
+  }
+
+  /**
+   * Replays the recording on the calling thread until its end or {@link #stop()}. The exchange's
+   * engines keep the virtual clock afterwards.
+   *
+   * @throws IOException If the recording cannot be read.
+   */
+  public void run() throws IOException {
+    MatchingEngine engine = exchange.getEngine(currencyPair);
+    exchange.getEngineFactory().setClock(clock);
+    BlockingQueue<ReplayEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+    Thread reader = new Thread(() -> read(buffer), "MarketDataReplay-" + currencyPair);
+    reader.setDaemon(true);
+    reader.start();
+    try {
+      long firstTimestamp = Long.MIN_VALUE;
+      long startNanos = System.nanoTime();
+      while (!stopped) {
+        ReplayEvent event = buffer.take();
+        if (event == END) {
+          break;
+        }
+        if (firstTimestamp == Long.MIN_VALUE) {
+          firstTimestamp = event.getTimestamp();
+        }
+        pace(event.getTimestamp() - firstTimestamp, startNanos);
+        clock.millis = Math.max(clock.millis, event.getTimestamp());
+        apply(engine, event);
+        events++;
+        listener.accept(event);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Interrupted while replaying market data", e);
+    } finally {
+      stopped = true;
+      reader.interrupt();
+    }
+    if (readFailure != null) {
+      throw readFailure;
+    }
+  }
+
+  private void read(BlockingQueue<ReplayEvent> buffer) {
+    try (ReplaySource events = source) {
+      for (ReplayEvent event = events.next(); event != null && !stopped; event = events.next()) {
+        buffer.put(event);
+      }
+    } catch (IOException e) {
+      readFailure = e;
+    } catch (InterruptedException e) {
+      return;
+    }
+    try {
+      buffer.put(END);
+    } catch (InterruptedException e) {
+      // the replay has stopped
+    }
+  }
+
+  private void pace(long recordedMillis, long startNanos) throws InterruptedException {
+    if (speed == Double.POSITIVE_INFINITY) {
+      return;
+    }
+    long dueNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(recordedMillis) / speed);
+    long waitNanos = dueNanos - System.nanoTime();
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private void apply(MatchingEngine engine, ReplayEvent event) {
+    OrderType type = event.getType();
+    try {
+      switch (event.getKind()) {
+        case LEVEL:
+          Map<BigDecimal, String> levels = type == ASK ? askOrders : bidOrders;
+          String previous = levels.remove(event.getPrice());
+          if (previous != null) {
+            engine.cancelOrder(previous, type);
+          }
+          if (event.getAmount().signum() > 0) {
+            LimitOrder order = post(engine, event);
+            if (order.getStatus() != OrderStatus.FILLED) {
+              levels.put(event.getPrice(), order.getId());
+            }
+          }
+          break;
+        case TRADE:
+          LimitOrder taker = post(engine, event);
+          if (taker.getStatus() != OrderStatus.FILLED) {
+            engine.cancelOrder(taker.getId(), type);
+          }
+          break;
+        default:
+          throw new IllegalStateException("Unknown event " + event.getKind());
+      }
+    } catch (ExchangeException e) {
+      LOGGER.debug("Skipped {}: {}", event, e.getMessage());
+    }
+  }
+
+  private LimitOrder post(MatchingEngine engine, ReplayEvent event) {
+    fund(event);
+    return engine.postOrder(
+        REPLAY_API_KEY,
+        new LimitOrder.Builder(event.getType(), currencyPair)
+            .limitPrice(event.getPrice())
+            .originalAmount(event.getAmount())
+            .build());
+  }
+
+  /** Keeps the liquidity account able to cover any recorded order. */
+  private void fund(ReplayEvent event) {
+    Account account = exchange.getAccountFactory().get(REPLAY_API_KEY);
+    boolean ask = event.getType() == ASK;
+    Currency currency = ask ? currencyPair.base : currencyPair.counter;
+    BigDecimal required = ask ? event.getAmount() : event.getAmount().multiply(event.getPrice());
+    if (account.getBalance(currency).getAvailable().compareTo(required) < 0) {
+      account.deposit(currency, LIQUIDITY.max(required));
+    }
+  }
+
+  /** A clock at the timestamp of the latest replayed event. */
+  private static final class VirtualClock extends Clock {
+
+    private volatile long millis;
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return Clock.fixed(instant(), zone);
+    }
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+  }
+}
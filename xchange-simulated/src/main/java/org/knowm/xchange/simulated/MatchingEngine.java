@@ -2,7 +2,6 @@ package org.knowm.xchange.simulated;
 
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.HALF_UP;
-import static java.util.UUID.randomUUID;
 import static java.util.stream.Collectors.toList;
 import static org.knowm.xchange.dto.Order.OrderType.ASK;
 import static org.knowm.xchange.dto.Order.OrderType.BID;
@@ -10,13 +9,20 @@ import static org.knowm.xchange.dto.Order.OrderType.BID;
 import com.google.common.collect.*;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
@@ -29,6 +35,9 @@ import org.slf4j.LoggerFactory;
 /**
  * The "exchange" which backs {@link SimulatedExchange}.
  *
+ * <p>Commands run on the calling thread, or, given an executor, on the engine's own thread with the
+ * fills of each command settled in one batch, see {@link Settlement}.
+ *
  * @author Graham Crockford
  */
 final class MatchingEngine {
@@ -42,13 +51,22 @@ final class MatchingEngine {
   private final int priceScale;
   private final BigDecimal minimumAmount;
   private final Consumer<Fill> onFill;
+  private final Supplier<Date> clock;
+  private final Executor executor;
+  private final Settlement settlement;
 
-  private final List<BookLevel> asks = new LinkedList<>();
-  private final List<BookLevel> bids = new LinkedList<>();
+  private final NavigableMap<BigDecimal, BookLevel> asks = new TreeMap<>();
+  private final NavigableMap<BigDecimal, BookLevel> bids = new TreeMap<>(Comparator.reverseOrder());
   private final Deque<Trade> publicTrades = new ConcurrentLinkedDeque<>();
   private final Multimap<String, UserTrade> userTrades = LinkedListMultimap.create();
+  private final Map<String, BookOrder> ordersById = new HashMap<>();
+  private final Map<String, Map<String, BookOrder>> ordersByApiKey = new HashMap<>();
+  private final List<SimulatedMarketDataListener> listeners = new CopyOnWriteArrayList<>();
 
   private volatile Ticker ticker = new Ticker.Builder().build();
+  private BigDecimal lastPrice;
+  private volatile Thread engineThread;
+  private long sequence;
 
   MatchingEngine(
       AccountFactory accountFactory,
@@ -64,46 +82,142 @@ final class MatchingEngine {
       int priceScale,
       BigDecimal minimumAmount,
       Consumer<Fill> onFill) {
+    this(accountFactory, currencyPair, priceScale, minimumAmount, onFill, Date::new);
+  }
+
+  MatchingEngine(
+      AccountFactory accountFactory,
+      CurrencyPair currencyPair,
+      int priceScale,
+      BigDecimal minimumAmount,
+      Consumer<Fill> onFill,
+      Supplier<Date> clock) {
+    this(accountFactory, currencyPair, priceScale, minimumAmount, onFill, clock, null);
+  }
+
+  /**
+   * @param executor A single threaded executor which runs every command of this engine, or null to
+   *     run them on the calling thread.
+   */
+  MatchingEngine(
+      AccountFactory accountFactory,
+      CurrencyPair currencyPair,
+      int priceScale,
+      BigDecimal minimumAmount,
+      Consumer<Fill> onFill,
+      Supplier<Date> clock,
+      Executor executor) {
     this.accountFactory = accountFactory;
     this.currencyPair = currencyPair;
     this.priceScale = priceScale;
     this.minimumAmount = minimumAmount;
     this.onFill = onFill;
+    this.clock = clock;
+    this.executor = executor;
+    this.settlement = executor == null ? null : new Settlement();
+    if (executor != null) {
+      executor.execute(() -> engineThread = Thread.currentThread());
+    }
+  }
+
+  /**
+   * Runs a command on the engine's thread and waits for it, or runs it directly without an executor
+   * or when already on the engine's thread.
+   */
+  private <T> T execute(Supplier<T> command) {
+    if (executor == null || Thread.currentThread() == engineThread) {
+      return command.get();
+    }
+    try {
+      return CompletableFuture.supplyAsync(command, executor).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void execute(Runnable command) {
+    execute(
+        () -> {
+          command.run();
+          return null;
+        });
+  }
+
+  public LimitOrder postOrder(String apiKey, Order original) {
+    String id = newId();
+    Date timestamp = clock.get();
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      return postOrder(apiKey, original, id, timestamp);
+    }
+    synchronized (journal) {
+      journal.place(currencyPair, apiKey, id, timestamp, original);
+      return postOrder(apiKey, original, id, timestamp);
+    }
   }
 
-  public synchronized LimitOrder postOrder(String apiKey, Order original) {
+  /**
+   * Posts an order with the given id and timestamp, which also apply to its fills, so replaying the
+   * same orders produces the same books and balances.
+   */
+  LimitOrder postOrder(String apiKey, Order original, String id, Date timestamp) {
+    return execute(() -> place(apiKey, original, id, timestamp));
+  }
+
+  private synchronized LimitOrder place(String apiKey, Order original, String id, Date timestamp) {
     LOGGER.debug("User {} posting order: {}", apiKey, original);
     validate(original);
     Account account = accountFactory.get(apiKey);
     checkBalance(original, account);
-    BookOrder takerOrder = BookOrder.fromOrder(original, apiKey);
-    switch (takerOrder.getType()) {
-      case ASK:
-        LOGGER.debug("Matching against bids");
-        chewBook(bids, takerOrder);
-        if (!takerOrder.isDone()) {
-          if (original instanceof MarketOrder) {
-            throw new ExchangeException("Cannot fulfil order. No buyers.");
+    BookOrder takerOrder = BookOrder.fromOrder(original, apiKey, id, timestamp);
+    try {
+      switch (takerOrder.getType()) {
+        case ASK:
+          LOGGER.debug("Matching against bids");
+          chewBook(bids, takerOrder);
+          if (!takerOrder.isDone()) {
+            if (original instanceof MarketOrder) {
+              throw new ExchangeException("Cannot fulfil order. No buyers.");
+            }
+            insertIntoBook(asks, takerOrder, ASK, account);
           }
-          insertIntoBook(asks, takerOrder, ASK, account);
-        }
-        break;
-      case BID:
-        LOGGER.debug("Matching against asks");
-        chewBook(asks, takerOrder);
-        if (!takerOrder.isDone()) {
-          if (original instanceof MarketOrder) {
-            throw new ExchangeException("Cannot fulfil order. No sellers.");
+          break;
+        case BID:
+          LOGGER.debug("Matching against asks");
+          chewBook(asks, takerOrder);
+          if (!takerOrder.isDone()) {
+            if (original instanceof MarketOrder) {
+              throw new ExchangeException("Cannot fulfil order. No sellers.");
+            }
+            insertIntoBook(bids, takerOrder, BID, account);
           }
-          insertIntoBook(bids, takerOrder, BID, account);
-        }
-        break;
-      default:
-        throw new ExchangeException("Unsupported order type: " + takerOrder.getType());
+          break;
+        default:
+          throw new ExchangeException("Unsupported order type: " + takerOrder.getType());
+      }
+    } finally {
+      settle();
+      updateTicker();
     }
     return takerOrder.toOrder(currencyPair);
   }
 
+  /**
+   * Generates a unique order or trade id. Uses {@link ThreadLocalRandom} rather than {@link
+   * UUID#randomUUID()}, which contends on a shared {@code SecureRandom}; the ids only need to be
+   * unique, not unpredictable.
+   */
+  static String newId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return new UUID(random.nextLong(), random.nextLong()).toString();
+  }
+
   private void validate(Order order) {
     if (order.getOriginalAmount().compareTo(minimumAmount) < 0) {
       throw new ExchangeException(
@@ -138,42 +252,42 @@ final class MatchingEngine {
   }
 
   private void insertIntoBook(
-      List<BookLevel> book, BookOrder order, OrderType type, Account account) {
-
-    int i = 0;
-    boolean insert = false;
-
-    Iterator<BookLevel> iter = book.iterator();
-    while (iter.hasNext()) {
-      BookLevel level = iter.next();
-      int signum = level.getPrice().compareTo(order.getLimitPrice());
-      if (signum == 0) {
-        level.getOrders().add(order);
-        return;
-      } else if (signum < 0 && type == BID || signum > 0 && type == ASK) {
-        insert = true;
-        break;
-      }
-      i++;
-    }
-
+      NavigableMap<BigDecimal, BookLevel> book, BookOrder order, OrderType type, Account account) {
+    settle();
     account.reserve(order.toOrder(currencyPair));
+    BookLevel level = book.computeIfAbsent(order.getLimitPrice(), BookLevel::new);
+    level.add(order);
+    index(order);
+    publishLevel(type, level, order.getTimestamp());
+  }
 
-    BookLevel newLevel = new BookLevel(order.getLimitPrice());
-    newLevel.getOrders().add(order);
-    if (insert) {
-      book.add(i, newLevel);
-    } else {
-      book.add(newLevel);
-    }
+  private void index(BookOrder order) {
+    ordersById.put(order.getId(), order);
+    ordersByApiKey
+        .computeIfAbsent(order.getApiKey(), apiKey -> new LinkedHashMap<>())
+        .put(order.getId(), order);
+  }
 
-    ticker = newTickerFromBook().last(ticker.getLast()).build();
+  private void unindex(BookOrder order) {
+    ordersById.remove(order.getId());
+    Map<String, BookOrder> accountOrders = ordersByApiKey.get(order.getApiKey());
+    accountOrders.remove(order.getId());
+    if (accountOrders.isEmpty()) {
+      ordersByApiKey.remove(order.getApiKey());
+    }
   }
 
-  private Ticker.Builder newTickerFromBook() {
-    return new Ticker.Builder()
-        .ask(asks.isEmpty() ? null : asks.get(0).getPrice())
-        .bid(bids.isEmpty() ? null : bids.get(0).getPrice());
+  /**
+   * Publishes a new {@link Ticker} if the top of the book or the last price moved. The level keys
+   * are the instances stored in the book, so an identity check is enough to detect a change.
+   */
+  private void updateTicker() {
+    BigDecimal ask = asks.isEmpty() ? null : asks.firstKey();
+    BigDecimal bid = bids.isEmpty() ? null : bids.firstKey();
+    Ticker current = ticker;
+    if (ask != current.getAsk() || bid != current.getBid() || lastPrice != current.getLast()) {
+      ticker = new Ticker.Builder().ask(ask).bid(bid).last(lastPrice).build();
+    }
   }
 
   /**
@@ -187,7 +301,7 @@ final class MatchingEngine {
   public BigDecimal marketCostOrProceeds(OrderType orderType, BigDecimal amount) {
     BigDecimal remaining = amount;
     BigDecimal cost = ZERO;
-    List<BookLevel> orderbookSide = orderType.equals(BID) ? asks : bids;
+    Collection<BookLevel> orderbookSide = (orderType.equals(BID) ? asks : bids).values();
     for (BookOrder order :
         FluentIterable.from(orderbookSide).transformAndConcat(BookLevel::getOrders)) {
       BigDecimal available = order.getRemainingAmount();
@@ -200,18 +314,73 @@ final class MatchingEngine {
     throw new ExchangeException("Insufficient liquidity in book");
   }
 
-  public synchronized Level3OrderBook book() {
+  public Level3OrderBook book() {
+    return execute(this::level3);
+  }
+
+  private synchronized Level3OrderBook level3() {
     return new Level3OrderBook(
-        FluentIterable.from(asks)
+        FluentIterable.from(asks.values())
             .transformAndConcat(BookLevel::getOrders)
             .transform(o -> o.toOrder(currencyPair))
             .toList(),
-        FluentIterable.from(bids)
+        FluentIterable.from(bids.values())
             .transformAndConcat(BookLevel::getOrders)
             .transform(o -> o.toOrder(currencyPair))
             .toList());
   }
 
+  CurrencyPair getCurrencyPair() {
+    return currencyPair;
+  }
+
+  int getPriceScale() {
+    return priceScale;
+  }
+
+  BigDecimal getMinimumAmount() {
+    return minimumAmount;
+  }
+
+  BigDecimal getLastPrice() {
+    return execute(this::currentLastPrice);
+  }
+
+  private synchronized BigDecimal currentLastPrice() {
+    return lastPrice;
+  }
+
+  /** @return The orders on the book, asks then bids, each in matching order. */
+  List<BookOrder> bookOrders() {
+    return execute(this::copyBookOrders);
+  }
+
+  private synchronized List<BookOrder> copyBookOrders() {
+    List<BookOrder> orders = new ArrayList<>();
+    Stream.concat(asks.values().stream(), bids.values().stream())
+        .forEach(level -> orders.addAll(level.getOrders()));
+    return orders;
+  }
+
+  /**
+   * Puts orders back on the book as they were when the snapshot was taken. The balances reserved
+   * for them are restored with the accounts.
+   */
+  void restore(List<BookOrder> orders, BigDecimal lastPrice) {
+    execute(() -> doRestore(orders, lastPrice));
+  }
+
+  private synchronized void doRestore(List<BookOrder> orders, BigDecimal lastPrice) {
+    for (BookOrder order : orders) {
+      (order.getType() == ASK ? asks : bids)
+          .computeIfAbsent(order.getLimitPrice(), BookLevel::new)
+          .add(order);
+      index(order);
+    }
+    this.lastPrice = lastPrice;
+    updateTicker();
+  }
+
   public Ticker ticker() {
     return ticker;
   }
@@ -220,13 +389,17 @@ final class MatchingEngine {
     return FluentIterable.from(publicTrades).transform(t -> Trade.Builder.from(t).build()).toList();
   }
 
-  public synchronized List<UserTrade> tradeHistory(String apiKey) {
+  public List<UserTrade> tradeHistory(String apiKey) {
+    return execute(() -> copyTradeHistory(apiKey));
+  }
+
+  private synchronized List<UserTrade> copyTradeHistory(String apiKey) {
     return ImmutableList.copyOf(userTrades.get(apiKey));
   }
 
-  private void chewBook(Iterable<BookLevel> makerOrders, BookOrder takerOrder) {
-    Iterator<BookLevel> levelIter = makerOrders.iterator();
-    while (levelIter.hasNext()) {
+  private void chewBook(NavigableMap<BigDecimal, BookLevel> makerOrders, BookOrder takerOrder) {
+    Iterator<BookLevel> levelIter = makerOrders.values().iterator();
+    while (levelIter.hasNext() && !takerOrder.isDone()) {
       BookLevel level = levelIter.next();
       Iterator<BookOrder> orderIter = level.getOrders().iterator();
       while (orderIter.hasNext() && !takerOrder.isDone()) {
@@ -249,21 +422,23 @@ final class MatchingEngine {
         if (makerOrder.isDone()) {
           LOGGER.debug("Maker order removed from book");
           orderIter.remove();
+          unindex(makerOrder);
           if (level.getOrders().isEmpty()) {
             levelIter.remove();
           }
         }
+        publishLevel(makerOrder.getType(), level, takerOrder.getTimestamp());
       }
     }
   }
 
   private void matchOff(BookOrder takerOrder, BookOrder makerOrder, BigDecimal tradeAmount) {
-    Date timestamp = new Date();
+    Date timestamp = takerOrder.getTimestamp();
 
     UserTrade takerTrade =
         new UserTrade.Builder()
             .currencyPair(currencyPair)
-            .id(randomUUID().toString())
+            .id(newId())
             .originalAmount(tradeAmount)
             .price(makerOrder.getLimitPrice())
             .timestamp(timestamp)
@@ -284,7 +459,7 @@ final class MatchingEngine {
     UserTrade makerTrade =
         new UserTrade.Builder()
             .currencyPair(currencyPair)
-            .id(randomUUID().toString())
+            .id(newId())
             .originalAmount(tradeAmount)
             .price(makerOrder.getLimitPrice())
             .timestamp(timestamp)
@@ -303,7 +478,7 @@ final class MatchingEngine {
     recordFill(new Fill(takerOrder.getApiKey(), takerTrade, true));
     recordFill(new Fill(makerOrder.getApiKey(), makerTrade, false));
 
-    ticker = newTickerFromBook().last(makerOrder.getLimitPrice()).build();
+    lastPrice = makerOrder.getLimitPrice();
   }
 
   private void accumulate(BookOrder bookOrder, UserTrade trade) {
@@ -326,47 +501,98 @@ final class MatchingEngine {
     bookOrder.setFee(bookOrder.getFee().add(trade.getFeeAmount()));
   }
 
-  public synchronized List<LimitOrder> openOrders(String apiKey) {
-    return Stream.concat(asks.stream(), bids.stream())
-        .flatMap(v -> v.getOrders().stream())
-        .filter(o -> o.getApiKey().equals(apiKey))
+  public List<LimitOrder> openOrders(String apiKey) {
+    return execute(() -> accountOrders(apiKey));
+  }
+
+  private synchronized List<LimitOrder> accountOrders(String apiKey) {
+    Map<String, BookOrder> accountOrders = ordersByApiKey.get(apiKey);
+    if (accountOrders == null) {
+      return Collections.emptyList();
+    }
+    return accountOrders.values().stream()
         .sorted(Ordering.natural().onResultOf(BookOrder::getTimestamp).reversed())
         .map(o -> o.toOrder(currencyPair))
         .collect(toList());
   }
 
-  public synchronized OrderBook level2() {
-    return new OrderBook(new Date(), accumulateBookSide(asks), accumulateBookSide(bids));
+  public OrderBook level2() {
+    return execute(this::accumulateBook);
   }
 
-  private List<LimitOrder> accumulateBookSide(List<BookLevel> book) {
-    BigDecimal price = null;
-    BigDecimal amount = ZERO;
-    List<LimitOrder> result = new ArrayList<>();
-    Iterator<BookOrder> iter = book.stream().flatMap(v -> v.getOrders().stream()).iterator();
-    while (iter.hasNext()) {
-      BookOrder bookOrder = iter.next();
-      amount = amount.add(bookOrder.getRemainingAmount());
-      if (price != null && bookOrder.getLimitPrice().compareTo(price) != 0) {
-        result.add(
-            new LimitOrder.Builder(ASK, currencyPair)
-                .originalAmount(amount)
-                .limitPrice(price)
-                .build());
-        amount = ZERO;
-      }
-      price = bookOrder.getLimitPrice();
-    }
-    if (price != null) {
+  private synchronized OrderBook accumulateBook() {
+    return new OrderBook(clock.get(), accumulateBookSide(ASK, asks), accumulateBookSide(BID, bids));
+  }
+
+  private List<LimitOrder> accumulateBookSide(
+      OrderType type, NavigableMap<BigDecimal, BookLevel> book) {
+    List<LimitOrder> result = new ArrayList<>(book.size());
+    for (BookLevel level : book.values()) {
       result.add(
-          new LimitOrder.Builder(ASK, currencyPair)
-              .originalAmount(amount)
-              .limitPrice(price)
+          new LimitOrder.Builder(type, currencyPair)
+              .originalAmount(level.getRemainingAmount())
+              .limitPrice(level.getPrice())
               .build());
     }
     return result;
   }
 
+  /**
+   * Starts sending the market data of this engine to the listener, beginning with the current
+   * aggregated book.
+   */
+  void subscribe(SimulatedMarketDataListener listener) {
+    execute(() -> addListener(listener));
+  }
+
+  private synchronized void addListener(SimulatedMarketDataListener listener) {
+    listener.onOrderBook(sequence, accumulateBook());
+    listeners.add(listener);
+  }
+
+  void unsubscribe(SimulatedMarketDataListener listener) {
+    listeners.remove(listener);
+  }
+
+  /** Sends the new total amount of a level, zero if it is empty, to the listeners. */
+  private void publishLevel(OrderType type, BookLevel level, Date timestamp) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    BigDecimal amount = level.getRemainingAmount();
+    OrderBookUpdate update =
+        new OrderBookUpdate(type, amount, currencyPair, level.getPrice(), timestamp, amount);
+    long eventSequence = ++sequence;
+    for (SimulatedMarketDataListener listener : listeners) {
+      try {
+        listener.onOrderBookUpdate(eventSequence, update);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Market data listener failed on {}", update, e);
+      }
+    }
+  }
+
+  private void publishTrade(Trade trade) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    Trade publicTrade = Trade.Builder.from(trade).build();
+    long eventSequence = ++sequence;
+    for (SimulatedMarketDataListener listener : listeners) {
+      try {
+        listener.onTrade(eventSequence, publicTrade);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Market data listener failed on {}", publicTrade, e);
+      }
+    }
+  }
+
+  private void settle() {
+    if (settlement != null) {
+      settlement.settle();
+    }
+  }
+
   private void recordFill(Fill fill) {
     // XChange is unusual in this respect (see https://github.com/knowm/XChange/issues/2468)
     if (!fill.isTaker()) {
@@ -374,30 +600,103 @@ final class MatchingEngine {
       if (publicTrades.size() > TRADE_HISTORY_SIZE) {
         publicTrades.removeLast();
       }
+      publishTrade(fill.getTrade());
     }
     userTrades.put(fill.getApiKey(), fill.getTrade());
-    accountFactory.get(fill.getApiKey()).fill(fill.getTrade(), !fill.isTaker());
+    Account account = accountFactory.get(fill.getApiKey());
+    if (settlement == null) {
+      account.fill(fill.getTrade(), !fill.isTaker());
+    } else {
+      settlement.fill(account, fill.getTrade(), !fill.isTaker());
+    }
     onFill.accept(fill);
   }
 
   public void cancelOrder(String orderId, Order.OrderType type) {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      execute(() -> doCancelOrder(orderId, type));
+      return;
+    }
+    synchronized (journal) {
+      journal.cancel(currencyPair, orderId, type);
+      execute(() -> doCancelOrder(orderId, type));
+    }
+  }
+
+  private synchronized void doCancelOrder(String orderId, Order.OrderType type) {
+    if (type != ASK && type != BID) {
+      throw new ExchangeException("Unsupported order type: " + type);
+    }
+    BookOrder order = ordersById.get(orderId);
+    if (order == null || order.getType() != type) {
+      return;
+    }
+    NavigableMap<BigDecimal, BookLevel> book = type == ASK ? asks : bids;
+    BookLevel level = book.get(order.getLimitPrice());
+    level.remove(orderId);
+    if (level.getOrders().isEmpty()) {
+      book.remove(order.getLimitPrice());
+    }
+    unindex(order);
+    accountFactory.get(order.getApiKey()).release(order.toOrder(currencyPair));
+    publishLevel(type, level, clock.get());
+    updateTicker();
+  }
+
+  /**
+   * Reduces the amount of a resting order without losing its time priority. Only the owner can
+   * amend an order, and only to an amount between the amount already filled and the current one at
+   * the same price; anything else is a cancel and replace.
+   *
+   * @param apiKey The owner of the order.
+   * @param order The order with its id, type, limit price and new amount.
+   * @return True if the order was amended, false if it cannot be amended in place.
+   */
+  public boolean reduceOrder(String apiKey, LimitOrder order) {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      return execute(() -> doReduceOrder(apiKey, order));
+    }
+    synchronized (journal) {
+      journal.reduce(currencyPair, apiKey, order);
+      return execute(() -> doReduceOrder(apiKey, order));
+    }
+  }
 
-    switch (type) {
-      case ASK:
-        asks.stream()
-            .forEach(
-                bookLevel ->
-                    bookLevel.getOrders().removeIf(bookOrder -> bookOrder.getId().equals(orderId)));
-        break;
-      case BID:
-        bids.stream()
-            .forEach(
-                bookLevel ->
-                    bookLevel.getOrders().removeIf(bookOrder -> bookOrder.getId().equals(orderId)));
-
-        break;
-      default:
-        throw new ExchangeException("Unsupported order type: " + type);
+  private synchronized boolean doReduceOrder(String apiKey, LimitOrder order) {
+    BookOrder bookOrder = ordersById.get(order.getId());
+    if (bookOrder == null
+        || !bookOrder.getApiKey().equals(apiKey)
+        || bookOrder.getType() != order.getType()
+        || bookOrder.getLimitPrice().compareTo(order.getLimitPrice()) != 0
+        || order.getOriginalAmount().compareTo(bookOrder.getOriginalAmount()) >= 0
+        || order.getOriginalAmount().compareTo(bookOrder.getCumulativeAmount()) <= 0) {
+      return false;
     }
+    BigDecimal reduction = bookOrder.getOriginalAmount().subtract(order.getOriginalAmount());
+    accountFactory
+        .get(apiKey)
+        .release(
+            new LimitOrder.Builder(bookOrder.getType(), currencyPair)
+                .limitPrice(bookOrder.getLimitPrice())
+                .originalAmount(reduction)
+                .build());
+    bookOrder.setOriginalAmount(order.getOriginalAmount());
+    publishLevel(
+        bookOrder.getType(),
+        (bookOrder.getType() == ASK ? asks : bids).get(bookOrder.getLimitPrice()),
+        clock.get());
+    return true;
+  }
+
+  /** @return The resting order of the account, null if it is not on the book. */
+  public LimitOrder openOrder(String apiKey, String orderId) {
+    return execute(() -> findOrder(apiKey, orderId));
+  }
+
+  private synchronized LimitOrder findOrder(String apiKey, String orderId) {
+    BookOrder order = ordersById.get(orderId);
+    return order == null || !order.getApiKey().equals(apiKey) ? null : order.toOrder(currencyPair);
   }
 }
@@ -1,10 +1,28 @@
 package org.knowm.xchange.simulated;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Date;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Represents a single virtual cryptocurrency exchange - effectively a set of order books for each
@@ -13,27 +31,287 @@ import org.knowm.xchange.currency.CurrencyPair;
  * <p>If shared between instances of {@link SimulatedExchange}, this ensures that all users will be
  * trading against the same order books and thus each other.
  *
+ * <p>The state of the exchange can be made durable by recording every command in a {@link
+ * SimulatedJournal} and taking snapshots with {@link #checkpoint(Path)}. {@link #restore(Path,
+ * SimulatedJournal)} loads the latest snapshot and replays the journal written since, which is much
+ * faster than building up the books again order by order.
+ *
+ * <p>By default each command runs on the thread calling the exchange. For simulations trading many
+ * currency pairs from many threads, {@link #setThreadPerEngine(boolean)} pins each pair's engine to
+ * a thread of its own, so pairs match in parallel while the fills of each command are settled with
+ * the shared accounts in one batch.
+ *
  * @author Graham Crockford
  */
 public class MatchingEngineFactory {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(MatchingEngineFactory.class);
+
   private final ConcurrentMap<CurrencyPair, MatchingEngine> engines = new ConcurrentHashMap<>();
 
+  /**
+   * The fill consumers of the engines, apart from the engines themselves so that engines restored
+   * from a snapshot or the journal get theirs once the pair is first asked for with one.
+   */
+  private final ConcurrentMap<CurrencyPair, Consumer<Fill>> fillConsumers =
+      new ConcurrentHashMap<>();
+
   private final AccountFactory accountFactory;
 
+  private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+  private volatile Clock clock = Clock.systemUTC();
+  private volatile boolean threadPerEngine;
+
   public MatchingEngineFactory(AccountFactory accountFactory) {
     this.accountFactory = accountFactory;
   }
 
+  /**
+   * Creates a factory recording every command in the journal, which should be empty. Use {@link
+   * #restore(Path, SimulatedJournal)} to continue from an existing journal.
+   *
+   * @param accountFactory The accounts, which should be empty.
+   * @param journal The journal.
+   */
+  public MatchingEngineFactory(AccountFactory accountFactory, SimulatedJournal journal) {
+    this(accountFactory);
+    accountFactory.setJournal(journal);
+  }
+
+  /**
+   * Restores an exchange from the latest snapshot and the journal, then keeps recording to the
+   * journal.
+   *
+   * @param snapshot The snapshot written by {@link #checkpoint(Path)}, or null or a missing file to
+   *     replay the whole journal.
+   * @param journal The journal the snapshot was taken from.
+   * @return A factory with new accounts, see {@link #getAccountFactory()}.
+   * @throws IOException If the snapshot or the journal cannot be read.
+   */
+  public static MatchingEngineFactory restore(Path snapshot, SimulatedJournal journal)
+      throws IOException {
+    return restore(snapshot, journal, false);
+  }
+
+  /**
+   * Restores an exchange as {@link #restore(Path, SimulatedJournal)} does, with the engines running
+   * their commands as chosen by {@link #setThreadPerEngine(boolean)}. The restored engines are
+   * created while the snapshot and the journal are read, so the choice cannot be made afterwards.
+   *
+   * @param snapshot The snapshot written by {@link #checkpoint(Path)}, or null or a missing file to
+   *     replay the whole journal.
+   * @param journal The journal the snapshot was taken from.
+   * @param threadPerEngine True to give each engine a thread of its own.
+   * @return A factory with new accounts, see {@link #getAccountFactory()}.
+   * @throws IOException If the snapshot or the journal cannot be read.
+   */
+  public static MatchingEngineFactory restore(
+      Path snapshot, SimulatedJournal journal, boolean threadPerEngine) throws IOException {
+    MatchingEngineFactory factory = new MatchingEngineFactory(new AccountFactory());
+    factory.setThreadPerEngine(threadPerEngine);
+    long position =
+        snapshot != null && Files.exists(snapshot) ? SimulatedSnapshot.read(snapshot, factory) : 0;
+    journal.replay(position, factory.new Replay());
+    factory.accountFactory.setJournal(journal);
+    return factory;
+  }
+
+  /** @return The clock timestamping orders, trades and books. */
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * Replaces the clock of all engines, e.g. with the virtual clock of a {@link MarketDataReplay}.
+   *
+   * @param clock The clock timestamping orders, trades and books.
+   */
+  public void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
+  private Date now() {
+    return new Date(clock.millis());
+  }
+
+  /** @return True if each engine runs its commands on a thread of its own. */
+  public boolean isThreadPerEngine() {
+    return threadPerEngine;
+  }
+
+  /**
+   * Chooses whether each engine runs its commands on a daemon thread of its own, with the calling
+   * threads waiting for the result, rather than on the calling threads. Must be set before the
+   * first engine is created, for a restored exchange see {@link #restore(Path, SimulatedJournal,
+   * boolean)}.
+   *
+   * @param threadPerEngine True to give each engine a thread of its own.
+   * @throws IllegalStateException If engines have already been created.
+   */
+  public void setThreadPerEngine(boolean threadPerEngine) {
+    if (!engines.isEmpty()) {
+      throw new IllegalStateException("Engines have already been created");
+    }
+    this.threadPerEngine = threadPerEngine;
+  }
+
+  /**
+   * Stops the engine threads, if any, once their pending commands have run. The engines cannot be
+   * used afterwards.
+   */
+  public void shutdown() {
+    executors.forEach(ExecutorService::shutdown);
+  }
+
+  /** @return The accounts trading on this exchange. */
+  public AccountFactory getAccountFactory() {
+    return accountFactory;
+  }
+
+  /**
+   * Writes a snapshot of the books and balances, so that {@link #restore(Path, SimulatedJournal)}
+   * only needs to replay the journal written after it. The journal is flushed first.
+   *
+   * @param snapshot The snapshot file, replaced atomically.
+   * @throws IOException If the snapshot cannot be written.
+   * @throws IllegalStateException If the commands are not journaled.
+   */
+  public void checkpoint(Path snapshot) throws IOException {
+    SimulatedJournal journal = journal();
+    synchronized (journal) {
+      journal.force();
+      SimulatedSnapshot.write(
+          snapshot, journal.position(), accountFactory.accounts(), engines.values());
+    }
+  }
+
+  /**
+   * Takes a snapshot after every {@code commands} journaled commands, between two commands.
+   *
+   * @param snapshot The snapshot file, replaced atomically.
+   * @param commands The number of commands between checkpoints.
+   * @throws IllegalStateException If the commands are not journaled.
+   */
+  public void checkpointEvery(Path snapshot, long commands) {
+    if (commands <= 0) {
+      throw new IllegalArgumentException("commands must be positive");
+    }
+    journal()
+        .onCheckpoint(
+            commands,
+            () -> {
+              try {
+                checkpoint(snapshot);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  private SimulatedJournal journal() {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal == null) {
+      throw new IllegalStateException("Commands are not journaled");
+    }
+    return journal;
+  }
+
+  /**
+   * Returns the engine of the pair, created if there is none. The first fill consumer given for a
+   * pair is kept, also if the engine already exists, e.g. because it was restored.
+   */
   MatchingEngine create(
       CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount, Consumer<Fill> onFill) {
-    return engines.computeIfAbsent(
-        currencyPair,
-        pair -> new MatchingEngine(accountFactory, pair, priceScale, minimumAmount, onFill));
+    fillConsumers.putIfAbsent(currencyPair, onFill);
+    return create(currencyPair, priceScale, minimumAmount);
   }
 
   MatchingEngine create(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
     return engines.computeIfAbsent(
-        currencyPair, pair -> new MatchingEngine(accountFactory, pair, priceScale, minimumAmount));
+        currencyPair, pair -> newEngine(pair, priceScale, minimumAmount));
+  }
+
+  private MatchingEngine newEngine(
+      CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
+    record(currencyPair, priceScale, minimumAmount);
+    Consumer<Fill> onFill =
+        fill -> {
+          Consumer<Fill> consumer = fillConsumers.get(currencyPair);
+          if (consumer != null) {
+            consumer.accept(fill);
+          }
+        };
+    ExecutorService executor = null;
+    if (threadPerEngine) {
+      executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "MatchingEngine-" + currencyPair);
+                thread.setDaemon(true);
+                return thread;
+              });
+      executors.add(executor);
+    }
+    return new MatchingEngine(
+        accountFactory, currencyPair, priceScale, minimumAmount, onFill, this::now, executor);
+  }
+
+  private void record(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
+    SimulatedJournal journal = accountFactory.getJournal();
+    if (journal != null) {
+      journal.engine(currencyPair, priceScale, minimumAmount);
+    }
+  }
+
+  /**
+   * Applies journaled commands. A command which failed when it was recorded fails the same way
+   * again and is skipped.
+   */
+  private final class Replay implements SimulatedJournal.Visitor {
+
+    @Override
+    public void engine(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
+      create(currencyPair, priceScale, minimumAmount);
+    }
+
+    @Override
+    public void place(
+        CurrencyPair currencyPair, String apiKey, String id, Date timestamp, Order order) {
+      try {
+        engines.get(currencyPair).postOrder(apiKey, order, id, timestamp);
+      } catch (ExchangeException | NotAvailableFromExchangeException e) {
+        LOGGER.debug("Replayed order {} failed as recorded: {}", id, e.getMessage());
+      }
+    }
+
+    @Override
+    public void cancel(CurrencyPair currencyPair, String orderId, OrderType type) {
+      try {
+        engines.get(currencyPair).cancelOrder(orderId, type);
+      } catch (ExchangeException | NotAvailableFromExchangeException e) {
+        LOGGER.debug("Replayed cancel of {} failed as recorded: {}", orderId, e.getMessage());
+      }
+    }
+
+    @Override
+    public void reduce(CurrencyPair currencyPair, String apiKey, LimitOrder order) {
+      try {
+        engines.get(currencyPair).reduceOrder(apiKey, order);
+      } catch (ExchangeException | NotAvailableFromExchangeException e) {
+        LOGGER.debug(
+            "Replayed reduction of {} failed as recorded: {}", order.getId(), e.getMessage());
+      }
+    }
+
+    @Override
+    public void deposit(String apiKey, Currency currency, BigDecimal amount) {
+      accountFactory.get(apiKey).deposit(currency, amount);
+    }
+
+    @Override
+    public void initialize(String apiKey, Iterable<Currency> currencies) {
+      accountFactory.get(apiKey).initialize(currencies);
+    }
   }
 }
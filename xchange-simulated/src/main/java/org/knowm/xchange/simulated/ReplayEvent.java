@@ -0,0 +1,45 @@
+package org.knowm.xchange.simulated;
+
+import java.math.BigDecimal;
+import lombok.Data;
+import org.knowm.xchange.dto.Order.OrderType;
+
+/**
+ * A recorded market data event, replayed by {@link MarketDataReplay}.
+ *
+ * <ul>
+ *   <li>{@link Kind#LEVEL} - the total amount at a price level of the order book changed to {@link
+ *       #getAmount()}, zero if the level was removed.
+ *   <li>{@link Kind#TRADE} - a trade of {@link #getAmount()} at {@link #getPrice()}, where {@link
+ *       #getType()} is the side of the taker.
+ * </ul>
+ */
+@Data
+public final class ReplayEvent {
+
+  public enum Kind {
+    LEVEL,
+    TRADE
+  }
+
+  static final int BINARY_MAGIC = 0x58435231;
+  static final int BINARY_VERSION = 1;
+
+  /** Milliseconds since the epoch. */
+  private final long timestamp;
+
+  private final Kind kind;
+  private final OrderType type;
+  private final BigDecimal price;
+  private final BigDecimal amount;
+
+  public static ReplayEvent level(
+      long timestamp, OrderType type, BigDecimal price, BigDecimal amount) {
+    return new ReplayEvent(timestamp, Kind.LEVEL, type, price, amount);
+  }
+
+  public static ReplayEvent trade(
+      long timestamp, OrderType takerType, BigDecimal price, BigDecimal amount) {
+    return new ReplayEvent(timestamp, Kind.TRADE, takerType, price, amount);
+  }
+}
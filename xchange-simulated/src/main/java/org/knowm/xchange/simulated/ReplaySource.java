@@ -0,0 +1,156 @@
+package org.knowm.xchange.simulated;
+
+import static org.knowm.xchange.simulated.SimulatedJournal.readDecimal;
+import static org.knowm.xchange.simulated.SimulatedJournal.writeDecimal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import org.knowm.xchange.dto.Order.OrderType;
+
+/**
+ * A stream of recorded {@link ReplayEvent}s in timestamp order.
+ *
+ * <p>Recordings are either CSV files with the columns {@code timestamp,kind,type,price,amount},
+ * e.g. {@code 1546300800000,LEVEL,BID,3700.50,1.2} or {@code 1546300800010,TRADE,ASK,3700.50,0.1},
+ * or the more compact binary format written by {@link #writeBinary(ReplaySource, Path)}.
+ */
+public interface ReplaySource extends Closeable {
+
+  /** @return The next event, null at the end of the recording. */
+  ReplayEvent next() throws IOException;
+
+  @Override
+  default void close() throws IOException {}
+
+  /**
+   * @param events The events.
+   * @return A source of the given events.
+   */
+  static ReplaySource of(Iterable<ReplayEvent> events) {
+    Iterator<ReplayEvent> iterator = events.iterator();
+    return () -> iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * Reads a CSV recording. Blank lines, lines starting with {@code #} and a header line starting
+   * with {@code timestamp} are skipped.
+   *
+   * @param file The file.
+   * @return A source reading the file.
+   */
+  static ReplaySource csv(Path file) throws IOException {
+    BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    return new ReplaySource() {
+
+      private int lineNumber;
+
+      @Override
+      public ReplayEvent next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          lineNumber++;
+          line = line.trim();
+          if (line.isEmpty() || line.startsWith("#") || line.startsWith("timestamp")) {
+            continue;
+          }
+          String[] columns = line.split(",");
+          if (columns.length != 5) {
+            throw new IOException(file + ":" + lineNumber + ": expected 5 columns: " + line);
+          }
+          try {
+            return new ReplayEvent(
+                Long.parseLong(columns[0].trim()),
+                ReplayEvent.Kind.valueOf(columns[1].trim()),
+                OrderType.valueOf(columns[2].trim()),
+                new BigDecimal(columns[3].trim()),
+                new BigDecimal(columns[4].trim()));
+          } catch (IllegalArgumentException e) {
+            throw new IOException(file + ":" + lineNumber + ": " + e.getMessage(), e);
+          }
+        }
+        return null;
+      }
+
+      @Override
+      public void close() throws IOException {
+        reader.close();
+      }
+    };
+  }
+
+  /**
+   * Reads a binary recording written by {@link #writeBinary(ReplaySource, Path)}.
+   *
+   * @param file The file.
+   * @return A source reading the file.
+   */
+  static ReplaySource binary(Path file) throws IOException {
+    DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+    try {
+      if (in.readInt() != ReplayEvent.BINARY_MAGIC || in.readInt() != ReplayEvent.BINARY_VERSION) {
+        throw new IOException("Not a binary market data recording: " + file);
+      }
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+    return new ReplaySource() {
+
+      @Override
+      public ReplayEvent next() throws IOException {
+        long timestamp;
+        try {
+          timestamp = in.readLong();
+        } catch (EOFException e) {
+          return null;
+        }
+        return new ReplayEvent(
+            timestamp,
+            ReplayEvent.Kind.values()[in.readByte()],
+            OrderType.values()[in.readByte()],
+            readDecimal(in),
+            readDecimal(in));
+      }
+
+      @Override
+      public void close() throws IOException {
+        in.close();
+      }
+    };
+  }
+
+  /**
+   * Writes the events in the binary format, e.g. to convert a CSV recording once and replay it many
+   * times.
+   *
+   * @param source The events, closed when done.
+   * @param file The file to write.
+   */
+  static void writeBinary(ReplaySource source, Path file) throws IOException {
+    try (ReplaySource events = source;
+        DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+      out.writeInt(ReplayEvent.BINARY_MAGIC);
+      out.writeInt(ReplayEvent.BINARY_VERSION);
+      for (ReplayEvent event = events.next(); event != null; event = events.next()) {
+        out.writeLong(event.getTimestamp());
+        out.writeByte(event.getKind().ordinal());
+        out.writeByte(event.getType().ordinal());
+        writeDecimal(out, event.getPrice());
+        writeDecimal(out, event.getAmount());
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.knowm.xchange.simulated;
+
+import static java.math.BigDecimal.ZERO;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+/**
+ * Collects the balance changes of the fills of one engine command, netted per account and currency,
+ * and applies them with one update each when the command has matched. A taker sweeping many maker
+ * orders then updates its own balances once rather than once per fill, and engines on other threads
+ * contend on the shared accounts far less.
+ *
+ * <p>Confined to the thread of its engine.
+ */
+final class Settlement {
+
+  private final Map<Account, Map<Currency, BigDecimal[]>> changes = new LinkedHashMap<>();
+
+  void fill(Account account, UserTrade userTrade, boolean reserved) {
+    Map<Currency, BigDecimal[]> accountChanges =
+        changes.computeIfAbsent(account, a -> new HashMap<>());
+    Account.changes(
+        userTrade,
+        reserved,
+        (currency, total, available, frozen) -> {
+          BigDecimal[] change =
+              accountChanges.computeIfAbsent(currency, c -> new BigDecimal[] {ZERO, ZERO, ZERO});
+          change[0] = change[0].add(total);
+          change[1] = change[1].add(available);
+          change[2] = change[2].add(frozen);
+        });
+  }
+
+  void settle() {
+    if (changes.isEmpty()) {
+      return;
+    }
+    changes.forEach(
+        (account, accountChanges) ->
+            accountChanges.forEach(
+                (currency, change) -> account.settle(currency, change[0], change[1], change[2])));
+    changes.clear();
+  }
+}
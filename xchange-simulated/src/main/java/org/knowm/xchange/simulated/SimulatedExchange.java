@@ -46,6 +46,10 @@ public class SimulatedExchange extends BaseExchange {
    *       and share it between {@link SimulatedExchange} instances to allow those specific
    *       instances to share the same order books and thus trade against each other. Recommended
    *       for integration testing.
+   *   <li>A factory created with a {@link SimulatedJournal} or by {@link
+   *       MatchingEngineFactory#restore(java.nio.file.Path, SimulatedJournal)} - as above, but the
+   *       books and balances survive restarts and long simulations can be checkpointed. Pass its
+   *       {@link MatchingEngineFactory#getAccountFactory()} as {@link #ACCOUNT_FACTORY_PARAM}.
    * </ul>
    */
   public static final String ENGINE_FACTORY_PARAM = "MatchingEngineFactory";
@@ -112,6 +116,14 @@ public class SimulatedExchange extends BaseExchange {
     return accountFactory.get(exchangeSpecification.getApiKey());
   }
 
+  MatchingEngineFactory getEngineFactory() {
+    return engineFactory;
+  }
+
+  AccountFactory getAccountFactory() {
+    return accountFactory;
+  }
+
   void maybeThrow() throws IOException {
     exceptionThrower.onSimulatedExchangeOperation();
   }
@@ -0,0 +1,396 @@
+package org.knowm.xchange.simulated;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+
+/**
+ * An append-only journal of the commands executed by a {@link MatchingEngineFactory} and its {@link
+ * AccountFactory}: engine creation, orders, cancellations, amendments, deposits and account
+ * initialisation.
+ *
+ * <p>The journal is a memory-mapped file of binary records, written before the command is executed.
+ * Since order ids and timestamps are recorded with the orders, replaying the journal rebuilds the
+ * same books and balances, see {@link MatchingEngineFactory#restore(Path, SimulatedJournal)}. A
+ * record only becomes visible once its length prefix has been written, so a partially written
+ * record at the end of the file is ignored when the journal is reopened.
+ *
+ * <p>Appends are serialised on the journal instance, which also serialises the commands of all the
+ * engines sharing it. Call {@link #force()} or {@link #close()} to flush the file to disk.
+ */
+public final class SimulatedJournal implements Closeable {
+
+  private static final int MAGIC = 0x58434a31;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+  private static final int INITIAL_SIZE = 1 << 20;
+
+  static final byte ENGINE = 1;
+  static final byte PLACE = 2;
+  static final byte CANCEL = 3;
+  static final byte DEPOSIT = 4;
+  static final byte INITIALIZE = 5;
+  static final byte REDUCE = 6;
+
+  private final FileChannel channel;
+  private final Encoder encoder = new Encoder();
+  private MappedByteBuffer buffer;
+  private int position;
+  private long commandsSinceCheckpoint;
+  private long checkpointInterval;
+  private Runnable checkpoint;
+
+  private SimulatedJournal(FileChannel channel) throws IOException {
+    this.channel = channel;
+    long size = channel.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("Journal too large: " + size + " bytes");
+    }
+    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_SIZE));
+    if (size == 0) {
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, VERSION);
+      position = HEADER_SIZE;
+    } else {
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        throw new IOException("Not a simulated exchange journal");
+      }
+      position = HEADER_SIZE;
+      int length;
+      while (position + 4 <= buffer.capacity()
+          && (length = buffer.getInt(position)) > 0
+          && position + 4 + length <= buffer.capacity()) {
+        position += 4 + length;
+      }
+    }
+  }
+
+  /**
+   * Opens a journal, creating the file if it does not exist. New records are appended after the
+   * existing ones.
+   *
+   * @param file The journal file.
+   * @return The journal.
+   * @throws IOException If the file cannot be mapped or is not a journal.
+   */
+  public static SimulatedJournal open(Path file) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      return new SimulatedJournal(channel);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /** @return The offset after the last record, which a snapshot refers to. */
+  public synchronized long position() {
+    return position;
+  }
+
+  /** Flushes the records written so far to disk. */
+  public synchronized void force() {
+    buffer.force();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    buffer.force();
+    channel.close();
+  }
+
+  /**
+   * Runs the checkpoint before the next record after every {@code interval} records, while no
+   * command is executing.
+   */
+  synchronized void onCheckpoint(long interval, Runnable checkpoint) {
+    this.checkpointInterval = interval;
+    this.checkpoint = checkpoint;
+    this.commandsSinceCheckpoint = 0;
+  }
+
+  synchronized void engine(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
+    Encoder out = begin(ENGINE);
+    try {
+      out.data.writeUTF(currencyPair.toString());
+      out.data.writeInt(priceScale);
+      writeDecimal(out.data, minimumAmount);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  synchronized void place(
+      CurrencyPair currencyPair, String apiKey, String id, Date timestamp, Order order) {
+    Encoder out = begin(PLACE);
+    try {
+      out.data.writeUTF(currencyPair.toString());
+      out.data.writeUTF(apiKey);
+      out.data.writeUTF(id);
+      out.data.writeLong(timestamp.getTime());
+      out.data.writeByte(order.getType().ordinal());
+      writeDecimal(out.data, order.getOriginalAmount());
+      writeNullableDecimal(
+          out.data, order instanceof LimitOrder ? ((LimitOrder) order).getLimitPrice() : null);
+      out.data.writeBoolean(order instanceof LimitOrder);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  synchronized void cancel(CurrencyPair currencyPair, String orderId, OrderType type) {
+    Encoder out = begin(CANCEL);
+    try {
+      out.data.writeUTF(currencyPair.toString());
+      out.data.writeUTF(orderId);
+      out.data.writeByte(type.ordinal());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  synchronized void reduce(CurrencyPair currencyPair, String apiKey, LimitOrder order) {
+    Encoder out = begin(REDUCE);
+    try {
+      out.data.writeUTF(currencyPair.toString());
+      out.data.writeUTF(apiKey);
+      out.data.writeUTF(order.getId());
+      out.data.writeByte(order.getType().ordinal());
+      writeDecimal(out.data, order.getLimitPrice());
+      writeDecimal(out.data, order.getOriginalAmount());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  synchronized void deposit(String apiKey, Currency currency, BigDecimal amount) {
+    Encoder out = begin(DEPOSIT);
+    try {
+      out.data.writeUTF(apiKey);
+      out.data.writeUTF(currency.getCurrencyCode());
+      writeDecimal(out.data, amount);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  synchronized void initialize(String apiKey, Iterable<Currency> currencies) {
+    Encoder out = begin(INITIALIZE);
+    try {
+      out.data.writeUTF(apiKey);
+      for (Currency currency : currencies) {
+        out.data.writeBoolean(true);
+        out.data.writeUTF(currency.getCurrencyCode());
+      }
+      out.data.writeBoolean(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(out);
+  }
+
+  /**
+   * Hands the records from the given {@link #position()}, or 0 for the start, to the end of the
+   * journal to the visitor, in the order they were written.
+   */
+  synchronized void replay(long from, Visitor visitor) throws IOException {
+    if (from < 0 || from > position) {
+      throw new IOException("Position " + from + " is outside the journal");
+    }
+    MappedByteBuffer records = buffer;
+    int offset = (int) Math.max(from, HEADER_SIZE);
+    while (offset < position) {
+      int length = records.getInt(offset);
+      byte[] record = new byte[length];
+      records.position(offset + 4);
+      records.get(record);
+      offset += 4 + length;
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+      byte type = in.readByte();
+      switch (type) {
+        case ENGINE:
+          visitor.engine(new CurrencyPair(in.readUTF()), in.readInt(), readDecimal(in));
+          break;
+        case PLACE:
+          {
+            CurrencyPair currencyPair = new CurrencyPair(in.readUTF());
+            String apiKey = in.readUTF();
+            String id = in.readUTF();
+            Date timestamp = new Date(in.readLong());
+            OrderType orderType = OrderType.values()[in.readByte()];
+            BigDecimal amount = readDecimal(in);
+            BigDecimal limitPrice = readNullableDecimal(in);
+            Order order =
+                in.readBoolean()
+                    ? new LimitOrder.Builder(orderType, currencyPair)
+                        .originalAmount(amount)
+                        .limitPrice(limitPrice)
+                        .build()
+                    : new MarketOrder.Builder(orderType, currencyPair)
+                        .originalAmount(amount)
+                        .build();
+            visitor.place(currencyPair, apiKey, id, timestamp, order);
+            break;
+          }
+        case CANCEL:
+          visitor.cancel(
+              new CurrencyPair(in.readUTF()), in.readUTF(), OrderType.values()[in.readByte()]);
+          break;
+        case REDUCE:
+          {
+            CurrencyPair currencyPair = new CurrencyPair(in.readUTF());
+            String apiKey = in.readUTF();
+            String id = in.readUTF();
+            OrderType orderType = OrderType.values()[in.readByte()];
+            BigDecimal limitPrice = readDecimal(in);
+            visitor.reduce(
+                currencyPair,
+                apiKey,
+                new LimitOrder.Builder(orderType, currencyPair)
+                    .id(id)
+                    .limitPrice(limitPrice)
+                    .originalAmount(readDecimal(in))
+                    .build());
+            break;
+          }
+        case DEPOSIT:
+          visitor.deposit(in.readUTF(), Currency.getInstance(in.readUTF()), readDecimal(in));
+          break;
+        case INITIALIZE:
+          {
+            String apiKey = in.readUTF();
+            List<Currency> currencies = new ArrayList<>();
+            while (in.readBoolean()) {
+              currencies.add(Currency.getInstance(in.readUTF()));
+            }
+            visitor.initialize(apiKey, currencies);
+            break;
+          }
+        default:
+          throw new IOException("Unknown journal record type " + type + " at " + offset);
+      }
+    }
+  }
+
+  private Encoder begin(byte type) {
+    encoder.reset();
+    try {
+      encoder.data.writeByte(type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return encoder;
+  }
+
+  private void append(Encoder record) {
+    if (checkpoint != null && ++commandsSinceCheckpoint > checkpointInterval) {
+      commandsSinceCheckpoint = 1;
+      checkpoint.run();
+    }
+    int length = record.size();
+    ensureCapacity(position + 4 + length + 4);
+    buffer.position(position + 4);
+    buffer.put(record.bytes(), 0, length);
+    // the length goes last, publishing the record
+    buffer.putInt(position, length);
+    position += 4 + length;
+  }
+
+  private void ensureCapacity(long required) {
+    if (required <= buffer.capacity()) {
+      return;
+    }
+    long capacity = buffer.capacity();
+    while (capacity < required) {
+      capacity <<= 1;
+    }
+    if (capacity > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Journal is full, take a snapshot and start a new one");
+    }
+    try {
+      buffer.force();
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    out.writeInt(value.scale());
+    out.writeShort(unscaled.length);
+    out.write(unscaled);
+  }
+
+  static BigDecimal readDecimal(DataInput in) throws IOException {
+    int scale = in.readInt();
+    byte[] unscaled = new byte[in.readUnsignedShort()];
+    in.readFully(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), scale);
+  }
+
+  static void writeNullableDecimal(DataOutput out, BigDecimal value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      writeDecimal(out, value);
+    }
+  }
+
+  static BigDecimal readNullableDecimal(DataInput in) throws IOException {
+    return in.readBoolean() ? readDecimal(in) : null;
+  }
+
+  /** Receives the records of the journal, see {@link #replay(long, Visitor)}. */
+  interface Visitor {
+
+    void engine(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount);
+
+    void place(CurrencyPair currencyPair, String apiKey, String id, Date timestamp, Order order);
+
+    void cancel(CurrencyPair currencyPair, String orderId, OrderType type);
+
+    void reduce(CurrencyPair currencyPair, String apiKey, LimitOrder order);
+
+    void deposit(String apiKey, Currency currency, BigDecimal amount);
+
+    void initialize(String apiKey, Iterable<Currency> currencies);
+  }
+
+  /** A reusable record buffer. */
+  private static final class Encoder extends ByteArrayOutputStream {
+
+    private final DataOutputStream data = new DataOutputStream(this);
+
+    byte[] bytes() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.knowm.xchange.simulated;
+
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+/**
+ * Receives the market data of one currency pair of a {@link SimulatedExchange} as it changes,
+ * rather than polling full snapshots.
+ *
+ * <p>Pass instances to {@link SimulatedMarketDataService#subscribe(CurrencyPair,
+ * SimulatedMarketDataListener)}. The listener is first given the aggregated order book, then every
+ * change to a price level and every trade, each numbered by a sequence which increases by one per
+ * event. Applying the updates to the book with {@link OrderBook#update(OrderBookUpdate)} keeps it
+ * identical to {@link SimulatedMarketDataService#getOrderBook(CurrencyPair, Object...)}.
+ *
+ * <p>Events are delivered synchronously by the matching engine while it holds its lock, so
+ * listeners should be quick and must not block. Exceptions thrown by a listener are logged and
+ * otherwise ignored.
+ */
+public interface SimulatedMarketDataListener {
+
+  /**
+   * Called once on subscribing.
+   *
+   * @param sequence The sequence of the latest event included in the book; the next event is
+   *     numbered one higher.
+   * @param orderBook The aggregated order book.
+   */
+  default void onOrderBook(long sequence, OrderBook orderBook) {}
+
+  /**
+   * Called when the total amount at a price level changes.
+   *
+   * @param sequence The sequence of the event.
+   * @param update The new total amount at the price, zero if the level was removed.
+   */
+  default void onOrderBookUpdate(long sequence, OrderBookUpdate update) {}
+
+  /**
+   * Called for every trade.
+   *
+   * @param sequence The sequence of the event.
+   * @param trade The trade, as returned by {@link
+   *     SimulatedMarketDataService#getTrades(CurrencyPair, Object...)}.
+   */
+  default void onTrade(long sequence, Trade trade) {}
+}
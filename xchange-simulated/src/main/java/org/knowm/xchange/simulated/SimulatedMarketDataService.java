@@ -32,4 +32,26 @@ public class SimulatedMarketDataService extends BaseExchangeService<SimulatedExc
     exchange.maybeThrow();
     return new Trades(exchange.getEngine(currencyPair).publicTrades());
   }
+
+  /**
+   * Streams the order book updates and trades of a currency pair to the listener, starting with the
+   * current order book.
+   *
+   * @param currencyPair The currency pair.
+   * @param listener The listener.
+   */
+  public void subscribe(CurrencyPair currencyPair, SimulatedMarketDataListener listener) {
+    exchange.getEngine(currencyPair).subscribe(listener);
+  }
+
+  /**
+   * Stops streaming to a listener.
+   *
+   * @param currencyPair The currency pair.
+   * @param listener The listener passed to {@link #subscribe(CurrencyPair,
+   *     SimulatedMarketDataListener)}.
+   */
+  public void unsubscribe(CurrencyPair currencyPair, SimulatedMarketDataListener listener) {
+    exchange.getEngine(currencyPair).unsubscribe(listener);
+  }
 }
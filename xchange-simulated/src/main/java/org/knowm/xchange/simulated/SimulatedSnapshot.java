@@ -0,0 +1,155 @@
+package org.knowm.xchange.simulated;
+
+import static org.knowm.xchange.simulated.SimulatedJournal.readDecimal;
+import static org.knowm.xchange.simulated.SimulatedJournal.readNullableDecimal;
+import static org.knowm.xchange.simulated.SimulatedJournal.writeDecimal;
+import static org.knowm.xchange.simulated.SimulatedJournal.writeNullableDecimal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.Balance;
+
+/**
+ * Binary snapshot of the books of a {@link MatchingEngineFactory} and the balances of its {@link
+ * AccountFactory}, together with the {@link SimulatedJournal} position it corresponds to.
+ *
+ * <p>Only the state needed to continue trading is kept: resting orders, the last price and the
+ * balances. Trade histories are not part of a snapshot.
+ */
+final class SimulatedSnapshot {
+
+  private static final int MAGIC = 0x58435331;
+  private static final int VERSION = 1;
+
+  private SimulatedSnapshot() {}
+
+  /**
+   * Writes the snapshot to a temporary file first and then moves it over the target, so an
+   * interrupted checkpoint leaves the previous snapshot intact. Must be called while no command
+   * executes.
+   */
+  static void write(
+      Path file,
+      long journalPosition,
+      Map<String, Account> accounts,
+      Collection<MatchingEngine> engines)
+      throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(journalPosition);
+
+        out.writeInt(accounts.size());
+        for (Map.Entry<String, Account> account : accounts.entrySet()) {
+          out.writeUTF(account.getKey());
+          List<Balance> balances = new ArrayList<>(account.getValue().balances());
+          out.writeInt(balances.size());
+          for (Balance balance : balances) {
+            out.writeUTF(balance.getCurrency().getCurrencyCode());
+            writeDecimal(out, balance.getTotal());
+            writeDecimal(out, balance.getAvailable());
+            writeDecimal(out, balance.getFrozen());
+          }
+        }
+
+        out.writeInt(engines.size());
+        for (MatchingEngine engine : engines) {
+          out.writeUTF(engine.getCurrencyPair().toString());
+          out.writeInt(engine.getPriceScale());
+          writeDecimal(out, engine.getMinimumAmount());
+          writeNullableDecimal(out, engine.getLastPrice());
+          List<BookOrder> orders = engine.bookOrders();
+          out.writeInt(orders.size());
+          for (BookOrder order : orders) {
+            out.writeUTF(order.getApiKey());
+            out.writeUTF(order.getId());
+            out.writeLong(order.getTimestamp().getTime());
+            out.writeByte(order.getType().ordinal());
+            writeDecimal(out, order.getLimitPrice());
+            writeDecimal(out, order.getOriginalAmount());
+            writeDecimal(out, order.getCumulativeAmount());
+            writeNullableDecimal(out, order.getAveragePrice());
+            writeDecimal(out, order.getFee());
+          }
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Restores the snapshot into empty factories.
+   *
+   * @return The journal position to replay from.
+   */
+  static long read(Path file, MatchingEngineFactory engineFactory) throws IOException {
+    AccountFactory accountFactory = engineFactory.getAccountFactory();
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        throw new IOException("Not a simulated exchange snapshot: " + file);
+      }
+      long journalPosition = in.readLong();
+
+      for (int accountCount = in.readInt(); accountCount > 0; accountCount--) {
+        Account account = accountFactory.get(in.readUTF());
+        for (int balanceCount = in.readInt(); balanceCount > 0; balanceCount--) {
+          Currency currency = Currency.getInstance(in.readUTF());
+          account.restore(
+              new Balance.Builder()
+                  .currency(currency)
+                  .total(readDecimal(in))
+                  .available(readDecimal(in))
+                  .frozen(readDecimal(in))
+                  .build());
+        }
+      }
+
+      for (int engineCount = in.readInt(); engineCount > 0; engineCount--) {
+        CurrencyPair currencyPair = new CurrencyPair(in.readUTF());
+        MatchingEngine engine = engineFactory.create(currencyPair, in.readInt(), readDecimal(in));
+        BigDecimal lastPrice = readNullableDecimal(in);
+        int orderCount = in.readInt();
+        List<BookOrder> orders = new ArrayList<>(orderCount);
+        for (; orderCount > 0; orderCount--) {
+          BookOrder order =
+              BookOrder.builder()
+                  .apiKey(in.readUTF())
+                  .id(in.readUTF())
+                  .timestamp(new Date(in.readLong()))
+                  .type(OrderType.values()[in.readByte()])
+                  .limitPrice(readDecimal(in))
+                  .originalAmount(readDecimal(in))
+                  .cumulativeAmount(readDecimal(in))
+                  .averagePrice(readNullableDecimal(in))
+                  .fee(readDecimal(in))
+                  .build();
+          orders.add(order);
+        }
+        engine.restore(orders, lastPrice);
+      }
+      return journalPosition;
+    }
+  }
+}
@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.knowm.xchange.dto.Order;
@@ -54,6 +53,21 @@ public class SimulatedTradeService extends BaseExchangeService<SimulatedExchange
     return engine.postOrder(getApiKey(), marketOrder).getId();
   }
 
+  /**
+   * Reduces the amount of the order in place, keeping its time priority, or otherwise cancels and
+   * replaces it.
+   */
+  @Override
+  public String changeOrder(LimitOrder limitOrder) throws IOException {
+    MatchingEngine engine = exchange.getEngine(limitOrder.getCurrencyPair());
+    exchange.maybeThrow();
+    if (engine.reduceOrder(getApiKey(), limitOrder)) {
+      return limitOrder.getId();
+    }
+    engine.cancelOrder(limitOrder.getId(), limitOrder.getType());
+    return engine.postOrder(getApiKey(), limitOrder).getId();
+  }
+
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
     if (!(params instanceof OpenOrdersParamCurrencyPair)) {
@@ -125,12 +139,7 @@ public class SimulatedTradeService extends BaseExchangeService<SimulatedExchange
               MatchingEngine engine =
                   exchange.getEngine(((OrderQueryParamCurrencyPair) p).getCurrencyPair());
 
-              Optional<LimitOrder> first =
-                  engine.openOrders(getApiKey()).stream()
-                      .filter(o -> o.getId().equals(p.getOrderId()))
-                      .findFirst();
-
-              return first.orElse(null);
+              return engine.openOrder(getApiKey(), p.getOrderId());
             })
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
@@ -0,0 +1,88 @@
+package org.knowm.xchange.simulated;
+
+import static org.knowm.xchange.currency.Currency.BTC;
+import static org.knowm.xchange.currency.Currency.USD;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import ch.qos.logback.classic.Level;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures open order queries and cancels of {@link MatchingEngine} with 100,000 resting orders
+ * from 100 market makers. Run with {@code main}; not part of the unit tests.
+ *
+ * <p>With the order id and per account indexes a cancel runs at about 70,000/second on a typical
+ * development machine, where scanning the book managed about 800. Querying the 1,000 open orders of
+ * one account went from about 200/second to 1,200-1,500/second and is now bound by creating the
+ * {@link LimitOrder}s.
+ */
+public class OpenOrdersBenchmark {
+
+  private static final int MAKERS = 100;
+  private static final int ORDERS_PER_MAKER = 1000;
+  private static final int LEVELS = 5000;
+  private static final int QUERIES = 2_000;
+  private static final int CANCELS = 20_000;
+
+  public static void main(String[] args) {
+
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(MatchingEngine.class))
+        .setLevel(Level.WARN);
+
+    AccountFactory accountFactory = new AccountFactory();
+    MatchingEngine engine =
+        new MatchingEngine(accountFactory, BTC_USD, 2, new BigDecimal("0.0001"));
+
+    Random random = new Random(42);
+    List<LimitOrder> resting = new ArrayList<>(MAKERS * ORDERS_PER_MAKER);
+    for (int maker = 0; maker < MAKERS; maker++) {
+      String apiKey = "MAKER" + maker;
+      accountFactory.get(apiKey).deposit(BTC, new BigDecimal("1000000000"));
+      accountFactory.get(apiKey).deposit(USD, new BigDecimal("1000000000000"));
+      for (int i = 0; i < ORDERS_PER_MAKER; i++) {
+        OrderType type = random.nextBoolean() ? BID : ASK;
+        int offset = 1 + random.nextInt(LEVELS);
+        resting.add(
+            engine.postOrder(apiKey, order(type, type == BID ? 10000 - offset : 10000 + offset)));
+      }
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < QUERIES; i++) {
+      engine.openOrders("MAKER" + random.nextInt(MAKERS));
+    }
+    report("open order queries", QUERIES, System.nanoTime() - start);
+
+    Collections.shuffle(resting, random);
+    List<LimitOrder> cancelled = resting.subList(0, CANCELS);
+    start = System.nanoTime();
+    for (LimitOrder order : cancelled) {
+      engine.cancelOrder(order.getId(), order.getType());
+    }
+    report("cancels", CANCELS, System.nanoTime() - start);
+  }
+
+  private static void report(String operation, int count, long elapsed) {
+
+    System.out.printf(
+        "%,d %s in %,d ms: %,.0f/second%n",
+        count, operation, elapsed / 1_000_000, count * 1e9 / elapsed);
+  }
+
+  private static LimitOrder order(OrderType type, int price) {
+
+    return new LimitOrder.Builder(type, BTC_USD)
+        .limitPrice(new BigDecimal(price))
+        .originalAmount(new BigDecimal("0.01"))
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+package org.knowm.xchange.simulated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knowm.xchange.currency.Currency.BTC;
+import static org.knowm.xchange.currency.Currency.USD;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+import static org.knowm.xchange.simulated.SimulatedExchange.ACCOUNT_FACTORY_PARAM;
+import static org.knowm.xchange.simulated.SimulatedExchange.ENGINE_FACTORY_PARAM;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamCurrencyPair;
+
+public class TestMarketDataReplay {
+
+  private static final String RECORDING =
+      String.join(
+          "\n",
+          "timestamp,kind,type,price,amount",
+          "1000,LEVEL,ASK,101.00,2",
+          "1000,LEVEL,BID,99.00,3",
+          "2000,LEVEL,ASK,100.50,1",
+          "# the best ask is partially taken",
+          "3000,TRADE,BID,100.50,0.5",
+          "3000,LEVEL,ASK,100.50,0.5",
+          "");
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private SimulatedExchange exchange;
+  private Path csv;
+
+  @Before
+  public void setup() throws IOException {
+    AccountFactory accountFactory = new AccountFactory();
+    ExchangeSpecification exchangeSpecification =
+        new ExchangeSpecification(SimulatedExchange.class);
+    exchangeSpecification.setApiKey("Tester");
+    exchangeSpecification.setExchangeSpecificParametersItem(
+        ENGINE_FACTORY_PARAM, new MatchingEngineFactory(accountFactory));
+    exchangeSpecification.setExchangeSpecificParametersItem(ACCOUNT_FACTORY_PARAM, accountFactory);
+    exchange = (SimulatedExchange) ExchangeFactory.INSTANCE.createExchange(exchangeSpecification);
+    exchange.getAccountService().deposit(USD, new BigDecimal(1000));
+    exchange.getAccountService().deposit(BTC, new BigDecimal(10));
+
+    csv = folder.getRoot().toPath().resolve("btc-usd.csv");
+    Files.write(csv, RECORDING.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testReplayBuildsBookAndTicker() throws IOException {
+    // When
+    MarketDataReplay replay = new MarketDataReplay(exchange, BTC_USD, ReplaySource.csv(csv));
+    replay.run();
+
+    // Then
+    OrderBook orderBook = exchange.getMarketDataService().getOrderBook(BTC_USD);
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getAsks().get(0).getLimitPrice()).isEqualByComparingTo("100.50");
+    assertThat(orderBook.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("0.5");
+    assertThat(orderBook.getBids()).hasSize(1);
+    assertThat(orderBook.getBids().get(0).getOriginalAmount()).isEqualByComparingTo("3");
+    assertThat(orderBook.getTimeStamp().getTime()).isEqualTo(3000);
+
+    Ticker ticker = exchange.getMarketDataService().getTicker(BTC_USD);
+    assertThat(ticker.getLast()).isEqualByComparingTo("100.50");
+    assertThat(ticker.getAsk()).isEqualByComparingTo("100.50");
+    assertThat(ticker.getBid()).isEqualByComparingTo("99.00");
+
+    assertThat(replay.getEvents()).isEqualTo(5);
+    assertThat(replay.getClock().millis()).isEqualTo(3000);
+  }
+
+  @Test
+  public void testStrategyOrdersAreFilledByRecordedTrades() throws IOException {
+    // Given
+    Files.write(
+        csv,
+        Arrays.asList("4000,TRADE,ASK,99.00,1.5"),
+        StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    String[] orderId = new String[1];
+    MarketDataReplay replay =
+        new MarketDataReplay(exchange, BTC_USD, ReplaySource.csv(csv))
+            .onEvent(
+                event -> {
+                  if (event.getTimestamp() == 2000) {
+                    // outbid the recorded book just before the trade
+                    orderId[0] =
+                        exchange
+                            .getTradeService()
+                            .placeLimitOrderUnrestricted(
+                                new LimitOrder.Builder(BID, BTC_USD)
+                                    .limitPrice(new BigDecimal("99.50"))
+                                    .originalAmount(new BigDecimal("1"))
+                                    .build());
+                  }
+                });
+
+    // When
+    replay.run();
+
+    // Then
+    DefaultTradeHistoryParamCurrencyPair params = new DefaultTradeHistoryParamCurrencyPair(BTC_USD);
+    UserTrade fill = exchange.getTradeService().getTradeHistory(params).getUserTrades().get(0);
+    assertThat(fill.getOrderId()).isEqualTo(orderId[0]);
+    assertThat(fill.getPrice()).isEqualByComparingTo("99.50");
+    assertThat(fill.getOriginalAmount()).isEqualByComparingTo("1");
+    assertThat(fill.getTimestamp().getTime()).isEqualTo(4000);
+    assertThat(exchange.getMarketDataService().getOrderBook(BTC_USD).getBids().get(0))
+        .satisfies(bid -> assertThat(bid.getOriginalAmount()).isEqualByComparingTo("2.5"));
+  }
+
+  @Test
+  public void testBinaryRecordingReplaysTheSame() throws IOException {
+    // Given
+    Path binary = folder.getRoot().toPath().resolve("btc-usd.bin");
+    ReplaySource.writeBinary(ReplaySource.csv(csv), binary);
+
+    // When
+    new MarketDataReplay(exchange, BTC_USD, ReplaySource.binary(binary)).bufferSize(1).run();
+
+    // Then
+    OrderBook orderBook = exchange.getMarketDataService().getOrderBook(BTC_USD);
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("0.5");
+    assertThat(exchange.getMarketDataService().getTicker(BTC_USD).getLast())
+        .isEqualByComparingTo("100.50");
+  }
+
+  @Test
+  public void testSpeedPacesTheReplay() throws IOException {
+    // When
+    long start = System.nanoTime();
+    new MarketDataReplay(exchange, BTC_USD, ReplaySource.csv(csv)).speed(20).run();
+
+    // Then 2 recorded seconds at 20x
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(95);
+  }
+
+  @Test
+  public void testStop() throws IOException {
+    // Given
+    MarketDataReplay replay = new MarketDataReplay(exchange, BTC_USD, ReplaySource.csv(csv));
+    replay.onEvent(event -> replay.stop());
+
+    // When
+    replay.run();
+
+    // Then
+    assertThat(replay.getEvents()).isEqualTo(1);
+    assertThat(exchange.getMarketDataService().getOrderBook(BTC_USD).getAsks()).hasSize(1);
+  }
+}
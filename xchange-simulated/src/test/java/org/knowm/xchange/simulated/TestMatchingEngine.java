@@ -1,6 +1,7 @@
 package org.knowm.xchange.simulated;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.knowm.xchange.currency.Currency.BTC;
 import static org.knowm.xchange.currency.Currency.USD;
 import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
@@ -25,6 +26,7 @@ import java.util.function.Consumer;
 import org.assertj.core.matcher.AssertionMatcher;
 import org.junit.Before;
 import org.junit.Test;
+import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.UserTrade;
@@ -659,6 +661,136 @@ public class TestMatchingEngine {
     assertThat(book.getAsks()).isEmpty();
   }
 
+  @Test
+  public void testCancelReleasesAndUnindexes() {
+
+    // Given
+    LimitOrder first = postLimit(MAKER, BID, 100, 5);
+    LimitOrder second = postLimit(MAKER, BID, 100, 3);
+    LimitOrder other = postLimit(TAKER, BID, 99, 1);
+
+    // When
+    matchingEngine.cancelOrder(first.getId(), ASK);
+    matchingEngine.cancelOrder(first.getId(), BID);
+    matchingEngine.cancelOrder(first.getId(), BID);
+
+    // Then
+    verify(account, times(1)).release(argThat(new OrderIdMatcher(first.getId())));
+    assertThat(matchingEngine.openOrders(MAKER))
+        .extracting(LimitOrder::getId)
+        .containsExactly(second.getId());
+    assertThat(matchingEngine.openOrders(TAKER))
+        .extracting(LimitOrder::getId)
+        .containsExactly(other.getId());
+    assertThat(matchingEngine.openOrder(MAKER, first.getId())).isNull();
+    assertThat(matchingEngine.openOrder(TAKER, second.getId())).isNull();
+    assertThat(matchingEngine.book().getBids())
+        .extracting(LimitOrder::getId)
+        .containsExactly(second.getId(), other.getId());
+
+    // When the level is emptied
+    matchingEngine.cancelOrder(second.getId(), BID);
+
+    // Then
+    assertThat(matchingEngine.level2().getBids()).hasSize(1);
+    assertThat(matchingEngine.ticker().getBid()).isEqualTo(new BigDecimal(99));
+  }
+
+  @Test
+  public void testFilledMakerLeavesOpenOrders() {
+
+    // Given
+    LimitOrder maker = postLimit(MAKER, BID, 100, 5);
+
+    // When
+    postLimit(TAKER, ASK, 100, 5);
+
+    // Then
+    assertThat(matchingEngine.openOrders(MAKER)).isEmpty();
+    assertThat(matchingEngine.openOrder(MAKER, maker.getId())).isNull();
+  }
+
+  @Test
+  public void testReduceOrderKeepsPriority() {
+
+    // Given
+    LimitOrder first = postLimit(MAKER, ASK, 100, 5);
+    LimitOrder second = postLimit(TAKER, ASK, 100, 5);
+    reset(account);
+
+    // When
+    boolean reduced =
+        matchingEngine.reduceOrder(
+            MAKER,
+            new LimitOrder.Builder(ASK, BTC_USD)
+                .id(first.getId())
+                .limitPrice(new BigDecimal(100))
+                .originalAmount(new BigDecimal(2))
+                .build());
+
+    // Then
+    assertThat(reduced).isTrue();
+    verify(account)
+        .release(
+            argThat(
+                new AssertionMatcher<LimitOrder>() {
+                  @Override
+                  public void assertion(LimitOrder actual) throws AssertionError {
+                    assertThat(actual.getOriginalAmount()).isEqualTo(new BigDecimal(3));
+                  }
+                }));
+    assertThat(matchingEngine.book().getAsks())
+        .extracting(LimitOrder::getId, LimitOrder::getOriginalAmount)
+        .containsExactly(
+            tuple(first.getId(), new BigDecimal(2)), tuple(second.getId(), new BigDecimal(5)));
+  }
+
+  @Test
+  public void testReduceOrderRejectsOtherChanges() {
+
+    // Given
+    LimitOrder order = postLimit(MAKER, ASK, 100, 5);
+
+    // Then
+    assertThat(matchingEngine.reduceOrder(TAKER, reduce(order, 100, 2))).isFalse();
+    assertThat(matchingEngine.reduceOrder(MAKER, reduce(order, 101, 2))).isFalse();
+    assertThat(matchingEngine.reduceOrder(MAKER, reduce(order, 100, 6))).isFalse();
+    assertThat(matchingEngine.reduceOrder(MAKER, reduce(order, 100, 0))).isFalse();
+    assertThat(matchingEngine.openOrder(MAKER, order.getId()).getOriginalAmount())
+        .isEqualTo(new BigDecimal(5));
+  }
+
+  private LimitOrder postLimit(String apiKey, Order.OrderType type, int price, int amount) {
+    return matchingEngine.postOrder(
+        apiKey,
+        new LimitOrder.Builder(type, BTC_USD)
+            .limitPrice(new BigDecimal(price))
+            .originalAmount(new BigDecimal(amount))
+            .build());
+  }
+
+  private static LimitOrder reduce(LimitOrder order, int price, int amount) {
+    return new LimitOrder.Builder(order.getType(), BTC_USD)
+        .id(order.getId())
+        .limitPrice(new BigDecimal(price))
+        .originalAmount(new BigDecimal(amount))
+        .build();
+  }
+
+  private static final class OrderIdMatcher extends AssertionMatcher<LimitOrder> {
+
+    private final String id;
+
+    OrderIdMatcher(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public void assertion(LimitOrder actual) throws AssertionError {
+      assertThat(actual.getId()).isEqualTo(id);
+    }
+  }
+
   private AssertionMatcher<Fill> useAmount(String apiKey, LimitOrder order, BigDecimal amount) {
     return new AssertionMatcher<Fill>() {
       @Override
@@ -14,6 +14,9 @@ import static org.knowm.xchange.simulated.SimulatedExchange.ENGINE_FACTORY_PARAM
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.knowm.xchange.Exchange;
@@ -22,7 +25,9 @@ import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.account.Balance;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
 import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
@@ -340,6 +345,93 @@ public class TestSimulatedExchange {
         .isEqualTo(INITIAL_BALANCE.subtract(expectedUsdCost).subtract(expectedUsdReserved));
   }
 
+  @Test
+  public void testMarketDataStream() throws IOException {
+
+    // Given
+    OrderBook[] book = new OrderBook[1];
+    List<Long> sequences = new ArrayList<>();
+    List<Trade> trades = new ArrayList<>();
+    SimulatedMarketDataListener listener =
+        new SimulatedMarketDataListener() {
+          @Override
+          public void onOrderBook(long sequence, OrderBook orderBook) {
+            book[0] = orderBook;
+            sequences.add(sequence);
+          }
+
+          @Override
+          public void onOrderBookUpdate(long sequence, OrderBookUpdate update) {
+            book[0].update(update);
+            sequences.add(sequence);
+          }
+
+          @Override
+          public void onTrade(long sequence, Trade trade) {
+            trades.add(trade);
+            sequences.add(sequence);
+          }
+        };
+    exchange.getMarketDataService().subscribe(BTC_USD, listener);
+
+    // When
+    exchange
+        .getTradeService()
+        .placeMarketOrder(
+            new MarketOrder.Builder(ASK, BTC_USD).originalAmount(new BigDecimal("0.7")).build());
+    exchange
+        .getTradeService()
+        .placeLimitOrder(
+            new LimitOrder.Builder(BID, BTC_USD)
+                .limitPrice(new BigDecimal(99))
+                .originalAmount(new BigDecimal("0.7"))
+                .build());
+    String resting =
+        exchange
+            .getTradeService()
+            .placeLimitOrder(
+                new LimitOrder.Builder(BID, BTC_USD)
+                    .limitPrice(new BigDecimal(90))
+                    .originalAmount(new BigDecimal("1"))
+                    .build());
+    exchange.getEngine(BTC_USD).cancelOrder(resting, BID);
+
+    // Then
+    OrderBook polled = exchange.getMarketDataService().getOrderBook(BTC_USD);
+    assertThat(levels(book[0].getAsks())).isEqualTo(levels(polled.getAsks()));
+    assertThat(levels(book[0].getBids())).isEqualTo(levels(polled.getBids()));
+    List<Trade> polledTrades = exchange.getMarketDataService().getTrades(BTC_USD).getTrades();
+    assertThat(trades).hasSize(6);
+    assertThat(trades)
+        .extracting(Trade::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            polledTrades.stream().map(Trade::getId).collect(Collectors.toList()));
+    for (int i = 1; i < sequences.size(); i++) {
+      assertThat(sequences.get(i)).isEqualTo(sequences.get(0) + i);
+    }
+
+    // And when
+    int events = sequences.size();
+    exchange.getMarketDataService().unsubscribe(BTC_USD, listener);
+    exchange
+        .getTradeService()
+        .placeMarketOrder(
+            new MarketOrder.Builder(ASK, BTC_USD).originalAmount(new BigDecimal("0.1")).build());
+
+    // Then
+    assertThat(sequences).hasSize(events);
+  }
+
+  private static String levels(List<LimitOrder> orders) {
+    return orders.stream()
+        .map(
+            o ->
+                o.getLimitPrice().stripTrailingZeros().toPlainString()
+                    + "@"
+                    + o.getOriginalAmount().stripTrailingZeros().toPlainString())
+        .collect(Collectors.joining(", "));
+  }
+
   private OpenOrders getOpenOrders() throws IOException {
     OpenOrdersParamCurrencyPair params = exchange.getTradeService().createOpenOrdersParams();
     params.setCurrencyPair(BTC_USD);
@@ -0,0 +1,316 @@
+package org.knowm.xchange.simulated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knowm.xchange.currency.Currency.BTC;
+import static org.knowm.xchange.currency.Currency.USD;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+import static org.knowm.xchange.simulated.SimulatedExchange.ACCOUNT_FACTORY_PARAM;
+import static org.knowm.xchange.simulated.SimulatedExchange.ENGINE_FACTORY_PARAM;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.exceptions.FundsExceededException;
+
+public class TestSimulatedJournal {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path journalFile;
+  private Path snapshotFile;
+  private SimulatedJournal journal;
+  private MatchingEngineFactory factory;
+
+  @Before
+  public void setup() throws IOException {
+    journalFile = folder.getRoot().toPath().resolve("exchange.journal");
+    snapshotFile = folder.getRoot().toPath().resolve("exchange.snapshot");
+    journal = SimulatedJournal.open(journalFile);
+    factory = new MatchingEngineFactory(new AccountFactory(), journal);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    journal.close();
+  }
+
+  @Test
+  public void testReplayRebuildsBooksAndBalances() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    trade(exchange("Tester"));
+    Map<String, Object> expected = state(factory);
+
+    // When
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    MatchingEngineFactory restored = MatchingEngineFactory.restore(null, journal);
+
+    // Then
+    assertThat(state(restored)).isEqualTo(expected);
+  }
+
+  @Test
+  public void testRestoreFromSnapshotReplaysTheRest() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    factory.checkpoint(snapshotFile);
+    long snapshotPosition = journal.position();
+    trade(exchange("Tester"));
+    Map<String, Object> expected = state(factory);
+
+    // When
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    MatchingEngineFactory restored = MatchingEngineFactory.restore(snapshotFile, journal);
+
+    // Then
+    assertThat(journal.position()).isGreaterThan(snapshotPosition);
+    assertThat(state(restored)).isEqualTo(expected);
+    assertThat(restored.create(BTC_USD, 8, BigDecimal.ZERO).ticker().getLast())
+        .isEqualTo(factory.create(BTC_USD, 8, BigDecimal.ZERO).ticker().getLast());
+  }
+
+  @Test
+  public void testRestoredExchangeKeepsJournaling() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    factory = MatchingEngineFactory.restore(null, journal);
+
+    // When
+    maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(BTC, new BigDecimal(10));
+    MockMarket.placeMMOrder(maker, ASK, new BigDecimal(98), BigDecimal.ONE);
+    Map<String, Object> expected = state(factory);
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+
+    // Then
+    assertThat(state(MatchingEngineFactory.restore(null, journal))).isEqualTo(expected);
+  }
+
+  @Test
+  public void testRestoredEngineReportsFills() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    factory.checkpoint(snapshotFile);
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    factory = MatchingEngineFactory.restore(snapshotFile, journal);
+    List<Fill> fills = new ArrayList<>();
+    factory.create(BTC_USD, 8, BigDecimal.ZERO, fills::add);
+
+    // When
+    SimulatedExchange tester = exchange("Tester");
+    tester.getAccountService().deposit(USD, new BigDecimal(1000));
+    tester
+        .getTradeService()
+        .placeMarketOrder(
+            new MarketOrder.Builder(BID, BTC_USD).originalAmount(new BigDecimal("0.4")).build());
+
+    // Then
+    assertThat(fills).isNotEmpty();
+    assertThat(fills).anyMatch(fill -> fill.getApiKey().equals("Tester") && fill.isTaker());
+    assertThat(fills).anyMatch(fill -> fill.getApiKey().equals("MarketMakers"));
+    Map<Currency, Balance> balances =
+        tester.getAccountService().getAccountInfo().getWallet().getBalances();
+    assertThat(balances.get(BTC).getTotal()).isEqualByComparingTo("0.4");
+    assertThat(balances.get(USD).getTotal()).isLessThan(new BigDecimal(1000));
+  }
+
+  @Test
+  public void testRestoreWithThreadPerEngine() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    factory.checkpoint(snapshotFile);
+    trade(exchange("Tester"));
+    Map<String, Object> expected = state(factory);
+
+    // When
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    MatchingEngineFactory restored = MatchingEngineFactory.restore(snapshotFile, journal, true);
+
+    // Then
+    try {
+      assertThat(restored.isThreadPerEngine()).isTrue();
+      assertThat(state(restored)).isEqualTo(expected);
+      List<String> threads = new ArrayList<>();
+      restored
+          .create(
+              BTC_USD, 8, BigDecimal.ZERO, fill -> threads.add(Thread.currentThread().getName()))
+          .postOrder(
+              "MarketMakers",
+              new MarketOrder.Builder(BID, BTC_USD).originalAmount(new BigDecimal("0.1")).build());
+      assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("MatchingEngine-"));
+    } finally {
+      restored.shutdown();
+    }
+  }
+
+  @Test
+  public void testReplaySkipsFailedAmends() throws IOException {
+    // Given
+    SimulatedExchange maker = exchange("MarketMakers");
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+    SimulatedExchange tester = exchange("Tester");
+    tester.getAccountService().deposit(USD, new BigDecimal(100));
+    LimitOrder bid =
+        new LimitOrder.Builder(BID, BTC_USD)
+            .limitPrice(new BigDecimal("90"))
+            .originalAmount(new BigDecimal("1"))
+            .build();
+    String id = tester.getTradeService().placeLimitOrder(bid);
+    try {
+      // not a reduction, so the order is replaced, which the balance does not allow
+      tester
+          .getTradeService()
+          .changeOrder(
+              LimitOrder.Builder.from(bid).id(id).originalAmount(new BigDecimal("2")).build());
+    } catch (FundsExceededException e) {
+      // rejected, and rejected again on replay
+    }
+    // a reduction of an order which is not on the book any more
+    tester
+        .getTradeService()
+        .changeOrder(
+            LimitOrder.Builder.from(bid).id(id).originalAmount(new BigDecimal("0.5")).build());
+    Map<String, Object> expected = state(factory);
+
+    // When
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    MatchingEngineFactory restored = MatchingEngineFactory.restore(null, journal);
+
+    // Then
+    assertThat(state(restored)).isEqualTo(expected);
+  }
+
+  @Test
+  public void testCheckpointEvery() throws IOException {
+    // Given
+    factory.checkpointEvery(snapshotFile, 5);
+    SimulatedExchange maker = exchange("MarketMakers");
+
+    // When
+    maker.getAccountService().deposit(USD, new BigDecimal(10000));
+    maker.getAccountService().deposit(BTC, new BigDecimal(10000));
+    MockMarket.mockMarket(maker);
+
+    // Then
+    assertThat(Files.exists(snapshotFile)).isTrue();
+    Map<String, Object> expected = state(factory);
+    journal.close();
+    journal = SimulatedJournal.open(journalFile);
+    assertThat(state(MatchingEngineFactory.restore(snapshotFile, journal))).isEqualTo(expected);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCheckpointRequiresJournal() throws IOException {
+    new MatchingEngineFactory(new AccountFactory()).checkpoint(snapshotFile);
+  }
+
+  private void trade(SimulatedExchange tester) throws IOException {
+    tester.getAccountService().deposit(USD, new BigDecimal(1000));
+    tester.getAccountService().deposit(BTC, new BigDecimal(1000));
+    tester
+        .getTradeService()
+        .placeMarketOrder(
+            new MarketOrder.Builder(BID, BTC_USD).originalAmount(new BigDecimal("0.4")).build());
+    String bid =
+        tester
+            .getTradeService()
+            .placeLimitOrder(
+                new LimitOrder.Builder(BID, BTC_USD)
+                    .limitPrice(new BigDecimal("97.5"))
+                    .originalAmount(new BigDecimal("0.2"))
+                    .build());
+    tester
+        .getTradeService()
+        .placeLimitOrder(
+            new LimitOrder.Builder(ASK, BTC_USD)
+                .limitPrice(new BigDecimal("96"))
+                .originalAmount(new BigDecimal("0.5"))
+                .build());
+    tester
+        .getTradeService()
+        .cancelOrder(new SimulatedExchangeExample.CancelOrderAllParams(BTC_USD, bid, BID));
+    try {
+      tester
+          .getTradeService()
+          .placeLimitOrder(
+              new LimitOrder.Builder(BID, BTC_USD)
+                  .limitPrice(new BigDecimal("90"))
+                  .originalAmount(new BigDecimal("1000"))
+                  .build());
+    } catch (FundsExceededException e) {
+      // rejected, and rejected again on replay
+    }
+  }
+
+  private SimulatedExchange exchange(String apiKey) {
+    ExchangeSpecification exchangeSpecification =
+        new ExchangeSpecification(SimulatedExchange.class);
+    exchangeSpecification.setApiKey(apiKey);
+    exchangeSpecification.setExchangeSpecificParametersItem(ENGINE_FACTORY_PARAM, factory);
+    exchangeSpecification.setExchangeSpecificParametersItem(
+        ACCOUNT_FACTORY_PARAM, factory.getAccountFactory());
+    return (SimulatedExchange) ExchangeFactory.INSTANCE.createExchange(exchangeSpecification);
+  }
+
+  /** The resting orders and the balances of every account, comparable across factories. */
+  private static Map<String, Object> state(MatchingEngineFactory factory) {
+    Map<String, Object> state = new TreeMap<>();
+    Level3OrderBook book = factory.create(BTC_USD, 8, BigDecimal.ZERO).book();
+    state.put("asks", book.getAsks().toString());
+    state.put("bids", book.getBids().toString());
+    factory
+        .getAccountFactory()
+        .accounts()
+        .forEach(
+            (apiKey, account) -> {
+              List<Balance> balances = new ArrayList<>(account.balances());
+              balances.sort(Comparator.comparing(Balance::getCurrency));
+              state.put(apiKey, balances.toString());
+            });
+    return state;
+  }
+}
@@ -0,0 +1,161 @@
+package org.knowm.xchange.simulated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knowm.xchange.currency.Currency.USD;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.FundsExceededException;
+
+public class TestThreadPerEngine {
+
+  private static final String MAKER = "MAKER";
+  private static final String TAKER = "TAKER";
+  private static final List<CurrencyPair> PAIRS =
+      Arrays.asList(CurrencyPair.BTC_USD, CurrencyPair.ETH_USD, CurrencyPair.LTC_USD);
+  private static final int ORDERS = 200;
+  private static final int THREADS_PER_PAIR = 2;
+  private static final BigDecimal PRICE = new BigDecimal(100);
+
+  private AccountFactory accountFactory;
+  private MatchingEngineFactory engineFactory;
+
+  @Before
+  public void setup() {
+    accountFactory = new AccountFactory();
+    engineFactory = new MatchingEngineFactory(accountFactory);
+    engineFactory.setThreadPerEngine(true);
+    for (String apiKey : new String[] {MAKER, TAKER}) {
+      accountFactory.get(apiKey).deposit(USD, new BigDecimal(1_000_000));
+      for (CurrencyPair pair : PAIRS) {
+        accountFactory.get(apiKey).deposit(pair.base, new BigDecimal(1_000));
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    engineFactory.shutdown();
+  }
+
+  @Test
+  public void testCommandsRunOnTheEngineThread() {
+    // Given
+    List<String> fillThreads = new ArrayList<>();
+    MatchingEngine engine =
+        engineFactory.create(
+            CurrencyPair.BTC_USD,
+            2,
+            BigDecimal.ZERO,
+            fill -> fillThreads.add(Thread.currentThread().getName()));
+
+    // When
+    engine.postOrder(MAKER, order(ASK, "1"));
+    engine.postOrder(TAKER, order(BID, "1"));
+
+    // Then
+    assertThat(fillThreads).containsOnly("MatchingEngine-BTC/USD").hasSize(2);
+  }
+
+  @Test(expected = FundsExceededException.class)
+  public void testExceptionsReachTheCaller() {
+    engineFactory
+        .create(CurrencyPair.BTC_USD, 2, BigDecimal.ZERO)
+        .postOrder(TAKER, order(ASK, "1001"));
+  }
+
+  @Test
+  public void testFillsAreSettledOncePerCommand() {
+    // Given
+    MatchingEngine engine = engineFactory.create(CurrencyPair.BTC_USD, 2, BigDecimal.ZERO);
+    for (int i = 0; i < 3; i++) {
+      engine.postOrder(MAKER, order(ASK, "0.5"));
+    }
+
+    // When
+    engine.postOrder(TAKER, order(BID, "2"));
+
+    // Then
+    assertBalance(TAKER, CurrencyPair.BTC_USD.base, "1001.5", "1001.5", "0");
+    assertBalance(TAKER, USD, "999850", "999800", "50");
+    assertBalance(MAKER, CurrencyPair.BTC_USD.base, "998.5", "998.5", "0");
+    assertBalance(MAKER, USD, "1000150", "1000150", "0");
+  }
+
+  @Test
+  public void testPairsTradedConcurrentlyShareTheAccounts() throws Exception {
+    // Given
+    ExecutorService callers = Executors.newFixedThreadPool(PAIRS.size() * THREADS_PER_PAIR);
+    List<Future<?>> results = new ArrayList<>();
+
+    // When
+    try {
+      for (CurrencyPair pair : PAIRS) {
+        MatchingEngine engine = engineFactory.create(pair, 2, BigDecimal.ZERO);
+        for (int thread = 0; thread < THREADS_PER_PAIR; thread++) {
+          results.add(
+              callers.submit(
+                  () -> {
+                    for (int i = 0; i < ORDERS; i++) {
+                      engine.postOrder(MAKER, order(pair, ASK, "1"));
+                      engine.postOrder(TAKER, order(pair, BID, "1"));
+                    }
+                  }));
+        }
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      callers.shutdown();
+    }
+
+    // Then
+    int traded = ORDERS * THREADS_PER_PAIR;
+    for (CurrencyPair pair : PAIRS) {
+      assertThat(engineFactory.create(pair, 2, BigDecimal.ZERO).openOrders(TAKER)).isEmpty();
+      String base = Integer.toString(1_000 - traded);
+      assertBalance(MAKER, pair.base, base, base, "0");
+      base = Integer.toString(1_000 + traded);
+      assertBalance(TAKER, pair.base, base, base, "0");
+    }
+    String proceeds = Integer.toString(1_000_000 + PAIRS.size() * traded * 100);
+    assertBalance(MAKER, USD, proceeds, proceeds, "0");
+    String cost = Integer.toString(1_000_000 - PAIRS.size() * traded * 100);
+    assertBalance(TAKER, USD, cost, cost, "0");
+  }
+
+  private void assertBalance(
+      String apiKey, Currency currency, String total, String available, String frozen) {
+    Balance balance = accountFactory.get(apiKey).getBalance(currency);
+    assertThat(balance.getTotal()).isEqualByComparingTo(total);
+    assertThat(balance.getAvailable()).isEqualByComparingTo(available);
+    assertThat(balance.getFrozen()).isEqualByComparingTo(frozen);
+  }
+
+  private static LimitOrder order(OrderType type, String amount) {
+    return order(CurrencyPair.BTC_USD, type, amount);
+  }
+
+  private static LimitOrder order(CurrencyPair pair, OrderType type, String amount) {
+    return new LimitOrder.Builder(type, pair)
+        .limitPrice(PRICE)
+        .originalAmount(new BigDecimal(amount))
+        .build();
+  }
+}
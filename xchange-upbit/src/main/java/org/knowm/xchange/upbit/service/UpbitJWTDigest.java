@@ -3,16 +3,22 @@ package org.knowm.xchange.upbit.service;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
 import javax.ws.rs.QueryParam;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestInvocation;
 
 public class UpbitJWTDigest implements ParamsDigest {
+
+  private static final ObjectReader BODY_READER =
+      JacksonRegistry.DEFAULT.readerFor(new TypeReference<Map<String, String>>() {});
+
   private String accessKey;
   private String secretKey;
 
@@ -34,8 +40,7 @@ public class UpbitJWTDigest implements ParamsDigest {
     } else if (restInvocation.getRequestBody() != null
         && !restInvocation.getRequestBody().isEmpty()) {
       try {
-        ObjectMapper mapper = new ObjectMapper();
-        Map<String, String> map = mapper.readValue(restInvocation.getRequestBody(), Map.class);
+        Map<String, String> map = BODY_READER.readValue(restInvocation.getRequestBody());
         Iterator it = map.keySet().iterator();
         while (it.hasNext()) {
           String key = (String) it.next();
@@ -4,24 +4,27 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 
 /** Created by David Henry on 2/20/14. */
 public class VircurexOpenOrdersDeserializer extends JsonDeserializer<VircurexOpenOrdersReturn> {
 
+  private static final ObjectReader OPEN_ORDER_READER =
+      JacksonRegistry.DEFAULT.readerFor(VircurexOpenOrder.class);
+
   @Override
   public VircurexOpenOrdersReturn deserialize(JsonParser jsonParser, DeserializationContext ctxt)
       throws IOException {
 
     List<VircurexOpenOrder> openOrdersList = new ArrayList<>();
-    ObjectMapper mapper = new ObjectMapper();
-    ObjectNode jsonNodes = mapper.readTree(jsonParser);
+    ObjectNode jsonNodes = JacksonRegistry.DEFAULT.reader().readTree(jsonParser);
 
     Iterator<Map.Entry<String, JsonNode>> jsonNodeIterator = jsonNodes.fields();
 
@@ -30,8 +33,7 @@ public class VircurexOpenOrdersDeserializer extends JsonDeserializer<VircurexOpe
       Map.Entry<String, JsonNode> jsonNodeField = jsonNodeIterator.next();
 
       if (jsonNodeField.getKey().contains("order-")) {
-        VircurexOpenOrder openOrder =
-            mapper.readValue(jsonNodeField.getValue().toString(), VircurexOpenOrder.class);
+        VircurexOpenOrder openOrder = OPEN_ORDER_READER.readValue(jsonNodeField.getValue());
         openOrdersList.add(openOrder);
       } else {
         break; // found the last of the order objects
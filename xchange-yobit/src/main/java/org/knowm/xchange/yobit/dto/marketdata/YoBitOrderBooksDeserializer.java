@@ -4,15 +4,18 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 
 public class YoBitOrderBooksDeserializer extends JsonDeserializer<YoBitOrderBooksReturn> {
 
+  private static final ObjectReader ORDER_BOOK_READER =
+      JacksonRegistry.DEFAULT.readerFor(YoBitOrderBook.class);
+
   @Override
   public YoBitOrderBooksReturn deserialize(JsonParser p, DeserializationContext ctxt)
       throws IOException {
@@ -27,8 +30,7 @@ public class YoBitOrderBooksDeserializer extends JsonDeserializer<YoBitOrderBook
         Map.Entry<String, JsonNode> priceEntryNode = priceEntryIter.next();
 
         JsonNode jsonNode = priceEntryNode.getValue();
-        ObjectReader jsonObjectReader = new ObjectMapper().readerFor(YoBitOrderBook.class);
-        YoBitOrderBook orderBook = jsonObjectReader.readValue(jsonNode);
+        YoBitOrderBook orderBook = ORDER_BOOK_READER.readValue(jsonNode);
         String ccy = priceEntryNode.getKey();
 
         tickers.put(ccy, orderBook);
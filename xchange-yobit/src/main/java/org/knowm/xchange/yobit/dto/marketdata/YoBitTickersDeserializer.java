@@ -4,15 +4,18 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 
 public class YoBitTickersDeserializer extends JsonDeserializer<YoBitTickersReturn> {
 
+  private static final ObjectReader TICKER_READER =
+      JacksonRegistry.DEFAULT.readerFor(YoBitTicker.class);
+
   @Override
   public YoBitTickersReturn deserialize(JsonParser p, DeserializationContext ctxt)
       throws IOException {
@@ -27,8 +30,7 @@ public class YoBitTickersDeserializer extends JsonDeserializer<YoBitTickersRetur
         Map.Entry<String, JsonNode> priceEntryNode = priceEntryIter.next();
 
         JsonNode jsonNode = priceEntryNode.getValue();
-        ObjectReader jsonObjectReader = new ObjectMapper().readerFor(YoBitTicker.class);
-        YoBitTicker ticker = jsonObjectReader.readValue(jsonNode);
+        YoBitTicker ticker = TICKER_READER.readValue(jsonNode);
         String ccy = priceEntryNode.getKey();
 
         tickers.put(ccy, ticker);
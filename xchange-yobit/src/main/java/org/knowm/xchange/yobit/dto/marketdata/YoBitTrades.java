@@ -6,7 +6,7 @@ import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.knowm.xchange.utils.jackson.JacksonRegistry;
 import org.knowm.xchange.yobit.dto.marketdata.YoBitTrades.YoBitTradesDeserializer;
 
 @JsonDeserialize(using = YoBitTradesDeserializer.class)
@@ -33,6 +34,9 @@ public class YoBitTrades {
 
   static class YoBitTradesDeserializer extends JsonDeserializer<YoBitTrades> {
 
+    private static final ObjectReader TRADE_READER =
+        JacksonRegistry.DEFAULT.readerFor(YoBitTrade.class);
+
     @Override
     public YoBitTrades deserialize(JsonParser p, DeserializationContext ctxt)
         throws IOException, JsonProcessingException {
@@ -54,8 +58,7 @@ public class YoBitTrades {
 
           if (priceNode.isArray()) {
             for (JsonNode jsonNode : priceNode) {
-              ObjectMapper jsonObjectMapper = new ObjectMapper();
-              res.add(jsonObjectMapper.convertValue(jsonNode, YoBitTrade.class));
+              res.add(TRADE_READER.readValue(jsonNode));
             }
           }
         }
@@ -2,8 +2,10 @@ package org.knowm.xchange.yobit.service;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.knowm.xchange.Exchange;
@@ -23,6 +25,7 @@ import org.knowm.xchange.yobit.dto.MultiCurrencyPublicTradesDataRequestParams;
 import org.knowm.xchange.yobit.dto.OrderBooksRequestParam;
 import org.knowm.xchange.yobit.dto.PublicTradesRequestParams;
 import org.knowm.xchange.yobit.dto.TickersRequestParams;
+import org.knowm.xchange.yobit.dto.marketdata.YoBitOrderBook;
 import org.knowm.xchange.yobit.dto.marketdata.YoBitOrderBooksReturn;
 import org.knowm.xchange.yobit.dto.marketdata.YoBitTickersReturn;
 import org.knowm.xchange.yobit.dto.marketdata.YoBitTrade;
@@ -94,6 +97,33 @@ public class YoBitMarketDataService extends YoBitMarketDataServiceRaw implements
     throw new IllegalStateException("Don't understand " + params);
   }
 
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(
+      Collection<CurrencyPair> currencyPairs, Object... args) throws IOException {
+
+    if (currencyPairs.size() < 2) {
+      return MarketDataService.super.getOrderBooks(currencyPairs, args);
+    }
+    int level = 50;
+    if (args != null && args.length > 0) {
+      if (args[0] instanceof Number) {
+        level = ((Number) args[0]).intValue();
+      }
+    }
+
+    YoBitOrderBooksReturn orderBooks = getOrderBooks(currencyPairs, level);
+
+    Map<CurrencyPair, OrderBook> res = new LinkedHashMap<>();
+    for (CurrencyPair currencyPair : currencyPairs) {
+      YoBitOrderBook orderBook =
+          orderBooks.orderBooks.get(YoBitAdapters.adaptCcyPairToUrlFormat(currencyPair));
+      if (orderBook != null) {
+        res.put(currencyPair, YoBitAdapters.adaptOrderBook(orderBook, currencyPair));
+      }
+    }
+    return res;
+  }
+
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
     return getTrades(new DefaultPublicTradesDataRequestParams(currencyPair));
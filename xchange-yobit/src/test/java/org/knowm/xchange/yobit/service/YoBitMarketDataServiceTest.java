@@ -0,0 +1,54 @@
+package org.knowm.xchange.yobit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.yobit.YoBitExchange;
+import org.knowm.xchange.yobit.dto.marketdata.YoBitOrderBook;
+import org.knowm.xchange.yobit.dto.marketdata.YoBitOrderBooksReturn;
+
+public class YoBitMarketDataServiceTest {
+
+  @Test
+  public void testOrderBooksFollowTheRequestedPairs() throws Exception {
+
+    ExchangeSpecification specification = new ExchangeSpecification(YoBitExchange.class);
+    specification.setShouldLoadRemoteMetaData(false);
+    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(specification);
+
+    YoBitMarketDataService service =
+        new YoBitMarketDataService(exchange) {
+          @Override
+          public YoBitOrderBooksReturn getOrderBooks(
+              Iterable<CurrencyPair> currencyPairs, Integer limit) {
+
+            // answered in another order, without ltc_btc and with a pair not asked for
+            Map<String, YoBitOrderBook> books = new LinkedHashMap<>();
+            books.put("doge_btc", emptyBook());
+            books.put("eth_btc", emptyBook());
+            books.put("xrp_btc", emptyBook());
+            return new YoBitOrderBooksReturn(books);
+          }
+        };
+
+    Map<CurrencyPair, OrderBook> orderBooks =
+        service.getOrderBooks(
+            Arrays.asList(CurrencyPair.ETH_BTC, CurrencyPair.LTC_BTC, CurrencyPair.XRP_BTC));
+
+    assertThat(orderBooks.keySet()).containsExactly(CurrencyPair.ETH_BTC, CurrencyPair.XRP_BTC);
+  }
+
+  private static YoBitOrderBook emptyBook() {
+
+    return new YoBitOrderBook(Collections.emptyList(), Collections.emptyList());
+  }
+}